@@ -52,6 +52,7 @@ public final class MethodInterceptorChain<T, R> extends InterceptorChain<T, R> i
 
     private static final Object[] EMPTY_ARRAY = new Object[0];
     private final @Nullable InterceptorKind kind;
+    private final @Nullable MethodInvocationDescriptor<T, R> descriptor;
 
     /**
      * Constructor for empty parameters.
@@ -80,6 +81,7 @@ public final class MethodInterceptorChain<T, R> extends InterceptorChain<T, R> i
             @Nullable InterceptorKind kind) {
         super(interceptors, target, executionHandle, EMPTY_ARRAY);
         this.kind = kind;
+        this.descriptor = null;
     }
 
 
@@ -95,6 +97,22 @@ public final class MethodInterceptorChain<T, R> extends InterceptorChain<T, R> i
     public MethodInterceptorChain(Interceptor<T, R>[] interceptors, T target, ExecutableMethod<T, R> executionHandle, Object... originalParameters) {
         super(interceptors, target, executionHandle, originalParameters);
         this.kind = null;
+        this.descriptor = null;
+    }
+
+    /**
+     * Constructor used by {@link MethodInvocationDescriptor}.
+     *
+     * @param descriptor         The invocation descriptor
+     * @param target             target
+     * @param originalParameters originalParameters
+     * @param index              The index of the next interceptor
+     */
+    MethodInterceptorChain(MethodInvocationDescriptor<T, R> descriptor, T target, Object[] originalParameters, int index) {
+        super(descriptor.getInterceptors(), target, descriptor.getExecutableMethod(), originalParameters);
+        this.kind = null;
+        this.descriptor = descriptor;
+        this.index = index;
     }
 
     @Override
@@ -105,6 +123,9 @@ public final class MethodInterceptorChain<T, R> extends InterceptorChain<T, R> i
 
     @Override
     public R invoke(T instance, Object... arguments) {
+        if (descriptor != null) {
+            return descriptor.proceed(instance, originalParameters);
+        }
         return new MethodInterceptorChain<>(interceptors, instance, executionHandle, originalParameters).proceed();
     }
 
@@ -122,6 +143,9 @@ public final class MethodInterceptorChain<T, R> extends InterceptorChain<T, R> i
     public R proceed() throws RuntimeException {
         Interceptor<T, R> interceptor;
         if (interceptorCount == 0 || index == interceptorCount) {
+            if (descriptor != null) {
+                return descriptor.invokeTarget(target, originalParameters);
+            }
             if (target instanceof Introduced && executionHandle.isAbstract()) {
                 throw new UnimplementedAdviceException(executionHandle);
             } else {
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.aop.chain;
+
+import io.micronaut.aop.Interceptor;
+import io.micronaut.aop.Introduced;
+import io.micronaut.aop.exceptions.UnimplementedAdviceException;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.UsedByGeneratedCode;
+import io.micronaut.inject.ExecutableMethod;
+
+/**
+ * The immutable part of the invocation of an intercepted method. A descriptor is created once per proxied method when
+ * the proxy is constructed and holds the resolved interceptors, so that an invocation only allocates the
+ * {@link MethodInterceptorChain} that tracks the position in the chain and the argument values.
+ *
+ * <p>This class is consumed by the generated proxies and should not be used directly in application code.</p>
+ *
+ * @param <T> The declaring type
+ * @param <R> The result of the method call
+ * @since 3.8.0
+ */
+@Internal
+@UsedByGeneratedCode
+public final class MethodInvocationDescriptor<T, R> {
+
+    private static final Object[] EMPTY_ARRAY = new Object[0];
+
+    private final Interceptor<T, R>[] interceptors;
+    private final ExecutableMethod<T, R> executableMethod;
+    private final boolean abstractMethod;
+
+    /**
+     * @param interceptors     The resolved interceptors
+     * @param executableMethod The intercepted method
+     */
+    @UsedByGeneratedCode
+    public MethodInvocationDescriptor(@NonNull Interceptor<T, R>[] interceptors, @NonNull ExecutableMethod<T, R> executableMethod) {
+        this.interceptors = interceptors;
+        this.executableMethod = executableMethod;
+        this.abstractMethod = executableMethod.isAbstract();
+    }
+
+    /**
+     * @return The resolved interceptors
+     */
+    @NonNull
+    public Interceptor<T, R>[] getInterceptors() {
+        return interceptors;
+    }
+
+    /**
+     * @return The intercepted method
+     */
+    @NonNull
+    public ExecutableMethod<T, R> getExecutableMethod() {
+        return executableMethod;
+    }
+
+    /**
+     * Invokes a method without parameters through the interceptors.
+     *
+     * @param target The target
+     * @return The result
+     */
+    @UsedByGeneratedCode
+    public R proceed(T target) {
+        return proceed(target, EMPTY_ARRAY);
+    }
+
+    /**
+     * Invokes the method through the interceptors. The target is invoked directly when there are no interceptors, and
+     * a single interceptor is invoked without going through {@link MethodInterceptorChain#proceed()}.
+     *
+     * @param target     The target
+     * @param parameters The parameter values
+     * @return The result
+     */
+    @UsedByGeneratedCode
+    public R proceed(T target, Object... parameters) {
+        switch (interceptors.length) {
+            case 0:
+                return invokeTarget(target, parameters);
+            case 1:
+                return interceptors[0].intercept(new MethodInterceptorChain<>(this, target, parameters, 1));
+            default:
+                return new MethodInterceptorChain<>(this, target, parameters, 0).proceed();
+        }
+    }
+
+    /**
+     * Invokes the target once every interceptor has proceeded.
+     *
+     * @param target     The target
+     * @param parameters The parameter values
+     * @return The result
+     */
+    R invokeTarget(T target, Object[] parameters) {
+        if (abstractMethod && target instanceof Introduced) {
+            throw new UnimplementedAdviceException(executableMethod);
+        }
+        return executableMethod.invoke(target, parameters);
+    }
+
+    @Override
+    public String toString() {
+        return executableMethod.toString();
+    }
+}
@@ -23,6 +23,7 @@ import io.micronaut.aop.InterceptorKind;
 import io.micronaut.aop.Introduced;
 import io.micronaut.aop.chain.InterceptorChain;
 import io.micronaut.aop.chain.MethodInterceptorChain;
+import io.micronaut.aop.chain.MethodInvocationDescriptor;
 import io.micronaut.aop.internal.intercepted.InterceptedMethodUtil;
 import io.micronaut.context.BeanContext;
 import io.micronaut.context.BeanLocator;
@@ -153,18 +154,21 @@ public class AopProxyWriter extends AbstractClassFileWriter implements ProxyingB
 
     private static final java.lang.reflect.Method RESOLVE_AROUND_INTERCEPTORS_METHOD = ReflectionUtils.getRequiredInternalMethod(InterceptorChain.class, "resolveAroundInterceptors", BeanContext.class, ExecutableMethod.class, List.class);
 
-    private static final Constructor CONSTRUCTOR_METHOD_INTERCEPTOR_CHAIN = ReflectionUtils.findConstructor(MethodInterceptorChain.class, Interceptor[].class, Object.class, ExecutableMethod.class, Object[].class).orElseThrow(() ->
-            new IllegalStateException("new MethodInterceptorChain(..) constructor not found. Incompatible version of Micronaut?")
+    private static final Constructor CONSTRUCTOR_METHOD_INVOCATION_DESCRIPTOR = ReflectionUtils.findConstructor(MethodInvocationDescriptor.class, Interceptor[].class, ExecutableMethod.class).orElseThrow(() ->
+            new IllegalStateException("new MethodInvocationDescriptor(..) constructor not found. Incompatible version of Micronaut?")
     );
 
-    private static final Constructor CONSTRUCTOR_METHOD_INTERCEPTOR_CHAIN_NO_PARAMS = ReflectionUtils.findConstructor(MethodInterceptorChain.class, Interceptor[].class, Object.class, ExecutableMethod.class).orElseThrow(() ->
-            new IllegalStateException("new MethodInterceptorChain(..) constructor not found. Incompatible version of Micronaut?")
-    );
+    private static final Method METHOD_INVOCATION_PROCEED = Method.getMethod(ReflectionUtils.getRequiredInternalMethod(MethodInvocationDescriptor.class, "proceed", Object.class, Object[].class));
+
+    private static final Method METHOD_INVOCATION_PROCEED_NO_PARAMS = Method.getMethod(ReflectionUtils.getRequiredInternalMethod(MethodInvocationDescriptor.class, "proceed", Object.class));
 
     private static final String FIELD_INTERCEPTORS = "$interceptors";
     private static final String FIELD_BEAN_LOCATOR = "$beanLocator";
     private static final String FIELD_BEAN_QUALIFIER = "$beanQualifier";
     private static final String FIELD_PROXY_METHODS = "$proxyMethods";
+    private static final String FIELD_INVOCATIONS = "$invocations";
+    private static final Type FIELD_TYPE_INVOCATIONS = Type.getType(MethodInvocationDescriptor[].class);
+    private static final Type TYPE_METHOD_INVOCATION_DESCRIPTOR = Type.getType(MethodInvocationDescriptor.class);
     private static final Type FIELD_TYPE_PROXY_METHODS = Type.getType(ExecutableMethod[].class);
     private static final Type EXECUTABLE_METHOD_TYPE = Type.getType(ExecutableMethod.class);
     private static final Type INTERCEPTOR_ARRAY_TYPE = Type.getType(Interceptor[].class);
@@ -381,6 +385,7 @@ public class AopProxyWriter extends AbstractClassFileWriter implements ProxyingB
 
         classWriter.visitField(ACC_FINAL | ACC_PRIVATE, FIELD_INTERCEPTORS, FIELD_TYPE_INTERCEPTORS.getDescriptor(), null, null);
         classWriter.visitField(ACC_FINAL | ACC_PRIVATE, FIELD_PROXY_METHODS, FIELD_TYPE_PROXY_METHODS.getDescriptor(), null, null);
+        classWriter.visitField(ACC_FINAL | ACC_PRIVATE, FIELD_INVOCATIONS, FIELD_TYPE_INVOCATIONS.getDescriptor(), null, null);
     }
 
     private String[] getImplementedInterfaceInternalNames() {
@@ -649,33 +654,20 @@ public class AopProxyWriter extends AbstractClassFileWriter implements ProxyingB
         MethodVisitor overridden = classWriter.visitMethod(ACC_PUBLIC, methodName, desc, null, null);
         GeneratorAdapter overriddenMethodGenerator = new GeneratorAdapter(overridden, ACC_PUBLIC, methodName, desc);
 
-        // store the proxy method instance in a local variable
-        // ie ExecutableMethod executableMethod = this.proxyMethods[0];
+        // store the invocation descriptor in a local variable
+        // ie MethodInvocationDescriptor invocation = this.$invocations[0];
         overriddenMethodGenerator.loadThis();
-        overriddenMethodGenerator.getField(proxyType, FIELD_PROXY_METHODS, FIELD_TYPE_PROXY_METHODS);
+        overriddenMethodGenerator.getField(proxyType, FIELD_INVOCATIONS, FIELD_TYPE_INVOCATIONS);
         overriddenMethodGenerator.push(index);
         overriddenMethodGenerator.visitInsn(AALOAD);
-        int methodProxyVar = overriddenMethodGenerator.newLocal(EXECUTABLE_METHOD_TYPE);
-        overriddenMethodGenerator.storeLocal(methodProxyVar);
-
-        // store the interceptors in a local variable
-        // ie Interceptor[] interceptors = this.interceptors[0];
-        overriddenMethodGenerator.loadThis();
-        overriddenMethodGenerator.getField(proxyType, FIELD_INTERCEPTORS, FIELD_TYPE_INTERCEPTORS);
-        overriddenMethodGenerator.push(index);
-        overriddenMethodGenerator.visitInsn(AALOAD);
-        int interceptorsLocalVar = overriddenMethodGenerator.newLocal(INTERCEPTOR_ARRAY_TYPE);
-        overriddenMethodGenerator.storeLocal(interceptorsLocalVar);
-
-        // instantiate the MethodInterceptorChain
-        // ie InterceptorChain chain = new MethodInterceptorChain(interceptors, this, executableMethod, name);
-        overriddenMethodGenerator.newInstance(TYPE_METHOD_INTERCEPTOR_CHAIN);
-        overriddenMethodGenerator.dup();
+        int invocationVar = overriddenMethodGenerator.newLocal(TYPE_METHOD_INVOCATION_DESCRIPTOR);
+        overriddenMethodGenerator.storeLocal(invocationVar);
 
-        // first argument: interceptors
-        overriddenMethodGenerator.loadLocal(interceptorsLocalVar);
+        // proceed with the interceptors of the method
+        // ie invocation.proceed(this, new Object[] { name });
+        overriddenMethodGenerator.loadLocal(invocationVar);
 
-        // second argument: this or target
+        // first argument: this or target
         overriddenMethodGenerator.loadThis();
         if (isProxyTarget) {
             if (hotswap || lazy) {
@@ -685,11 +677,8 @@ public class AopProxyWriter extends AbstractClassFileWriter implements ProxyingB
             }
         }
 
-        // third argument: the executable method
-        overriddenMethodGenerator.loadLocal(methodProxyVar);
-
         if (argumentCount > 0) {
-            // fourth argument: array of the argument values
+            // second argument: array of the argument values
             overriddenMethodGenerator.push(argumentCount);
             overriddenMethodGenerator.newArray(Type.getType(Object.class));
 
@@ -703,25 +692,18 @@ public class AopProxyWriter extends AbstractClassFileWriter implements ProxyingB
                 overriddenMethodGenerator.visitInsn(AASTORE);
             }
 
-            // invoke MethodInterceptorChain constructor with parameters
-            overriddenMethodGenerator.invokeConstructor(TYPE_METHOD_INTERCEPTOR_CHAIN, Method.getMethod(CONSTRUCTOR_METHOD_INTERCEPTOR_CHAIN));
+            overriddenMethodGenerator.invokeVirtual(TYPE_METHOD_INVOCATION_DESCRIPTOR, METHOD_INVOCATION_PROCEED);
         } else {
-            // invoke MethodInterceptorChain constructor without parameters
-            overriddenMethodGenerator.invokeConstructor(TYPE_METHOD_INTERCEPTOR_CHAIN, Method.getMethod(CONSTRUCTOR_METHOD_INTERCEPTOR_CHAIN_NO_PARAMS));
+            overriddenMethodGenerator.invokeVirtual(TYPE_METHOD_INVOCATION_DESCRIPTOR, METHOD_INVOCATION_PROCEED_NO_PARAMS);
         }
 
-        int chainVar = overriddenMethodGenerator.newLocal(TYPE_METHOD_INTERCEPTOR_CHAIN);
-        overriddenMethodGenerator.storeLocal(chainVar);
-        overriddenMethodGenerator.loadLocal(chainVar);
-
-        overriddenMethodGenerator.visitMethodInsn(INVOKEVIRTUAL, TYPE_INTERCEPTOR_CHAIN.getInternalName(), "proceed", getMethodDescriptor(Object.class.getName()), false);
         if (isVoidReturn) {
             returnVoid(overriddenMethodGenerator);
         } else {
             pushCastToType(overriddenMethodGenerator, returnType);
             pushReturnValue(overriddenMethodGenerator, returnType);
         }
-        overriddenMethodGenerator.visitMaxs(DEFAULT_MAX_STACK, chainVar);
+        overriddenMethodGenerator.visitMaxs(DEFAULT_MAX_STACK, invocationVar);
         overriddenMethodGenerator.visitEnd();
     }
 
@@ -1001,6 +983,16 @@ public class AopProxyWriter extends AbstractClassFileWriter implements ProxyingB
                 FIELD_TYPE_INTERCEPTORS
         );
 
+        // set $invocations field
+        proxyConstructorGenerator.loadThis();
+        proxyConstructorGenerator.push(proxyMethodCount);
+        proxyConstructorGenerator.newArray(TYPE_METHOD_INVOCATION_DESCRIPTOR);
+        proxyConstructorGenerator.putField(
+                proxyType,
+                FIELD_INVOCATIONS,
+                FIELD_TYPE_INVOCATIONS
+        );
+
         // now initialize the held values
         if (isProxyTarget) {
             if (proxiedMethods.size() == proxyMethodCount) {
@@ -1627,6 +1619,24 @@ public class AopProxyWriter extends AbstractClassFileWriter implements ProxyingB
             proxyConstructorGenerator.invokeStatic(TYPE_INTERCEPTOR_CHAIN, Method.getMethod(RESOLVE_AROUND_INTERCEPTORS_METHOD));
         }
         proxyConstructorGenerator.visitInsn(AASTORE);
+
+        // The following will create the invocation descriptor from the resolved interceptors
+        // eg. this.$invocations[0] = new MethodInvocationDescriptor(this.$interceptors[0], this.$proxyMethods[0]);
+        proxyConstructorGenerator.loadThis();
+        proxyConstructorGenerator.getField(proxyType, FIELD_INVOCATIONS, FIELD_TYPE_INVOCATIONS);
+        proxyConstructorGenerator.push(i);
+        proxyConstructorGenerator.newInstance(TYPE_METHOD_INVOCATION_DESCRIPTOR);
+        proxyConstructorGenerator.dup();
+        proxyConstructorGenerator.loadThis();
+        proxyConstructorGenerator.getField(proxyType, FIELD_INTERCEPTORS, FIELD_TYPE_INTERCEPTORS);
+        proxyConstructorGenerator.push(i);
+        proxyConstructorGenerator.visitInsn(AALOAD);
+        proxyConstructorGenerator.loadThis();
+        proxyConstructorGenerator.getField(proxyType, FIELD_PROXY_METHODS, FIELD_TYPE_PROXY_METHODS);
+        proxyConstructorGenerator.push(i);
+        proxyConstructorGenerator.visitInsn(AALOAD);
+        proxyConstructorGenerator.invokeConstructor(TYPE_METHOD_INVOCATION_DESCRIPTOR, Method.getMethod(CONSTRUCTOR_METHOD_INVOCATION_DESCRIPTOR));
+        proxyConstructorGenerator.visitInsn(AASTORE);
     }
 
     private void processAlreadyVisitedMethods(BeanDefinitionWriter parent) {
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.aop.around;
+
+import io.micronaut.aop.Around;
+import io.micronaut.aop.InterceptorBean;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.ApplicationContext;
+import jakarta.inject.Singleton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Measures the invocation of an around advised method through 1, 3 and 8 interceptors, as a runtime counterpart of
+ * {@link AroundCompileBenchmark}. Run with the GC profiler to compare the allocations per invocation.
+ */
+@State(Scope.Benchmark)
+public class AroundInvocationBenchmark {
+
+    @Param({"1", "3", "8"})
+    int interceptors;
+
+    ApplicationContext applicationContext;
+    AdvisedBean bean;
+    int value;
+
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        bean = applicationContext.getBean(AdvisedBean.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public int invoke() {
+        int i = value++;
+        switch (interceptors) {
+            case 1:
+                return bean.one(i);
+            case 3:
+                return bean.three(i);
+            default:
+                return bean.eight(i);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + AroundInvocationBenchmark.class.getSimpleName() + ".*")
+                .addProfiler(GCProfiler.class)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    /**
+     * The advised bean.
+     */
+    @Singleton
+    public static class AdvisedBean {
+
+        @One
+        public int one(int i) {
+            return i + 1;
+        }
+
+        @Three
+        public int three(int i) {
+            return i + 1;
+        }
+
+        @Eight
+        public int eight(int i) {
+            return i + 1;
+        }
+    }
+
+    /**
+     * Binds the first interceptor.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    @Around
+    public @interface One {
+    }
+
+    /**
+     * Binds the first three interceptors.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    @Around
+    public @interface Three {
+    }
+
+    /**
+     * Binds all the interceptors.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    @Around
+    public @interface Eight {
+    }
+
+    /**
+     * An interceptor that only proceeds.
+     */
+    abstract static class ProceedingInterceptor implements MethodInterceptor<Object, Object> {
+        @Override
+        public Object intercept(MethodInvocationContext<Object, Object> context) {
+            return context.proceed();
+        }
+    }
+
+    @InterceptorBean({One.class, Three.class, Eight.class})
+    static class Interceptor1 extends ProceedingInterceptor {
+    }
+
+    @InterceptorBean({Three.class, Eight.class})
+    static class Interceptor2 extends ProceedingInterceptor {
+    }
+
+    @InterceptorBean({Three.class, Eight.class})
+    static class Interceptor3 extends ProceedingInterceptor {
+    }
+
+    @InterceptorBean(Eight.class)
+    static class Interceptor4 extends ProceedingInterceptor {
+    }
+
+    @InterceptorBean(Eight.class)
+    static class Interceptor5 extends ProceedingInterceptor {
+    }
+
+    @InterceptorBean(Eight.class)
+    static class Interceptor6 extends ProceedingInterceptor {
+    }
+
+    @InterceptorBean(Eight.class)
+    static class Interceptor7 extends ProceedingInterceptor {
+    }
+
+    @InterceptorBean(Eight.class)
+    static class Interceptor8 extends ProceedingInterceptor {
+    }
+}
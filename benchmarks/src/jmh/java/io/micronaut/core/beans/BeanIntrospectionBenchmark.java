@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.core.beans;
+
+import io.micronaut.core.annotation.Introspected;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures reading and writing every property of an introspected bean, looking the properties up by name with
+ * {@link BeanIntrospection#getProperty(String)}, by name with {@link BeanIntrospection#propertyIndexOf(String)}, and
+ * by an index resolved beforehand. Run with the GC profiler to compare the allocations.
+ */
+@State(Scope.Benchmark)
+public class BeanIntrospectionBenchmark {
+
+    private static final String[] NAMES = {"id", "name", "email", "active", "balance", "city"};
+
+    BeanIntrospection<Customer> introspection;
+    Customer customer;
+    int[] indexes;
+    Object[] values;
+
+    @Setup
+    public void setup() {
+        introspection = BeanIntrospection.getIntrospection(Customer.class);
+        customer = new Customer();
+        indexes = new int[NAMES.length];
+        for (int i = 0; i < NAMES.length; i++) {
+            indexes[i] = introspection.propertyIndexOf(NAMES[i]);
+        }
+        values = new Object[]{42L, "customer", "customer@example.com", true, 17.5d, "Springfield"};
+    }
+
+    @Benchmark
+    public void byName(Blackhole blackhole) {
+        for (int i = 0; i < NAMES.length; i++) {
+            BeanProperty<Customer, Object> property = introspection.getProperty(NAMES[i]).get();
+            property.set(customer, values[i]);
+            blackhole.consume(property.get(customer));
+        }
+    }
+
+    @Benchmark
+    public void byNameIndex(Blackhole blackhole) {
+        for (int i = 0; i < NAMES.length; i++) {
+            BeanProperty<Customer, Object> property = introspection.getPropertyByIndex(introspection.propertyIndexOf(NAMES[i]));
+            property.set(customer, values[i]);
+            blackhole.consume(property.get(customer));
+        }
+    }
+
+    @Benchmark
+    public void byIndex(Blackhole blackhole) {
+        for (int i = 0; i < indexes.length; i++) {
+            BeanProperty<Customer, Object> property = introspection.getPropertyByIndex(indexes[i]);
+            property.set(customer, values[i]);
+            blackhole.consume(property.get(customer));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + BeanIntrospectionBenchmark.class.getSimpleName() + ".*")
+                .addProfiler(GCProfiler.class)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    /**
+     * A customer.
+     */
+    @Introspected
+    public static class Customer {
+        private long id;
+        private String name;
+        private String email;
+        private boolean active;
+        private double balance;
+        private String city;
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public double getBalance() {
+            return balance;
+        }
+
+        public void setBalance(double balance) {
+            this.balance = balance;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+    }
+}
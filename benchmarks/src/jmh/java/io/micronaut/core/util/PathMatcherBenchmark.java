@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.core.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures matching a request path against a set of filter patterns with the {@link AntPathMatcher}, the
+ * {@link CompiledAntPathMatcher}, precompiled {@link AntPathPattern} instances one by one and as a batch, and the
+ * equivalent expressions with the {@link RegexPathMatcher}. Run with the GC profiler to compare the allocations.
+ */
+@State(Scope.Benchmark)
+public class PathMatcherBenchmark {
+
+    private static final String PATH = "/api/v1/customers/42/orders";
+    private static final String[] PATTERNS = {"/static/**", "/api/v2/**", "/api/*/customers/*/invoices", "/**/*.html", "/api/v?/**"};
+    private static final String[] REGEX_PATTERNS = {"/static/.*", "/api/v2/.*", "/api/[^/]*/customers/[^/]*/invoices", ".*/[^/]*\\.html", "/api/v./.*"};
+
+    AntPathMatcher antPathMatcher;
+    CompiledAntPathMatcher compiledAntPathMatcher;
+    RegexPathMatcher regexPathMatcher;
+    AntPathPattern[] compiledPatterns;
+
+    @Setup
+    public void setup() {
+        antPathMatcher = new AntPathMatcher();
+        compiledAntPathMatcher = new CompiledAntPathMatcher();
+        regexPathMatcher = new RegexPathMatcher();
+        compiledPatterns = new AntPathPattern[PATTERNS.length];
+        for (int i = 0; i < PATTERNS.length; i++) {
+            compiledPatterns[i] = AntPathPattern.compile(PATTERNS[i]);
+        }
+    }
+
+    @Benchmark
+    public int ant() {
+        return indexOfMatch(antPathMatcher, PATTERNS);
+    }
+
+    @Benchmark
+    public int compiledAnt() {
+        return indexOfMatch(compiledAntPathMatcher, PATTERNS);
+    }
+
+    @Benchmark
+    public int compiledPatterns() {
+        for (int i = 0; i < compiledPatterns.length; i++) {
+            if (compiledPatterns[i].matches(PATH)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int compiledPatternsBatch() {
+        return AntPathPattern.indexOfMatch(compiledPatterns, PATH);
+    }
+
+    @Benchmark
+    public int regex() {
+        return indexOfMatch(regexPathMatcher, REGEX_PATTERNS);
+    }
+
+    private static int indexOfMatch(PathMatcher matcher, String[] patterns) {
+        for (int i = 0; i < patterns.length; i++) {
+            if (matcher.matches(patterns[i], PATH)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + PathMatcherBenchmark.class.getSimpleName() + ".*")
+                .addProfiler(GCProfiler.class)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.netty.channel;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.util.CollectionUtils;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.CharsetUtil;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends small HTTP requests over keep-alive loopback connections, comparing the epoll and io_uring transports selected
+ * through the {@link EventLoopGroupConfiguration}. The throughput mode reports requests per second, the sample mode
+ * the latency percentiles of a single request. Requires Linux with both native transports on the classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class TransportBenchmark {
+
+    private static final ByteBuf RESPONSE_BODY = Unpooled.unreleasableBuffer(
+            Unpooled.copiedBuffer("{\"message\":\"Hello World\"}", CharsetUtil.UTF_8));
+
+    @Param({"epoll", "io_uring"})
+    String transport;
+
+    ApplicationContext applicationContext;
+    EventLoopGroupFactory eventLoopGroupFactory;
+    EventLoopGroupConfiguration configuration;
+    EventLoopGroup eventLoopGroup;
+    Channel serverChannel;
+
+    @Setup
+    public void setup() throws InterruptedException {
+        applicationContext = ApplicationContext.run(CollectionUtils.mapOf(
+                "micronaut.netty.event-loops.default.num-threads", 2,
+                "micronaut.netty.event-loops.default.prefer-native-transport", true,
+                "micronaut.netty.event-loops.default.prefer-io-uring-transport", transport.equals(EventLoopGroupFactory.IO_URING)
+        ));
+        eventLoopGroupFactory = applicationContext.getBean(EventLoopGroupFactory.class);
+        configuration = applicationContext.getBean(EventLoopGroupConfiguration.class);
+        String serverChannelClass = eventLoopGroupFactory.serverSocketChannelClass(configuration).getSimpleName();
+        if (!serverChannelClass.toLowerCase().startsWith(transport.replace("_", ""))) {
+            throw new IllegalStateException("The " + transport + " transport is not available, found " + serverChannelClass);
+        }
+        eventLoopGroup = eventLoopGroupFactory.createEventLoopGroup(configuration, new DefaultThreadFactory("benchmark"));
+        serverChannel = new ServerBootstrap()
+                .group(eventLoopGroup)
+                .channelFactory(() -> eventLoopGroupFactory.serverSocketChannelInstance(configuration))
+                .childHandler(new ChannelInitializer<Channel>() {
+                    @Override
+                    protected void initChannel(Channel ch) {
+                        ch.pipeline()
+                                .addLast(new HttpServerCodec())
+                                .addLast(new HttpObjectAggregator(1024))
+                                .addLast(new SimpleChannelInboundHandler<FullHttpRequest>() {
+                                    @Override
+                                    protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest request) {
+                                        FullHttpResponse response = new DefaultFullHttpResponse(
+                                                HttpVersion.HTTP_1_1, HttpResponseStatus.OK, RESPONSE_BODY.duplicate());
+                                        response.headers()
+                                                .set(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                                                .setInt(HttpHeaderNames.CONTENT_LENGTH, RESPONSE_BODY.readableBytes());
+                                        ctx.writeAndFlush(response);
+                                    }
+                                });
+                    }
+                })
+                .bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))
+                .sync()
+                .channel();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        serverChannel.close().sync();
+        eventLoopGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public FullHttpResponse request(Connection connection) throws Exception {
+        return connection.send();
+    }
+
+    /**
+     * A keep-alive client connection per benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Connection {
+        Channel channel;
+        volatile CompletableFuture<FullHttpResponse> response;
+
+        @Setup
+        public void setup(TransportBenchmark benchmark) throws InterruptedException {
+            channel = new Bootstrap()
+                    .group(benchmark.eventLoopGroup)
+                    .channelFactory(() -> benchmark.eventLoopGroupFactory.clientSocketChannelInstance(benchmark.configuration))
+                    .handler(new ChannelInitializer<Channel>() {
+                        @Override
+                        protected void initChannel(Channel ch) {
+                            ch.pipeline()
+                                    .addLast(new HttpClientCodec())
+                                    .addLast(new HttpObjectAggregator(1024))
+                                    .addLast(new SimpleChannelInboundHandler<FullHttpResponse>(false) {
+                                        @Override
+                                        protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse msg) {
+                                            msg.release();
+                                            response.complete(msg);
+                                        }
+                                    });
+                        }
+                    })
+                    .connect(benchmark.serverChannel.localAddress())
+                    .sync()
+                    .channel();
+        }
+
+        FullHttpResponse send() throws Exception {
+            CompletableFuture<FullHttpResponse> future = new CompletableFuture<>();
+            response = future;
+            FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/hello");
+            request.headers().set(HttpHeaderNames.HOST, "localhost");
+            channel.writeAndFlush(request);
+            return future.get(10, TimeUnit.SECONDS);
+        }
+
+        @TearDown
+        public void tearDown() throws InterruptedException {
+            channel.close().sync();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + TransportBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
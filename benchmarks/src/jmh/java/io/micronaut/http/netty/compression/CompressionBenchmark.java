@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.netty.compression;
+
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.BrotliEncoder;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.compression.ZstdEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Measures the CPU cost of compressing a typical JSON response body with each encoding supported by the
+ * {@code SmartHttpContentCompressor}, at the default and at a faster and a denser level. The compression ratio of
+ * each configuration is printed when the trial ends.
+ */
+@State(Scope.Benchmark)
+public class CompressionBenchmark {
+
+    @Param({"gzip:1", "gzip:6", "deflate:6", "br:1", "br:4", "br:6", "zstd:1", "zstd:3", "zstd:9"})
+    String encoding;
+
+    @Param({"4096", "65536"})
+    int size;
+
+    ByteBuf payload;
+    String name;
+    int level;
+    int compressedSize;
+
+    @Setup
+    public void setup() {
+        int i = encoding.indexOf(':');
+        name = encoding.substring(0, i);
+        level = Integer.parseInt(encoding.substring(i + 1));
+        if (name.equals("br") && !Brotli.isAvailable()) {
+            throw new IllegalStateException("Brotli4j is not available");
+        }
+        payload = Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(json(size).getBytes(StandardCharsets.UTF_8)));
+        compressedSize = compress();
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%n%s with %d bytes: %d bytes compressed, ratio %.2f%n",
+                encoding, payload.readableBytes(), compressedSize, (double) payload.readableBytes() / compressedSize);
+    }
+
+    @Benchmark
+    public int compress() {
+        EmbeddedChannel channel = new EmbeddedChannel(encoder());
+        channel.writeOutbound(payload.duplicate());
+        channel.finish();
+        int length = 0;
+        ByteBuf buf;
+        while ((buf = channel.readOutbound()) != null) {
+            length += buf.readableBytes();
+            buf.release();
+        }
+        return length;
+    }
+
+    private ChannelHandler encoder() {
+        switch (name) {
+            case "gzip":
+                return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.GZIP, level, 15, 8);
+            case "deflate":
+                return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.ZLIB, level, 15, 8);
+            case "br":
+                return new BrotliEncoder(new Encoder.Parameters().setQuality(level));
+            case "zstd":
+                return new ZstdEncoder(level, 1 << 16, 1 << 25);
+            default:
+                throw new IllegalArgumentException(name);
+        }
+    }
+
+    private static String json(int size) {
+        StringBuilder json = new StringBuilder(size + 256).append('[');
+        for (int i = 0; json.length() < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(i)
+                    .append(",\"name\":\"Customer ").append(i)
+                    .append("\",\"email\":\"customer").append(i).append("@example.com\"")
+                    .append(",\"active\":").append(i % 3 != 0)
+                    .append(",\"balance\":").append(i * 17 % 1000).append('.').append(i % 100)
+                    .append(",\"tags\":[\"retail\",\"").append(i % 2 == 0 ? "priority" : "standard").append("\"]")
+                    .append(",\"address\":{\"street\":\"").append(i % 50).append(" Main Street\",\"city\":\"Springfield\",\"zip\":\"")
+                    .append(10000 + i % 900).append("\"}}");
+        }
+        return json.append(']').toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + CompressionBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.netty.websocket;
+
+import io.micronaut.buffer.netty.NettyByteBufferFactory;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.codec.MediaTypeCodec;
+import io.micronaut.http.codec.MediaTypeCodecRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the messages per second and the allocation rate (with the GC profiler) of encoding a broadcast
+ * WebSocket message. {@code UNPOOLED} reproduces the previous encoding into unpooled heap buffers,
+ * {@code POOLED} encodes into the default pooled allocator and {@code POOLED_CACHED} additionally enables the frame
+ * cache, so the same message instance is only serialized once.
+ */
+@State(Scope.Benchmark)
+public class WebSocketMessageEncoderBenchmark {
+
+    @Param({"UNPOOLED", "POOLED", "POOLED_CACHED"})
+    String mode;
+
+    ApplicationContext applicationContext;
+    MediaTypeCodec jsonCodec;
+    WebSocketMessageEncoder encoder;
+    ChatMessage message;
+
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        MediaTypeCodecRegistry codecRegistry = applicationContext.getBean(MediaTypeCodecRegistry.class);
+        jsonCodec = codecRegistry.findCodec(MediaType.APPLICATION_JSON_TYPE).orElseThrow(IllegalStateException::new);
+        encoder = new WebSocketMessageEncoder(codecRegistry, "POOLED_CACHED".equals(mode) ? 16 : 0);
+        List<String> recipients = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            recipients.add("user-" + i);
+        }
+        message = new ChatMessage("lobby", "fred", "The quick brown fox jumps over the lazy dog", recipients);
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public int encode() {
+        WebSocketFrame frame;
+        if ("UNPOOLED".equals(mode)) {
+            frame = new TextWebSocketFrame((ByteBuf) jsonCodec.encode(message, new NettyByteBufferFactory(UnpooledByteBufAllocator.DEFAULT)).asNativeBuffer());
+        } else {
+            frame = encoder.encodeMessage(message, MediaType.APPLICATION_JSON_TYPE);
+        }
+        int length = frame.content().readableBytes();
+        frame.release();
+        return length;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + WebSocketMessageEncoderBenchmark.class.getSimpleName() + ".*")
+                .addProfiler(GCProfiler.class)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    /**
+     * A chat message.
+     */
+    public static class ChatMessage {
+        private final String room;
+        private final String sender;
+        private final String text;
+        private final List<String> recipients;
+
+        ChatMessage(String room, String sender, String text, List<String> recipients) {
+            this.room = room;
+            this.sender = sender;
+            this.text = text;
+            this.recipients = recipients;
+        }
+
+        public String getRoom() {
+            return room;
+        }
+
+        public String getSender() {
+            return sender;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public List<String> getRecipients() {
+            return recipients;
+        }
+    }
+}
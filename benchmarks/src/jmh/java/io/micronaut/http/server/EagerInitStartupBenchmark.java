@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.http.server.eager.EagerBenchmarkBean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the startup of a context that eagerly initializes 2,000 beans, forming 200 independent chains of 10, with
+ * the eager beans initialized sequentially and by independent subgraphs on several threads. The beans are generated by
+ * the {@code generateEagerBeans} task.
+ */
+@State(Scope.Benchmark)
+public class EagerInitStartupBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    int parallelism;
+
+    @Benchmark
+    public boolean startup() {
+        try (ApplicationContext context = ApplicationContext.builder()
+                .eagerInitAnnotated(EagerBenchmarkBean.class)
+                .eagerInitParallelism(parallelism)
+                .start()) {
+            return context.isRunning();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + EagerInitStartupBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
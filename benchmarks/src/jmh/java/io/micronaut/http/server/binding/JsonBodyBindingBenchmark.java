@@ -0,0 +1,233 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.binding;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.json.tree.JsonNode;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reactivestreams.Processor;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures binding a 1 MB JSON request body, received in 8 KB chunks, to a POJO. {@code tree} reproduces the
+ * {@code JsonContentProcessor} path, which copies each chunk into the non-blocking parser, builds a
+ * {@link JsonNode} tree and converts the tree afterwards. {@code direct} reproduces the
+ * {@code JsonBodyContentProcessor} path, which collects the chunks in a {@link CompositeByteBuf} and deserializes
+ * them once. Run with the GC profiler to compare the allocation rate.
+ */
+@State(Scope.Benchmark)
+public class JsonBodyBindingBenchmark {
+
+    private static final int CHUNK_SIZE = 8192;
+    private static final Argument<Order> ORDER = Argument.of(Order.class);
+
+    ApplicationContext applicationContext;
+    JsonMapper jsonMapper;
+    ByteBuf content;
+    int bodyLength;
+
+    @Setup
+    public void setup() throws IOException {
+        applicationContext = ApplicationContext.run();
+        jsonMapper = applicationContext.getBean(JsonMapper.class);
+        Order order = new Order();
+        order.setCustomer("customer");
+        List<Item> items = new ArrayList<>();
+        int length = 0;
+        for (int i = 0; length < 1024 * 1024; i++) {
+            Item item = new Item();
+            item.setSku("SKU-" + i);
+            item.setDescription("The quick brown fox jumps over the lazy dog " + i);
+            item.setQuantity(i % 10);
+            item.setPrice(i * 0.25d);
+            items.add(item);
+            length += 110;
+        }
+        order.setItems(items);
+        byte[] bytes = jsonMapper.writeValueAsBytes(order);
+        bodyLength = bytes.length;
+        content = Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(bytes));
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Order tree() throws IOException {
+        List<JsonNode> nodes = new ArrayList<>(1);
+        Processor<byte[], JsonNode> parser = jsonMapper.createReactiveParser(p -> {
+        }, false);
+        parser.subscribe(new Subscriber<JsonNode>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(JsonNode node) {
+                nodes.add(node);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                throw new IllegalStateException(t);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        parser.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        for (int offset = 0; offset < bodyLength; offset += CHUNK_SIZE) {
+            ByteBuf chunk = content.retainedSlice(offset, Math.min(CHUNK_SIZE, bodyLength - offset));
+            try {
+                parser.onNext(ByteBufUtil.getBytes(chunk));
+            } finally {
+                chunk.release();
+            }
+        }
+        parser.onComplete();
+        return jsonMapper.readValueFromTree(nodes.get(0), ORDER);
+    }
+
+    @Benchmark
+    public Order direct() throws IOException {
+        CompositeByteBuf body = PooledByteBufAllocator.DEFAULT.compositeBuffer(1024);
+        try {
+            for (int offset = 0; offset < bodyLength; offset += CHUNK_SIZE) {
+                body.addComponent(true, content.retainedSlice(offset, Math.min(CHUNK_SIZE, bodyLength - offset)));
+            }
+            try (ByteBufInputStream inputStream = new ByteBufInputStream(body)) {
+                return jsonMapper.readValue(inputStream, ORDER);
+            }
+        } finally {
+            body.release();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + JsonBodyBindingBenchmark.class.getSimpleName() + ".*")
+                .addProfiler(GCProfiler.class)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    /**
+     * An order.
+     */
+    @Introspected
+    public static class Order {
+        private String customer;
+        private List<Item> items;
+
+        public String getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(String customer) {
+            this.customer = customer;
+        }
+
+        public List<Item> getItems() {
+            return items;
+        }
+
+        public void setItems(List<Item> items) {
+            this.items = items;
+        }
+    }
+
+    /**
+     * An order item.
+     */
+    @Introspected
+    public static class Item {
+        private String sku;
+        private String description;
+        private int quantity;
+        private double price;
+
+        public String getSku() {
+            return sku;
+        }
+
+        public void setSku(String sku) {
+            this.sku = sku;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
+    }
+}
@@ -15,7 +15,6 @@
  */
 package io.micronaut.http.server.binding;
 
-import io.micronaut.aop.around.AroundCompileBenchmark;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.MutableHttpRequest;
@@ -56,9 +55,20 @@ public class RequestArgumentSatisfierBenchmark {
         );
     }
 
+    @Benchmark
+    public RouteMatch<?> benchmarkFulfillTwentyArguments() {
+        final MutableHttpRequest<Object> request = HttpRequest.GET("/arguments/many/a/b/c/d/e?q1=1&q2=2&q3=3&q4=4&q5=5&q6=6&q7=7&q8=8&q9=9&q10=10&q11=11&q12=12&q13=13&q14=14&q15=15");
+        final UriRouteMatch<Object, Object> routeMatch = router.find(request.getMethod(), request.getPath(), request).findFirst().orElse(null);
+        return requestArgumentSatisfier.fulfillArgumentRequirements(
+                routeMatch,
+                request,
+                true
+        );
+    }
+
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
-                .include(".*" + AroundCompileBenchmark.class.getSimpleName() + ".*")
+                .include(".*" + RequestArgumentSatisfierBenchmark.class.getSimpleName() + ".*")
                 .warmupIterations(3)
                 .measurementIterations(5)
                 .forks(1)
@@ -25,4 +25,9 @@ public class TestController {
     String show(String name, int age) {
         return name + " is " + age;
     }
+
+    @Get("/many/{p1}/{p2}/{p3}/{p4}/{p5}")
+    String many(String p1, String p2, String p3, String p4, String p5, int q1, int q2, int q3, int q4, int q5, int q6, int q7, int q8, int q9, int q10, int q11, int q12, int q13, int q14, int q15) {
+        return p1 + p2 + p3 + p4 + p5 + (q1 + q2 + q3 + q4 + q5 + q6 + q7 + q8 + q9 + q10 + q11 + q12 + q13 + q14 + q15);
+    }
 }
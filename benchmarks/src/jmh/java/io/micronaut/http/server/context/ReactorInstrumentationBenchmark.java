@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.context;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.context.ServerRequestContext;
+import io.micronaut.reactive.reactor.instrument.ReactorContextPropagation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * Executes the pipeline of a reactive controller method with 20 operators the way the route executor does, once with
+ * every operator instrumented and once with the request context only restored at the edge of the pipeline. Run with
+ * the GC profiler to compare the allocations per request.
+ */
+@State(Scope.Benchmark)
+public class ReactorInstrumentationBenchmark {
+
+    private static final int OPERATORS = 20;
+
+    @Param({"OPERATOR", "CONTEXT"})
+    ReactorContextPropagation.Mode mode;
+
+    ApplicationContext applicationContext;
+    ReactorContextPropagation contextPropagation;
+    HttpRequest<?> request;
+
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run(CollectionUtils.mapOf(
+                ReactorContextPropagation.PROPERTY, mode
+        ));
+        contextPropagation = applicationContext.getBean(ReactorContextPropagation.class);
+        request = HttpRequest.GET("/benchmark");
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Integer route() {
+        Flux<Integer> response = ServerRequestContext.with(request, (Supplier<Flux<Integer>>) () ->
+                contextPropagation.propagate(request, controller()));
+        return response
+                .contextWrite(ctx -> ctx.put(ServerRequestContext.KEY, request))
+                .blockLast();
+    }
+
+    private Mono<Integer> controller() {
+        Mono<Integer> mono = Mono.just(0);
+        for (int i = 0; i < OPERATORS; i++) {
+            mono = mono.map(value -> value + 1);
+        }
+        return mono;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + ReactorInstrumentationBenchmark.class.getSimpleName() + ".*")
+                .addProfiler(GCProfiler.class)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.context.scope;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.runtime.context.scope.refresh.RefreshScope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collections;
+
+/**
+ * Measures concurrent invocations of a {@link Refreshable} bean in the {@code lock} and {@code epoch} refresh modes.
+ * The {@link #main(String[])} method runs the benchmark with 1 to 64 threads to compare how both modes scale.
+ */
+@State(Scope.Benchmark)
+public class RefreshScopeBenchmark {
+
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    @Param({"lock", "epoch"})
+    String mode;
+
+    ApplicationContext applicationContext;
+    RefreshableBean bean;
+
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run(Collections.singletonMap(RefreshScope.MODE_PROPERTY, mode));
+        bean = applicationContext.getBean(RefreshableBean.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public int invoke() {
+        return bean.value();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREADS) {
+            Options opt = new OptionsBuilder()
+                    .include(".*" + RefreshScopeBenchmark.class.getSimpleName() + ".*")
+                    .threads(threads)
+                    .warmupIterations(3)
+                    .measurementIterations(5)
+                    .forks(1)
+                    .build();
+
+            new Runner(opt).run();
+        }
+    }
+
+    /**
+     * The refreshable bean.
+     */
+    @Refreshable
+    @Requires(property = RefreshScope.MODE_PROPERTY)
+    public static class RefreshableBean {
+
+        private final int value = 42;
+
+        public int value() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures scheduling 1M timers with delays between one second and one hour and cancelling them, as per-entity
+ * timeouts do, with the {@link ScheduledExecutorTaskScheduler} and the {@link TimingWheelTaskScheduler}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskSchedulerBenchmark {
+
+    private static final int TIMERS = 1_000_000;
+    private static final Runnable TASK = () -> {
+    };
+
+    @Param({"executor", "timing-wheel"})
+    String scheduler;
+
+    ScheduledThreadPoolExecutor executorService;
+    TaskScheduler taskScheduler;
+    Duration[] delays;
+    ScheduledFuture<?>[] futures;
+
+    @Setup
+    public void setup() {
+        executorService = new ScheduledThreadPoolExecutor(2);
+        // otherwise the cancelled tasks stay in the queue until their delay elapses
+        executorService.setRemoveOnCancelPolicy(true);
+        if (scheduler.equals("executor")) {
+            taskScheduler = new ScheduledExecutorTaskScheduler(executorService);
+        } else {
+            taskScheduler = new TimingWheelTaskScheduler(executorService, Duration.ofMillis(10));
+        }
+        delays = new Duration[TIMERS];
+        for (int i = 0; i < TIMERS; i++) {
+            delays[i] = Duration.ofMillis(ThreadLocalRandom.current().nextLong(1000, 3_600_000));
+        }
+        futures = new ScheduledFuture<?>[TIMERS];
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (taskScheduler instanceof TimingWheelTaskScheduler) {
+            ((TimingWheelTaskScheduler) taskScheduler).close();
+        }
+        executorService.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TIMERS)
+    public int scheduleAndCancel() {
+        for (int i = 0; i < TIMERS; i++) {
+            futures[i] = taskScheduler.schedule(delays[i], TASK);
+        }
+        int cancelled = 0;
+        for (int i = 0; i < TIMERS; i++) {
+            if (futures[i].cancel(false)) {
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + TaskSchedulerBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.executor;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Executable;
+import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.inject.ExecutableMethod;
+import jakarta.inject.Singleton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs bursts of concurrent blocking requests on the executor {@link ExecutorSelector} picks for a blocking route,
+ * comparing a fixed size I/O pool with a virtual thread per request. The sample mode reports the latency of
+ * complete bursts, the p99 latency of the individual requests is printed after each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BlockingExecutorBenchmark {
+
+    @Param({"IO", "VIRTUAL"})
+    ThreadSelection threadSelection;
+
+    @Param({"10000"})
+    int concurrency;
+
+    @Param({"200"})
+    int ioThreads;
+
+    @Param({"10"})
+    int blockingMillis;
+
+    ApplicationContext applicationContext;
+    ExecutorService executor;
+    long[] latencies;
+    int latencyCount;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        applicationContext = ApplicationContext.run(CollectionUtils.mapOf(
+                "micronaut.executors.io.type", ExecutorType.FIXED,
+                "micronaut.executors.io.number-of-threads", ioThreads
+        ));
+        ExecutorSelector selector = applicationContext.getBean(ExecutorSelector.class);
+        ExecutableMethod<BlockingController, Object> method = applicationContext
+                .getExecutableMethod(BlockingController.class, "query");
+        executor = selector.select(method, threadSelection).orElseThrow(IllegalStateException::new);
+        latencies = new long[concurrency * 16];
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetLatencies() {
+        latencyCount = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportLatencies() {
+        long[] sorted = Arrays.copyOf(latencies, Math.min(latencyCount, latencies.length));
+        Arrays.sort(sorted);
+        if (sorted.length > 0) {
+            System.out.printf("%n%s request latency p50: %.2f ms, p99: %.2f ms (%d samples)%n",
+                    threadSelection,
+                    sorted[sorted.length / 2] / 1_000_000d,
+                    sorted[(int) (sorted.length * 0.99)] / 1_000_000d,
+                    sorted.length);
+        }
+    }
+
+    @Benchmark
+    public void concurrentBlockingRequests() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(concurrency);
+        long[] requestLatencies = new long[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            int request = i;
+            long start = System.nanoTime();
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(blockingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                requestLatencies[request] = System.nanoTime() - start;
+                latch.countDown();
+            });
+        }
+        latch.await();
+        // keep a bounded window of the most recent bursts for the percentile report
+        int offset = latencyCount % latencies.length;
+        System.arraycopy(requestLatencies, 0, latencies, offset, Math.min(concurrency, latencies.length - offset));
+        latencyCount += concurrency;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + BlockingExecutorBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Singleton
+    @Executable
+    static class BlockingController {
+
+        String query() {
+            return "result";
+        }
+    }
+}
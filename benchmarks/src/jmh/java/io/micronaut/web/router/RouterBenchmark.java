@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Executable;
+import io.micronaut.http.HttpMethod;
+import jakarta.inject.Singleton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the indexed route lookup of {@link DefaultRouter} with a linear scan over all routes.
+ */
+@State(Scope.Benchmark)
+public class RouterBenchmark {
+
+    @Param({"10", "100", "1000", "5000"})
+    int routeCount;
+
+    ApplicationContext applicationContext;
+    Router router;
+    List<UriRoute> routes;
+    String[] uris;
+    int uriIndex;
+
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        BenchmarkController controller = applicationContext.getBean(BenchmarkController.class);
+        DefaultRouteBuilder builder = new DefaultRouteBuilder(applicationContext) { };
+        for (int i = 0; i < routeCount / 2; i++) {
+            builder.GET("/resource" + i, controller, "list");
+            builder.GET("/resource" + i + "/{id}", controller, "show", String.class);
+        }
+        router = new DefaultRouter(builder);
+        routes = router.uriRoutes()
+                .filter(route -> route.getHttpMethod() == HttpMethod.GET)
+                .collect(Collectors.toList());
+        List<String> uriList = new ArrayList<>();
+        for (int i = 0; i < routeCount / 2; i += Math.max(1, routeCount / 20)) {
+            uriList.add("/resource" + i);
+            uriList.add("/resource" + i + "/10");
+        }
+        Collections.shuffle(uriList);
+        uris = uriList.toArray(new String[0]);
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public List<UriRouteMatch<Object, Object>> indexedLookup() {
+        return router.<Object, Object>find(HttpMethod.GET, nextUri(), null).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<UriRouteMatch> linearScan() {
+        String uri = nextUri();
+        List<UriRouteMatch> matches = new ArrayList<>();
+        for (UriRoute route : routes) {
+            Optional<UriRouteMatch> match = route.match(uri);
+            match.ifPresent(matches::add);
+        }
+        return matches;
+    }
+
+    private String nextUri() {
+        String uri = uris[uriIndex];
+        uriIndex = (uriIndex + 1) % uris.length;
+        return uri;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + RouterBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Singleton
+    @Executable
+    static class BenchmarkController {
+
+        String list() {
+            return "list";
+        }
+
+        String show(String id) {
+            return id;
+        }
+    }
+}
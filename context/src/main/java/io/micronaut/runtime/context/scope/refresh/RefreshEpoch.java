@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.context.scope.refresh;
+
+import io.micronaut.context.scope.CreatedBean;
+import io.micronaut.core.annotation.Internal;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>The lifetime of a refreshable bean in the {@link RefreshMode#EPOCH} mode. Invocations register on a
+ * {@link LongAdder}, so that concurrent invocations do not contend on a single counter. Once the epoch is retired by a
+ * refresh, the bean is destroyed as soon as no invocation is in flight.</p>
+ *
+ * <p>An invocation increments the counter before it reads the retired flag, and a refresh sets the flag before it
+ * reads the counter, so either the refresh sees the invocation or the invocation sees the refresh. Invocations that
+ * see the refresh synchronize with the destruction of the bean.</p>
+ *
+ * @since 3.8.0
+ */
+@Internal
+final class RefreshEpoch {
+
+    private final CreatedBean<?> createdBean;
+    private final Runnable onDestroyed;
+    private final LongAdder inFlight = new LongAdder();
+    private volatile boolean retired;
+    private boolean destroyed;
+
+    /**
+     * @param createdBean The bean
+     * @param onDestroyed Invoked once the bean has been destroyed
+     */
+    RefreshEpoch(CreatedBean<?> createdBean, Runnable onDestroyed) {
+        this.createdBean = createdBean;
+        this.onDestroyed = onDestroyed;
+    }
+
+    /**
+     * Registers an invocation of the bean.
+     *
+     * @throws IllegalStateException If the bean has already been destroyed by a refresh
+     */
+    void enter() {
+        inFlight.increment();
+        if (retired) {
+            synchronized (this) {
+                if (destroyed) {
+                    inFlight.decrement();
+                    throw new IllegalStateException("Refreshable bean has been destroyed by a refresh: " + createdBean.bean());
+                }
+            }
+        }
+    }
+
+    /**
+     * Deregisters an invocation of the bean, destroying the bean if the epoch is retired and drained.
+     */
+    void exit() {
+        inFlight.decrement();
+        if (retired) {
+            destroyIfDrained();
+        }
+    }
+
+    /**
+     * Retires the epoch, destroying the bean now if no invocation is in flight.
+     */
+    void retire() {
+        retired = true;
+        destroyIfDrained();
+    }
+
+    private void destroyIfDrained() {
+        synchronized (this) {
+            if (destroyed || inFlight.sum() != 0) {
+                return;
+            }
+            destroyed = true;
+        }
+        try {
+            createdBean.close();
+        } finally {
+            onDestroyed.run();
+        }
+    }
+}
@@ -26,7 +26,8 @@ import java.util.concurrent.locks.Lock;
 
 /**
  * <p>A {@link MethodInterceptor} that will lock the bean preventing it from being destroyed by a
- * {@link RefreshEvent} until the method completes.</p>
+ * {@link RefreshEvent} until the method completes. In the {@link RefreshMode#EPOCH} mode the invocation registers with
+ * the epoch of the bean instead of taking a lock.</p>
  *
  * @author Graeme Rocher
  * @since 1.0
@@ -48,6 +49,23 @@ public class RefreshInterceptor implements MethodInterceptor {
     @Override
     public Object intercept(MethodInvocationContext context) {
         Object target = context.getTarget();
+        if (refreshScope.getMode() == RefreshMode.EPOCH) {
+            RefreshEpoch epoch;
+            try {
+                epoch = refreshScope.getEpoch(target);
+                epoch.enter();
+            } catch (IllegalStateException e) {
+                // the target was destroyed by a refresh after it was resolved, so dispatch again through the proxy,
+                // which resolves the current instance and runs the whole interceptor chain on it
+                Object proxy = refreshScope.getRefreshedProxy(target);
+                return context.getExecutableMethod().invoke(proxy, context.getParameterValues());
+            }
+            try {
+                return context.proceed();
+            } finally {
+                epoch.exit();
+            }
+        }
         Lock lock = refreshScope.getLock(target).readLock();
         try {
             lock.lock();
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.context.scope.refresh;
+
+/**
+ * How the {@link RefreshScope} prevents a refreshable bean from being destroyed while it is invoked. Configured with
+ * {@value RefreshScope#MODE_PROPERTY}.
+ *
+ * @since 3.8.0
+ */
+public enum RefreshMode {
+
+    /**
+     * Each invocation holds the read lock of a {@link java.util.concurrent.locks.ReadWriteLock} per bean, and a refresh
+     * waits for the write lock before it destroys the bean.
+     */
+    LOCK,
+
+    /**
+     * Each invocation registers with the epoch of the bean on a striped counter. A refresh retires the epoch, new
+     * invocations use a new instance, and the retired bean is destroyed by the last invocation that drains its epoch.
+     */
+    EPOCH
+}
@@ -22,6 +22,7 @@ import io.micronaut.context.LifeCycle;
 import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.ConfigurationReader;
 import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.context.env.Environment;
 import io.micronaut.context.event.ApplicationEventListener;
 import io.micronaut.context.scope.BeanCreationContext;
@@ -38,6 +39,8 @@ import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
@@ -63,9 +66,21 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
 
     public static final int POSITION = RefreshEventListener.DEFAULT_POSITION - 100;
 
+    /**
+     * The property that configures the {@link RefreshMode}.
+     *
+     * @since 3.8.0
+     */
+    public static final String MODE_PROPERTY = "micronaut.refresh.mode";
+
     private final Map<BeanIdentifier, CreatedBean<?>> refreshableBeans = new ConcurrentHashMap<>(10);
     private final ConcurrentMap<Object, ReadWriteLock> locks = new ConcurrentHashMap<>();
+    // keyed by identity, as the old and new instances of a bean may be equal
+    private final ConcurrentMap<BeanKey, RefreshEpoch> epochs = new ConcurrentHashMap<>();
+    private final ConcurrentMap<BeanKey, BeanDefinition<?>> retiredBeans = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> retiredQueue = new ReferenceQueue<>();
     private final BeanContext beanContext;
+    private final RefreshMode mode;
 
     /**
      * @param beanContext     The bean context to allow DI of beans annotated with @Inject
@@ -73,15 +88,25 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
      */
     @Deprecated
     public RefreshScope(BeanContext beanContext, @Named(TaskExecutors.IO) Executor executorService) {
-        this.beanContext = beanContext;
+        this(beanContext);
     }
 
     /**
      * @param beanContext     The bean context to allow DI of beans annotated with @Inject
      */
-    @Inject
     public RefreshScope(BeanContext beanContext) {
+        this(beanContext, RefreshMode.LOCK);
+    }
+
+    /**
+     * @param beanContext The bean context to allow DI of beans annotated with @Inject
+     * @param mode        How beans are protected from being destroyed while they are invoked
+     * @since 3.8.0
+     */
+    @Inject
+    public RefreshScope(BeanContext beanContext, @Value("${" + MODE_PROPERTY + ":lock}") RefreshMode mode) {
         this.beanContext = beanContext;
+        this.mode = mode;
     }
 
     @Override
@@ -100,7 +125,13 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
         final BeanIdentifier id = creationContext.id();
         CreatedBean<?> created = refreshableBeans.computeIfAbsent(id, key -> {
             CreatedBean<T> createdBean = creationContext.create();
-            locks.putIfAbsent(createdBean.bean(), new ReentrantReadWriteLock());
+            T bean = createdBean.bean();
+            if (mode == RefreshMode.EPOCH) {
+                BeanKey beanKey = new BeanKey(bean, null);
+                epochs.putIfAbsent(beanKey, new RefreshEpoch(createdBean, () -> epochs.remove(beanKey)));
+            } else {
+                locks.putIfAbsent(bean, new ReentrantReadWriteLock());
+            }
             return createdBean;
         });
         return (T) created.bean();
@@ -110,6 +141,8 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
     public RefreshScope stop() {
         disposeOfAllBeans();
         locks.clear();
+        epochs.clear();
+        retiredBeans.clear();
         return this;
     }
 
@@ -172,6 +205,43 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
         return Optional.empty();
     }
 
+    /**
+     * @return How beans are protected from being destroyed while they are invoked
+     * @since 3.8.0
+     */
+    public RefreshMode getMode() {
+        return mode;
+    }
+
+    /**
+     * @param object The bean
+     * @return The epoch of the bean in the {@link RefreshMode#EPOCH} mode
+     */
+    RefreshEpoch getEpoch(Object object) {
+        RefreshEpoch epoch = epochs.get(new BeanKey(object, null));
+        if (epoch == null) {
+            throw new IllegalStateException("No epoch present for object: " + object);
+        }
+        return epoch;
+    }
+
+    /**
+     * Resolves the proxy of a bean that has been destroyed by a refresh in the {@link RefreshMode#EPOCH} mode. The proxy
+     * dispatches invocations to the current instance of the bean.
+     *
+     * @param object The destroyed bean
+     * @return The proxy of the bean
+     */
+    @SuppressWarnings("unchecked")
+    Object getRefreshedProxy(Object object) {
+        purgeRetiredBeans();
+        BeanDefinition<Object> definition = (BeanDefinition<Object>) retiredBeans.get(new BeanKey(object, null));
+        if (definition == null) {
+            throw new IllegalStateException("No epoch present for object: " + object);
+        }
+        return beanContext.getBean(definition.asArgument(), definition.getDeclaredQualifier());
+    }
+
     /**
      * @param object The bean
      * @return The lock on the object
@@ -235,6 +305,13 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
         CreatedBean<?> createdBean = refreshableBeans.remove(key);
         if (createdBean != null) {
             Object bean = createdBean.bean();
+            if (mode == RefreshMode.EPOCH) {
+                // new invocations already resolve a new instance, this one is destroyed once the in-flight ones complete
+                purgeRetiredBeans();
+                retiredBeans.put(new BeanKey(bean, retiredQueue), createdBean.definition());
+                getEpoch(bean).retire();
+                return;
+            }
             Lock lock = getLock(bean).writeLock();
             try {
                 lock.lock();
@@ -245,4 +322,40 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
             }
         }
     }
+
+    private void purgeRetiredBeans() {
+        Object key;
+        while ((key = retiredQueue.poll()) != null) {
+            retiredBeans.remove(key);
+        }
+    }
+
+    /**
+     * A key that compares beans by identity and does not keep them reachable.
+     */
+    private static final class BeanKey extends WeakReference<Object> {
+        private final int hash;
+
+        BeanKey(Object bean, ReferenceQueue<Object> queue) {
+            super(bean, queue);
+            this.hash = System.identityHashCode(bean);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BeanKey)) {
+                return false;
+            }
+            Object bean = get();
+            return bean != null && bean == ((BeanKey) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -38,5 +38,18 @@ public interface TaskExecutors {
      */
     String MESSAGE_CONSUMER = "consumer";
 
+    /**
+     * The name of the {@link java.util.concurrent.ExecutorService} that runs each task on a new virtual thread.
+     *
+     * @since 3.8.0
+     */
+    String VIRTUAL = "virtual";
+
+    /**
+     * The name of the {@link TaskScheduler} backed by a hierarchical timing wheel, suited to large numbers of timers.
+     *
+     * @since 3.8.0
+     */
+    String TIMING_WHEEL = "timing-wheel";
 
 }
@@ -0,0 +1,510 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling;
+
+import static io.micronaut.core.util.ArgumentUtils.check;
+
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.scheduling.cron.CronExpression;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * A {@link TaskScheduler} backed by a hierarchical timing wheel, for applications that schedule and cancel large
+ * numbers of timers such as per-entity timeouts. Scheduling and cancelling a task are constant time operations that
+ * only enqueue the task for the wheel thread, instead of updating the binary heap of a
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor} under its lock.
+ *
+ * <p>The wheel has four levels of 256 slots and advances one slot per tick, so a task fires up to one tick after its
+ * delay has elapsed. When a task is due the wheel thread hands it to the {@link TaskExecutors#SCHEDULED} executor.
+ * The next fire time of each cron expression is shared by the tasks scheduled with it.</p>
+ *
+ * <p>Use the scheduler with {@code @Scheduled(scheduler = TaskExecutors.TIMING_WHEEL)} or inject it with
+ * {@code @Named(TaskExecutors.TIMING_WHEEL)}.</p>
+ *
+ * @since 3.8.0
+ */
+@Named(TaskExecutors.TIMING_WHEEL)
+@Singleton
+public class TimingWheelTaskScheduler implements TaskScheduler, Closeable {
+
+    /**
+     * The prefix of the timing wheel configuration.
+     */
+    public static final String PREFIX = "micronaut.scheduler.timing-wheel";
+
+    private static final Logger LOG = LoggerFactory.getLogger(TimingWheelTaskScheduler.class);
+    private static final int LEVELS = 4;
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final long MAX_TICKS = (1L << (WHEEL_BITS * LEVELS)) - 1;
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+    private static final int CRON_CACHE_SIZE = 1024;
+
+    private final ExecutorService executorService;
+    private final long tickNanos;
+    private final long startTime;
+    private final Bucket[][] wheels = new Bucket[LEVELS][WHEEL_SIZE];
+    private final Queue<WheelTask<?>> pendingTasks = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTask<?>> cancelledTasks = new ConcurrentLinkedQueue<>();
+    private final Map<String, CronFireTimes> cronFireTimes = new ConcurrentLinkedHashMap.Builder<String, CronFireTimes>()
+            .maximumWeightedCapacity(CRON_CACHE_SIZE)
+            .build();
+    private final Thread worker;
+    private volatile boolean running = true;
+    private long currentTick;
+
+    /**
+     * @param executorService The executor the due tasks are executed on
+     * @param tickDuration    The duration of a tick of the wheel
+     */
+    public TimingWheelTaskScheduler(@Named(TaskExecutors.SCHEDULED) ExecutorService executorService,
+                                    @Value("${" + PREFIX + ".tick-duration:10ms}") Duration tickDuration) {
+        check("tickDuration", tickDuration).notNull();
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("Tick duration must be positive: " + tickDuration);
+        }
+        this.executorService = executorService;
+        this.tickNanos = tickDuration.toNanos();
+        for (Bucket[] wheel : wheels) {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                wheel[i] = new Bucket();
+            }
+        }
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::runWorker, "timing-wheel");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(String cron, Runnable command) {
+        return schedule(cron, null, command);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(String cron, Callable<V> command) {
+        return schedule(cron, null, command);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(@NonNull String cron, @Nullable String timezoneId, @NonNull Callable<V> command) {
+        if (StringUtils.isEmpty(cron)) {
+            throw new IllegalArgumentException("Blank cron expression not allowed");
+        }
+        check("command", command).notNull();
+
+        ZoneId zoneId;
+        if (timezoneId == null || timezoneId.equals("")) {
+            zoneId = ZoneId.systemDefault();
+        } else {
+            try {
+                zoneId = ZoneId.of(timezoneId);
+            } catch (Exception e) {
+                zoneId = null;
+            }
+        }
+        if (zoneId == null) {
+            throw new IllegalArgumentException("Invalid zone id for cron expression");
+        }
+
+        String key = cron + '@' + zoneId.getId();
+        CronFireTimes fireTimes = cronFireTimes.get(key);
+        if (fireTimes == null) {
+            CronFireTimes newFireTimes = new CronFireTimes(CronExpression.create(cron), zoneId);
+            fireTimes = cronFireTimes.putIfAbsent(key, newFireTimes);
+            if (fireTimes == null) {
+                fireTimes = newFireTimes;
+            }
+        }
+        return new ReschedulingTask<>(command, this, fireTimes.newNextFireTime());
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Duration delay, Runnable command) {
+        check("delay", delay).notNull();
+        check("command", command).notNull();
+        return schedule(new WheelTask<>(command, triggerTime(delay), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Duration delay, Callable<V> callable) {
+        check("delay", delay).notNull();
+        check("callable", callable).notNull();
+        return schedule(new WheelTask<>(callable, triggerTime(delay)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Duration initialDelay, Duration period, Runnable command) {
+        check("period", period).notNull();
+        check("command", command).notNull();
+        if (period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Period must be positive: " + period);
+        }
+        return schedule(new WheelTask<>(command, triggerTime(initialDelay), period.toNanos()));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Duration initialDelay, Duration delay, Runnable command) {
+        check("delay", delay).notNull();
+        check("command", command).notNull();
+        if (delay.isNegative() || delay.isZero()) {
+            throw new IllegalArgumentException("Delay must be positive: " + delay);
+        }
+        return schedule(new WheelTask<>(command, triggerTime(initialDelay), -delay.toNanos()));
+    }
+
+    /**
+     * Stops the wheel thread. The tasks that are not due yet are cancelled.
+     */
+    @PreDestroy
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(worker);
+    }
+
+    private long triggerTime(@Nullable Duration delay) {
+        long delayNanos = delay != null && !delay.isNegative() ? delay.toNanos() : 0;
+        return System.nanoTime() + delayNanos;
+    }
+
+    private <V> WheelTask<V> schedule(WheelTask<V> task) {
+        if (!running) {
+            throw new RejectedExecutionException("Task scheduler is closed");
+        }
+        pendingTasks.add(task);
+        return task;
+    }
+
+    private void runWorker() {
+        while (running) {
+            long sleepNanos = startTime + (currentTick + 1) * tickNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+            removeCancelledTasks();
+            transferPendingTasks();
+            currentTick++;
+            int index = (int) (currentTick & WHEEL_MASK);
+            if (index == 0) {
+                cascade(1);
+            }
+            WheelTask<?> task = wheels[0][index].clear();
+            while (task != null) {
+                WheelTask<?> next = task.next;
+                task.next = null;
+                if (task.deadlineTick <= currentTick) {
+                    expire(task);
+                } else {
+                    place(task);
+                }
+                task = next;
+            }
+        }
+        cancelRemainingTasks();
+    }
+
+    private void removeCancelledTasks() {
+        WheelTask<?> task;
+        while ((task = cancelledTasks.poll()) != null) {
+            Bucket bucket = task.bucket;
+            if (bucket != null) {
+                bucket.remove(task);
+            }
+        }
+    }
+
+    private void transferPendingTasks() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            WheelTask<?> task = pendingTasks.poll();
+            if (task == null) {
+                break;
+            }
+            if (!task.isCancelled()) {
+                long deadline = task.triggerTime - startTime;
+                // round up so that a task never fires before its delay has elapsed
+                task.deadlineTick = deadline > 0 ? (deadline + tickNanos - 1) / tickNanos : 0;
+                place(task);
+            }
+        }
+    }
+
+    private void cascade(int level) {
+        int index = (int) ((currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+        if (index == 0 && level + 1 < LEVELS) {
+            cascade(level + 1);
+        }
+        WheelTask<?> task = wheels[level][index].clear();
+        while (task != null) {
+            WheelTask<?> next = task.next;
+            task.next = null;
+            place(task);
+            task = next;
+        }
+    }
+
+    private void place(WheelTask<?> task) {
+        long ticks = task.deadlineTick - currentTick;
+        if (ticks <= 0) {
+            expire(task);
+            return;
+        }
+        long tick = task.deadlineTick;
+        if (ticks > MAX_TICKS) {
+            // beyond the range of the wheel, the task is placed again once the last level reaches it
+            tick = currentTick + MAX_TICKS;
+            ticks = MAX_TICKS;
+        }
+        int level = 0;
+        while (ticks >= 1L << (WHEEL_BITS * (level + 1))) {
+            level++;
+        }
+        wheels[level][(int) ((tick >>> (WHEEL_BITS * level)) & WHEEL_MASK)].add(task);
+    }
+
+    private void expire(WheelTask<?> task) {
+        if (task.isCancelled()) {
+            return;
+        }
+        try {
+            executorService.execute(task);
+        } catch (RejectedExecutionException e) {
+            if (LOG.isErrorEnabled()) {
+                LOG.error("Scheduled task rejected by the executor: " + e.getMessage(), e);
+            }
+            task.cancel(false);
+        }
+    }
+
+    private void cancelRemainingTasks() {
+        WheelTask<?> task;
+        while ((task = pendingTasks.poll()) != null) {
+            task.cancel(false);
+        }
+        for (Bucket[] wheel : wheels) {
+            for (Bucket bucket : wheel) {
+                task = bucket.clear();
+                while (task != null) {
+                    WheelTask<?> next = task.next;
+                    task.next = null;
+                    task.cancel(false);
+                    task = next;
+                }
+            }
+        }
+        cancelledTasks.clear();
+    }
+
+    /**
+     * A task scheduled on the wheel.
+     *
+     * @param <V> The result type
+     */
+    private final class WheelTask<V> extends FutureTask<V> implements ScheduledFuture<V> {
+
+        /**
+         * The period in nanoseconds. A positive value is a fixed rate, a negative value a fixed delay.
+         */
+        private final long period;
+        private volatile long triggerTime;
+        // the following fields are only accessed by the wheel thread
+        private long deadlineTick;
+        private Bucket bucket;
+        private WheelTask<?> previous;
+        private WheelTask<?> next;
+
+        WheelTask(Callable<V> callable, long triggerTime) {
+            super(callable);
+            this.triggerTime = triggerTime;
+            this.period = 0;
+        }
+
+        WheelTask(Runnable runnable, long triggerTime, long period) {
+            super(runnable, null);
+            this.triggerTime = triggerTime;
+            this.period = period;
+        }
+
+        @Override
+        public void run() {
+            if (period == 0) {
+                super.run();
+            } else if (runAndReset()) {
+                triggerTime = period > 0 ? triggerTime + period : System.nanoTime() - period;
+                if (running) {
+                    pendingTasks.add(this);
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled && running) {
+                cancelledTasks.add(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(triggerTime - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            if (o == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * A slot of the wheel, a doubly linked list of tasks so that a cancelled task is removed in constant time.
+     */
+    private static final class Bucket {
+        private WheelTask<?> head;
+        private WheelTask<?> tail;
+
+        void add(WheelTask<?> task) {
+            task.bucket = this;
+            if (head == null) {
+                head = task;
+            } else {
+                tail.next = task;
+                task.previous = tail;
+            }
+            tail = task;
+        }
+
+        void remove(WheelTask<?> task) {
+            WheelTask<?> next = task.next;
+            WheelTask<?> previous = task.previous;
+            if (previous != null) {
+                previous.next = next;
+            } else {
+                head = next;
+            }
+            if (next != null) {
+                next.previous = previous;
+            } else {
+                tail = previous;
+            }
+            task.previous = null;
+            task.next = null;
+            task.bucket = null;
+        }
+
+        /**
+         * Empties the bucket.
+         *
+         * @return The first task, the other tasks are linked with {@code next}
+         */
+        WheelTask<?> clear() {
+            WheelTask<?> task = head;
+            for (WheelTask<?> t = head; t != null; t = t.next) {
+                t.bucket = null;
+                t.previous = null;
+            }
+            head = null;
+            tail = null;
+            return task;
+        }
+    }
+
+    /**
+     * The fire times of a cron expression. The last computed fire time is shared by the tasks scheduled with the
+     * expression, as it is the next fire time of every instant between the instant it was computed for and itself.
+     */
+    private static final class CronFireTimes {
+        private final CronExpression cron;
+        private final ZoneId zoneId;
+        private volatile FireTime lastFireTime;
+
+        CronFireTimes(CronExpression cron, ZoneId zoneId) {
+            this.cron = cron;
+            this.zoneId = zoneId;
+        }
+
+        ZonedDateTime nextTimeAfter(ZonedDateTime time) {
+            FireTime fireTime = lastFireTime;
+            if (fireTime != null && !time.isBefore(fireTime.after) && time.isBefore(fireTime.next)) {
+                return fireTime.next;
+            }
+            ZonedDateTime next = cron.nextTimeAfter(time);
+            lastFireTime = new FireTime(time, next);
+            return next;
+        }
+
+        /**
+         * @return The delay supplier of a task, which never returns a fire time the task has already fired at
+         */
+        Supplier<Duration> newNextFireTime() {
+            return new Supplier<Duration>() {
+                private ZonedDateTime nextFireTime = ZonedDateTime.now(zoneId);
+
+                @Override
+                public Duration get() {
+                    ZonedDateTime now = ZonedDateTime.now(zoneId);
+                    // check if the task have fired too early
+                    nextFireTime = nextTimeAfter(now.isAfter(nextFireTime) ? now : nextFireTime);
+                    return Duration.between(now, nextFireTime);
+                }
+            };
+        }
+    }
+
+    /**
+     * A fire time and the instant it was computed for.
+     */
+    private static final class FireTime {
+        private final ZonedDateTime after;
+        private final ZonedDateTime next;
+
+        FireTime(ZonedDateTime after, ZonedDateTime next) {
+            this.after = after;
+            this.next = next;
+        }
+    }
+}
@@ -30,6 +30,8 @@ import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.micronaut.scheduling.exceptions.SchedulerConfigurationException;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
@@ -44,9 +46,11 @@ import java.util.function.Supplier;
 @Singleton
 public class DefaultExecutorSelector implements ExecutorSelector {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultExecutorSelector.class);
     private static final String EXECUTE_ON = ExecuteOn.class.getName();
     private final BeanLocator beanLocator;
     private final Supplier<ExecutorService> ioExecutor;
+    private final Supplier<ExecutorService> virtualExecutor;
 
     /**
      * Default constructor.
@@ -57,6 +61,16 @@ public class DefaultExecutorSelector implements ExecutorSelector {
     protected DefaultExecutorSelector(BeanLocator beanLocator, @jakarta.inject.Named(TaskExecutors.IO) BeanProvider<ExecutorService> ioExecutor) {
         this.beanLocator = beanLocator;
         this.ioExecutor = SupplierUtil.memoized(ioExecutor::get);
+        this.virtualExecutor = SupplierUtil.memoized(() -> {
+            Optional<ExecutorService> executorService = beanLocator.findBean(ExecutorService.class, Qualifiers.byName(TaskExecutors.VIRTUAL));
+            if (executorService.isPresent()) {
+                return executorService.get();
+            }
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Thread selection {} configured, but no executor named '{}' is available. Falling back to the I/O executor", ThreadSelection.VIRTUAL, TaskExecutors.VIRTUAL);
+            }
+            return this.ioExecutor.get();
+        });
     }
 
     @Override
@@ -73,11 +87,12 @@ public class DefaultExecutorSelector implements ExecutorSelector {
                         "No executor configured for name: " + name
                 );
             }
-        } else if (threadSelection == ThreadSelection.AUTO) {
+        } else if (threadSelection == ThreadSelection.AUTO || threadSelection == ThreadSelection.VIRTUAL) {
+            Supplier<ExecutorService> blockingExecutor = threadSelection == ThreadSelection.VIRTUAL ? virtualExecutor : ioExecutor;
             if (method.hasStereotype(NonBlocking.class)) {
                 return Optional.empty();
             } else if (method.hasStereotype(Blocking.class)) {
-                return Optional.of(ioExecutor.get());
+                return Optional.of(blockingExecutor.get());
             } else {
                 TypeInformation<?> returnType = method.getReturnType();
                 if (returnType.isWrapperType()) {
@@ -89,7 +104,7 @@ public class DefaultExecutorSelector implements ExecutorSelector {
                 if (returnType.isAsyncOrReactive()) {
                     return Optional.empty();
                 } else {
-                    return Optional.of(ioExecutor.get());
+                    return Optional.of(blockingExecutor.get());
                 }
             }
         } else if (threadSelection == ThreadSelection.IO) {
@@ -47,6 +47,11 @@ public interface ExecutorConfiguration {
      */
     String PREFIX_CONSUMER = PREFIX + ".consumer";
 
+    /**
+     * The prefix used for virtual thread executor configuration.
+     */
+    String PREFIX_VIRTUAL = PREFIX + ".virtual";
+
     /**
      * @return The name of the component
      */
@@ -79,6 +79,8 @@ public class ExecutorFactory {
                 return Executors.newScheduledThreadPool(executorConfiguration.getCorePoolSize(), getThreadFactory(executorConfiguration));
             case WORK_STEALING:
                 return Executors.newWorkStealingPool(executorConfiguration.getParallelism());
+            case VIRTUAL:
+                return VirtualThreads.newThreadPerTaskExecutor(executorConfiguration.getName());
 
             default:
                 throw new IllegalStateException("Could not create Executor service for enum value: " + executorType);
@@ -42,5 +42,12 @@ public enum ExecutorType {
     /**
      * @see java.util.concurrent.Executors#newWorkStealingPool()
      */
-    WORK_STEALING
+    WORK_STEALING,
+
+    /**
+     * An executor that starts a new virtual thread for each task. Requires a JVM that supports virtual threads.
+     *
+     * @since 3.8.0
+     */
+    VIRTUAL
 }
@@ -39,5 +39,14 @@ public enum ThreadSelection {
     /**
      * I/O selection will run all operations regardless of return type and annotations on the I/O thread pool and will never schedule an operation on the server event loop thread.
      */
-    IO
+    IO,
+    /**
+     * Virtual selection behaves like {@link #AUTO}, but runs blocking operations on a new virtual thread per request,
+     * using the executor named {@link io.micronaut.scheduling.TaskExecutors#VIRTUAL}, instead of the I/O thread pool.
+     *
+     * <p>If the JVM does not support virtual threads the I/O thread pool is used.</p>
+     *
+     * @since 3.8.0
+     */
+    VIRTUAL
 }
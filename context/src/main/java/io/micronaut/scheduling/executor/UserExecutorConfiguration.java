@@ -129,6 +129,7 @@ public class UserExecutorConfiguration implements ExecutorConfiguration {
 
     /**
      * Sets the executor type. Default value ({@link io.micronaut.scheduling.executor.ExecutorType#SCHEDULED}).
+     * The type {@link io.micronaut.scheduling.executor.ExecutorType#VIRTUAL} requires a JVM that supports virtual threads.
      *
      * @param type The type
      */
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.executor;
+
+import io.micronaut.context.condition.Condition;
+import io.micronaut.context.condition.ConditionContext;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Introspected;
+
+/**
+ * Condition that only matches if the JVM is able to create virtual threads.
+ *
+ * @since 3.8.0
+ */
+@Introspected
+@Internal
+public final class VirtualThreadsCondition implements Condition {
+    @Override
+    public boolean matches(ConditionContext context) {
+        if (!VirtualThreads.isSupported()) {
+            context.fail("Virtual threads are not supported by the current JVM");
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.scheduling.annotation.Scheduled
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class TimingWheelTaskSchedulerSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext context = ApplicationContext.run(['spec.name': 'TimingWheelTaskSchedulerSpec'])
+
+    @Shared
+    TaskScheduler scheduler = context.getBean(TaskScheduler, Qualifiers.byName(TaskExecutors.TIMING_WHEEL))
+
+    void 'test the scheduler is a timing wheel'() {
+        expect:
+        scheduler instanceof TimingWheelTaskScheduler
+    }
+
+    void 'test delayed tasks are executed after their delay'() {
+        given:
+        long start = System.nanoTime()
+
+        when:
+        ScheduledFuture<Long> future = scheduler.schedule(Duration.ofMillis(100), { System.nanoTime() } as Callable)
+
+        then:
+        future.get(5, TimeUnit.SECONDS) - start >= TimeUnit.MILLISECONDS.toNanos(100)
+        future.done
+    }
+
+    void 'test tasks beyond the first level of the wheel are cascaded'() {
+        given:
+        TimingWheelTaskScheduler wheel = new TimingWheelTaskScheduler(context.getBean(ExecutorService, Qualifiers.byName(TaskExecutors.SCHEDULED)), Duration.ofMillis(1))
+        AtomicInteger count = new AtomicInteger()
+
+        when:"the delays span the first two levels"
+        [5, 300, 700, 1200].each { wheel.schedule(Duration.ofMillis(it), { count.incrementAndGet() } as Runnable) }
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert count.get() == 4
+        }
+
+        cleanup:
+        wheel.close()
+    }
+
+    void 'test cancelled tasks are not executed'() {
+        given:
+        AtomicInteger count = new AtomicInteger()
+
+        when:
+        List<ScheduledFuture<?>> futures = (1..1000).collect { scheduler.schedule(Duration.ofMillis(200), { count.incrementAndGet() } as Runnable) }
+        futures.eachWithIndex { ScheduledFuture<?> future, int i ->
+            if (i % 2 == 0) {
+                future.cancel(false)
+            }
+        }
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert count.get() == 500
+        }
+        futures.findAll { it.cancelled }.size() == 500
+
+        when:
+        Thread.sleep(300)
+
+        then:
+        count.get() == 500
+    }
+
+    void 'test fixed rate tasks are rescheduled until cancelled'() {
+        given:
+        AtomicInteger count = new AtomicInteger()
+
+        when:
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(Duration.ofMillis(10), Duration.ofMillis(20), { count.incrementAndGet() } as Runnable)
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert count.get() >= 3
+        }
+
+        when:
+        future.cancel(false)
+        int executions = count.get()
+        Thread.sleep(200)
+
+        then:
+        count.get() <= executions + 1
+    }
+
+    void 'test scheduled methods can use the timing wheel'() {
+        given:
+        WheelTask task = context.getBean(WheelTask)
+
+        expect:
+        new PollingConditions(timeout: 5).eventually {
+            assert task.fixedDelay.get() >= 2
+            assert task.cron.get() >= 1
+        }
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'TimingWheelTaskSchedulerSpec')
+    static class WheelTask {
+        AtomicInteger fixedDelay = new AtomicInteger()
+        AtomicInteger cron = new AtomicInteger()
+
+        @Scheduled(fixedDelay = '50ms', scheduler = TaskExecutors.TIMING_WHEEL)
+        void runFixedDelay() {
+            fixedDelay.incrementAndGet()
+        }
+
+        @Scheduled(cron = '* * * * * *', scheduler = TaskExecutors.TIMING_WHEEL)
+        void runCron() {
+            cron.incrementAndGet()
+        }
+    }
+}
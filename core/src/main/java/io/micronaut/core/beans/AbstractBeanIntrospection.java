@@ -171,7 +171,14 @@ public abstract class AbstractBeanIntrospection<T> implements BeanIntrospection<
 
     @Override
     public int propertyIndexOf(String name) {
-        return new ArrayList<>(beanProperties.keySet()).indexOf(name);
+        int index = 0;
+        for (String propertyName : beanProperties.keySet()) {
+            if (propertyName.equals(name)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
     }
 
     @NonNull
@@ -170,6 +170,27 @@ public interface BeanIntrospection<T> extends AnnotationMetadataDelegate {
         return -1;
     }
 
+    /**
+     * Obtain the property at the given index position, as returned by {@link #propertyIndexOf(String)}. A property
+     * resolved by index once can then be read and written without looking up its name again.
+     *
+     * @param index The index of the property
+     * @return The bean property
+     * @throws IndexOutOfBoundsException if there is no property at the index
+     * @since 3.8.0
+     */
+    default @NonNull BeanProperty<T, Object> getPropertyByIndex(int index) {
+        if (index >= 0) {
+            int i = 0;
+            for (BeanProperty<T, Object> property : getBeanProperties()) {
+                if (i++ == index) {
+                    return property;
+                }
+            }
+        }
+        throw new IndexOutOfBoundsException("No property at index: " + index);
+    }
+
     /**
      * Gets a property of the given name and type or throws {@link IntrospectionException} if the property is not present.
      * @param name The name
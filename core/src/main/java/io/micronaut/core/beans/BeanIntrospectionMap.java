@@ -96,7 +96,8 @@ final class BeanIntrospectionMap<T> implements BeanMap<T> {
         if (key == null) {
             return null;
         }
-        return beanIntrospection.getProperty(key.toString()).map(bp -> bp.get(bean)).orElse(null);
+        BeanProperty<T, Object> property = beanIntrospection.getProperty(key.toString()).orElse(null);
+        return property != null ? property.get(bean) : null;
     }
 
     @Override
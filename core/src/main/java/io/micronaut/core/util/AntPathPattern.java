@@ -0,0 +1,417 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.core.util;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * <p>An Ant-style path pattern compiled into a sequence of segment matchers, that matches paths exactly like
+ * {@link AntPathMatcher} with the default {@code /} separator does without tokenizing the pattern, or allocating the
+ * segments of the path, on each match.</p>
+ *
+ * <p>Literal segments are compared in place, segments with {@code *} and {@code ?} wildcards run the wildcard match
+ * on the region of the path, and {@code **} segments match zero or more path segments.
+ * {@link #indexOfMatch(AntPathPattern[], String)} splits the path once to match a batch of patterns.</p>
+ *
+ * @since 3.8.0
+ */
+public final class AntPathPattern {
+
+    private static final char SEPARATOR = '/';
+    private static final int[] NO_SEGMENTS = new int[0];
+
+    private final String pattern;
+    private final Segment[] segments;
+    private final boolean startsWithSeparator;
+    private final boolean endsWithSeparator;
+
+    private AntPathPattern(String pattern, Segment[] segments) {
+        this.pattern = pattern;
+        this.segments = segments;
+        this.startsWithSeparator = pattern.length() > 0 && pattern.charAt(0) == SEPARATOR;
+        this.endsWithSeparator = pattern.length() > 0 && pattern.charAt(pattern.length() - 1) == SEPARATOR;
+    }
+
+    /**
+     * Compiles the given pattern.
+     *
+     * @param pattern The Ant-style pattern
+     * @return The compiled pattern
+     */
+    @NonNull
+    public static AntPathPattern compile(@NonNull String pattern) {
+        ArgumentUtils.requireNonNull("pattern", pattern);
+        String[] tokens = StringUtils.tokenizeToStringArray(pattern, String.valueOf(SEPARATOR));
+        Segment[] segments = new Segment[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            segments[i] = new Segment(tokens[i]);
+        }
+        return new AntPathPattern(pattern, segments);
+    }
+
+    /**
+     * @return The source pattern
+     */
+    @NonNull
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Matches the given path.
+     *
+     * @param path The path
+     * @return Whether the path matches the pattern
+     */
+    public boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+        return matches(path, split(path));
+    }
+
+    /**
+     * Finds the first of the given patterns that matches the path, splitting the path into segments only once.
+     *
+     * @param patterns The patterns
+     * @param path     The path
+     * @return The index of the first matching pattern, or {@code -1} if none matches
+     */
+    public static int indexOfMatch(@NonNull AntPathPattern[] patterns, String path) {
+        if (path == null || patterns.length == 0) {
+            return -1;
+        }
+        int[] bounds = split(path);
+        for (int i = 0; i < patterns.length; i++) {
+            if (patterns[i].matches(path, bounds)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    /**
+     * Splits the path into the bounds of its segments the way {@link StringUtils#tokenizeToStringArray(String, String)}
+     * does: empty segments are skipped and whitespace is trimmed. The first element holds the segment count, followed
+     * by the start and end index of each segment.
+     *
+     * @param path The path
+     * @return The segment bounds
+     */
+    private static int[] split(String path) {
+        int length = path.length();
+        if (length == 0) {
+            return NO_SEGMENTS;
+        }
+        int[] bounds = new int[9];
+        int count = 0;
+        int i = 0;
+        while (i < length) {
+            int end = path.indexOf(SEPARATOR, i);
+            if (end == -1) {
+                end = length;
+            }
+            int start = i;
+            int last = end;
+            while (start < last && path.charAt(start) <= ' ') {
+                start++;
+            }
+            while (last > start && path.charAt(last - 1) <= ' ') {
+                last--;
+            }
+            if (start < last) {
+                int index = count * 2 + 1;
+                if (index + 1 >= bounds.length) {
+                    bounds = Arrays.copyOf(bounds, bounds.length * 2 + 1);
+                }
+                bounds[index] = start;
+                bounds[index + 1] = last;
+                count++;
+            }
+            i = end + 1;
+        }
+        if (count == 0) {
+            return NO_SEGMENTS;
+        }
+        bounds[0] = count;
+        return bounds;
+    }
+
+    /**
+     * A port of {@link AntPathMatcher#doMatch(String, String, boolean)} for a full match over the compiled segments.
+     *
+     * @param path   The path
+     * @param bounds The segment bounds of the path
+     * @return Whether the path matches
+     */
+    @SuppressWarnings("java:S3776")
+    private boolean matches(String path, int[] bounds) {
+        boolean pathStartsWithSeparator = path.length() > 0 && path.charAt(0) == SEPARATOR;
+        if (pathStartsWithSeparator != startsWithSeparator) {
+            return false;
+        }
+        boolean pathEndsWithSeparator = path.length() > 0 && path.charAt(path.length() - 1) == SEPARATOR;
+        Segment[] segments = this.segments;
+
+        int pattIdxStart = 0;
+        int pattIdxEnd = segments.length - 1;
+        int pathIdxStart = 0;
+        int pathIdxEnd = (bounds.length == 0 ? 0 : bounds[0]) - 1;
+
+        // Match all elements up to the first **
+        while (pattIdxStart <= pattIdxEnd && pathIdxStart <= pathIdxEnd) {
+            Segment segment = segments[pattIdxStart];
+            if (segment.doubleWildcard) {
+                break;
+            }
+            if (!segment.matches(path, bounds, pathIdxStart)) {
+                return false;
+            }
+            pattIdxStart++;
+            pathIdxStart++;
+        }
+
+        if (pathIdxStart > pathIdxEnd) {
+            // Path is exhausted, only match if rest of pattern is * or **'s
+            if (pattIdxStart > pattIdxEnd) {
+                return endsWithSeparator == pathEndsWithSeparator;
+            }
+            if (pattIdxStart == pattIdxEnd && segments[pattIdxStart].singleWildcard && pathEndsWithSeparator) {
+                return true;
+            }
+            return onlyDoubleWildcards(pattIdxStart, pattIdxEnd);
+        } else if (pattIdxStart > pattIdxEnd) {
+            // String not exhausted, but pattern is. Failure.
+            return false;
+        }
+
+        // up to last '**'
+        while (pattIdxStart <= pattIdxEnd && pathIdxStart <= pathIdxEnd) {
+            Segment segment = segments[pattIdxEnd];
+            if (segment.doubleWildcard) {
+                break;
+            }
+            if (!segment.matches(path, bounds, pathIdxEnd)) {
+                return false;
+            }
+            pattIdxEnd--;
+            pathIdxEnd--;
+        }
+        if (pathIdxStart > pathIdxEnd) {
+            // String is exhausted
+            return onlyDoubleWildcards(pattIdxStart, pattIdxEnd);
+        }
+
+        while (pattIdxStart != pattIdxEnd && pathIdxStart <= pathIdxEnd) {
+            int patIdxTmp = -1;
+            for (int i = pattIdxStart + 1; i <= pattIdxEnd; i++) {
+                if (segments[i].doubleWildcard) {
+                    patIdxTmp = i;
+                    break;
+                }
+            }
+            if (patIdxTmp == pattIdxStart + 1) {
+                // '**/**' situation, so skip one
+                pattIdxStart++;
+                continue;
+            }
+            // Find the segments between pattIdxStart & patIdxTmp in the path between pathIdxStart & pathIdxEnd
+            int patLength = patIdxTmp - pattIdxStart - 1;
+            int strLength = pathIdxEnd - pathIdxStart + 1;
+            int foundIdx = -1;
+
+            strLoop:
+            for (int i = 0; i <= strLength - patLength; i++) {
+                for (int j = 0; j < patLength; j++) {
+                    if (!segments[pattIdxStart + j + 1].matches(path, bounds, pathIdxStart + i + j)) {
+                        continue strLoop;
+                    }
+                }
+                foundIdx = pathIdxStart + i;
+                break;
+            }
+
+            if (foundIdx == -1) {
+                return false;
+            }
+
+            pattIdxStart = patIdxTmp;
+            pathIdxStart = foundIdx + patLength;
+        }
+
+        return onlyDoubleWildcards(pattIdxStart, pattIdxEnd);
+    }
+
+    private boolean onlyDoubleWildcards(int from, int to) {
+        for (int i = from; i <= to; i++) {
+            if (!segments[i].doubleWildcard) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A compiled segment of the pattern.
+     */
+    private static final class Segment {
+        private final String token;
+        private final char[] chars;
+        private final boolean doubleWildcard;
+        private final boolean singleWildcard;
+        private final boolean literal;
+        private final boolean containsStar;
+
+        Segment(String token) {
+            this.token = token;
+            this.chars = token.toCharArray();
+            this.doubleWildcard = token.equals("**");
+            this.singleWildcard = token.equals("*");
+            this.containsStar = token.indexOf('*') > -1;
+            this.literal = !containsStar && token.indexOf('?') == -1;
+        }
+
+        /**
+         * @param path   The path
+         * @param bounds The segment bounds of the path
+         * @param index  The index of the path segment
+         * @return Whether the path segment matches
+         */
+        boolean matches(String path, int[] bounds, int index) {
+            int start = bounds[index * 2 + 1];
+            int end = bounds[index * 2 + 2];
+            if (literal) {
+                return end - start == chars.length && path.regionMatches(start, token, 0, chars.length);
+            }
+            return matchWildcards(path, start, end);
+        }
+
+        /**
+         * A port of the {@link AntPathMatcher} string match on a region of the path.
+         *
+         * @param str   The path
+         * @param start The start of the segment
+         * @param end   The end of the segment
+         * @return Whether the segment matches
+         */
+        @SuppressWarnings("java:S3776")
+        private boolean matchWildcards(String str, int start, int end) {
+            char[] patArr = chars;
+            int patIdxStart = 0;
+            int patIdxEnd = patArr.length - 1;
+            int strIdxStart = start;
+            int strIdxEnd = end - 1;
+            char ch;
+
+            if (!containsStar) {
+                // No '*'s, so we make a shortcut
+                if (patIdxEnd != strIdxEnd - strIdxStart) {
+                    return false;
+                }
+                for (int i = 0; i <= patIdxEnd; i++) {
+                    ch = patArr[i];
+                    if (ch != '?' && ch != str.charAt(strIdxStart + i)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            if (patIdxEnd == 0) {
+                return true; // Pattern contains only '*', which matches anything
+            }
+
+            // Process characters before first star
+            while ((ch = patArr[patIdxStart]) != '*' && strIdxStart <= strIdxEnd) {
+                if (ch != '?' && ch != str.charAt(strIdxStart)) {
+                    return false;
+                }
+                patIdxStart++;
+                strIdxStart++;
+            }
+            if (strIdxStart > strIdxEnd) {
+                return onlyStars(patIdxStart, patIdxEnd);
+            }
+
+            // Process characters after last star
+            while ((ch = patArr[patIdxEnd]) != '*' && strIdxStart <= strIdxEnd) {
+                if (ch != '?' && ch != str.charAt(strIdxEnd)) {
+                    return false;
+                }
+                patIdxEnd--;
+                strIdxEnd--;
+            }
+            if (strIdxStart > strIdxEnd) {
+                return onlyStars(patIdxStart, patIdxEnd);
+            }
+
+            // process pattern between stars. patIdxStart and patIdxEnd point always to a '*'.
+            while (patIdxStart != patIdxEnd && strIdxStart <= strIdxEnd) {
+                int patIdxTmp = -1;
+                for (int i = patIdxStart + 1; i <= patIdxEnd; i++) {
+                    if (patArr[i] == '*') {
+                        patIdxTmp = i;
+                        break;
+                    }
+                }
+                if (patIdxTmp == patIdxStart + 1) {
+                    // Two stars next to each other, skip the first one.
+                    patIdxStart++;
+                    continue;
+                }
+                int patLength = patIdxTmp - patIdxStart - 1;
+                int strLength = strIdxEnd - strIdxStart + 1;
+                int foundIdx = -1;
+                strLoop:
+                for (int i = 0; i <= strLength - patLength; i++) {
+                    for (int j = 0; j < patLength; j++) {
+                        ch = patArr[patIdxStart + j + 1];
+                        if (ch != '?' && ch != str.charAt(strIdxStart + i + j)) {
+                            continue strLoop;
+                        }
+                    }
+                    foundIdx = strIdxStart + i;
+                    break;
+                }
+
+                if (foundIdx == -1) {
+                    return false;
+                }
+
+                patIdxStart = patIdxTmp;
+                strIdxStart = foundIdx + patLength;
+            }
+
+            return onlyStars(patIdxStart, patIdxEnd);
+        }
+
+        private boolean onlyStars(int from, int to) {
+            for (int i = from; i <= to; i++) {
+                if (chars[i] != '*') {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
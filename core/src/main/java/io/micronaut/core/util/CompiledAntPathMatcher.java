@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.core.util;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+
+import java.util.Map;
+
+/**
+ * PathMatcher implementation for Ant-style path patterns that compiles each pattern once into an
+ * {@link AntPathPattern} and caches it. Matches exactly like {@link AntPathMatcher} with the default separator.
+ *
+ * @since 3.8.0
+ */
+public class CompiledAntPathMatcher implements PathMatcher {
+
+    private static final int MAX_PATTERNS = 1024;
+
+    private final Map<String, AntPathPattern> compiledPatterns = new ConcurrentLinkedHashMap.Builder<String, AntPathPattern>()
+            .maximumWeightedCapacity(MAX_PATTERNS)
+            .build();
+
+    @Override
+    public boolean matches(String pattern, String source) {
+        if (pattern == null || source == null) {
+            return false;
+        }
+        return compile(pattern).matches(source);
+    }
+
+    /**
+     * Returns the compiled form of the given pattern.
+     *
+     * @param pattern The pattern
+     * @return The compiled pattern
+     */
+    @NonNull
+    public AntPathPattern compile(@NonNull String pattern) {
+        AntPathPattern compiled = compiledPatterns.get(pattern);
+        if (compiled == null) {
+            compiled = AntPathPattern.compile(pattern);
+            compiledPatterns.put(pattern, compiled);
+        }
+        return compiled;
+    }
+}
@@ -32,6 +32,12 @@ public interface PathMatcher {
      * The default regex style path matcher.
      */
     RegexPathMatcher REGEX = new RegexPathMatcher();
+    /**
+     * The Ant style path matcher that compiles the patterns once.
+     *
+     * @since 3.8.0
+     */
+    CompiledAntPathMatcher COMPILED_ANT = new CompiledAntPathMatcher();
 
     /**
      * Returns <code>true</code> if the given <code>source</code> matches the specified <code>pattern</code>,
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.core.util
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class AntPathPatternSpec extends Specification {
+
+    static final List<String> PATTERNS = [
+            '/**', '/*', '*', '**', '/', '', '/api/**', '/api/*', '/api/*/', '/api/v?/endpoint', '/api/**/endpoint',
+            '/api/**/v1/**/end*', '/**/*.html', '/static/**/*.js', '/api/v1/endpoint', '/api/v1/endpoint/',
+            'api/**', '/a*b*c/**', '/**/**/x', '/api/ v1 /endpoint', '/*.css', '/api/*/*/endpoint'
+    ]
+
+    static final List<String> PATHS = [
+            '', '/', '//', '/api', '/api/', '/api/v1', '/api/v1/', '/api/v1/endpoint', '/api/v1/endpoint/',
+            '/api/v2/endpoint', '/api/v12/endpoint', '/api//v1///endpoint', '/api/x/v1/y/endpoint', '/index.html',
+            '/docs/guide/index.html', '/static/js/app.js', '/static/app.js', 'api/v1', '/abc/x', '/aXbYc', '/x',
+            '/y/x', '/site.css', '/api/ v1 /endpoint', '/api/x/y/endpoint'
+    ]
+
+    @Unroll
+    void "test the compiled pattern #pattern matches like the AntPathMatcher"() {
+        given:
+        AntPathPattern compiled = AntPathPattern.compile(pattern)
+        AntPathMatcher matcher = new AntPathMatcher()
+
+        expect:
+        PATHS.findAll { compiled.matches(it) } == PATHS.findAll { matcher.matches(pattern, it) }
+        !compiled.matches(null)
+
+        where:
+        pattern << PATTERNS
+    }
+
+    void "test matching a batch of patterns"() {
+        given:
+        AntPathPattern[] patterns = ['/api/v1/**', '/api/**', '/**/*.html'].collect { AntPathPattern.compile(it) } as AntPathPattern[]
+
+        expect:
+        AntPathPattern.indexOfMatch(patterns, '/api/v1/endpoint') == 0
+        AntPathPattern.indexOfMatch(patterns, '/api/v2/endpoint') == 1
+        AntPathPattern.indexOfMatch(patterns, '/docs/index.html') == 2
+        AntPathPattern.indexOfMatch(patterns, '/docs/index.css') == -1
+        AntPathPattern.indexOfMatch(new AntPathPattern[0], '/api') == -1
+    }
+
+    void "test the compiled matcher"() {
+        given:
+        CompiledAntPathMatcher matcher = new CompiledAntPathMatcher()
+
+        expect:
+        matcher.matches('/api/**', '/api/v2/endpoint')
+        !matcher.matches('/api/v1/**', '/api/v2/endpoint')
+        !matcher.matches(null, '/api')
+        matcher.compile('/api/**').is(matcher.compile('/api/**'))
+    }
+}
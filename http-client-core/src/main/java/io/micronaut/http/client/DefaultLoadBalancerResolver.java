@@ -22,7 +22,12 @@ import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.discovery.ServiceInstanceList;
+import io.micronaut.discovery.DiscoveryClient;
+import io.micronaut.http.client.loadbalance.DiscoveryClientLoadAwareLoadBalancer;
 import io.micronaut.http.client.loadbalance.DiscoveryClientLoadBalancerFactory;
+import io.micronaut.http.client.loadbalance.LoadBalancerConfiguration;
+import io.micronaut.http.client.loadbalance.LoadBalancerStrategy;
+import io.micronaut.http.client.loadbalance.ServiceInstanceListLoadAwareLoadBalancer;
 import io.micronaut.http.client.loadbalance.ServiceInstanceListLoadBalancerFactory;
 import io.micronaut.runtime.server.EmbeddedServer;
 import jakarta.inject.Inject;
@@ -36,6 +41,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>Abstraction over {@link LoadBalancer} lookup. The strategy is as follows:</p>
@@ -46,6 +52,8 @@ import java.util.Optional;
  * <li>Otherwise delegate to the {@link io.micronaut.discovery.DiscoveryClient} to attempt to resolve the URIs</li>
  * </ul>
  *
+ * <p>Load balancers for service IDs use the strategy of the {@link LoadBalancerConfiguration}.</p>
+ *
  * @author Graeme Rocher
  * @since 1.0
  */
@@ -55,6 +63,8 @@ public class DefaultLoadBalancerResolver implements LoadBalancerResolver {
 
     private final Map<String, ServiceInstanceList> serviceInstanceLists;
     private final BeanContext beanContext;
+    private final LoadBalancerConfiguration loadBalancerConfiguration;
+    private final Map<String, LoadBalancer> loadAwareLoadBalancers = new ConcurrentHashMap<>();
 
     /**
      * The default server loadbalance resolver.
@@ -74,10 +84,26 @@ public class DefaultLoadBalancerResolver implements LoadBalancerResolver {
      * @param beanContext          The bean context
      * @param serviceInstanceLists Any other providers
      */
-    @Inject public DefaultLoadBalancerResolver(
+    public DefaultLoadBalancerResolver(
             BeanContext beanContext,
             List<ServiceInstanceList> serviceInstanceLists) {
+        this(beanContext, serviceInstanceLists, new LoadBalancerConfiguration());
+    }
+
+    /**
+     * The default server loadbalance resolver.
+     *
+     * @param beanContext               The bean context
+     * @param serviceInstanceLists      Any other providers
+     * @param loadBalancerConfiguration The load balancer configuration
+     * @since 3.8.0
+     */
+    @Inject public DefaultLoadBalancerResolver(
+            BeanContext beanContext,
+            List<ServiceInstanceList> serviceInstanceLists,
+            LoadBalancerConfiguration loadBalancerConfiguration) {
         this.beanContext = beanContext;
+        this.loadBalancerConfiguration = loadBalancerConfiguration;
         if (CollectionUtils.isNotEmpty(serviceInstanceLists)) {
             this.serviceInstanceLists = new HashMap<>(serviceInstanceLists.size());
             for (ServiceInstanceList provider : serviceInstanceLists) {
@@ -122,6 +148,11 @@ public class DefaultLoadBalancerResolver implements LoadBalancerResolver {
      * @return An {@link Optional} with the load balancer
      */
     protected Optional<? extends LoadBalancer> resolveLoadBalancerForServiceID(String serviceID) {
+        LoadBalancerStrategy strategy = loadBalancerConfiguration.getStrategy();
+        if (strategy != LoadBalancerStrategy.ROUND_ROBIN) {
+            // the clients of a service share the outstanding requests and latencies tracked by its load balancer
+            return Optional.of(loadAwareLoadBalancers.computeIfAbsent(serviceID, id -> createLoadAwareLoadBalancer(id, strategy)));
+        }
         if (serviceInstanceLists.containsKey(serviceID)) {
             ServiceInstanceList serviceInstanceList = serviceInstanceLists.get(serviceID);
             LoadBalancer loadBalancer = beanContext.getBean(ServiceInstanceListLoadBalancerFactory.class).create(serviceInstanceList);
@@ -131,4 +162,15 @@ public class DefaultLoadBalancerResolver implements LoadBalancerResolver {
             return Optional.of(loadBalancer);
         }
     }
+
+    private LoadBalancer createLoadAwareLoadBalancer(String serviceID, LoadBalancerStrategy strategy) {
+        double ewmaAlpha = loadBalancerConfiguration.getEwmaAlpha();
+        ServiceInstanceList serviceInstanceList = serviceInstanceLists.get(serviceID);
+        if (serviceInstanceList != null) {
+            return new ServiceInstanceListLoadAwareLoadBalancer(serviceInstanceList, strategy, ewmaAlpha);
+        }
+        DiscoveryClientLoadBalancerFactory factory = beanContext.getBean(DiscoveryClientLoadBalancerFactory.class);
+        DiscoveryClient discoveryClient = factory.getDiscoveryClient();
+        return new DiscoveryClientLoadAwareLoadBalancer(serviceID, discoveryClient, factory.getInstanceCache(serviceID), strategy, ewmaAlpha);
+    }
 }
@@ -658,6 +658,12 @@ public abstract class HttpClientConfiguration {
         @SuppressWarnings("WeakerAccess")
         public static final int DEFAULT_MAXCONNECTIONS = -1;
 
+        /**
+         * The default HTTP/2 multiplexing value.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final boolean DEFAULT_HTTP2_MULTIPLEXING = false;
+
         private int maxConnections = DEFAULT_MAXCONNECTIONS;
 
         private int maxPendingAcquires = Integer.MAX_VALUE;
@@ -666,6 +672,8 @@ public abstract class HttpClientConfiguration {
 
         private boolean enabled = DEFAULT_ENABLED;
 
+        private boolean http2Multiplexing = DEFAULT_HTTP2_MULTIPLEXING;
+
         /**
          * Whether connection pooling is enabled.
          *
@@ -738,5 +746,28 @@ public abstract class HttpClientConfiguration {
         public void setAcquireTimeout(@Nullable Duration acquireTimeout) {
             this.acquireTimeout = acquireTimeout;
         }
+
+        /**
+         * Whether HTTPS requests of an HTTP/2 client share a small number of connections per host. Each request
+         * is sent on a new stream, limited by the maximum number of concurrent streams announced by the server.
+         * A new connection is only opened when the streams of all connections are in use.
+         *
+         * @return True if HTTP/2 connections are multiplexed
+         * @since 3.8.0
+         */
+        public boolean isHttp2Multiplexing() {
+            return http2Multiplexing;
+        }
+
+        /**
+         * Sets whether HTTPS requests of an HTTP/2 client are multiplexed over shared connections. The maximum number
+         * of connections per host is limited by {@link #getMaxConnections()}. Default value ({@value io.micronaut.http.client.HttpClientConfiguration.ConnectionPoolConfiguration#DEFAULT_HTTP2_MULTIPLEXING}).
+         *
+         * @param http2Multiplexing True if HTTP/2 connections should be multiplexed
+         * @since 3.8.0
+         */
+        public void setHttp2Multiplexing(boolean http2Multiplexing) {
+            this.http2Multiplexing = http2Multiplexing;
+        }
     }
 }
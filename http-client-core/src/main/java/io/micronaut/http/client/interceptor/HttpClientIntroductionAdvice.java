@@ -38,9 +38,9 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.MutableArgumentValue;
 import io.micronaut.core.type.ReturnType;
 import io.micronaut.core.util.ArrayUtils;
-import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.version.annotation.Version;
+import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.http.HttpAttributes;
 import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpMethod;
@@ -59,8 +59,10 @@ import io.micronaut.http.client.ReactiveClientResultTransformer;
 import io.micronaut.http.client.HttpClientRegistry;
 import io.micronaut.http.client.StreamingHttpClient;
 import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.bind.AnnotatedClientRequestBinder;
 import io.micronaut.http.client.bind.ClientArgumentRequestBinder;
 import io.micronaut.http.client.bind.ClientRequestUriContext;
+import io.micronaut.http.client.bind.DefaultHttpClientBinderRegistry;
 import io.micronaut.http.client.bind.HttpClientBinderRegistry;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import io.micronaut.http.client.sse.SseClient;
@@ -88,6 +90,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -115,6 +118,10 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
     private final JsonMediaTypeCodec jsonMediaTypeCodec;
     private final HttpClientRegistry<?> clientFactory;
     private final ConversionService<?> conversionService;
+    private final boolean bindersCacheable;
+    // the executable methods of clients inheriting a method from the same interface are equal, so the descriptors of
+    // equal methods are told apart by identity
+    private final Map<ExecutableMethod<?, ?>, ClientMethodDescriptor[]> descriptors = new ConcurrentHashMap<>();
 
     /**
      * Constructor for advice class to setup things like Headers, Cookies, Parameters for Clients.
@@ -136,6 +143,8 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
         this.transformers = transformers != null ? transformers : Collections.emptyList();
         this.binderRegistry = binderRegistry;
         this.conversionService = conversionService;
+        // the default registry resolves binders from the argument alone, custom registries may not
+        this.bindersCacheable = binderRegistry instanceof DefaultHttpClientBinderRegistry;
     }
 
     /**
@@ -147,70 +156,40 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
     @Nullable
     @Override
     public Object intercept(MethodInvocationContext<Object, Object> context) {
-        if (!context.hasStereotype(Client.class)) {
+        final ClientMethodDescriptor descriptor = findDescriptor(context);
+        if (!descriptor.client) {
             throw new IllegalStateException("Client advice called from type that is not annotated with @Client: " + context);
         }
 
         final AnnotationMetadata annotationMetadata = context.getAnnotationMetadata();
 
         Class<?> declaringType = context.getDeclaringType();
-        if (Closeable.class == declaringType || AutoCloseable.class == declaringType) {
+        if (descriptor.closeMethod) {
             clientFactory.disposeClient(annotationMetadata);
             return null;
         }
 
-        Optional<Class<? extends Annotation>> httpMethodMapping = context.getAnnotationTypeByStereotype(HttpMethodMapping.class);
         HttpClient httpClient = clientFactory.getClient(annotationMetadata);
-        if (context.hasStereotype(HttpMethodMapping.class) && httpClient != null) {
-            AnnotationValue<HttpMethodMapping> mapping = context.getAnnotation(HttpMethodMapping.class);
-            String uri = mapping.getRequiredValue(String.class);
-            if (StringUtils.isEmpty(uri)) {
-                uri = "/" + context.getMethodName();
-            }
-
-            Class<? extends Annotation> annotationType = httpMethodMapping.get();
-            HttpMethod httpMethod = HttpMethod.parse(annotationType.getSimpleName().toUpperCase(Locale.ENGLISH));
-            String httpMethodName = context.stringValue(CustomHttpMethod.class, "method").orElse(httpMethod.name());
-
-            MutableHttpRequest<?> request = HttpRequest.create(httpMethod, "", httpMethodName);
-
-            UriMatchTemplate uriTemplate = UriMatchTemplate.of("");
-            if (!(uri.length() == 1 && uri.charAt(0) == '/')) {
-                uriTemplate = uriTemplate.nest(uri);
-            }
+        if (descriptor.httpMethod != null && httpClient != null) {
+            HttpMethod httpMethod = descriptor.httpMethod;
+            MutableHttpRequest<?> request = HttpRequest.create(httpMethod, "", descriptor.httpMethodName);
 
+            UriMatchTemplate uriTemplate = descriptor.uriTemplate;
             Map<String, Object> pathParams = new HashMap<>();
             Map<String, List<String>> queryParams = new LinkedHashMap<>();
             ClientRequestUriContext uriContext = new ClientRequestUriContext(uriTemplate, pathParams, queryParams);
             List<Argument> bodyArguments = new ArrayList<>();
 
-            List<String> uriVariables = uriTemplate.getVariableNames();
+            List<String> uriVariables = descriptor.uriVariables;
             Map<String, MutableArgumentValue<?>> parameters = context.getParameters();
 
-            ClientArgumentRequestBinder<Object> defaultBinder = (ctx, uriCtx, value, req) -> {
-                Argument<?> argument = ctx.getArgument();
-                if (uriCtx.getUriTemplate().getVariableNames().contains(argument.getName())) {
-                    String name = argument.getAnnotationMetadata().stringValue(Bindable.class)
-                            .orElse(argument.getName());
-                    // Convert and put as path param
-                    if (argument.getAnnotationMetadata().hasStereotype(Format.class)) {
-                        ConversionService.SHARED.convert(value,
-                                ConversionContext.STRING.with(argument.getAnnotationMetadata()))
-                                .ifPresent(v -> pathParams.put(name, v));
-                    } else {
-                        pathParams.put(name, value);
-                    }
-                } else {
-                    bodyArguments.add(ctx.getArgument());
-                }
-            };
-
             // Apply all the method binders
-            List<Class<? extends Annotation>> methodBinderTypes = context.getAnnotationTypesByStereotype(Bindable.class);
-            // @Version is not a bindable, so it needs to looked for separately
-            methodBinderTypes.addAll(context.getAnnotationTypesByStereotype(Version.class));
-            if (!CollectionUtils.isEmpty(methodBinderTypes)) {
-                for (Class<? extends Annotation> binderType : methodBinderTypes) {
+            if (descriptor.bindersCached) {
+                for (AnnotatedClientRequestBinder<?> binder : descriptor.methodBinders) {
+                    binder.bind(context, uriContext, request);
+                }
+            } else {
+                for (Class<? extends Annotation> binderType : descriptor.methodBinderTypes) {
                     binderRegistry.findAnnotatedBinder(binderType).ifPresent(b -> b.bind(context, uriContext, request));
                 }
             }
@@ -218,15 +197,31 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
             InterceptedMethod interceptedMethod = InterceptedMethod.of(context);
 
             // Apply all the argument binders
-            Argument[] arguments = context.getArguments();
-            if (arguments.length > 0) {
-                for (Argument argument : arguments) {
-                    Object definedValue = getValue(argument, context, parameters);
-
-                    if (definedValue != null) {
-                        final ClientArgumentRequestBinder<Object> binder = (ClientArgumentRequestBinder<Object>) binderRegistry
+            for (ClientArgumentDescriptor argumentDescriptor : descriptor.arguments) {
+                Argument argument = argumentDescriptor.argument;
+                Object definedValue = getValue(argumentDescriptor, context, parameters);
+
+                if (definedValue != null) {
+                    ClientArgumentRequestBinder<Object> binder = argumentDescriptor.binder;
+                    if (binder == null && !descriptor.bindersCached) {
+                        binder = (ClientArgumentRequestBinder<Object>) binderRegistry
                                 .findArgumentBinder((Argument<Object>) argument)
-                                .orElse(defaultBinder);
+                                .orElse(null);
+                    }
+                    if (binder == null) {
+                        if (argumentDescriptor.uriVariable) {
+                            // Convert and put as path param
+                            if (argumentDescriptor.format) {
+                                ConversionService.SHARED.convert(definedValue,
+                                        ConversionContext.STRING.with(argument.getAnnotationMetadata()))
+                                        .ifPresent(v -> pathParams.put(argumentDescriptor.pathParamName, v));
+                            } else {
+                                pathParams.put(argumentDescriptor.pathParamName, definedValue);
+                            }
+                        } else {
+                            bodyArguments.add(argument);
+                        }
+                    } else {
                         ArgumentConversionContext conversionContext = ConversionContext.of(argument);
                         binder.bind(conversionContext, uriContext, definedValue, request);
                         if (conversionContext.hasErrors()) {
@@ -277,7 +272,7 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
                 body = null;
             }
 
-            uri = uriTemplate.expand(pathParams);
+            String uri = uriTemplate.expand(pathParams);
             // Remove all the pathParams that have already been used.
             // Other path parameters are added to query
             uriVariables.forEach(pathParams::remove);
@@ -287,33 +282,19 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
             request.uri(URI.create(appendQuery(uri, uriContext.getQueryParameters())));
 
             if (body != null && !request.getContentType().isPresent()) {
-                MediaType[] contentTypes = MediaType.of(context.stringValues(Produces.class));
-                if (ArrayUtils.isEmpty(contentTypes)) {
-                    contentTypes = DEFAULT_ACCEPT_TYPES;
-                }
-                if (ArrayUtils.isNotEmpty(contentTypes)) {
-                    request.contentType(contentTypes[0]);
-                }
+                request.contentType(descriptor.contentType);
             }
 
             request.setAttribute(HttpAttributes.INVOCATION_CONTEXT, context);
             // Set the URI template used to make the request for tracing purposes
-            request.setAttribute(HttpAttributes.URI_TEMPLATE, resolveTemplate(annotationMetadata, uriTemplate.toString()));
-            String serviceId = getClientId(annotationMetadata);
-            Argument<?> errorType = annotationMetadata.classValue(Client.class, "errorType")
-                    .map((Function<Class, Argument>) Argument::of).orElse(HttpClient.DEFAULT_ERROR_TYPE);
-            request.setAttribute(HttpAttributes.SERVICE_ID, serviceId);
-
+            request.setAttribute(HttpAttributes.URI_TEMPLATE, descriptor.resolvedTemplate);
+            Argument<?> errorType = descriptor.errorType;
+            request.setAttribute(HttpAttributes.SERVICE_ID, descriptor.serviceId);
 
             final MediaType[] acceptTypes;
             Collection<MediaType> accept = request.accept();
             if (accept.isEmpty()) {
-                String[] consumesMediaType = context.stringValues(Consumes.class);
-                if (ArrayUtils.isEmpty(consumesMediaType)) {
-                    acceptTypes = DEFAULT_ACCEPT_TYPES;
-                } else {
-                    acceptTypes = MediaType.of(consumesMediaType);
-                }
+                acceptTypes = descriptor.acceptTypes;
                 request.accept(acceptTypes);
             } else {
                 acceptTypes = accept.toArray(MediaType.EMPTY_ARRAY);
@@ -322,17 +303,12 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
             ReturnType<?> returnType = context.getReturnType();
 
             try {
-                Argument<?> valueType = interceptedMethod.returnTypeValue();
+                Argument<?> valueType = descriptor.valueType;
                 Class<?> reactiveValueType = valueType.getType();
-                switch (interceptedMethod.resultType()) {
+                switch (descriptor.resultType) {
                     case PUBLISHER:
-                        boolean isSingle = returnType.isSingleResult() ||
-                                returnType.isCompletable() ||
-                                HttpResponse.class.isAssignableFrom(reactiveValueType) ||
-                                HttpStatus.class == reactiveValueType;
-
                         Publisher<?> publisher;
-                        if (!isSingle && httpClient instanceof StreamingHttpClient) {
+                        if (!descriptor.singleResult && httpClient instanceof StreamingHttpClient) {
                             publisher = httpClientResponseStreamingPublisher((StreamingHttpClient) httpClient, acceptTypes, request, errorType, valueType);
                         } else {
                             publisher = httpClientResponsePublisher(httpClient, request, returnType, errorType, valueType);
@@ -398,7 +374,7 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
                         if (HttpResponse.class.isAssignableFrom(javaReturnType)) {
                             return handleBlockingCall(javaReturnType, () ->
                                     blockingHttpClient.exchange(request,
-                                            returnType.asArgument().getFirstTypeVariable().orElse(Argument.OBJECT_ARGUMENT),
+                                            descriptor.responseBodyType,
                                             errorType
                                     ));
                         } else if (void.class == javaReturnType) {
@@ -474,19 +450,19 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
         }
     }
 
-    private Object getValue(Argument argument,
+    private Object getValue(ClientArgumentDescriptor argumentDescriptor,
                             MethodInvocationContext<?, ?> context,
                             Map<String, MutableArgumentValue<?>> parameters) {
-        String argumentName = argument.getName();
-        MutableArgumentValue<?> value = parameters.get(argumentName);
+        Argument<?> argument = argumentDescriptor.argument;
+        MutableArgumentValue<?> value = parameters.get(argument.getName());
 
         Object definedValue = value.getValue();
 
         if (definedValue == null) {
-            definedValue = argument.getAnnotationMetadata().stringValue(Bindable.class, "defaultValue").orElse(null);
+            definedValue = argumentDescriptor.defaultValue;
         }
 
-        if (definedValue == null && !argument.isNullable()) {
+        if (definedValue == null && !argumentDescriptor.nullable) {
             throw new IllegalArgumentException(
                     String.format("Argument [%s] is null. Null values are not allowed to be passed to client methods (%s). Add a supported Nullable annotation type if that is the desired behaviour", argument.getName(), context.getExecutableMethod().toString())
             );
@@ -499,6 +475,38 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
         }
     }
 
+    private ClientMethodDescriptor findDescriptor(MethodInvocationContext<Object, Object> context) {
+        ExecutableMethod<Object, Object> executableMethod = context.getExecutableMethod();
+        ClientMethodDescriptor descriptor = findDescriptor(descriptors.get(executableMethod), executableMethod);
+        if (descriptor != null) {
+            return descriptor;
+        }
+        ClientMethodDescriptor[] candidates = descriptors.compute(executableMethod, (key, existing) -> {
+            if (existing == null) {
+                return new ClientMethodDescriptor[] {new ClientMethodDescriptor(context)};
+            }
+            if (findDescriptor(existing, executableMethod) != null) {
+                return existing;
+            }
+            ClientMethodDescriptor[] added = Arrays.copyOf(existing, existing.length + 1);
+            added[existing.length] = new ClientMethodDescriptor(context);
+            return added;
+        });
+        return findDescriptor(candidates, executableMethod);
+    }
+
+    @Nullable
+    private static ClientMethodDescriptor findDescriptor(@Nullable ClientMethodDescriptor[] candidates, ExecutableMethod<?, ?> executableMethod) {
+        if (candidates != null) {
+            for (ClientMethodDescriptor candidate : candidates) {
+                if (candidate.method == executableMethod) {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
     private Object handleBlockingCall(Class returnType, Supplier<Object> supplier) {
         try {
             if (void.class == returnType) {
@@ -573,4 +581,149 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
         }
         return uri;
     }
+
+    /**
+     * The metadata of a client method that does not change between invocations.
+     */
+    private final class ClientMethodDescriptor {
+        final ExecutableMethod<Object, Object> method;
+        final boolean client;
+        final boolean closeMethod;
+        final HttpMethod httpMethod;
+        final String httpMethodName;
+        final UriMatchTemplate uriTemplate;
+        final List<String> uriVariables;
+        final List<Class<? extends Annotation>> methodBinderTypes;
+        final List<AnnotatedClientRequestBinder<?>> methodBinders;
+        final ClientArgumentDescriptor[] arguments;
+        final boolean bindersCached;
+        final MediaType contentType;
+        final MediaType[] acceptTypes;
+        final String resolvedTemplate;
+        final String serviceId;
+        final Argument<?> errorType;
+        final InterceptedMethod.ResultType resultType;
+        final Argument<?> valueType;
+        final boolean singleResult;
+        final Argument<?> responseBodyType;
+
+        ClientMethodDescriptor(MethodInvocationContext<Object, Object> context) {
+            AnnotationMetadata annotationMetadata = context.getAnnotationMetadata();
+            this.method = context.getExecutableMethod();
+            this.client = context.hasStereotype(Client.class);
+            Class<?> declaringType = context.getDeclaringType();
+            this.closeMethod = Closeable.class == declaringType || AutoCloseable.class == declaringType;
+
+            Optional<Class<? extends Annotation>> httpMethodMapping = context.getAnnotationTypeByStereotype(HttpMethodMapping.class);
+            if (!client || closeMethod || !httpMethodMapping.isPresent() || !context.hasStereotype(HttpMethodMapping.class)) {
+                this.httpMethod = null;
+                this.httpMethodName = null;
+                this.uriTemplate = null;
+                this.uriVariables = Collections.emptyList();
+                this.methodBinderTypes = Collections.emptyList();
+                this.methodBinders = Collections.emptyList();
+                this.arguments = new ClientArgumentDescriptor[0];
+                this.bindersCached = false;
+                this.contentType = null;
+                this.acceptTypes = null;
+                this.resolvedTemplate = null;
+                this.serviceId = null;
+                this.errorType = null;
+                this.resultType = null;
+                this.valueType = null;
+                this.singleResult = false;
+                this.responseBodyType = null;
+                return;
+            }
+
+            AnnotationValue<HttpMethodMapping> mapping = context.getAnnotation(HttpMethodMapping.class);
+            String uri = mapping.getRequiredValue(String.class);
+            if (StringUtils.isEmpty(uri)) {
+                uri = "/" + context.getMethodName();
+            }
+            this.httpMethod = HttpMethod.parse(httpMethodMapping.get().getSimpleName().toUpperCase(Locale.ENGLISH));
+            this.httpMethodName = context.stringValue(CustomHttpMethod.class, "method").orElse(httpMethod.name());
+
+            UriMatchTemplate template = UriMatchTemplate.of("");
+            if (!(uri.length() == 1 && uri.charAt(0) == '/')) {
+                template = template.nest(uri);
+            }
+            this.uriTemplate = template;
+            this.uriVariables = template.getVariableNames();
+
+            List<Class<? extends Annotation>> binderTypes = context.getAnnotationTypesByStereotype(Bindable.class);
+            // @Version is not a bindable, so it needs to looked for separately
+            binderTypes.addAll(context.getAnnotationTypesByStereotype(Version.class));
+            this.methodBinderTypes = binderTypes;
+
+            this.bindersCached = bindersCacheable;
+            if (bindersCached) {
+                List<AnnotatedClientRequestBinder<?>> binders = new ArrayList<>(binderTypes.size());
+                for (Class<? extends Annotation> binderType : binderTypes) {
+                    binderRegistry.findAnnotatedBinder(binderType).ifPresent(binders::add);
+                }
+                this.methodBinders = binders;
+            } else {
+                this.methodBinders = Collections.emptyList();
+            }
+            Argument[] methodArguments = context.getArguments();
+            this.arguments = new ClientArgumentDescriptor[methodArguments.length];
+            for (int i = 0; i < methodArguments.length; i++) {
+                Argument<Object> argument = methodArguments[i];
+                ClientArgumentRequestBinder<Object> binder = null;
+                if (bindersCached) {
+                    binder = (ClientArgumentRequestBinder<Object>) binderRegistry.findArgumentBinder(argument).orElse(null);
+                }
+                arguments[i] = new ClientArgumentDescriptor(argument, binder, uriVariables.contains(argument.getName()));
+            }
+
+            MediaType[] contentTypes = MediaType.of(context.stringValues(Produces.class));
+            if (ArrayUtils.isEmpty(contentTypes)) {
+                contentTypes = DEFAULT_ACCEPT_TYPES;
+            }
+            this.contentType = contentTypes[0];
+            String[] consumesMediaType = context.stringValues(Consumes.class);
+            this.acceptTypes = ArrayUtils.isEmpty(consumesMediaType) ? DEFAULT_ACCEPT_TYPES : MediaType.of(consumesMediaType);
+
+            this.resolvedTemplate = resolveTemplate(annotationMetadata, template.toString());
+            this.serviceId = getClientId(annotationMetadata);
+            this.errorType = annotationMetadata.classValue(Client.class, "errorType")
+                    .map((Function<Class, Argument>) Argument::of).orElse(HttpClient.DEFAULT_ERROR_TYPE);
+
+            InterceptedMethod interceptedMethod = InterceptedMethod.of(context);
+            this.resultType = interceptedMethod.resultType();
+            this.valueType = interceptedMethod.returnTypeValue();
+            ReturnType<?> returnType = context.getReturnType();
+            Class<?> reactiveValueType = valueType.getType();
+            this.singleResult = returnType.isSingleResult() ||
+                    returnType.isCompletable() ||
+                    HttpResponse.class.isAssignableFrom(reactiveValueType) ||
+                    HttpStatus.class == reactiveValueType;
+            this.responseBodyType = returnType.asArgument().getFirstTypeVariable().orElse(Argument.OBJECT_ARGUMENT);
+        }
+    }
+
+    /**
+     * The binding metadata of a client method argument.
+     */
+    private static final class ClientArgumentDescriptor {
+        final Argument<Object> argument;
+        final ClientArgumentRequestBinder<Object> binder;
+        final boolean uriVariable;
+        final String pathParamName;
+        final boolean format;
+        final Object defaultValue;
+        final boolean nullable;
+
+        ClientArgumentDescriptor(Argument<Object> argument, @Nullable ClientArgumentRequestBinder<Object> binder, boolean uriVariable) {
+            AnnotationMetadata argumentMetadata = argument.getAnnotationMetadata();
+            this.argument = argument;
+            this.binder = binder;
+            this.uriVariable = uriVariable;
+            this.pathParamName = argumentMetadata.stringValue(Bindable.class).orElse(argument.getName());
+            this.format = argumentMetadata.hasStereotype(Format.class);
+            this.defaultValue = argumentMetadata.stringValue(Bindable.class, "defaultValue").orElse(null);
+            this.nullable = argument.isNullable();
+        }
+    }
 }
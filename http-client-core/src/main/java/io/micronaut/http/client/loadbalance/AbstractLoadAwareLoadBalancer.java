@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.discovery.exceptions.NoAvailableServiceException;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Base class for {@link LoadAwareLoadBalancer} implementations that select instances using either the
+ * {@link LoadBalancerStrategy#LEAST_REQUESTS} or the {@link LoadBalancerStrategy#POWER_OF_TWO_CHOICES} strategy.
+ *
+ * @since 3.8.0
+ */
+public abstract class AbstractLoadAwareLoadBalancer implements LoadAwareLoadBalancer {
+
+    private final LoadBalancerStrategy strategy;
+    private final double ewmaAlpha;
+    private final Map<URI, ServiceInstanceLoad> loads = new ConcurrentHashMap<>();
+
+    /**
+     * @param strategy  The strategy, either {@link LoadBalancerStrategy#LEAST_REQUESTS} or
+     *                  {@link LoadBalancerStrategy#POWER_OF_TWO_CHOICES}
+     * @param ewmaAlpha The weight of a new sample in the latency average
+     */
+    protected AbstractLoadAwareLoadBalancer(@NonNull LoadBalancerStrategy strategy, double ewmaAlpha) {
+        if (strategy == LoadBalancerStrategy.ROUND_ROBIN) {
+            throw new IllegalArgumentException("Round robin load balancing is not load aware, use a round robin load balancer instead");
+        }
+        if (!(ewmaAlpha > 0 && ewmaAlpha <= 1)) {
+            throw new IllegalArgumentException("The EWMA alpha must be greater than 0 and at most 1: " + ewmaAlpha);
+        }
+        this.strategy = strategy;
+        this.ewmaAlpha = ewmaAlpha;
+    }
+
+    /**
+     * @return The service ID
+     */
+    public abstract String getServiceID();
+
+    /**
+     * @return The strategy used to select instances
+     */
+    public LoadBalancerStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @param instance The service instance
+     * @return The load tracked for the instance
+     */
+    @NonNull
+    public ServiceInstanceLoad getLoad(@NonNull ServiceInstance instance) {
+        return loads.computeIfAbsent(instance.getURI(), uri -> new ServiceInstanceLoad(ewmaAlpha));
+    }
+
+    @Override
+    public void requestStarted(@NonNull ServiceInstance instance) {
+        getLoad(instance).started();
+    }
+
+    @Override
+    public void requestCompleted(@NonNull ServiceInstance instance, long durationNanos, @Nullable Throwable error) {
+        getLoad(instance).completed(durationNanos, error != null && isFailure(error));
+    }
+
+    /**
+     * Whether the given error indicates a problem with the instance. Client errors such as a 404 response do not.
+     *
+     * @param error The error a request completed with
+     * @return True if the error should count against the instance
+     */
+    protected boolean isFailure(@NonNull Throwable error) {
+        if (error instanceof HttpClientResponseException) {
+            return ((HttpClientResponseException) error).getStatus().getCode() >= 500;
+        }
+        return true;
+    }
+
+    /**
+     * @param serviceInstances A list of service instances
+     * @return The next available instance or a {@link NoAvailableServiceException} if none
+     */
+    protected ServiceInstance getNextAvailable(List<ServiceInstance> serviceInstances) {
+        List<ServiceInstance> availableServices = serviceInstances.stream()
+            .filter(si -> si.getHealthStatus().equals(HealthStatus.UP))
+            .collect(Collectors.toList());
+        return selectAvailable(availableServices);
+    }
+
+    /**
+     * @param availableServices The service instances that are up
+     * @return The next available instance or a {@link NoAvailableServiceException} if none
+     */
+    ServiceInstance selectAvailable(List<ServiceInstance> availableServices) {
+        int len = availableServices.size();
+        if (len == 0) {
+            throw new NoAvailableServiceException(getServiceID());
+        }
+        if (loads.size() > len) {
+            removeStaleLoads(availableServices);
+        }
+        if (len == 1) {
+            return availableServices.get(0);
+        }
+        if (strategy == LoadBalancerStrategy.POWER_OF_TWO_CHOICES) {
+            return selectPowerOfTwoChoices(availableServices);
+        }
+        return selectLeastRequests(availableServices);
+    }
+
+    private ServiceInstance selectPowerOfTwoChoices(List<ServiceInstance> availableServices) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int len = availableServices.size();
+        int first = random.nextInt(len);
+        int second = random.nextInt(len - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = availableServices.get(first);
+        ServiceInstance b = availableServices.get(second);
+        return getLoad(b).getCost() < getLoad(a).getCost() ? b : a;
+    }
+
+    private ServiceInstance selectLeastRequests(List<ServiceInstance> availableServices) {
+        int len = availableServices.size();
+        // start at a random offset so ties do not always favour the first instance
+        int offset = ThreadLocalRandom.current().nextInt(len);
+        ServiceInstance best = null;
+        int bestRequests = Integer.MAX_VALUE;
+        double bestLatency = Double.MAX_VALUE;
+        for (int i = 0; i < len; i++) {
+            ServiceInstance instance = availableServices.get((offset + i) % len);
+            ServiceInstanceLoad load = getLoad(instance);
+            int requests = load.getOutstandingRequests();
+            double latency = load.getLatencyEwma();
+            if (requests < bestRequests || (requests == bestRequests && latency < bestLatency)) {
+                best = instance;
+                bestRequests = requests;
+                bestLatency = latency;
+            }
+        }
+        return best;
+    }
+
+    private void removeStaleLoads(List<ServiceInstance> availableServices) {
+        Set<URI> current = new HashSet<>(availableServices.size());
+        for (ServiceInstance instance : availableServices) {
+            current.add(instance.getURI());
+        }
+        loads.entrySet().removeIf(entry -> !current.contains(entry.getKey()) && entry.getValue().getOutstandingRequests() == 0);
+    }
+}
@@ -59,6 +59,20 @@ public abstract class AbstractRoundRobinLoadBalancer implements LoadBalancer {
         }
     }
 
+    /**
+     * @param availableInstances The service instances that are up
+     * @return The next available instance or a {@link NoAvailableServiceException} if none
+     */
+    ServiceInstance selectAvailable(ServiceInstance[] availableInstances) {
+        int len = availableInstances.length;
+        if (len == 0) {
+            throw new NoAvailableServiceException(getServiceID());
+        }
+        int i = getServiceIndex(len);
+        // the index may exceed a shorter list of instances selected concurrently
+        return availableInstances[i < len ? i : i % len];
+    }
+
     private int getServiceIndex(int len) {
         return index.getAndAccumulate(len, (cur, n) -> cur >= n - 1 ? 0 : cur + 1);
     }
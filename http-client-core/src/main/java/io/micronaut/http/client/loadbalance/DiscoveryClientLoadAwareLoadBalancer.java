@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.discovery.DiscoveryClient;
+import io.micronaut.discovery.ServiceInstance;
+import org.reactivestreams.Publisher;
+
+/**
+ * A {@link LoadAwareLoadBalancer} that uses the {@link DiscoveryClient} and a {@link ServiceInstance} ID to
+ * load balance between discovered clients, taking the load of each instance into account.
+ *
+ * @since 3.8.0
+ */
+public class DiscoveryClientLoadAwareLoadBalancer extends AbstractLoadAwareLoadBalancer {
+
+    private final String serviceID;
+    private final DiscoveryClient discoveryClient;
+    private final DiscoveryServiceInstanceCache instanceCache;
+
+    /**
+     * @param serviceID       The service ID
+     * @param discoveryClient The discovery client
+     * @param strategy        The load balancing strategy
+     * @param ewmaAlpha       The weight of a new sample in the latency average
+     */
+    public DiscoveryClientLoadAwareLoadBalancer(String serviceID,
+                                                DiscoveryClient discoveryClient,
+                                                LoadBalancerStrategy strategy,
+                                                double ewmaAlpha) {
+        this(serviceID, discoveryClient, null, strategy, ewmaAlpha);
+    }
+
+    /**
+     * @param serviceID       The service ID
+     * @param discoveryClient The discovery client
+     * @param instanceCache   The cache of the instances of the service, or {@code null} to query the discovery client
+     *                        on each selection
+     * @param strategy        The load balancing strategy
+     * @param ewmaAlpha       The weight of a new sample in the latency average
+     */
+    public DiscoveryClientLoadAwareLoadBalancer(String serviceID,
+                                                DiscoveryClient discoveryClient,
+                                                @Nullable DiscoveryServiceInstanceCache instanceCache,
+                                                LoadBalancerStrategy strategy,
+                                                double ewmaAlpha) {
+        super(strategy, ewmaAlpha);
+        this.serviceID = serviceID;
+        this.discoveryClient = discoveryClient;
+        this.instanceCache = instanceCache;
+    }
+
+    @Override
+    public String getServiceID() {
+        return serviceID;
+    }
+
+    @Override
+    public Publisher<ServiceInstance> select(Object discriminator) {
+        if (instanceCache != null) {
+            DiscoveryServiceInstanceCache.Snapshot snapshot = instanceCache.get();
+            if (snapshot != null) {
+                return Publishers.just(selectAvailable(snapshot.availableList));
+            }
+            return Publishers.map(instanceCache.fetch(), s -> selectAvailable(s.availableList));
+        }
+        return Publishers.map(discoveryClient.getInstances(serviceID), this::getNextAvailable);
+    }
+}
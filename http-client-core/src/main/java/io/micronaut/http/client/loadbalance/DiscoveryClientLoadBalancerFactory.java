@@ -15,27 +15,51 @@
  */
 package io.micronaut.http.client.loadbalance;
 
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.discovery.DiscoveryClient;
 import io.micronaut.http.client.LoadBalancer;
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * A factory class that can be replaced at runtime for creating {@link LoadBalancer} instances that load balance
- * between available clients provided by the {@link DiscoveryClient}.
+ * between available clients provided by the {@link DiscoveryClient}. The cached instances of each service ID are
+ * discarded on a {@link RefreshEvent}.
  *
  * @author Graeme Rocher
  * @since 1.0
  */
 @Singleton
-public class DiscoveryClientLoadBalancerFactory {
+public class DiscoveryClientLoadBalancerFactory implements ApplicationEventListener<RefreshEvent> {
 
     private final DiscoveryClient discoveryClient;
+    private final LoadBalancerConfiguration loadBalancerConfiguration;
+    private final Map<String, DiscoveryServiceInstanceCache> instanceCaches = new ConcurrentHashMap<>();
 
     /**
      * @param discoveryClient The discover client
      */
     public DiscoveryClientLoadBalancerFactory(DiscoveryClient discoveryClient) {
+        this(discoveryClient, new LoadBalancerConfiguration());
+    }
+
+    /**
+     * @param discoveryClient           The discover client
+     * @param loadBalancerConfiguration The load balancer configuration
+     * @since 3.8.0
+     */
+    @Inject
+    public DiscoveryClientLoadBalancerFactory(DiscoveryClient discoveryClient, LoadBalancerConfiguration loadBalancerConfiguration) {
         this.discoveryClient = discoveryClient;
+        this.loadBalancerConfiguration = loadBalancerConfiguration;
     }
 
     /**
@@ -45,7 +69,42 @@ public class DiscoveryClientLoadBalancerFactory {
      * @return The {@link LoadBalancer}
      */
     public LoadBalancer create(String serviceID) {
-        return new DiscoveryClientRoundRobinLoadBalancer(serviceID, discoveryClient);
+        return new DiscoveryClientRoundRobinLoadBalancer(serviceID, discoveryClient, getInstanceCache(serviceID));
+    }
+
+    /**
+     * Returns the cache of the instances of the given service ID shared by the load balancers.
+     *
+     * @param serviceID The service ID
+     * @return The cache, or {@code null} if the discovery cache is disabled
+     * @since 3.8.0
+     */
+    @Nullable
+    public DiscoveryServiceInstanceCache getInstanceCache(String serviceID) {
+        if (!loadBalancerConfiguration.isDiscoveryCacheEnabled()) {
+            return null;
+        }
+        return instanceCaches.computeIfAbsent(serviceID, id ->
+                new DiscoveryServiceInstanceCache(id, discoveryClient, loadBalancerConfiguration.getDiscoveryCacheRefreshInterval()));
+    }
+
+    /**
+     * The caches of the instances of each service ID, which expose the age of the cached instances and the number of
+     * failed refreshes.
+     *
+     * @return The caches
+     * @since 3.8.0
+     */
+    @NonNull
+    public Collection<DiscoveryServiceInstanceCache> getInstanceCaches() {
+        return Collections.unmodifiableCollection(instanceCaches.values());
+    }
+
+    @Override
+    public void onApplicationEvent(RefreshEvent event) {
+        for (DiscoveryServiceInstanceCache instanceCache : instanceCaches.values()) {
+            instanceCache.invalidate();
+        }
     }
 
     /**
@@ -15,6 +15,7 @@
  */
 package io.micronaut.http.client.loadbalance;
 
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.discovery.DiscoveryClient;
 import io.micronaut.discovery.ServiceInstance;
@@ -25,7 +26,8 @@ import org.reactivestreams.Publisher;
  * {@link ServiceInstance} ID to automatically load balance between discovered clients in a non-blocking manner.</p>
  *
  * <p>Note that the when {@link DiscoveryClient} caching is enabled then this load balancer may not always have the
- * latest server list from the {@link DiscoveryClient} (the default TTL is 30 seconds)</p>
+ * latest server list from the {@link DiscoveryClient} (the default TTL is 30 seconds). The same applies to the
+ * {@link DiscoveryServiceInstanceCache} the load balancer reads the instances from, if one is configured.</p>
  *
  * @author Graeme Rocher
  * @since 1.0
@@ -34,14 +36,29 @@ public class DiscoveryClientRoundRobinLoadBalancer extends AbstractRoundRobinLoa
 
     private final String serviceID;
     private final DiscoveryClient discoveryClient;
+    private final DiscoveryServiceInstanceCache instanceCache;
 
     /**
      * @param serviceID       The service ID
      * @param discoveryClient The discovery client
      */
     public DiscoveryClientRoundRobinLoadBalancer(String serviceID, DiscoveryClient discoveryClient) {
+        this(serviceID, discoveryClient, null);
+    }
+
+    /**
+     * @param serviceID       The service ID
+     * @param discoveryClient The discovery client
+     * @param instanceCache   The cache of the instances of the service, or {@code null} to query the discovery client
+     *                        on each selection
+     * @since 3.8.0
+     */
+    public DiscoveryClientRoundRobinLoadBalancer(String serviceID,
+                                                 DiscoveryClient discoveryClient,
+                                                 @Nullable DiscoveryServiceInstanceCache instanceCache) {
         this.serviceID = serviceID;
         this.discoveryClient = discoveryClient;
+        this.instanceCache = instanceCache;
     }
 
     /**
@@ -54,6 +71,13 @@ public class DiscoveryClientRoundRobinLoadBalancer extends AbstractRoundRobinLoa
 
     @Override
     public Publisher<ServiceInstance> select(Object discriminator) {
+        if (instanceCache != null) {
+            DiscoveryServiceInstanceCache.Snapshot snapshot = instanceCache.get();
+            if (snapshot != null) {
+                return Publishers.just(selectAvailable(snapshot.available));
+            }
+            return Publishers.map(instanceCache.fetch(), s -> selectAvailable(s.available));
+        }
         return Publishers.map(discoveryClient.getInstances(serviceID), this::getNextAvailable);
     }
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.discovery.DiscoveryClient;
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.health.HealthStatus;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * <p>A local cache of the instances the {@link DiscoveryClient} returns for a service ID, so that load balancers do
+ * not query the discovery client on every request.</p>
+ *
+ * <p>The cached instances are served while they are refreshed in the background, once the refresh interval has
+ * elapsed. Only one fetch per service ID is in flight at a time. Requests wait for a fetch only if there is no
+ * snapshot yet, or the cached snapshot has no available instance and is due for a refresh. A failed refresh keeps the
+ * previous snapshot.</p>
+ *
+ * <p>After a failed fetch, or a fetch without available instances, the discovery client is not queried again until
+ * the refresh interval, or at least one second, has elapsed. Requests that would wait for a fetch in the meantime fail
+ * with the error of the last fetch, or because no instance is available. A fetch that does not complete within that
+ * same delay fails with a timeout.</p>
+ *
+ * @since 3.8.0
+ */
+public final class DiscoveryServiceInstanceCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DiscoveryServiceInstanceCache.class);
+    private static final Duration MIN_RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final String serviceID;
+    private final DiscoveryClient discoveryClient;
+    private final long refreshIntervalNanos;
+    private final Duration retryDelay;
+    private final AtomicReference<CompletableFuture<Snapshot>> refresh = new AtomicReference<>();
+    private final LongAdder refreshFailures = new LongAdder();
+    private volatile Snapshot snapshot;
+    private volatile long nextRefreshAt;
+    private volatile Throwable lastFailure;
+
+    /**
+     * @param serviceID       The service ID
+     * @param discoveryClient The discovery client
+     * @param refreshInterval The interval after which the cached instances are refreshed
+     */
+    public DiscoveryServiceInstanceCache(@NonNull String serviceID,
+                                         @NonNull DiscoveryClient discoveryClient,
+                                         @NonNull Duration refreshInterval) {
+        this.serviceID = serviceID;
+        this.discoveryClient = discoveryClient;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.retryDelay = refreshInterval.compareTo(MIN_RETRY_DELAY) > 0 ? refreshInterval : MIN_RETRY_DELAY;
+    }
+
+    /**
+     * @return The service ID
+     */
+    @NonNull
+    public String getServiceID() {
+        return serviceID;
+    }
+
+    /**
+     * @return The cached instances, or an empty list if they have not been fetched yet
+     */
+    @NonNull
+    public List<ServiceInstance> getInstances() {
+        Snapshot snapshot = this.snapshot;
+        return snapshot != null ? snapshot.instances : Collections.emptyList();
+    }
+
+    /**
+     * @return The time elapsed since the cached instances were fetched, if they have been fetched
+     */
+    @NonNull
+    public Optional<Duration> getAge() {
+        Snapshot snapshot = this.snapshot;
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        return Optional.of(Duration.ofNanos(System.nanoTime() - snapshot.fetchedAt));
+    }
+
+    /**
+     * @return The number of fetches from the discovery client that failed
+     */
+    public long getRefreshFailures() {
+        return refreshFailures.sum();
+    }
+
+    /**
+     * Discards the cached instances, so that the next request waits for them to be fetched again.
+     */
+    public void invalidate() {
+        this.snapshot = null;
+        this.lastFailure = null;
+        this.nextRefreshAt = System.nanoTime();
+    }
+
+    /**
+     * Returns the cached snapshot, triggering a background refresh if it is stale. A stale snapshot without available
+     * instances is not returned, so that the caller waits for the refresh instead of failing.
+     *
+     * @return The snapshot, or {@code null} if the caller has to wait for {@link #fetch()}
+     */
+    @Nullable
+    Snapshot get() {
+        Snapshot snapshot = this.snapshot;
+        if (snapshot == null) {
+            return null;
+        }
+        if (System.nanoTime() - nextRefreshAt >= 0) {
+            if (snapshot.available.length == 0) {
+                return null;
+            }
+            refresh();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Fetches the instances, joining the fetch in flight if there is one. Fails with the error of the last fetch if it
+     * failed less than the retry delay ago.
+     *
+     * @return A publisher that emits the fetched snapshot
+     */
+    @NonNull
+    Publisher<Snapshot> fetch() {
+        Throwable failure = lastFailure;
+        if (failure != null && System.nanoTime() - nextRefreshAt < 0) {
+            return Mono.error(failure);
+        }
+        // subscribe to a dependent stage so that a cancelled subscriber does not cancel the shared fetch
+        return Publishers.fromCompletableFuture(() -> refresh().thenApply(Function.identity()));
+    }
+
+    private CompletableFuture<Snapshot> refresh() {
+        while (true) {
+            CompletableFuture<Snapshot> inFlight = refresh.get();
+            if (inFlight != null) {
+                return inFlight;
+            }
+            CompletableFuture<Snapshot> future = new CompletableFuture<>();
+            if (refresh.compareAndSet(null, future)) {
+                Mono.from(discoveryClient.getInstances(serviceID))
+                        .defaultIfEmpty(Collections.emptyList())
+                        .timeout(retryDelay)
+                        .subscribe(instances -> {
+                            Snapshot fetched = new Snapshot(instances);
+                            this.snapshot = fetched;
+                            this.lastFailure = null;
+                            // without available instances, wait at least the retry delay before querying again
+                            this.nextRefreshAt = fetched.fetchedAt + (fetched.available.length == 0 ? retryDelay.toNanos() : refreshIntervalNanos);
+                            refresh.set(null);
+                            future.complete(fetched);
+                        }, error -> {
+                            refreshFailures.increment();
+                            if (LOG.isWarnEnabled()) {
+                                LOG.warn("Error refreshing the instances of service [{}], retrying in {}: {}",
+                                        serviceID, retryDelay, error.getMessage());
+                            }
+                            if (LOG.isDebugEnabled()) {
+                                LOG.debug("Error refreshing the instances of service [" + serviceID + "]", error);
+                            }
+                            this.lastFailure = error;
+                            this.nextRefreshAt = System.nanoTime() + retryDelay.toNanos();
+                            refresh.set(null);
+                            future.completeExceptionally(error);
+                        });
+                return future;
+            }
+        }
+    }
+
+    /**
+     * An immutable snapshot of the instances of the service.
+     */
+    static final class Snapshot {
+        final List<ServiceInstance> instances;
+        final ServiceInstance[] available;
+        final List<ServiceInstance> availableList;
+        final long fetchedAt;
+
+        /**
+         * @param instances The instances returned by the discovery client
+         */
+        Snapshot(List<ServiceInstance> instances) {
+            this.instances = Collections.unmodifiableList(new ArrayList<>(instances));
+            List<ServiceInstance> available = new ArrayList<>(instances.size());
+            for (ServiceInstance instance : instances) {
+                if (instance.getHealthStatus().equals(HealthStatus.UP)) {
+                    available.add(instance);
+                }
+            }
+            this.available = available.toArray(new ServiceInstance[0]);
+            this.availableList = Collections.unmodifiableList(Arrays.asList(this.available));
+            this.fetchedAt = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.http.client.LoadBalancer;
+
+/**
+ * A {@link LoadBalancer} that is notified when requests to a selected {@link ServiceInstance} start and complete
+ * so that it can take the load of each instance into account when selecting the next one.
+ *
+ * @since 3.8.0
+ */
+public interface LoadAwareLoadBalancer extends LoadBalancer {
+
+    /**
+     * Invoked when a request to the given instance is sent.
+     *
+     * @param instance The instance previously returned by {@link #select(Object)}
+     */
+    void requestStarted(@NonNull ServiceInstance instance);
+
+    /**
+     * Invoked when a request to the given instance completes.
+     *
+     * @param instance      The instance previously passed to {@link #requestStarted(ServiceInstance)}
+     * @param durationNanos The duration of the request in nanoseconds
+     * @param error         The error the request failed with, if any
+     */
+    void requestCompleted(@NonNull ServiceInstance instance, long durationNanos, @Nullable Throwable error);
+}
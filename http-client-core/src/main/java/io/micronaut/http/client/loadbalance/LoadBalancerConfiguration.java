@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.context.annotation.BootstrapContextCompatible;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the load balancers created by {@link io.micronaut.http.client.DefaultLoadBalancerResolver}
+ * for service IDs.
+ *
+ * @since 3.8.0
+ */
+@ConfigurationProperties(LoadBalancerConfiguration.PREFIX)
+@BootstrapContextCompatible
+public class LoadBalancerConfiguration {
+
+    /**
+     * The prefix for load balancer configuration.
+     */
+    public static final String PREFIX = "micronaut.http.client.load-balancer";
+
+    /**
+     * The default strategy.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final LoadBalancerStrategy DEFAULT_STRATEGY = LoadBalancerStrategy.ROUND_ROBIN;
+
+    /**
+     * The default weight of a new latency sample.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final double DEFAULT_EWMA_ALPHA = 0.3;
+
+    /**
+     * The default discovery cache enable value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_DISCOVERY_CACHE_ENABLED = false;
+
+    /**
+     * The default interval in seconds after which the cached discovery instances are refreshed.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_DISCOVERY_CACHE_REFRESH_INTERVAL_SECONDS = 30;
+
+    private LoadBalancerStrategy strategy = DEFAULT_STRATEGY;
+    private double ewmaAlpha = DEFAULT_EWMA_ALPHA;
+    private boolean discoveryCacheEnabled = DEFAULT_DISCOVERY_CACHE_ENABLED;
+    private Duration discoveryCacheRefreshInterval = Duration.ofSeconds(DEFAULT_DISCOVERY_CACHE_REFRESH_INTERVAL_SECONDS);
+
+    /**
+     * @return The load balancing strategy
+     */
+    @NonNull
+    public LoadBalancerStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Sets the strategy used to select a service instance. Defaults to {@link LoadBalancerStrategy#ROUND_ROBIN}.
+     *
+     * @param strategy The load balancing strategy
+     */
+    public void setStrategy(@NonNull LoadBalancerStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * @return The weight of a new latency sample
+     */
+    public double getEwmaAlpha() {
+        return ewmaAlpha;
+    }
+
+    /**
+     * Sets the weight of a new sample in the moving average of the latency of an instance used by the load aware
+     * strategies. Higher values react faster to latency changes. Default value ({@value #DEFAULT_EWMA_ALPHA}).
+     *
+     * @param ewmaAlpha The weight, greater than 0 and at most 1
+     */
+    public void setEwmaAlpha(double ewmaAlpha) {
+        this.ewmaAlpha = ewmaAlpha;
+    }
+
+    /**
+     * @return Whether the instances returned by the discovery client are cached per service ID
+     */
+    public boolean isDiscoveryCacheEnabled() {
+        return discoveryCacheEnabled;
+    }
+
+    /**
+     * Sets whether the load balancers cache the instances returned by the discovery client per service ID, rather than
+     * querying the discovery client for every request. Discovery clients that already cache their results add their own
+     * cache duration to the refresh interval. Default value ({@value #DEFAULT_DISCOVERY_CACHE_ENABLED}).
+     *
+     * @param discoveryCacheEnabled True if the instances should be cached
+     */
+    public void setDiscoveryCacheEnabled(boolean discoveryCacheEnabled) {
+        this.discoveryCacheEnabled = discoveryCacheEnabled;
+    }
+
+    /**
+     * @return The interval after which the cached discovery instances are refreshed
+     */
+    @NonNull
+    public Duration getDiscoveryCacheRefreshInterval() {
+        return discoveryCacheRefreshInterval;
+    }
+
+    /**
+     * Sets the interval after which the cached discovery instances are refreshed in the background. The cached instances
+     * are served until the refresh completes. Default value ({@value #DEFAULT_DISCOVERY_CACHE_REFRESH_INTERVAL_SECONDS} seconds).
+     *
+     * @param discoveryCacheRefreshInterval The refresh interval
+     */
+    public void setDiscoveryCacheRefreshInterval(@NonNull Duration discoveryCacheRefreshInterval) {
+        this.discoveryCacheRefreshInterval = discoveryCacheRefreshInterval;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+/**
+ * The strategies that can be used to select a {@link io.micronaut.discovery.ServiceInstance} when load balancing
+ * between the instances of a service.
+ *
+ * @since 3.8.0
+ */
+public enum LoadBalancerStrategy {
+    /**
+     * Select each available instance in turn.
+     */
+    ROUND_ROBIN,
+    /**
+     * Select the instance with the fewest outstanding requests, preferring the instance with the lowest
+     * average latency on a tie.
+     */
+    LEAST_REQUESTS,
+    /**
+     * Pick two instances at random and select the one with the lower load, where the load is the average latency
+     * weighted by the number of outstanding requests.
+     */
+    POWER_OF_TWO_CHOICES
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the number of outstanding requests and an exponentially weighted moving average (EWMA) of the latency
+ * of a single {@link io.micronaut.discovery.ServiceInstance}.
+ *
+ * @since 3.8.0
+ */
+public final class ServiceInstanceLoad {
+
+    private final double alpha;
+    private final AtomicInteger outstandingRequests = new AtomicInteger();
+    private volatile double latencyEwma;
+    private volatile boolean sampled;
+
+    /**
+     * @param alpha The weight of a new latency sample, between 0 (exclusive) and 1 (inclusive)
+     */
+    ServiceInstanceLoad(double alpha) {
+        this.alpha = alpha;
+    }
+
+    /**
+     * @return The number of requests that have been sent to the instance and not completed yet
+     */
+    public int getOutstandingRequests() {
+        return outstandingRequests.get();
+    }
+
+    /**
+     * @return The moving average of the latency in nanoseconds, or 0 if no request has completed yet
+     */
+    public double getLatencyEwma() {
+        return latencyEwma;
+    }
+
+    /**
+     * The load of the instance, used to compare instances when selecting one. Instances that have not served a
+     * request yet have no latency estimate and are therefore preferred, so that they are probed quickly.
+     *
+     * @return The latency average weighted by the outstanding requests including the one about to be sent
+     */
+    double getCost() {
+        return latencyEwma * (outstandingRequests.get() + 1);
+    }
+
+    /**
+     * Record the start of a request.
+     */
+    void started() {
+        outstandingRequests.incrementAndGet();
+    }
+
+    /**
+     * Record the completion of a request.
+     *
+     * @param durationNanos The duration of the request
+     * @param failure Whether the request failed
+     */
+    void completed(long durationNanos, boolean failure) {
+        outstandingRequests.updateAndGet(n -> n > 0 ? n - 1 : 0);
+        synchronized (this) {
+            double sample = durationNanos;
+            if (failure) {
+                // a failing instance often fails fast, do not let that make it look attractive
+                sample = Math.max(sample, latencyEwma * 2);
+            }
+            if (sampled) {
+                latencyEwma = latencyEwma + alpha * (sample - latencyEwma);
+            } else {
+                latencyEwma = sample;
+                sampled = true;
+            }
+        }
+    }
+}
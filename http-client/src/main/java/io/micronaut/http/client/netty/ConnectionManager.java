@@ -77,10 +77,14 @@ import io.netty.handler.codec.http2.DefaultHttp2Connection;
 import io.netty.handler.codec.http2.DelegatingDecompressorFrameListener;
 import io.netty.handler.codec.http2.Http2ClientUpgradeCodec;
 import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
 import io.netty.handler.codec.http2.Http2FrameListener;
 import io.netty.handler.codec.http2.Http2FrameLogger;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
 import io.netty.handler.codec.http2.Http2Settings;
 import io.netty.handler.codec.http2.Http2Stream;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
 import io.netty.handler.codec.http2.HttpConversionUtil;
 import io.netty.handler.codec.http2.HttpToHttp2ConnectionHandler;
 import io.netty.handler.codec.http2.HttpToHttp2ConnectionHandlerBuilder;
@@ -116,7 +120,9 @@ import java.net.InetSocketAddress;
 import java.net.Proxy;
 import java.net.SocketAddress;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -213,10 +219,17 @@ final class ConnectionManager {
         // HTTP/2 defaults to keep alive connections so should we should always use a pool
         if (connectionPoolConfiguration.isEnabled() || httpVersion == io.micronaut.http.HttpVersion.HTTP_2_0) {
             int maxConnections = connectionPoolConfiguration.getMaxConnections();
+            // streams can only be multiplexed if HTTP/2 is negotiated through ALPN
+            boolean multiplexHttp2 = httpVersion == io.micronaut.http.HttpVersion.HTTP_2_0 &&
+                connectionPoolConfiguration.isHttp2Multiplexing() &&
+                sslContext != null;
             if (maxConnections > -1) {
                 poolMap = new AbstractChannelPoolMap<DefaultHttpClient.RequestKey, ChannelPool>() {
                     @Override
                     protected ChannelPool newPool(DefaultHttpClient.RequestKey key) {
+                        if (multiplexHttp2 && key.isSecure()) {
+                            return newHttp2MultiplexedPool(key, connectionPoolConfiguration);
+                        }
                         Bootstrap newBootstrap = bootstrap.clone(group);
                         initBootstrapForProxy(newBootstrap, key.isSecure(), key.getHost(), key.getPort());
                         newBootstrap.remoteAddress(key.getRemoteAddress());
@@ -239,6 +252,9 @@ final class ConnectionManager {
                 poolMap = new AbstractChannelPoolMap<DefaultHttpClient.RequestKey, ChannelPool>() {
                     @Override
                     protected ChannelPool newPool(DefaultHttpClient.RequestKey key) {
+                        if (multiplexHttp2 && key.isSecure()) {
+                            return newHttp2MultiplexedPool(key, connectionPoolConfiguration);
+                        }
                         Bootstrap newBootstrap = bootstrap.clone(group);
                         initBootstrapForProxy(newBootstrap, key.isSecure(), key.getHost(), key.getPort());
                         newBootstrap.remoteAddress(key.getRemoteAddress());
@@ -375,6 +391,25 @@ final class ConnectionManager {
         return !group.isShutdown();
     }
 
+    /**
+     * @see DefaultHttpClient#getConnectionPoolMetrics()
+     *
+     * @return The metrics of the multiplexed HTTP/2 connection pools
+     */
+    List<ConnectionPoolMetrics> getConnectionPoolMetrics() {
+        List<ConnectionPoolMetrics> metrics = new ArrayList<>();
+        if (poolMap instanceof Iterable) {
+            Iterable<Map.Entry<DefaultHttpClient.RequestKey, ChannelPool>> i = (Iterable) poolMap;
+            for (Map.Entry<DefaultHttpClient.RequestKey, ChannelPool> entry : i) {
+                ChannelPool cp = entry.getValue();
+                if (cp instanceof Http2MultiplexedChannelPool) {
+                    metrics.add(new PoolMetricsSnapshot(entry.getKey(), (Http2MultiplexedChannelPool) cp));
+                }
+            }
+        }
+        return metrics;
+    }
+
     /**
      * Get a reactive scheduler that runs on the event loop group of this connection manager.
      *
@@ -629,6 +664,45 @@ final class ConnectionManager {
         return initial.asMono();
     }
 
+    /**
+     * Creates a pool that multiplexes requests as streams over shared HTTP/2 connections.
+     *
+     * @param key                 The remote to connect to
+     * @param poolConfiguration   The pool configuration
+     * @return The pool
+     */
+    private ChannelPool newHttp2MultiplexedPool(DefaultHttpClient.RequestKey key, HttpClientConfiguration.ConnectionPoolConfiguration poolConfiguration) {
+        Bootstrap newBootstrap = bootstrap.clone(group);
+        initBootstrapForProxy(newBootstrap, true, key.getHost(), key.getPort());
+        newBootstrap.remoteAddress(key.getRemoteAddress());
+
+        final long acquireTimeoutMillis = poolConfiguration.getAcquireTimeout().map(Duration::toMillis).orElse(-1L);
+        Http2MultiplexedChannelPool pool = new Http2MultiplexedChannelPool(
+            newBootstrap,
+            new Http2StreamChannelInitializer(),
+            poolConfiguration.getMaxConnections(),
+            poolConfiguration.getMaxPendingAcquires(),
+            acquireTimeoutMillis
+        );
+        HttpClientInitializer initializer = new HttpClientInitializer(
+            sslContext,
+            key.getHost(),
+            key.getPort(),
+            false,
+            false,
+            false,
+            null
+        ) {
+            @Override
+            protected void addFinalHandler(ChannelPipeline pipeline) {
+                // no-op, the response handlers are added per request
+            }
+        };
+        initializer.multiplexedPool = pool;
+        newBootstrap.handler(initializer);
+        return pool;
+    }
+
     private AbstractChannelPoolHandler newPoolHandler(DefaultHttpClient.RequestKey key) {
         return new AbstractChannelPoolHandler() {
             @Override
@@ -790,6 +864,63 @@ final class ConnectionManager {
         pipeline.addLast(ChannelPipelineCustomizer.HANDLER_HTTP2_CONNECTION, connectionHandler);
     }
 
+    /**
+     * Configures a connection of a {@link Http2MultiplexedChannelPool}. If HTTP/2 is negotiated, each request is
+     * sent on its own {@link Http2StreamChannel}, otherwise the connection is used for one HTTP/1.1 request at
+     * a time.
+     *
+     * @param httpClientInitializer The client initializer
+     * @param ch                    The channel
+     * @param sslCtx                The SSL context
+     * @param host                  The host
+     * @param port                  The port
+     * @param pool                  The pool the connection belongs to
+     */
+    private void configureHttp2Multiplexed(
+        HttpClientInitializer httpClientInitializer,
+        @NonNull SocketChannel ch,
+        @NonNull SslContext sslCtx,
+        String host,
+        int port,
+        Http2MultiplexedChannelPool pool) {
+        ChannelPipeline pipeline = ch.pipeline();
+        pipeline.addLast(ChannelPipelineCustomizer.HANDLER_SSL, configureSslHandler(sslCtx.newHandler(ch.alloc(), host, port)));
+        pipeline.addLast(
+                ChannelPipelineCustomizer.HANDLER_HTTP2_PROTOCOL_NEGOTIATOR,
+                new ApplicationProtocolNegotiationHandler(ApplicationProtocolNames.HTTP_2) {
+
+            @Override
+            protected void configurePipeline(ChannelHandlerContext ctx, String protocol) {
+                ChannelPipeline p = ctx.pipeline();
+                if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                    Http2FrameCodecBuilder builder = Http2FrameCodecBuilder.forClient()
+                            .initialSettings(Http2Settings.defaultSettings().pushEnabled(false))
+                            .validateHeaders(true);
+                    configuration.getLogLevel().ifPresent(logLevel -> {
+                        try {
+                            final io.netty.handler.logging.LogLevel nettyLevel = io.netty.handler.logging.LogLevel.valueOf(
+                                    logLevel.name()
+                            );
+                            builder.frameLogger(new Http2FrameLogger(nettyLevel, DefaultHttpClient.class));
+                        } catch (IllegalArgumentException e) {
+                            throw customizeException(new HttpClientException("Unsupported log level: " + logLevel));
+                        }
+                    });
+                    p.addLast(ChannelPipelineCustomizer.HANDLER_HTTP2_CONNECTION, builder.build());
+                    p.addLast(ChannelPipelineCustomizer.HANDLER_HTTP2_MULTIPLEX, new Http2MultiplexHandler(PushRejectingHandler.INSTANCE));
+                    p.addLast(pool.newConnectionHandler(true));
+                } else if (ApplicationProtocolNames.HTTP_1_1.equals(protocol)) {
+                    httpClientInitializer.addHttp1Handlers(p);
+                    p.addLast(pool.newConnectionHandler(false));
+                } else {
+                    ctx.close();
+                    throw customizeException(new HttpClientException("Unknown Protocol: " + protocol));
+                }
+                httpClientInitializer.onStreamPipelineBuilt();
+            }
+        });
+    }
+
     /**
      * Configures HTTP/2 handling for plaintext (non-SSL) connections.
      *
@@ -914,9 +1045,23 @@ final class ConnectionManager {
         return exc;
     }
 
+    private static HttpObjectAggregator newHttpObjectAggregator(int maxContentLength) {
+        return new HttpObjectAggregator(maxContentLength) {
+            @Override
+            protected void finishAggregation(FullHttpMessage aggregated) throws Exception {
+                if (!HttpUtil.isContentLengthSet(aggregated)) {
+                    if (aggregated.content().readableBytes() > 0) {
+                        super.finishAggregation(aggregated);
+                    }
+                }
+            }
+        };
+    }
+
     private void addReadTimeoutHandler(ChannelPipeline pipeline) {
         if (readTimeoutMillis != null) {
-            if (httpVersion == HttpVersion.HTTP_2_0) {
+            // streams of a multiplexed connection and HTTP/1.1 fallback connections have no HTTP/2 connection handler
+            if (httpVersion == HttpVersion.HTTP_2_0 && pipeline.context(ChannelPipelineCustomizer.HANDLER_HTTP2_CONNECTION) != null) {
                 pipeline.addBefore(
                     ChannelPipelineCustomizer.HANDLER_HTTP2_CONNECTION,
                     ChannelPipelineCustomizer.HANDLER_READ_TIMEOUT,
@@ -1062,6 +1207,7 @@ final class ConnectionManager {
         final boolean proxy;
         final boolean acceptsEvents;
         Http2SettingsHandler settingsHandler;
+        Http2MultiplexedChannelPool multiplexedPool;
         final Consumer<ChannelHandlerContext> contextConsumer;
         private NettyClientCustomizer channelCustomizer;
 
@@ -1102,7 +1248,10 @@ final class ConnectionManager {
 
             configureProxy(p, sslContext != null, host, port);
 
-            if (httpVersion == HttpVersion.HTTP_2_0) {
+            if (httpVersion == HttpVersion.HTTP_2_0 && multiplexedPool != null) {
+                configureHttp2Multiplexed(this, ch, sslContext, host, port, multiplexedPool);
+                channelCustomizer.onInitialPipelineBuilt();
+            } else if (httpVersion == HttpVersion.HTTP_2_0) {
                 final Http2Connection connection = new DefaultHttp2Connection(false);
                 final HttpToHttp2ConnectionHandlerBuilder builder =
                         newHttp2ConnectionHandlerBuilder(connection, configuration, stream);
@@ -1189,16 +1338,7 @@ final class ConnectionManager {
             int maxContentLength = configuration.getMaxContentLength();
 
             if (!stream) {
-                p.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_AGGREGATOR, new HttpObjectAggregator(maxContentLength) {
-                    @Override
-                    protected void finishAggregation(FullHttpMessage aggregated) throws Exception {
-                        if (!HttpUtil.isContentLengthSet(aggregated)) {
-                            if (aggregated.content().readableBytes() > 0) {
-                                super.finishAggregation(aggregated);
-                            }
-                        }
-                    }
-                });
+                p.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_AGGREGATOR, newHttpObjectAggregator(maxContentLength));
             }
             addEventStreamHandlerIfNecessary(p);
             addFinalHandler(p);
@@ -1286,6 +1426,95 @@ final class ConnectionManager {
         }
     }
 
+    /**
+     * Initializes the pipeline of a stream of a multiplexed HTTP/2 connection, which translates the stream frames
+     * to the HTTP/1.1 objects the response handlers expect.
+     */
+    private final class Http2StreamChannelInitializer extends ChannelInitializer<Http2StreamChannel> {
+        @Override
+        protected void initChannel(Http2StreamChannel ch) {
+            NettyClientCustomizer connectionCustomizer = ch.parent().attr(CHANNEL_CUSTOMIZER_KEY).get();
+            NettyClientCustomizer channelCustomizer = (connectionCustomizer == null ? clientCustomizer : connectionCustomizer)
+                .specializeForChannel(ch, NettyClientCustomizer.ChannelRole.HTTP2_STREAM);
+            ch.attr(CHANNEL_CUSTOMIZER_KEY).set(channelCustomizer);
+
+            ChannelPipeline p = ch.pipeline();
+            p.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_CLIENT_CODEC, new Http2StreamFrameToHttpObjectCodec(false));
+            p.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_DECODER, new HttpContentDecompressor());
+            p.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_AGGREGATOR, newHttpObjectAggregator(configuration.getMaxContentLength()));
+            for (ChannelPipelineListener pipelineListener : pipelineListeners) {
+                pipelineListener.onConnect(p);
+            }
+            channelCustomizer.onInitialPipelineBuilt();
+            channelCustomizer.onStreamPipelineBuilt();
+        }
+    }
+
+    /**
+     * Closes streams pushed by the server, the client does not accept server push.
+     */
+    @ChannelHandler.Sharable
+    private static final class PushRejectingHandler extends ChannelInboundHandlerAdapter {
+        static final PushRejectingHandler INSTANCE = new PushRejectingHandler();
+
+        @Override
+        public void handlerAdded(ChannelHandlerContext ctx) {
+            ctx.close();
+        }
+    }
+
+    /**
+     * Snapshot of the metrics of a {@link Http2MultiplexedChannelPool}.
+     */
+    private static final class PoolMetricsSnapshot implements ConnectionPoolMetrics {
+        private final DefaultHttpClient.RequestKey key;
+        private final int openConnections;
+        private final int activeStreams;
+        private final int pendingAcquires;
+
+        PoolMetricsSnapshot(DefaultHttpClient.RequestKey key, Http2MultiplexedChannelPool pool) {
+            this.key = key;
+            this.openConnections = pool.getOpenConnections();
+            this.activeStreams = pool.getActiveStreams();
+            this.pendingAcquires = pool.getPendingAcquires();
+        }
+
+        @Override
+        public String getHost() {
+            return key.getHost();
+        }
+
+        @Override
+        public int getPort() {
+            return key.getPort();
+        }
+
+        @Override
+        public boolean isSecure() {
+            return key.isSecure();
+        }
+
+        @Override
+        public int getOpenConnections() {
+            return openConnections;
+        }
+
+        @Override
+        public int getActiveStreams() {
+            return activeStreams;
+        }
+
+        @Override
+        public int getPendingAcquires() {
+            return pendingAcquires;
+        }
+
+        @Override
+        public String toString() {
+            return key.getHost() + ":" + key.getPort() + " (connections: " + openConnections + ", active streams: " + activeStreams + ", pending acquires: " + pendingAcquires + ")";
+        }
+    }
+
     final class PoolHandle {
         final Channel channel;
         private final ChannelPool channelPool;
@@ -1311,6 +1540,10 @@ final class ConnectionManager {
             if (channelPool != null) {
                 removeReadTimeoutHandler(channel.pipeline());
                 if (!canReturn) {
+                    if (channel instanceof Http2StreamChannel) {
+                        // only the stream is affected, the connection is still usable
+                        channel.close();
+                    }
                     channel.closeFuture().addListener((future ->
                         channelPool.release(channel)
                     ));
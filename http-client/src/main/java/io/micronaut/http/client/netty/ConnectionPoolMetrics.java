@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.netty;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * A snapshot of the state of the multiplexed HTTP/2 connection pool of a {@link DefaultHttpClient} for a single
+ * remote host.
+ *
+ * @since 3.8.0
+ * @see io.micronaut.http.client.HttpClientConfiguration.ConnectionPoolConfiguration#isHttp2Multiplexing()
+ */
+public interface ConnectionPoolMetrics {
+
+    /**
+     * @return The remote host
+     */
+    @NonNull
+    String getHost();
+
+    /**
+     * @return The remote port
+     */
+    int getPort();
+
+    /**
+     * @return Whether the connections use TLS
+     */
+    boolean isSecure();
+
+    /**
+     * @return The number of open connections, including connections that are still being established
+     */
+    int getOpenConnections();
+
+    /**
+     * @return The number of streams in use
+     */
+    int getActiveStreams();
+
+    /**
+     * @return The number of requests waiting for a free stream
+     */
+    int getPendingAcquires();
+}
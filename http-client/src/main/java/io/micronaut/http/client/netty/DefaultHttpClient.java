@@ -35,6 +35,7 @@ import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.util.SupplierUtil;
+import io.micronaut.discovery.ServiceInstance;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpResponseWrapper;
 import io.micronaut.http.HttpStatus;
@@ -62,6 +63,7 @@ import io.micronaut.http.client.exceptions.ReadTimeoutException;
 import io.micronaut.http.client.filter.ClientFilterResolutionContext;
 import io.micronaut.http.client.filter.DefaultHttpClientFilterResolver;
 import io.micronaut.http.client.filters.ClientServerContextFilter;
+import io.micronaut.http.client.loadbalance.LoadAwareLoadBalancer;
 import io.micronaut.http.client.multipart.MultipartBody;
 import io.micronaut.http.client.multipart.MultipartDataFactory;
 import io.micronaut.http.client.netty.ssl.NettyClientSslBuilder;
@@ -209,6 +211,10 @@ public class DefaultHttpClient implements
     private static final Logger DEFAULT_LOG = LoggerFactory.getLogger(DefaultHttpClient.class);
     private static final int DEFAULT_HTTP_PORT = 80;
     private static final int DEFAULT_HTTPS_PORT = 443;
+    /**
+     * Context key under which the instance selected while resolving a request URI is recorded.
+     */
+    private static final String SELECTED_INSTANCE_KEY = DefaultHttpClient.class.getName() + ".selectedInstance";
 
     private static final Supplier<Pattern> HEADER_MASK_PATTERNS = SupplierUtil.memoized(() ->
         Pattern.compile(".*(password|cred|cert|key|secret|token|auth|signat).*", Pattern.CASE_INSENSITIVE)
@@ -439,6 +445,19 @@ public class DefaultHttpClient implements
         return log;
     }
 
+    /**
+     * Returns the state of the connection pools that multiplex requests over shared HTTP/2 connections, one entry
+     * per remote host. The list is empty unless
+     * {@link HttpClientConfiguration.ConnectionPoolConfiguration#isHttp2Multiplexing() HTTP/2 multiplexing} is enabled.
+     *
+     * @return The connection pool metrics
+     * @since 3.8.0
+     */
+    @NonNull
+    public List<ConnectionPoolMetrics> getConnectionPoolMetrics() {
+        return connectionManager.getConnectionPoolMetrics();
+    }
+
     @Override
     public HttpClient start() {
         if (!isRunning()) {
@@ -694,9 +713,8 @@ public class DefaultHttpClient implements
 
     @Override
     public <I> Publisher<ByteBuffer<?>> dataStream(@NonNull io.micronaut.http.HttpRequest<I> request, @NonNull Argument<?> errorType) {
-        final io.micronaut.http.HttpRequest<Object> parentRequest = ServerRequestContext.currentRequest().orElse(null);
-        return new MicronautFlux<>(Flux.from(resolveRequestURI(request))
-                .flatMap(requestURI -> dataStreamImpl(request, errorType, parentRequest, requestURI)))
+        return new MicronautFlux<>(withParentRequest(parentRequest -> Flux.from(resolveLoadBalancedRequestURI(request))
+                .flatMap(target -> trackInstanceLoad(target.instance, dataStreamImpl(request, errorType, parentRequest, target.uri)))))
                 .doAfterNext(buffer -> {
                     Object o = buffer.asNativeBuffer();
                     if (o instanceof ByteBuf) {
@@ -715,9 +733,8 @@ public class DefaultHttpClient implements
 
     @Override
     public <I> Publisher<io.micronaut.http.HttpResponse<ByteBuffer<?>>> exchangeStream(@NonNull io.micronaut.http.HttpRequest<I> request, @NonNull Argument<?> errorType) {
-        io.micronaut.http.HttpRequest<Object> parentRequest = ServerRequestContext.currentRequest().orElse(null);
-        return new MicronautFlux<>(Flux.from(resolveRequestURI(request))
-                .flatMap(uri -> exchangeStreamImpl(parentRequest, request, errorType, uri)))
+        return new MicronautFlux<>(withParentRequest(parentRequest -> Flux.from(resolveLoadBalancedRequestURI(request))
+                .flatMap(target -> trackInstanceLoad(target.instance, exchangeStreamImpl(parentRequest, request, errorType, target.uri)))))
                 .doAfterNext(byteBufferHttpResponse -> {
                     ByteBuffer<?> buffer = byteBufferHttpResponse.body();
                     if (buffer instanceof ReferenceCounted) {
@@ -733,9 +750,8 @@ public class DefaultHttpClient implements
 
     @Override
     public <I, O> Publisher<O> jsonStream(@NonNull io.micronaut.http.HttpRequest<I> request, @NonNull Argument<O> type, @NonNull Argument<?> errorType) {
-        final io.micronaut.http.HttpRequest<Object> parentRequest = ServerRequestContext.currentRequest().orElse(null);
-        return Flux.from(resolveRequestURI(request))
-                .flatMap(requestURI -> jsonStreamImpl(parentRequest, request, type, errorType, requestURI));
+        return withParentRequest(parentRequest -> Flux.from(resolveLoadBalancedRequestURI(request))
+                .flatMap(target -> trackInstanceLoad(target.instance, jsonStreamImpl(parentRequest, request, type, errorType, target.uri))));
     }
 
     @SuppressWarnings("unchecked")
@@ -751,10 +767,8 @@ public class DefaultHttpClient implements
 
     @Override
     public <I, O, E> Publisher<io.micronaut.http.HttpResponse<O>> exchange(@NonNull io.micronaut.http.HttpRequest<I> request, @NonNull Argument<O> bodyType, @NonNull Argument<E> errorType) {
-        final io.micronaut.http.HttpRequest<Object> parentRequest = ServerRequestContext.currentRequest().orElse(null);
-        Publisher<URI> uriPublisher = resolveRequestURI(request);
-        return Flux.from(uriPublisher)
-                .switchMap(uri -> exchangeImpl(uri, parentRequest, request, bodyType, errorType));
+        return withParentRequest(parentRequest -> Flux.from(resolveLoadBalancedRequestURI(request))
+                .switchMap(target -> trackInstanceLoad(target.instance, exchangeImpl(target.uri, parentRequest, request, bodyType, errorType))));
     }
 
     @Override
@@ -984,8 +998,9 @@ public class DefaultHttpClient implements
     @Override
     public Publisher<MutableHttpResponse<?>> proxy(@NonNull io.micronaut.http.HttpRequest<?> request, @NonNull ProxyRequestOptions options) {
         Objects.requireNonNull(options, "options");
-        return Flux.from(resolveRequestURI(request))
-                .flatMap(requestURI -> {
+        return Flux.from(resolveLoadBalancedRequestURI(request))
+                .flatMap(target -> {
+                    URI requestURI = target.uri;
                     io.micronaut.http.MutableHttpRequest<?> httpRequest = request instanceof MutableHttpRequest
                             ? (io.micronaut.http.MutableHttpRequest<?>) request
                             : request.mutate();
@@ -1006,7 +1021,7 @@ public class DefaultHttpClient implements
                                     (Publisher) proxyResponsePublisher
                             )
                     );
-                    return proxyResponsePublisher;
+                    return trackInstanceLoad(target.instance, proxyResponsePublisher);
                 });
     }
 
@@ -1175,6 +1190,24 @@ public class DefaultHttpClient implements
         return null;
     }
 
+    /**
+     * Resolves the server request the client is invoked for. The request is taken from the current thread when
+     * present, otherwise from the Reactor context of the subscriber, so it is also found when the operator hooks that
+     * restore the thread local state are disabled.
+     *
+     * @param publisherFactory Creates the publisher for the parent request, which may be null
+     * @param <T>              The element type
+     * @return The publisher
+     */
+    private <T> Flux<T> withParentRequest(Function<io.micronaut.http.HttpRequest<Object>, Publisher<T>> publisherFactory) {
+        final io.micronaut.http.HttpRequest<Object> parentRequest = ServerRequestContext.currentRequest().orElse(null);
+        if (parentRequest != null) {
+            return Flux.from(publisherFactory.apply(parentRequest));
+        }
+        return Flux.deferContextual(contextView ->
+                publisherFactory.apply(contextView.getOrDefault(ServerRequestContext.KEY, null)));
+    }
+
     private <I, O, R extends io.micronaut.http.HttpResponse<O>> Publisher<R> applyFilterToResponsePublisher(
             io.micronaut.http.HttpRequest<?> parentRequest,
             io.micronaut.http.HttpRequest<I> request,
@@ -1429,21 +1462,70 @@ public class DefaultHttpClient implements
     }
 
     private <I> Publisher<URI> resolveURI(io.micronaut.http.HttpRequest<I> request, boolean includeContextPath) {
-        URI requestURI = request.getUri();
         if (loadBalancer == null) {
             return Flux.error(customizeException(new NoHostException("Request URI specifies no host to connect to")));
         }
 
+        return Flux.deferContextual(contextView -> {
+            AtomicReference<ServiceInstance> selected = contextView.getOrDefault(SELECTED_INSTANCE_KEY, null);
+            return selectInstance(request, includeContextPath).map(target -> {
+                if (selected != null) {
+                    selected.set(target.instance);
+                }
+                return target.uri;
+            });
+        });
+    }
+
+    /**
+     * Resolves the request URI through {@link #resolveRequestURI(io.micronaut.http.HttpRequest)} along with the instance
+     * selected by a {@link LoadAwareLoadBalancer}, so that the load of the request is reported to the instance it was
+     * sent to.
+     */
+    private <I> Publisher<LoadBalancedURI> resolveLoadBalancedRequestURI(io.micronaut.http.HttpRequest<I> request) {
+        if (!(loadBalancer instanceof LoadAwareLoadBalancer)) {
+            return Flux.from(resolveRequestURI(request)).map(uri -> new LoadBalancedURI(uri, null));
+        }
+        return Flux.defer(() -> {
+            AtomicReference<ServiceInstance> selected = new AtomicReference<>();
+            return Flux.from(resolveRequestURI(request))
+                    .map(uri -> new LoadBalancedURI(uri, selected.getAndSet(null)))
+                    .contextWrite(ctx -> ctx.put(SELECTED_INSTANCE_KEY, selected));
+        });
+    }
+
+    private <I> Flux<LoadBalancedURI> selectInstance(io.micronaut.http.HttpRequest<I> request, boolean includeContextPath) {
+        URI requestURI = request.getUri();
         return Flux.from(loadBalancer.select(getLoadBalancerDiscriminator())).map(server -> {
                     Optional<String> authInfo = server.getMetadata().get(io.micronaut.http.HttpHeaders.AUTHORIZATION_INFO, String.class);
                     if (request instanceof MutableHttpRequest && authInfo.isPresent()) {
                         ((MutableHttpRequest) request).getHeaders().auth(authInfo.get());
                     }
-                    return server.resolve(includeContextPath ? prependContextPath(requestURI) : requestURI);
+                    URI uri = server.resolve(includeContextPath ? prependContextPath(requestURI) : requestURI);
+                    return new LoadBalancedURI(uri, server);
                 }
         );
     }
 
+    /**
+     * Reports the start and completion of a request to a {@link LoadAwareLoadBalancer}, if the request was sent to an
+     * instance selected by it.
+     */
+    private <T> Publisher<T> trackInstanceLoad(@Nullable ServiceInstance instance, Publisher<T> publisher) {
+        if (instance == null || !(loadBalancer instanceof LoadAwareLoadBalancer)) {
+            return publisher;
+        }
+        LoadAwareLoadBalancer loadAwareLoadBalancer = (LoadAwareLoadBalancer) loadBalancer;
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            loadAwareLoadBalancer.requestStarted(instance);
+            return Flux.from(publisher)
+                    .doOnError(failure::set)
+                    .doFinally(signal -> loadAwareLoadBalancer.requestCompleted(instance, System.nanoTime() - start, failure.get()));
+        });
+    }
+
     private <I, O, E> void sendRequestThroughChannel(
             io.micronaut.http.HttpRequest<I> finalRequest,
             Argument<O> bodyType,
@@ -2018,6 +2100,20 @@ public class DefaultHttpClient implements
         }
     }
 
+    /**
+     * A resolved request URI and the load balanced instance it points to, if any.
+     */
+    private static final class LoadBalancedURI {
+        final URI uri;
+        @Nullable
+        final ServiceInstance instance;
+
+        LoadBalancedURI(URI uri, @Nullable ServiceInstance instance) {
+            this.uri = uri;
+            this.instance = instance;
+        }
+    }
+
     /**
      * Used as a holder for the current SSE event.
      */
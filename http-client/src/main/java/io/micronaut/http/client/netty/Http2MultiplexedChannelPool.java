@@ -0,0 +1,521 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.netty;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.http.client.exceptions.HttpClientException;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.handler.codec.http2.Http2GoAwayFrame;
+import io.netty.handler.codec.http2.Http2SettingsFrame;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.util.AttributeKey;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A {@link ChannelPool} that multiplexes requests over a small number of HTTP/2 connections to the same remote.
+ * Instead of handing out a connection per request, {@link #acquire()} opens a new
+ * {@link Http2StreamChannel} on a connection that has a free stream, limited by the
+ * {@code SETTINGS_MAX_CONCURRENT_STREAMS} the server announced. A new connection is only opened if the streams of
+ * all connections are in use. {@link #release(Channel)} closes the stream.
+ *
+ * <p>If the server does not negotiate HTTP/2 a connection is handed out for one request at a time, like a
+ * regular pooled HTTP/1.1 connection.</p>
+ *
+ * <p>The pipeline of the connections is built by the handler of the bootstrap. It has to add the handler returned by
+ * {@link #newConnectionHandler(boolean)} once the protocol has been negotiated, after the
+ * {@link io.netty.handler.codec.http2.Http2MultiplexHandler} for HTTP/2 connections.</p>
+ *
+ * @since 3.8.0
+ */
+@Internal
+final class Http2MultiplexedChannelPool implements ChannelPool {
+
+    // not static to avoid build-time initialization by native image
+    private final AttributeKey<Connection> connectionKey = AttributeKey.valueOf("micronaut.http2.pool.connection");
+
+    private final Bootstrap bootstrap;
+    private final ChannelHandler streamHandler;
+    private final int maxConnections;
+    private final int maxPendingAcquires;
+    private final long acquireTimeoutMillis;
+    private final EventExecutor executor;
+    private final List<Connection> connections = new ArrayList<>();
+    private final Deque<PendingAcquire> pendingAcquires = new ArrayDeque<>();
+    private boolean closed;
+
+    /**
+     * @param bootstrap            The bootstrap used to open connections, including the remote address and handler
+     * @param streamHandler        The handler that initializes the pipeline of new stream channels
+     * @param maxConnections       The maximum number of connections, or a negative value for no limit
+     * @param maxPendingAcquires   The maximum number of acquires waiting for a free stream
+     * @param acquireTimeoutMillis The time an acquire may wait for a free stream, or a negative value to wait forever
+     */
+    Http2MultiplexedChannelPool(
+        Bootstrap bootstrap,
+        ChannelHandler streamHandler,
+        int maxConnections,
+        int maxPendingAcquires,
+        long acquireTimeoutMillis) {
+        this.bootstrap = bootstrap;
+        this.streamHandler = streamHandler;
+        this.maxConnections = maxConnections < 0 ? Integer.MAX_VALUE : Math.max(1, maxConnections);
+        this.maxPendingAcquires = maxPendingAcquires;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.executor = bootstrap.config().group().next();
+    }
+
+    @Override
+    public Future<Channel> acquire() {
+        return acquire(executor.newPromise());
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise) {
+        Connection connection;
+        boolean connect = false;
+        Throwable failure = null;
+        synchronized (this) {
+            if (closed) {
+                failure = new IllegalStateException("Connection pool is closed");
+                connection = null;
+            } else {
+                connection = reserveStream();
+                if (connection == null) {
+                    if (pendingAcquires.size() >= maxPendingAcquires) {
+                        failure = new IllegalStateException("Too many outstanding acquire operations");
+                    } else {
+                        PendingAcquire pendingAcquire = new PendingAcquire(promise);
+                        pendingAcquires.add(pendingAcquire);
+                        if (acquireTimeoutMillis >= 0) {
+                            pendingAcquire.timeout = executor.schedule(
+                                () -> timeout(pendingAcquire), acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+                        }
+                        connect = shouldConnect();
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            promise.tryFailure(failure);
+        } else if (connection != null) {
+            connection.openStream(promise);
+        } else if (connect) {
+            connect();
+        }
+        return promise;
+    }
+
+    @Override
+    public Future<Void> release(Channel channel) {
+        return release(channel, executor.newPromise());
+    }
+
+    @Override
+    public Future<Void> release(Channel channel, Promise<Void> promise) {
+        if (channel instanceof Http2StreamChannel) {
+            // a stream can not be reused, the close listener returns it to the connection
+            channel.close();
+        } else {
+            Connection connection = channel.attr(connectionKey).get();
+            if (connection != null && connection.pool() == this) {
+                connection.releaseExclusive();
+            } else {
+                channel.close();
+            }
+        }
+        promise.trySuccess(null);
+        return promise;
+    }
+
+    @Override
+    public void close() {
+        List<Connection> toClose;
+        List<PendingAcquire> toFail;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            toClose = new ArrayList<>(connections);
+            toFail = new ArrayList<>(pendingAcquires);
+            connections.clear();
+            pendingAcquires.clear();
+        }
+        IllegalStateException cause = new IllegalStateException("Connection pool is closed");
+        for (PendingAcquire pendingAcquire : toFail) {
+            pendingAcquire.fail(cause);
+        }
+        for (Connection connection : toClose) {
+            if (connection.channel != null) {
+                connection.channel.close();
+            }
+        }
+    }
+
+    /**
+     * @return The number of connections, including the ones that are still being established
+     */
+    synchronized int getOpenConnections() {
+        return connections.size();
+    }
+
+    /**
+     * @return The number of streams (or requests on HTTP/1.1 connections) in use
+     */
+    synchronized int getActiveStreams() {
+        int activeStreams = 0;
+        for (Connection connection : connections) {
+            activeStreams += connection.activeStreams;
+        }
+        return activeStreams;
+    }
+
+    /**
+     * @return The number of acquires waiting for a free stream
+     */
+    synchronized int getPendingAcquires() {
+        return pendingAcquires.size();
+    }
+
+    /**
+     * Creates the handler that tracks the state of a connection of this pool. The handler has to be added to the
+     * end of the connection pipeline once the protocol has been negotiated.
+     *
+     * @param http2 Whether HTTP/2 was negotiated for the connection
+     * @return The handler
+     */
+    @NonNull
+    ChannelHandler newConnectionHandler(boolean http2) {
+        return new ConnectionHandler(http2);
+    }
+
+    /**
+     * Reserves a stream on the least used connection that has a free stream.
+     *
+     * @return The connection or {@code null} if all streams are in use
+     */
+    private Connection reserveStream() {
+        Connection selected = null;
+        for (Connection connection : connections) {
+            if (connection.hasFreeStream() && (selected == null || connection.activeStreams < selected.activeStreams)) {
+                selected = connection;
+            }
+        }
+        if (selected != null) {
+            selected.activeStreams++;
+        }
+        return selected;
+    }
+
+    /**
+     * @return Whether a new connection should be opened to serve the pending acquires
+     */
+    private boolean shouldConnect() {
+        if (pendingAcquires.isEmpty() || connections.size() >= maxConnections) {
+            return false;
+        }
+        for (Connection connection : connections) {
+            if (!connection.ready) {
+                // wait for the connection that is being established, it can likely serve many streams
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void connect() {
+        Connection connection = new Connection();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            connections.add(connection);
+        }
+        ChannelFuture connectFuture;
+        try {
+            connectFuture = bootstrap.clone().attr(connectionKey, connection).connect();
+        } catch (Exception e) {
+            connectionFailed(connection, e);
+            return;
+        }
+        connection.channel = connectFuture.channel();
+        connectFuture.addListener(future -> {
+            if (future.isSuccess()) {
+                connection.channel.closeFuture().addListener(f -> connectionClosed(connection));
+            } else {
+                connectionFailed(connection, future.cause());
+            }
+        });
+    }
+
+    /**
+     * Hands out free streams to the pending acquires, and opens a new connection if streams are still missing.
+     */
+    private void dispatch() {
+        List<PendingAcquire> served = null;
+        List<Connection> servedBy = null;
+        boolean connect;
+        synchronized (this) {
+            while (!pendingAcquires.isEmpty()) {
+                Connection connection = reserveStream();
+                if (connection == null) {
+                    break;
+                }
+                if (served == null) {
+                    served = new ArrayList<>();
+                    servedBy = new ArrayList<>();
+                }
+                served.add(pendingAcquires.poll());
+                servedBy.add(connection);
+            }
+            connect = shouldConnect();
+        }
+        if (served != null) {
+            for (int i = 0; i < served.size(); i++) {
+                PendingAcquire pendingAcquire = served.get(i);
+                pendingAcquire.cancelTimeout();
+                servedBy.get(i).openStream(pendingAcquire.promise);
+            }
+        }
+        if (connect) {
+            connect();
+        }
+    }
+
+    private void timeout(PendingAcquire pendingAcquire) {
+        boolean removed;
+        synchronized (this) {
+            removed = pendingAcquires.remove(pendingAcquire);
+        }
+        if (removed) {
+            pendingAcquire.fail(new TimeoutException("Acquire operation took longer than configured maximum time"));
+        }
+    }
+
+    private void connectionFailed(Connection connection, Throwable cause) {
+        List<PendingAcquire> toFail = null;
+        synchronized (this) {
+            connections.remove(connection);
+            if (connections.isEmpty() && !pendingAcquires.isEmpty()) {
+                // no other connection can serve the pending acquires
+                toFail = new ArrayList<>(pendingAcquires);
+                pendingAcquires.clear();
+            }
+        }
+        if (toFail != null) {
+            for (PendingAcquire pendingAcquire : toFail) {
+                pendingAcquire.fail(cause);
+            }
+        }
+    }
+
+    private void connectionClosed(Connection connection) {
+        if (!connection.ready) {
+            connectionFailed(connection, new HttpClientException("Connection closed before the protocol was negotiated"));
+        } else {
+            synchronized (this) {
+                connections.remove(connection);
+            }
+            dispatch();
+        }
+    }
+
+    /**
+     * A connection of the pool.
+     */
+    private final class Connection {
+        volatile Channel channel;
+        boolean http2;
+        boolean ready;
+        boolean draining;
+        int maxStreams = Integer.MAX_VALUE;
+        int activeStreams;
+
+        Http2MultiplexedChannelPool pool() {
+            return Http2MultiplexedChannelPool.this;
+        }
+
+        /**
+         * Called with the pool lock held.
+         *
+         * @return Whether a new stream can be opened on this connection
+         */
+        boolean hasFreeStream() {
+            return ready && !draining && activeStreams < maxStreams && channel.isActive();
+        }
+
+        /**
+         * Opens a stream on this connection. The stream must have been reserved before.
+         *
+         * @param promise The promise to complete with the stream
+         */
+        void openStream(Promise<Channel> promise) {
+            if (!http2) {
+                if (!promise.trySuccess(channel)) {
+                    releaseExclusive();
+                }
+                return;
+            }
+            new Http2StreamChannelBootstrap(channel)
+                .handler(streamHandler)
+                .open()
+                .addListener((Future<Http2StreamChannel> future) -> {
+                    if (future.isSuccess()) {
+                        Http2StreamChannel streamChannel = future.getNow();
+                        streamChannel.closeFuture().addListener(f -> streamClosed());
+                        if (!promise.trySuccess(streamChannel)) {
+                            streamChannel.close();
+                        }
+                    } else {
+                        streamClosed();
+                        promise.tryFailure(future.cause());
+                    }
+                });
+        }
+
+        /**
+         * Returns an HTTP/1.1 connection handed out for a single request.
+         */
+        void releaseExclusive() {
+            synchronized (Http2MultiplexedChannelPool.this) {
+                if (activeStreams > 0) {
+                    activeStreams--;
+                }
+            }
+            dispatch();
+        }
+
+        private void streamClosed() {
+            boolean closeConnection;
+            synchronized (Http2MultiplexedChannelPool.this) {
+                activeStreams--;
+                closeConnection = draining && activeStreams == 0;
+            }
+            if (closeConnection) {
+                channel.close();
+            } else {
+                dispatch();
+            }
+        }
+    }
+
+    /**
+     * Tracks the protocol state of a connection.
+     */
+    private final class ConnectionHandler extends ChannelInboundHandlerAdapter {
+        private final boolean http2;
+
+        ConnectionHandler(boolean http2) {
+            this.http2 = http2;
+        }
+
+        @Override
+        public void handlerAdded(ChannelHandlerContext ctx) {
+            if (!http2) {
+                Connection connection = ctx.channel().attr(connectionKey).get();
+                if (connection != null) {
+                    synchronized (Http2MultiplexedChannelPool.this) {
+                        connection.maxStreams = 1;
+                        connection.ready = true;
+                    }
+                    dispatch();
+                }
+            }
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            if (!http2) {
+                ctx.fireChannelRead(msg);
+                return;
+            }
+            Connection connection = ctx.channel().attr(connectionKey).get();
+            if (msg instanceof Http2SettingsFrame) {
+                Long maxConcurrentStreams = ((Http2SettingsFrame) msg).settings().maxConcurrentStreams();
+                if (connection != null) {
+                    synchronized (Http2MultiplexedChannelPool.this) {
+                        connection.http2 = true;
+                        connection.ready = true;
+                        if (maxConcurrentStreams != null) {
+                            connection.maxStreams = (int) Math.min(maxConcurrentStreams, Integer.MAX_VALUE);
+                        }
+                    }
+                    dispatch();
+                }
+                ReferenceCountUtil.release(msg);
+            } else if (msg instanceof Http2GoAwayFrame) {
+                boolean closeConnection = false;
+                if (connection != null) {
+                    synchronized (Http2MultiplexedChannelPool.this) {
+                        connection.draining = true;
+                        closeConnection = connection.activeStreams == 0;
+                    }
+                }
+                ReferenceCountUtil.release(msg);
+                if (closeConnection) {
+                    ctx.close();
+                } else {
+                    // other connections may have to take over the pending acquires
+                    dispatch();
+                }
+            } else {
+                ReferenceCountUtil.release(msg);
+            }
+        }
+    }
+
+    /**
+     * An acquire waiting for a free stream.
+     */
+    private static final class PendingAcquire {
+        final Promise<Channel> promise;
+        ScheduledFuture<?> timeout;
+
+        PendingAcquire(Promise<Channel> promise) {
+            this.promise = promise;
+        }
+
+        void cancelTimeout() {
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+        }
+
+        void fail(Throwable cause) {
+            cancelTimeout();
+            promise.tryFailure(cause);
+        }
+    }
+}
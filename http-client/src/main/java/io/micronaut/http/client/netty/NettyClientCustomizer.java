@@ -79,6 +79,13 @@ public interface NettyClientCustomizer {
          * {@link io.netty.channel.socket.SocketChannel}, representing an HTTP connection.
          */
         CONNECTION,
+        /**
+         * The channel is a {@link io.netty.handler.codec.http2.Http2StreamChannel} representing a single
+         * request on a multiplexed HTTP/2 connection.
+         *
+         * @since 3.8.0
+         */
+        HTTP2_STREAM,
     }
 
     /**
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.aop
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.core.convert.format.Format
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Body
+import io.micronaut.http.annotation.Consumes
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.annotation.Produces
+import io.micronaut.http.annotation.QueryValue
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.runtime.server.EmbeddedServer
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.LocalDate
+
+class RepeatedInvocationSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, ['spec.name': 'RepeatedInvocationSpec'])
+
+    @Shared
+    RepeatedClient client = embeddedServer.applicationContext.getBean(RepeatedClient)
+
+    void "test repeated invocations bind the values of each call"() {
+        expect:
+        (1..20).every { client.get("item$it", it % 2 == 0 ? "q$it" : null) == "item$it ${it % 2 == 0 ? "q$it" : 'none'}" }
+    }
+
+    void "test repeated invocations with a formatted path variable"() {
+        expect:
+        client.date(LocalDate.of(2022, 1, 1)) == "20220101"
+        client.date(LocalDate.of(2022, 12, 31)) == "20221231"
+    }
+
+    void "test repeated invocations with body arguments"() {
+        expect:
+        client.save("a", 1) == "a 1"
+        client.save("b", 2) == "b 2"
+    }
+
+    void "test clients inheriting the same method from a base interface use their own metadata"() {
+        given:
+        ClientA clientA = embeddedServer.applicationContext.getBean(ClientA)
+        ClientB clientB = embeddedServer.applicationContext.getBean(ClientB)
+
+        expect:
+        clientA.ops() == 'a'
+        clientB.ops() == 'b'
+        clientA.ops() == 'a'
+        clientB.ops() == 'b'
+    }
+
+    static interface Ops {
+
+        @Get('/ops')
+        String ops()
+    }
+
+    @Requires(property = 'spec.name', value = 'RepeatedInvocationSpec')
+    @Client('/shared/a')
+    @Consumes(MediaType.TEXT_PLAIN)
+    static interface ClientA extends Ops {
+    }
+
+    @Requires(property = 'spec.name', value = 'RepeatedInvocationSpec')
+    @Client('/shared/b')
+    @Consumes(MediaType.TEXT_PLAIN)
+    static interface ClientB extends Ops {
+    }
+
+    @Requires(property = 'spec.name', value = 'RepeatedInvocationSpec')
+    @Client('/repeated')
+    @Consumes(MediaType.TEXT_PLAIN)
+    static interface RepeatedClient {
+
+        @Get('/{name}{?q}')
+        String get(String name, @Nullable @QueryValue String q)
+
+        @Get('/date/{date}')
+        String date(@Format('yyyyMMdd') LocalDate date)
+
+        @Post('/save')
+        @Produces(MediaType.APPLICATION_JSON)
+        String save(String name, Integer count)
+    }
+
+    @Requires(property = 'spec.name', value = 'RepeatedInvocationSpec')
+    @Controller('/repeated')
+    static class RepeatedController {
+
+        @Get(value = '/{name}{?q}', produces = MediaType.TEXT_PLAIN)
+        String get(String name, @Nullable String q) {
+            "$name ${q ?: 'none'}"
+        }
+
+        @Get(value = '/date/{date}', produces = MediaType.TEXT_PLAIN)
+        String date(String date) {
+            date
+        }
+
+        @Post(value = '/save', produces = MediaType.TEXT_PLAIN)
+        String save(@Body Map<String, Object> body) {
+            "${body.name} ${body.count}"
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'RepeatedInvocationSpec')
+    @Controller('/shared')
+    static class SharedController {
+
+        @Get(value = '/a/ops', produces = MediaType.TEXT_PLAIN)
+        String a() {
+            'a'
+        }
+
+        @Get(value = '/b/ops', produces = MediaType.TEXT_PLAIN)
+        String b() {
+            'b'
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package io.micronaut.http.client.loadbalance
+
+import io.micronaut.discovery.DiscoveryClient
+import io.micronaut.discovery.ServiceInstance
+import io.micronaut.discovery.exceptions.NoAvailableServiceException
+import io.micronaut.health.HealthStatus
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import reactor.core.publisher.Sinks
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicInteger
+
+class DiscoveryServiceInstanceCacheSpec extends Specification {
+
+    static final ServiceInstance FIRST = ServiceInstance.of('test', URI.create('http://first:8080'))
+    static final ServiceInstance SECOND = ServiceInstance.of('test', URI.create('http://second:8080'))
+
+    void "test concurrent fetches are deduplicated"() {
+        given:
+        Sinks.One<List<ServiceInstance>> sink = Sinks.one()
+        StubDiscoveryClient discoveryClient = new StubDiscoveryClient({ sink.asMono() })
+        DiscoveryServiceInstanceCache cache = new DiscoveryServiceInstanceCache('test', discoveryClient, Duration.ofMinutes(1))
+        def balancer = new DiscoveryClientRoundRobinLoadBalancer('test', discoveryClient, cache)
+
+        when:
+        List<Mono<ServiceInstance>> selections = (1..10).collect { Mono.from(balancer.select()).cache() }
+        selections.each { it.subscribe() }
+        sink.tryEmitValue([FIRST, SECOND])
+
+        then:
+        discoveryClient.calls.get() == 1
+        selections.collect { it.block() } as Set == [FIRST, SECOND] as Set
+        cache.instances == [FIRST, SECOND]
+        cache.age.present
+
+        when:"the cached instances are fresh"
+        (1..10).each { Mono.from(balancer.select()).block() }
+
+        then:
+        discoveryClient.calls.get() == 1
+    }
+
+    void "test stale instances are served while they are refreshed"() {
+        given:
+        List<List<ServiceInstance>> responses = [[FIRST], [SECOND]]
+        StubDiscoveryClient discoveryClient = new StubDiscoveryClient({ Mono.just(responses.remove(0)) })
+        DiscoveryServiceInstanceCache cache = new DiscoveryServiceInstanceCache('test', discoveryClient, Duration.ofMillis(50))
+        def balancer = new DiscoveryClientRoundRobinLoadBalancer('test', discoveryClient, cache)
+
+        expect:
+        Mono.from(balancer.select()).block() == FIRST
+
+        when:
+        Thread.sleep(100)
+
+        then:"the stale instance is selected and refreshed"
+        Mono.from(balancer.select()).block() == FIRST
+        new PollingConditions(timeout: 5).eventually {
+            assert Mono.from(balancer.select()).block() == SECOND
+        }
+        discoveryClient.calls.get() == 2
+    }
+
+    void "test a failed refresh keeps the cached instances and backs off"() {
+        given:
+        AtomicInteger attempts = new AtomicInteger()
+        StubDiscoveryClient discoveryClient = new StubDiscoveryClient({
+            attempts.incrementAndGet() == 1 ? Mono.just([FIRST]) : Mono.error(new IllegalStateException('unavailable'))
+        })
+        DiscoveryServiceInstanceCache cache = new DiscoveryServiceInstanceCache('test', discoveryClient, Duration.ZERO)
+        def balancer = new DiscoveryClientLoadAwareLoadBalancer('test', discoveryClient, cache, LoadBalancerStrategy.LEAST_REQUESTS, 0.3)
+
+        expect:"the discovery client is not queried again before the retry delay"
+        (1..5).every { Mono.from(balancer.select()).block() == FIRST }
+        cache.refreshFailures == 1
+        discoveryClient.calls.get() == 2
+
+        and:"it is queried again once the retry delay has elapsed"
+        new PollingConditions(timeout: 5).eventually {
+            Mono.from(balancer.select()).block()
+            assert discoveryClient.calls.get() == 3
+        }
+    }
+
+    void "test a fetch that never completes times out and is retried"() {
+        given:
+        StubDiscoveryClient discoveryClient = new StubDiscoveryClient({ Mono.never() })
+        DiscoveryServiceInstanceCache cache = new DiscoveryServiceInstanceCache('test', discoveryClient, Duration.ofMillis(100))
+        def balancer = new DiscoveryClientRoundRobinLoadBalancer('test', discoveryClient, cache)
+
+        when:
+        Mono.from(balancer.select()).block(Duration.ofSeconds(5))
+
+        then:
+        thrown(Exception)
+        cache.refreshFailures == 1
+
+        when:"a selection within the retry delay fails without querying the discovery client"
+        Mono.from(balancer.select()).block(Duration.ofSeconds(5))
+
+        then:
+        thrown(Exception)
+        discoveryClient.calls.get() == 1
+
+        when:"the retry delay has elapsed"
+        Thread.sleep(1100)
+        Mono.from(balancer.select()).block(Duration.ofSeconds(5))
+
+        then:
+        thrown(Exception)
+        discoveryClient.calls.get() == 2
+    }
+
+    void "test a snapshot without available instances backs off"() {
+        given:
+        ServiceInstance down = Mock(ServiceInstance) {
+            getURI() >> URI.create('http://down:8080')
+            getHealthStatus() >> HealthStatus.DOWN
+        }
+        StubDiscoveryClient discoveryClient = new StubDiscoveryClient({ Mono.just([down]) })
+        DiscoveryServiceInstanceCache cache = new DiscoveryServiceInstanceCache('test', discoveryClient, Duration.ZERO)
+        def balancer = new DiscoveryClientRoundRobinLoadBalancer('test', discoveryClient, cache)
+
+        when:
+        5.times {
+            try {
+                Mono.from(balancer.select()).block()
+            } catch (NoAvailableServiceException ignored) {
+            }
+        }
+
+        then:"the discovery client is not queried again before the retry delay"
+        discoveryClient.calls.get() == 1
+
+        and:"it is queried again once the retry delay has elapsed"
+        new PollingConditions(timeout: 5).eventually {
+            try {
+                Mono.from(balancer.select()).block()
+            } catch (NoAvailableServiceException ignored) {
+            }
+            assert discoveryClient.calls.get() == 2
+        }
+    }
+
+    void "test the cached instances are discarded on a refresh event"() {
+        given:
+        List<List<ServiceInstance>> responses = [[FIRST], [SECOND]]
+        StubDiscoveryClient discoveryClient = new StubDiscoveryClient({ Mono.just(responses.remove(0)) })
+        DiscoveryClientLoadBalancerFactory factory = new DiscoveryClientLoadBalancerFactory(discoveryClient, new LoadBalancerConfiguration(discoveryCacheEnabled: true))
+        def balancer = factory.create('test')
+
+        expect:
+        Mono.from(balancer.select()).block() == FIRST
+        Mono.from(balancer.select()).block() == FIRST
+
+        when:
+        factory.onApplicationEvent(new RefreshEvent())
+
+        then:
+        Mono.from(balancer.select()).block() == SECOND
+        discoveryClient.calls.get() == 2
+    }
+
+    void "test the discovery cache is disabled by default"() {
+        given:
+        StubDiscoveryClient discoveryClient = new StubDiscoveryClient({ Mono.just([FIRST]) })
+        DiscoveryClientLoadBalancerFactory factory = new DiscoveryClientLoadBalancerFactory(discoveryClient)
+
+        when:
+        3.times { Mono.from(factory.create('test').select()).block() }
+
+        then:
+        factory.getInstanceCache('test') == null
+        discoveryClient.calls.get() == 3
+    }
+
+    static class StubDiscoveryClient implements DiscoveryClient {
+        final AtomicInteger calls = new AtomicInteger()
+        final Closure<Publisher<List<ServiceInstance>>> instances
+
+        StubDiscoveryClient(Closure<Publisher<List<ServiceInstance>>> instances) {
+            this.instances = instances
+        }
+
+        @Override
+        Publisher<List<ServiceInstance>> getInstances(String serviceId) {
+            calls.incrementAndGet()
+            instances.call()
+        }
+
+        @Override
+        Publisher<List<String>> getServiceIds() {
+            Flux.just(['test'])
+        }
+
+        @Override
+        String getDescription() {
+            'stub'
+        }
+
+        @Override
+        void close() {
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package io.micronaut.http.client.loadbalance
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.discovery.ServiceInstance
+import io.micronaut.discovery.ServiceInstanceList
+import io.micronaut.health.HealthStatus
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.DefaultHttpClientConfiguration
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.LoadBalancer
+import io.micronaut.http.client.LoadBalancerResolver
+import io.micronaut.http.client.StreamingHttpClient
+import io.micronaut.http.client.netty.DefaultHttpClient
+import org.reactivestreams.Publisher
+import io.micronaut.runtime.server.EmbeddedServer
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+import spock.lang.Unroll
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.TimeUnit
+
+class LoadAwareLoadBalancerSpec extends Specification {
+
+    static final List<ServiceInstance> INSTANCES = [
+            ServiceInstance.of('test', URI.create('http://fast-1:8080')),
+            ServiceInstance.of('test', URI.create('http://fast-2:8080')),
+            ServiceInstance.of('test', URI.create('http://slow:8080'))
+    ]
+
+    // service time in milliseconds of each instance, the slow one can serve 20 requests a second
+    static final Map<URI, Long> SERVICE_TIMES = [
+            (URI.create('http://fast-1:8080')): 10L,
+            (URI.create('http://fast-2:8080')): 10L,
+            (URI.create('http://slow:8080'))  : 50L
+    ]
+
+    @Unroll
+    void "test #strategy lowers the tail latency with a slow instance"() {
+        given:
+        long roundRobinP99 = simulate(new ServiceInstanceListRoundRobinLoadBalancer(instanceList(INSTANCES)))
+        long loadAwareP99 = simulate(new ServiceInstanceListLoadAwareLoadBalancer(instanceList(INSTANCES), strategy, 0.3))
+
+        expect:
+        loadAwareP99 < roundRobinP99 / 10
+        loadAwareP99 < 200
+
+        where:
+        strategy << [LoadBalancerStrategy.LEAST_REQUESTS, LoadBalancerStrategy.POWER_OF_TWO_CHOICES]
+    }
+
+    @Unroll
+    void "test #strategy only selects healthy instances"() {
+        given:
+        ServiceInstance down = Mock(ServiceInstance) {
+            getURI() >> URI.create('http://down:8080')
+            getHealthStatus() >> HealthStatus.DOWN
+        }
+        ServiceInstance up = ServiceInstance.of('test', URI.create('http://up:8080'))
+        def balancer = new ServiceInstanceListLoadAwareLoadBalancer(instanceList([down, up]), strategy, 0.3)
+
+        expect:
+        (1..10).every { Mono.from(balancer.select()).block() == up }
+
+        where:
+        strategy << [LoadBalancerStrategy.LEAST_REQUESTS, LoadBalancerStrategy.POWER_OF_TWO_CHOICES]
+    }
+
+    void "test the load of an instance is tracked"() {
+        given:
+        ServiceInstance instance = INSTANCES[0]
+        def balancer = new ServiceInstanceListLoadAwareLoadBalancer(instanceList(INSTANCES), LoadBalancerStrategy.LEAST_REQUESTS, 0.5)
+
+        when:
+        balancer.requestStarted(instance)
+        balancer.requestStarted(instance)
+
+        then:
+        balancer.getLoad(instance).outstandingRequests == 2
+        balancer.getLoad(instance).latencyEwma == 0
+
+        when:
+        balancer.requestCompleted(instance, 100, null)
+        balancer.requestCompleted(instance, 200, null)
+
+        then:
+        balancer.getLoad(instance).outstandingRequests == 0
+        balancer.getLoad(instance).latencyEwma == 150
+    }
+
+    void "test the load balancer strategy can be configured"() {
+        given:
+        ApplicationContext context = ApplicationContext.run([
+                'micronaut.http.services.foo.urls': ['http://localhost:8080', 'http://localhost:8081'],
+                'micronaut.http.client.load-balancer.strategy': 'power-of-two-choices'
+        ])
+
+        when:
+        LoadBalancer balancer = context.getBean(LoadBalancerResolver).resolve('foo').get()
+
+        then:
+        balancer instanceof ServiceInstanceListLoadAwareLoadBalancer
+        ((ServiceInstanceListLoadAwareLoadBalancer) balancer).strategy == LoadBalancerStrategy.POWER_OF_TWO_CHOICES
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the clients of a service share the load aware load balancer"() {
+        given:
+        ApplicationContext context = ApplicationContext.run([
+                'micronaut.http.services.foo.urls': ['http://localhost:8080', 'http://localhost:8081'],
+                'micronaut.http.client.load-balancer.strategy': 'least-requests'
+        ])
+        LoadBalancerResolver resolver = context.getBean(LoadBalancerResolver)
+
+        expect:
+        resolver.resolve('foo').get().is(resolver.resolve('foo').get())
+
+        cleanup:
+        context.close()
+    }
+
+    void "test concurrent sends of the same request report the load to the selected instances"() {
+        given:
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, ['spec.name': 'LoadAwareLoadBalancerSpec'])
+        ServiceInstance instance = ServiceInstance.of('test', server.URI)
+        def balancer = new ServiceInstanceListLoadAwareLoadBalancer(instanceList([instance]), LoadBalancerStrategy.LEAST_REQUESTS, 0.3)
+        HttpClient client = server.applicationContext.createBean(HttpClient, balancer)
+        HttpRequest<?> request = HttpRequest.GET('/load-aware')
+
+        when:
+        List<String> bodies = Flux.merge((1..10).collect { client.retrieve(request, String) }).collectList().block()
+
+        then:"every request is completed on the instance it was started on"
+        bodies.size() == 10
+        new PollingConditions(timeout: 5).eventually {
+            assert balancer.getLoad(instance).outstandingRequests == 0
+            assert balancer.getLoad(instance).latencyEwma > 0
+        }
+
+        and:"the selected instance is not exposed on the request"
+        request.attributes.names().isEmpty()
+
+        cleanup:
+        client.close()
+        server.close()
+    }
+
+    void "test the streaming calls report the load to the selected instance"() {
+        given:
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, ['spec.name': 'LoadAwareLoadBalancerSpec'])
+        ServiceInstance instance = ServiceInstance.of('test', server.URI)
+        def balancer = new ServiceInstanceListLoadAwareLoadBalancer(instanceList([instance]), LoadBalancerStrategy.LEAST_REQUESTS, 0.3)
+        StreamingHttpClient client = server.applicationContext.createBean(StreamingHttpClient, balancer)
+
+        when:
+        Flux.from(stream(client)).blockLast()
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert balancer.getLoad(instance).outstandingRequests == 0
+            assert balancer.getLoad(instance).latencyEwma > 0
+        }
+
+        cleanup:
+        client.close()
+        server.close()
+
+        where:
+        stream << [
+                { StreamingHttpClient c -> c.dataStream(HttpRequest.GET('/load-aware')) },
+                { StreamingHttpClient c -> c.exchangeStream(HttpRequest.GET('/load-aware')) },
+                { StreamingHttpClient c -> c.jsonStream(HttpRequest.GET('/load-aware/json')) }
+        ]
+    }
+
+    void "test an overridden request URI resolution is used by the load aware path"() {
+        given:
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, ['spec.name': 'LoadAwareLoadBalancerSpec'])
+        ServiceInstance instance = ServiceInstance.of('test', server.URI)
+        def balancer = new ServiceInstanceListLoadAwareLoadBalancer(instanceList([instance]), LoadBalancerStrategy.LEAST_REQUESTS, 0.3)
+        HttpClient client = new DefaultHttpClient(balancer, new DefaultHttpClientConfiguration(), []) {
+            @Override
+            protected <I> Publisher<URI> resolveRequestURI(HttpRequest<I> request, boolean includeContextPath) {
+                return Flux.from(super.resolveRequestURI(request, includeContextPath))
+                        .map(uri -> URI.create(uri.toString().replace('/missing', '/load-aware')))
+            }
+        }
+
+        when:
+        String body = client.toBlocking().retrieve('/missing')
+
+        then:
+        body == 'ok'
+        new PollingConditions(timeout: 5).eventually {
+            assert balancer.getLoad(instance).outstandingRequests == 0
+            assert balancer.getLoad(instance).latencyEwma > 0
+        }
+
+        cleanup:
+        client.close()
+        server.close()
+    }
+
+    void "test round robin is the default strategy"() {
+        given:
+        ApplicationContext context = ApplicationContext.run([
+                'micronaut.http.services.foo.urls': ['http://localhost:8080', 'http://localhost:8081']
+        ])
+
+        expect:
+        context.getBean(LoadBalancerResolver).resolve('foo').get() instanceof ServiceInstanceListRoundRobinLoadBalancer
+
+        cleanup:
+        context.close()
+    }
+
+    /**
+     * Simulates requests arriving every 8ms at instances that each process one request at a time in arrival order.
+     *
+     * @return The 99th percentile latency in milliseconds
+     */
+    private static long simulate(LoadBalancer balancer) {
+        int requests = 5000
+        long interArrival = TimeUnit.MILLISECONDS.toNanos(8)
+        Map<URI, Long> freeAt = [:]
+        PriorityQueue<Completion> inFlight = new PriorityQueue<>(Comparator.comparingLong { Completion c -> c.end })
+        List<Long> latencies = []
+        for (int i = 0; i < requests; i++) {
+            long now = i * interArrival
+            while (!inFlight.isEmpty() && inFlight.peek().end <= now) {
+                Completion completion = inFlight.poll()
+                if (balancer instanceof LoadAwareLoadBalancer) {
+                    balancer.requestCompleted(completion.instance, completion.end - completion.start, null)
+                }
+            }
+            ServiceInstance instance = Mono.from(balancer.select()).block()
+            if (balancer instanceof LoadAwareLoadBalancer) {
+                balancer.requestStarted(instance)
+            }
+            long begin = Math.max(now, freeAt.getOrDefault(instance.URI, 0L))
+            long end = begin + TimeUnit.MILLISECONDS.toNanos(SERVICE_TIMES[instance.URI])
+            freeAt[instance.URI] = end
+            inFlight.add(new Completion(instance: instance, start: now, end: end))
+            latencies << end - now
+        }
+        latencies.sort()
+        return TimeUnit.NANOSECONDS.toMillis(latencies[(int) (requests * 0.99)])
+    }
+
+    private static ServiceInstanceList instanceList(List<ServiceInstance> instances) {
+        return new ServiceInstanceList() {
+            @Override
+            String getID() {
+                return 'test'
+            }
+
+            @Override
+            List<ServiceInstance> getInstances() {
+                return instances
+            }
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'LoadAwareLoadBalancerSpec')
+    @Controller('/load-aware')
+    static class LoadAwareController {
+        @Get
+        String index() {
+            'ok'
+        }
+
+        @Get('/json')
+        Map<String, String> json() {
+            [status: 'ok']
+        }
+    }
+
+    static class Completion {
+        ServiceInstance instance
+        long start
+        long end
+    }
+}
@@ -47,6 +47,7 @@ public class DefaultEventLoopGroupFactory implements EventLoopGroupFactory {
 
     private final EventLoopGroupFactory nativeFactory;
     private final EventLoopGroupFactory defaultFactory;
+    private final EventLoopGroupFactory ioUringFactory;
 
     /**
      * Default constructor.
@@ -65,13 +66,30 @@ public class DefaultEventLoopGroupFactory implements EventLoopGroupFactory {
      * @param nativeFactory The native factory if available
      * @param nettyGlobalConfiguration The netty global configuration
      */
+    public DefaultEventLoopGroupFactory(
+            NioEventLoopGroupFactory nioEventLoopGroupFactory,
+            @Nullable @Named(EventLoopGroupFactory.NATIVE) EventLoopGroupFactory nativeFactory,
+            @Nullable NettyGlobalConfiguration nettyGlobalConfiguration) {
+        this(nioEventLoopGroupFactory, nativeFactory, null, nettyGlobalConfiguration);
+    }
+
+    /**
+     * Default constructor.
+     * @param nioEventLoopGroupFactory The NIO factory
+     * @param nativeFactory The native factory if available
+     * @param ioUringFactory The io_uring factory if available
+     * @param nettyGlobalConfiguration The netty global configuration
+     * @since 3.8.0
+     */
     @Inject
     public DefaultEventLoopGroupFactory(
             NioEventLoopGroupFactory nioEventLoopGroupFactory,
             @Nullable @Named(EventLoopGroupFactory.NATIVE) EventLoopGroupFactory nativeFactory,
+            @Nullable @Named(EventLoopGroupFactory.IO_URING) EventLoopGroupFactory ioUringFactory,
             @Nullable NettyGlobalConfiguration nettyGlobalConfiguration) {
         this.defaultFactory = nioEventLoopGroupFactory;
         this.nativeFactory = nativeFactory != null ? nativeFactory : defaultFactory;
+        this.ioUringFactory = ioUringFactory;
         if (nettyGlobalConfiguration != null && nettyGlobalConfiguration.getResourceLeakDetectorLevel() != null) {
             ResourceLeakDetector.setLevel(nettyGlobalConfiguration.getResourceLeakDetectorLevel());
         }
@@ -134,7 +152,9 @@ public class DefaultEventLoopGroupFactory implements EventLoopGroupFactory {
     }
 
     private EventLoopGroupFactory getFactory(@Nullable EventLoopGroupConfiguration configuration) {
-        if (configuration != null && configuration.isPreferNativeTransport()) {
+        if (configuration != null && configuration.isPreferIoUringTransport() && ioUringFactory != null) {
+            return this.ioUringFactory;
+        } else if (configuration != null && configuration.isPreferNativeTransport()) {
             return this.nativeFactory;
         } else {
             return this.defaultFactory;
@@ -74,6 +74,14 @@ public interface EventLoopGroupConfiguration extends Named {
      */
     boolean isPreferNativeTransport();
 
+    /**
+     * @return Whether to prefer the io_uring transport when it is available, over the native transport
+     * @since 3.8.0
+     */
+    default boolean isPreferIoUringTransport() {
+        return false;
+    }
+
     /**
      * @return The shutdown quiet period
      */
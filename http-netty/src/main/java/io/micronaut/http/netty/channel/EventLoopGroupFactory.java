@@ -40,6 +40,13 @@ public interface EventLoopGroupFactory {
      */
     String NATIVE = "native";
 
+    /**
+     * Qualifier used to resolve the io_uring factory.
+     *
+     * @since 3.8.0
+     */
+    String IO_URING = "io_uring";
+
     /**
      * @return Is this a native factory.
      */
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.netty.channel;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.condition.Condition;
+import io.micronaut.context.condition.ConditionContext;
+import io.micronaut.context.env.Environment;
+import io.micronaut.core.annotation.Internal;
+import io.netty.incubator.channel.uring.IOUring;
+
+/**
+ * Checks if io_uring is available and preferred by at least one event loop group, see
+ * {@link EventLoopGroupConfiguration#isPreferIoUringTransport()}.
+ *
+ * @since 3.8.0
+ */
+@Internal
+public class IOUringPreferredCondition implements Condition {
+
+    private static final String PREFER_IO_URING_TRANSPORT = "prefer-io-uring-transport";
+
+    /**
+     * Checks if netty's io_uring native transport is available and configured for an event loop group.
+     *
+     * @param context The ConditionContext.
+     * @return true if an event loop group uses the io_uring native transport.
+     */
+    @Override
+    public boolean matches(ConditionContext context) {
+        BeanContext beanContext = context.getBeanContext();
+        if (!(beanContext instanceof ApplicationContext) || !IOUring.isAvailable()) {
+            return false;
+        }
+        Environment environment = ((ApplicationContext) beanContext).getEnvironment();
+        for (String name : environment.getPropertyEntries(EventLoopGroupConfiguration.EVENT_LOOPS)) {
+            String property = EventLoopGroupConfiguration.EVENT_LOOPS + '.' + name + '.' + PREFER_IO_URING_TRANSPORT;
+            if (environment.getProperty(property, Boolean.class).orElse(false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
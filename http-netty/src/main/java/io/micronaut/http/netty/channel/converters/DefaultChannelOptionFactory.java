@@ -32,7 +32,7 @@ import java.util.Optional;
  * @author croudet
  */
 @Internal
-@Requires(missingBeans = { EpollChannelOptionFactory.class, KQueueChannelOptionFactory.class })
+@Requires(missingBeans = { EpollChannelOptionFactory.class, KQueueChannelOptionFactory.class, IOUringChannelOptionFactory.class })
 @Singleton
 @TypeHint(value = ChannelOption.class, accessType = TypeHint.AccessType.ALL_DECLARED_FIELDS)
 public class DefaultChannelOptionFactory implements ChannelOptionFactory {
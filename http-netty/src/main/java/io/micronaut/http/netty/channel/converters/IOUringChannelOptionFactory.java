@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.netty.channel.converters;
+
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.env.Environment;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.netty.channel.IOUringPreferredCondition;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.unix.UnixChannelOption;
+import io.netty.incubator.channel.uring.IOUring;
+import io.netty.incubator.channel.uring.IOUringChannelOption;
+import jakarta.inject.Singleton;
+
+/**
+ * Creates channel options for the io_uring transport. Options shared with the epoll transport, such as
+ * {@code TCP_QUICKACK}, resolve to the io_uring variant when an event loop group prefers the io_uring transport and
+ * it is available. Otherwise the epoll options remain in use.
+ *
+ * @since 3.8.0
+ */
+@Internal
+@Singleton
+@Requires(classes = IOUring.class, condition = IOUringPreferredCondition.class)
+@Replaces(EpollChannelOptionFactory.class)
+public class IOUringChannelOptionFactory implements ChannelOptionFactory {
+
+    static {
+        // force loading the class for the channelOption to work
+        IOUringChannelOption.TCP_QUICKACK.name();
+    }
+
+    @Override
+    public ChannelOption<?> channelOption(String name) {
+        return DefaultChannelOptionFactory.channelOption(name, IOUringChannelOption.class, UnixChannelOption.class);
+    }
+
+    @Override
+    public Object convertValue(ChannelOption<?> option, Object value, Environment env) {
+        return DefaultChannelOptionFactory.convertValue(option, IOUringChannelOption.class, value, env);
+    }
+
+}
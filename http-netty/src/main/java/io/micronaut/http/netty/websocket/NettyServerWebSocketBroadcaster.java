@@ -22,6 +22,9 @@ import io.micronaut.websocket.WebSocketBroadcaster;
 import io.micronaut.websocket.WebSocketSession;
 import io.micronaut.websocket.exceptions.WebSocketSessionException;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.EventLoop;
 import io.netty.channel.group.ChannelGroupException;
 import io.netty.handler.codec.http.websocketx.WebSocketFrame;
 import io.netty.util.Attribute;
@@ -31,7 +34,12 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
 
 import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
 /**
@@ -98,6 +106,88 @@ public class NettyServerWebSocketBroadcaster implements WebSocketBroadcaster {
         }, FluxSink.OverflowStrategy.BUFFER);
     }
 
+    @Override
+    public <T> Publisher<T> broadcastToTopic(T message, MediaType mediaType, String topic) {
+        return Flux.create(emitter -> {
+            try {
+                Map<EventLoop, List<Channel>> subscribersByLoop = new HashMap<>();
+                for (Channel channel : webSocketSessionRepository.getSubscribers(topic)) {
+                    subscribersByLoop.computeIfAbsent(channel.eventLoop(), loop -> new ArrayList<>()).add(channel);
+                }
+                TopicBroadcast<T> broadcast = new TopicBroadcast<>(message, emitter);
+                if (!subscribersByLoop.isEmpty()) {
+                    WebSocketFrame frame = webSocketMessageEncoder.encodeMessage(message, mediaType);
+                    try {
+                        for (Map.Entry<EventLoop, List<Channel>> entry : subscribersByLoop.entrySet()) {
+                            writeOnEventLoop(entry.getKey(), entry.getValue(), frame, broadcast);
+                        }
+                    } finally {
+                        frame.release();
+                    }
+                }
+                broadcast.complete();
+            } catch (Throwable e) {
+                emitter.error(new WebSocketSessionException("Broadcast Failure: " + e.getMessage(), e));
+            }
+        }, FluxSink.OverflowStrategy.BUFFER);
+    }
+
+    @Override
+    public void subscribe(WebSocketSession session, String topic) {
+        webSocketSessionRepository.subscribe(toChannel(session), topic);
+    }
+
+    @Override
+    public void unsubscribe(WebSocketSession session, String topic) {
+        webSocketSessionRepository.unsubscribe(toChannel(session), topic);
+    }
+
+    /**
+     * Write the frame to all the given channels of an event loop in a single task, flushing once all the writes are
+     * queued. Each channel receives a retained duplicate of the frame so it is only encoded once.
+     */
+    private void writeOnEventLoop(EventLoop eventLoop, List<Channel> channels, WebSocketFrame frame, TopicBroadcast<?> broadcast) {
+        broadcast.expect(channels.size());
+        frame.retain();
+        Runnable task = () -> {
+            try {
+                for (Channel channel : channels) {
+                    if (isOpenSession(channel)) {
+                        channel.write(frame.retainedDuplicate()).addListener(broadcast);
+                    } else {
+                        broadcast.skip();
+                    }
+                }
+                for (Channel channel : channels) {
+                    channel.flush();
+                }
+            } finally {
+                frame.release();
+            }
+        };
+        try {
+            eventLoop.execute(task);
+        } catch (Throwable e) {
+            // the event loop is shutting down, the channels are being closed
+            frame.release();
+            for (int i = 0; i < channels.size(); i++) {
+                broadcast.skip();
+            }
+        }
+    }
+
+    private static Channel toChannel(WebSocketSession session) {
+        if (session instanceof NettyWebSocketSession) {
+            return ((NettyWebSocketSession) session).getChannel();
+        }
+        throw new IllegalArgumentException("Not a Netty WebSocket session: " + session);
+    }
+
+    private static boolean isOpenSession(Channel channel) {
+        NettyWebSocketSession session = channel.attr(NettyWebSocketSession.WEB_SOCKET_SESSION_KEY).get();
+        return session != null && session.isOpen();
+    }
+
     /**
      * Attempt to extract a single failure from a failure of {@link io.netty.channel.group.ChannelGroup#write}
      * exception. {@link io.netty.channel.group.ChannelGroup} aggregates exceptions into a {@link ChannelGroupException}
@@ -131,4 +221,57 @@ public class NettyServerWebSocketBroadcaster implements WebSocketBroadcaster {
             return failure;
         }
     }
+
+    /**
+     * Tracks the writes of a topic broadcast and completes the emitter once all of them finished.
+     *
+     * @param <T> The message type
+     */
+    private final class TopicBroadcast<T> implements ChannelFutureListener {
+        private final T message;
+        private final FluxSink<T> emitter;
+        // one extra for the scheduling of the writes, released by complete()
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        TopicBroadcast(T message, FluxSink<T> emitter) {
+            this.message = message;
+            this.emitter = emitter;
+        }
+
+        void expect(int writes) {
+            pending.addAndGet(writes);
+        }
+
+        void skip() {
+            done();
+        }
+
+        void complete() {
+            done();
+        }
+
+        @Override
+        public void operationComplete(ChannelFuture future) {
+            if (!future.isSuccess()) {
+                Throwable cause = extractBroadcastFailure(future.cause());
+                if (cause != null) {
+                    failure.compareAndSet(null, cause);
+                }
+            }
+            done();
+        }
+
+        private void done() {
+            if (pending.decrementAndGet() == 0) {
+                Throwable cause = failure.get();
+                if (cause != null) {
+                    emitter.error(new WebSocketSessionException("Broadcast Failure: " + cause.getMessage(), cause));
+                } else {
+                    emitter.next(message);
+                    emitter.complete();
+                }
+            }
+        }
+    }
 }
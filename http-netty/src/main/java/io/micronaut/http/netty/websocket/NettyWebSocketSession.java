@@ -95,6 +95,13 @@ public class NettyWebSocketSession implements WebSocketSession {
         this.attributes = request.getAttribute("micronaut.SESSION", MutableConvertibleValues.class).orElseGet(MutableConvertibleValuesMap::new);
     }
 
+    /**
+     * @return The channel of the session
+     */
+    Channel getChannel() {
+        return channel;
+    }
+
     @Override
     public String getId() {
         return id;
@@ -149,7 +156,7 @@ public class NettyWebSocketSession implements WebSocketSession {
                 if (message instanceof WebSocketFrame) {
                     frame = (WebSocketFrame) message;
                 } else {
-                    frame = messageEncoder.encodeMessage(message, mediaType);
+                    frame = messageEncoder.encodeMessage(message, mediaType, channel.alloc());
                 }
                 channel.writeAndFlush(frame).addListener(f -> {
                     if (f.isSuccess()) {
@@ -176,7 +183,7 @@ public class NettyWebSocketSession implements WebSocketSession {
                     if (message instanceof WebSocketFrame) {
                         frame = (WebSocketFrame) message;
                     } else {
-                        frame = messageEncoder.encodeMessage(message, mediaType);
+                        frame = messageEncoder.encodeMessage(message, mediaType, channel.alloc());
                     }
                     channel.writeAndFlush(frame).sync().get();
                 } catch (InterruptedException e) {
@@ -204,7 +211,7 @@ public class NettyWebSocketSession implements WebSocketSession {
                 if (message instanceof WebSocketFrame) {
                     frame = (WebSocketFrame) message;
                 } else {
-                    frame = messageEncoder.encodeMessage(message, mediaType);
+                    frame = messageEncoder.encodeMessage(message, mediaType, channel.alloc());
                 }
 
                 ChannelFuture channelFuture = channel.writeAndFlush(frame);
@@ -16,20 +16,29 @@
 package io.micronaut.http.netty.websocket;
 
 import io.micronaut.buffer.netty.NettyByteBufferFactory;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.reflect.ClassUtils;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.codec.MediaTypeCodec;
 import io.micronaut.http.codec.MediaTypeCodecRegistry;
 import io.micronaut.websocket.exceptions.WebSocketSessionException;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
-import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -41,13 +50,33 @@ import java.util.Optional;
 @Singleton
 public class WebSocketMessageEncoder {
 
+    /**
+     * The number of encoded frames to keep per message instance. Disabled by default.
+     *
+     * @since 3.8.0
+     */
+    public static final String FRAME_CACHE_SIZE = "micronaut.websocket.encoder.frame-cache-size";
+
     private final MediaTypeCodecRegistry codecRegistry;
+    private final FrameCache frameCache;
 
     /**
      * @param codecRegistry The codec registry
      */
     public WebSocketMessageEncoder(MediaTypeCodecRegistry codecRegistry) {
+        this(codecRegistry, 0);
+    }
+
+    /**
+     * @param codecRegistry  The codec registry
+     * @param frameCacheSize The maximum number of encoded messages to cache, or 0 to disable the cache
+     * @since 3.8.0
+     */
+    @Inject
+    public WebSocketMessageEncoder(MediaTypeCodecRegistry codecRegistry,
+                                   @Value("${" + FRAME_CACHE_SIZE + ":0}") int frameCacheSize) {
         this.codecRegistry = codecRegistry;
+        this.frameCache = frameCacheSize > 0 ? new FrameCache(frameCacheSize) : null;
     }
 
     /**
@@ -57,22 +86,148 @@ public class WebSocketMessageEncoder {
      * @return The encoded frame
      */
     public WebSocketFrame encodeMessage(Object message, MediaType mediaType) {
+        return encodeMessage(message, mediaType, ByteBufAllocator.DEFAULT);
+    }
+
+    /**
+     * Encode the given message with the given media type, allocating buffers from the given allocator.
+     *
+     * <p>If the frame cache is enabled, messages encoded with a codec are cached by identity so that the same
+     * message instance is only serialized once. Such messages must not be mutated after they have been sent.</p>
+     *
+     * @param message The message
+     * @param mediaType The media type
+     * @param allocator The allocator, usually the allocator of the channel the frame is written to
+     * @return The encoded frame
+     * @since 3.8.0
+     */
+    public WebSocketFrame encodeMessage(Object message, MediaType mediaType, @NonNull ByteBufAllocator allocator) {
         if (message instanceof byte[]) {
             return new BinaryWebSocketFrame(Unpooled.wrappedBuffer((byte[]) message));
         } else if (ClassUtils.isJavaLangType(message.getClass()) || message instanceof CharSequence) {
             String s = message.toString();
-            return new TextWebSocketFrame(s);
+            return new TextWebSocketFrame(ByteBufUtil.writeUtf8(allocator, s));
         } else if (message instanceof ByteBuf) {
             return new BinaryWebSocketFrame(((ByteBuf) message).slice());
         } else if (message instanceof ByteBuffer) {
             return new BinaryWebSocketFrame(Unpooled.wrappedBuffer((ByteBuffer) message));
         } else {
-            Optional<MediaTypeCodec> codec = codecRegistry.findCodec(mediaType != null ? mediaType : MediaType.APPLICATION_JSON_TYPE);
+            MediaType type = mediaType != null ? mediaType : MediaType.APPLICATION_JSON_TYPE;
+            if (frameCache != null) {
+                ByteBuf cached = frameCache.get(message, type);
+                if (cached != null) {
+                    return new TextWebSocketFrame(cached);
+                }
+            }
+            Optional<MediaTypeCodec> codec = codecRegistry.findCodec(type);
             if (codec.isPresent()) {
-                io.micronaut.core.io.buffer.ByteBuffer encoded = codec.get().encode(message, new NettyByteBufferFactory(UnpooledByteBufAllocator.DEFAULT));
-                return new TextWebSocketFrame((ByteBuf) encoded.asNativeBuffer());
+                io.micronaut.core.io.buffer.ByteBuffer encoded = codec.get().encode(message, new NettyByteBufferFactory(allocator));
+                ByteBuf buffer = (ByteBuf) encoded.asNativeBuffer();
+                if (frameCache != null) {
+                    frameCache.put(message, type, buffer);
+                }
+                return new TextWebSocketFrame(buffer);
             }
         }
         throw new WebSocketSessionException("Unable to encode WebSocket message: " + message);
     }
+
+    /**
+     * Release the cached frames.
+     *
+     * @since 3.8.0
+     */
+    @PreDestroy
+    void close() {
+        if (frameCache != null) {
+            frameCache.clear();
+        }
+    }
+
+    /**
+     * A small LRU cache of encoded messages keyed by message identity. The cache holds a reference to each cached
+     * buffer and hands out retained duplicates. Messages are only weakly referenced, and the frames of messages that
+     * have been garbage collected are released on the next access.
+     */
+    private static final class FrameCache {
+        private final Map<MessageKey, ByteBuf> frames;
+        private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+        FrameCache(int maxSize) {
+            this.frames = new LinkedHashMap<MessageKey, ByteBuf>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<MessageKey, ByteBuf> eldest) {
+                    if (size() > maxSize) {
+                        eldest.getValue().release();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized ByteBuf get(Object message, MediaType mediaType) {
+            purge();
+            ByteBuf buffer = frames.get(new MessageKey(message, mediaType, null));
+            return buffer == null ? null : buffer.retainedDuplicate();
+        }
+
+        synchronized void put(Object message, MediaType mediaType, ByteBuf buffer) {
+            purge();
+            ByteBuf previous = frames.put(new MessageKey(message, mediaType, collected), buffer.retainedDuplicate());
+            if (previous != null) {
+                previous.release();
+            }
+        }
+
+        synchronized void clear() {
+            for (ByteBuf buffer : frames.values()) {
+                buffer.release();
+            }
+            frames.clear();
+        }
+
+        private void purge() {
+            Object key;
+            while ((key = collected.poll()) != null) {
+                ByteBuf buffer = frames.remove(key);
+                if (buffer != null) {
+                    buffer.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Cache key comparing the message by identity, without keeping it reachable.
+     */
+    private static final class MessageKey extends WeakReference<Object> {
+        private final MediaType mediaType;
+        private final int hashCode;
+
+        MessageKey(Object message, MediaType mediaType, ReferenceQueue<Object> queue) {
+            super(message, queue);
+            this.mediaType = mediaType;
+            this.hashCode = 31 * System.identityHashCode(message) + mediaType.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            MessageKey that = (MessageKey) o;
+            Object message = get();
+            // a collected message only equals its own key
+            return message != null && message == that.get() && mediaType.equals(that.mediaType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -18,6 +18,10 @@ package io.micronaut.http.netty.websocket;
 import io.netty.channel.Channel;
 import io.netty.channel.group.ChannelGroup;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Defines a ChannelGroup repository to handle WebSockets.
  *
@@ -43,4 +47,44 @@ public interface WebSocketSessionRepository {
      * @return A {@link io.netty.channel.group.ChannelGroup}
      */
     ChannelGroup getChannelGroup();
+
+    /**
+     * Subscribe a channel to a topic. Removing the channel from the repository also removes its subscriptions.
+     *
+     * @param channel The channel
+     * @param topic The topic
+     * @since 3.8.0
+     */
+    default void subscribe(Channel channel, String topic) {
+        WebSocketTopicIndex.addTopic(channel, topic);
+    }
+
+    /**
+     * Unsubscribe a channel from a topic.
+     *
+     * @param channel The channel
+     * @param topic The topic
+     * @since 3.8.0
+     */
+    default void unsubscribe(Channel channel, String topic) {
+        WebSocketTopicIndex.removeTopic(channel, topic);
+    }
+
+    /**
+     * Returns the channels subscribed to the given topic. By default every channel of the
+     * {@link #getChannelGroup() channel group} is visited, repositories should index the subscriptions instead.
+     *
+     * @param topic The topic
+     * @return The subscribed channels, possibly including channels that have been closed in the meantime
+     * @since 3.8.0
+     */
+    default Collection<Channel> getSubscribers(String topic) {
+        List<Channel> subscribers = new ArrayList<>();
+        for (Channel channel : getChannelGroup()) {
+            if (WebSocketTopicIndex.isSubscribed(channel, topic)) {
+                subscribers.add(channel);
+            }
+        }
+        return subscribers;
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.netty.websocket;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the channels subscribed to each WebSocket topic, used by {@link WebSocketSessionRepository}
+ * implementations so that broadcasting to a topic does not need to visit every open channel. The topics of a channel
+ * are also held in an attribute of the channel, which the static methods read without the index.
+ *
+ * @since 3.8.0
+ */
+@Internal
+public final class WebSocketTopicIndex {
+
+    private static final AttributeKey<Set<String>> TOPICS_KEY = AttributeKey.newInstance("micronaut.websocket.topics");
+    // the topics of a channel removed from the index, compared by identity
+    private static final Set<String> REMOVED = Collections.unmodifiableSet(new HashSet<>());
+
+    private final Map<String, Set<Channel>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * Subscribe a channel to a topic.
+     *
+     * @param channel The channel
+     * @param topic The topic
+     */
+    public void subscribe(Channel channel, String topic) {
+        Set<String> topics = addTopic(channel, topic);
+        if (topics == null) {
+            return;
+        }
+        subscribers.compute(topic, (key, channels) -> {
+            if (channels == null) {
+                channels = ConcurrentHashMap.newKeySet();
+            }
+            channels.add(channel);
+            return channels;
+        });
+        // a concurrent removal of the channel may have missed this subscription
+        if (!channel.isActive() || channel.attr(TOPICS_KEY).get() != topics) {
+            removeSubscriber(channel, topic);
+        }
+    }
+
+    /**
+     * Unsubscribe a channel from a topic.
+     *
+     * @param channel The channel
+     * @param topic The topic
+     */
+    public void unsubscribe(Channel channel, String topic) {
+        removeTopic(channel, topic);
+        removeSubscriber(channel, topic);
+    }
+
+    /**
+     * Remove all the subscriptions of a channel.
+     *
+     * @param channel The channel
+     */
+    public void remove(Channel channel) {
+        Set<String> topics = channel.attr(TOPICS_KEY).getAndSet(REMOVED);
+        if (topics != null) {
+            for (String topic : topics) {
+                removeSubscriber(channel, topic);
+            }
+        }
+    }
+
+    /**
+     * @param topic The topic
+     * @return The channels subscribed to the topic
+     */
+    public Collection<Channel> getSubscribers(String topic) {
+        Set<Channel> channels = subscribers.get(topic);
+        return channels == null ? Collections.emptySet() : Collections.unmodifiableSet(channels);
+    }
+
+    /**
+     * Add a topic to the topics of a channel, without indexing the channel.
+     *
+     * @param channel The channel
+     * @param topic The topic
+     * @return The topics of the channel, or null if the channel has been removed from an index
+     */
+    @Nullable
+    public static Set<String> addTopic(Channel channel, String topic) {
+        Set<String> topics = channel.attr(TOPICS_KEY).get();
+        if (topics == null) {
+            Set<String> newTopics = ConcurrentHashMap.newKeySet();
+            topics = channel.attr(TOPICS_KEY).setIfAbsent(newTopics);
+            if (topics == null) {
+                topics = newTopics;
+            }
+        }
+        if (topics == REMOVED) {
+            return null;
+        }
+        topics.add(topic);
+        return topics;
+    }
+
+    /**
+     * Remove a topic from the topics of a channel, without updating an index.
+     *
+     * @param channel The channel
+     * @param topic The topic
+     */
+    public static void removeTopic(Channel channel, String topic) {
+        Set<String> topics = channel.attr(TOPICS_KEY).get();
+        if (topics != null && topics != REMOVED) {
+            topics.remove(topic);
+        }
+    }
+
+    /**
+     * @param channel The channel
+     * @param topic The topic
+     * @return Whether the channel is subscribed to the topic
+     */
+    public static boolean isSubscribed(Channel channel, String topic) {
+        Set<String> topics = channel.attr(TOPICS_KEY).get();
+        return topics != null && topics.contains(topic);
+    }
+
+    private void removeSubscriber(Channel channel, String topic) {
+        subscribers.computeIfPresent(topic, (key, channels) -> {
+            channels.remove(channel);
+            return channels.isEmpty() ? null : channels;
+        });
+    }
+}
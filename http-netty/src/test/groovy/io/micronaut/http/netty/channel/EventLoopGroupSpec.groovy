@@ -3,10 +3,25 @@ package io.micronaut.http.netty.channel
 import io.micronaut.context.ApplicationContext
 import io.micronaut.context.DefaultApplicationContext
 import io.micronaut.context.env.PropertySource
+import io.micronaut.http.netty.channel.converters.ChannelOptionFactory
+import io.micronaut.http.netty.channel.converters.EpollChannelOptionFactory
+import io.micronaut.http.netty.channel.converters.IOUringChannelOptionFactory
 import io.micronaut.inject.qualifiers.Qualifiers
+import io.netty.channel.ChannelOption
 import io.netty.channel.EventLoopGroup
+import io.netty.channel.epoll.Epoll
+import io.netty.channel.epoll.EpollChannelOption
+import io.netty.channel.nio.NioEventLoopGroup
+import io.netty.channel.socket.nio.NioServerSocketChannel
+import io.netty.channel.unix.UnixChannelOption
+import io.netty.incubator.channel.uring.IOUring
+import io.netty.incubator.channel.uring.IOUringChannelOption
+import io.netty.incubator.channel.uring.IOUringEventLoopGroup
+import io.netty.incubator.channel.uring.IOUringServerSocketChannel
+import io.netty.incubator.channel.uring.IOUringSocketChannel
 import io.netty.util.NettyRuntime
 import io.netty.util.ResourceLeakDetector
+import spock.lang.IgnoreIf
 import spock.lang.Specification
 
 import java.time.Duration
@@ -145,4 +160,73 @@ class EventLoopGroupSpec extends Specification {
         config.shutdownQuietPeriod == Duration.ofMillis(10)
         config.shutdownTimeout == Duration.ofMillis(500)
     }
+
+    void "test configure io_uring transport preference"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.netty.event-loops.default.prefer-io-uring-transport': true
+        )
+
+        expect:
+        context.getBean(DefaultEventLoopGroupConfiguration).preferIoUringTransport
+        !new DefaultEventLoopGroupConfiguration().preferIoUringTransport
+
+        cleanup:
+        context.close()
+    }
+
+    @IgnoreIf({ !IOUring.isAvailable() })
+    void "test io_uring transport is used when preferred"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.netty.event-loops.default.prefer-io-uring-transport': true,
+                'micronaut.netty.event-loops.other.num-threads': 1
+        )
+        EventLoopGroupFactory factory = context.getBean(EventLoopGroupFactory)
+        EventLoopGroupConfiguration config = context.getBean(EventLoopGroupConfiguration)
+        EventLoopGroupConfiguration other = context.getBean(EventLoopGroupConfiguration, Qualifiers.byName('other'))
+
+        expect:
+        context.getBean(EventLoopGroup) instanceof IOUringEventLoopGroup
+        factory.serverSocketChannelClass(config) == IOUringServerSocketChannel
+        factory.clientSocketChannelInstance(config) instanceof IOUringSocketChannel
+        context.getBean(EventLoopGroup, Qualifiers.byName('other')) instanceof NioEventLoopGroup
+        factory.serverSocketChannelClass(other) == NioServerSocketChannel
+
+        cleanup:
+        context.close()
+    }
+
+    @IgnoreIf({ !IOUring.isAvailable() })
+    void "test io_uring channel option conversion"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.netty.event-loops.default.prefer-io-uring-transport': true
+        )
+        ChannelOptionFactory channelOptionFactory = context.getBean(ChannelOptionFactory)
+
+        expect:
+        channelOptionFactory instanceof IOUringChannelOptionFactory
+        channelOptionFactory.channelOption("TCP_QUICKACK") == IOUringChannelOption.TCP_QUICKACK
+        channelOptionFactory.channelOption("DOMAIN_SOCKET_READ_MODE") == UnixChannelOption.DOMAIN_SOCKET_READ_MODE
+        channelOptionFactory.channelOption("SO_BACKLOG") == ChannelOption.SO_BACKLOG
+
+        cleanup:
+        context.close()
+    }
+
+    @IgnoreIf({ !IOUring.isAvailable() || !Epoll.isAvailable() })
+    void "test epoll channel options apply when io_uring is available but not preferred"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        ChannelOptionFactory channelOptionFactory = context.getBean(ChannelOptionFactory)
+
+        expect:
+        channelOptionFactory instanceof EpollChannelOptionFactory
+        channelOptionFactory.channelOption("EPOLL_MODE") == EpollChannelOption.EPOLL_MODE
+        channelOptionFactory.channelOption("TCP_QUICKACK") == EpollChannelOption.TCP_QUICKACK
+
+        cleanup:
+        context.close()
+    }
 }
@@ -1,11 +1,18 @@
 package io.micronaut.http.netty.websocket
 
+import io.micronaut.context.ApplicationContext
 import io.micronaut.http.MediaType
+import io.micronaut.http.codec.MediaTypeCodecRegistry
+import io.netty.buffer.ByteBufAllocator
 import io.netty.buffer.ByteBufUtil
+import io.netty.buffer.PooledByteBufAllocator
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame
 import io.netty.handler.codec.http.websocketx.WebSocketFrame
 import spock.lang.Issue
 import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.lang.ref.WeakReference
 
 class WebSocketMessageEncoderSpec extends Specification {
 
@@ -20,4 +27,105 @@ class WebSocketMessageEncoderSpec extends Specification {
         frame instanceof TextWebSocketFrame
         new String(ByteBufUtil.getBytes(frame.content())) == "2"
     }
+
+    void "test messages are encoded with the given allocator"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        WebSocketMessageEncoder encoder = new WebSocketMessageEncoder(context.getBean(MediaTypeCodecRegistry))
+        ByteBufAllocator allocator = new PooledByteBufAllocator()
+
+        when:
+        WebSocketFrame text = encoder.encodeMessage("hello", MediaType.TEXT_PLAIN_TYPE, allocator)
+        WebSocketFrame json = encoder.encodeMessage([greeting: "hello"], MediaType.APPLICATION_JSON_TYPE, allocator)
+
+        then:
+        text.content().alloc().is(allocator)
+        new String(ByteBufUtil.getBytes(text.content())) == "hello"
+        json.content().alloc().is(allocator)
+        new String(ByteBufUtil.getBytes(json.content())) == '{"greeting":"hello"}'
+
+        cleanup:
+        text?.release()
+        json?.release()
+        context.close()
+    }
+
+    void "test the frame cache encodes the same message instance once"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        MediaTypeCodecRegistry delegate = context.getBean(MediaTypeCodecRegistry)
+        int lookups = 0
+        MediaTypeCodecRegistry registry = Stub(MediaTypeCodecRegistry) {
+            findCodec(_ as MediaType) >> { MediaType type -> lookups++; delegate.findCodec(type) }
+        }
+        WebSocketMessageEncoder encoder = new WebSocketMessageEncoder(registry, 2)
+        Map<String, String> message = [greeting: "hello"]
+
+        when:
+        WebSocketFrame first = encoder.encodeMessage(message, MediaType.APPLICATION_JSON_TYPE)
+        WebSocketFrame second = encoder.encodeMessage(message, MediaType.APPLICATION_JSON_TYPE)
+
+        then:
+        lookups == 1
+        new String(ByteBufUtil.getBytes(first.content())) == '{"greeting":"hello"}'
+        new String(ByteBufUtil.getBytes(second.content())) == '{"greeting":"hello"}'
+
+        when: "an equal but different instance is encoded"
+        WebSocketFrame third = encoder.encodeMessage([greeting: "hello"], MediaType.APPLICATION_JSON_TYPE)
+
+        then:
+        lookups == 2
+        new String(ByteBufUtil.getBytes(third.content())) == '{"greeting":"hello"}'
+
+        cleanup:
+        first?.release()
+        second?.release()
+        third?.release()
+        context.close()
+    }
+
+    void "test closing the encoder releases the cached frames"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        WebSocketMessageEncoder encoder = new WebSocketMessageEncoder(context.getBean(MediaTypeCodecRegistry), 2)
+        WebSocketFrame frame = encoder.encodeMessage([greeting: "hello"], MediaType.APPLICATION_JSON_TYPE, new PooledByteBufAllocator())
+        frame.release()
+
+        expect:"the cache still holds the buffer"
+        frame.content().refCnt() == 1
+
+        when:
+        encoder.close()
+
+        then:
+        frame.content().refCnt() == 0
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the frame cache does not keep messages reachable"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        WebSocketMessageEncoder encoder = new WebSocketMessageEncoder(context.getBean(MediaTypeCodecRegistry), 2)
+
+        when:
+        WeakReference<Object> message = encodeAndForget(encoder)
+
+        then:
+        new PollingConditions(timeout: 10).eventually {
+            System.gc()
+            assert message.get() == null
+        }
+
+        cleanup:
+        encoder.close()
+        context.close()
+    }
+
+    private static WeakReference<Object> encodeAndForget(WebSocketMessageEncoder encoder) {
+        Map<String, String> message = [greeting: "hello"]
+        encoder.encodeMessage(message, MediaType.APPLICATION_JSON_TYPE).release()
+        return new WeakReference<Object>(message)
+    }
 }
@@ -0,0 +1,89 @@
+package io.micronaut.http.netty.websocket
+
+import io.netty.channel.Channel
+import io.netty.channel.embedded.EmbeddedChannel
+import io.netty.channel.group.ChannelGroup
+import io.netty.channel.group.DefaultChannelGroup
+import io.netty.util.concurrent.GlobalEventExecutor
+import spock.lang.Specification
+
+class WebSocketTopicIndexSpec extends Specification {
+
+    void "test the subscribers of a topic are indexed"() {
+        given:
+        WebSocketTopicIndex index = new WebSocketTopicIndex()
+        Channel first = new EmbeddedChannel()
+        Channel second = new EmbeddedChannel()
+
+        when:
+        index.subscribe(first, 'a')
+        index.subscribe(second, 'a')
+        index.subscribe(second, 'b')
+        index.unsubscribe(second, 'a')
+
+        then:
+        index.getSubscribers('a') as List == [first]
+        index.getSubscribers('b') as List == [second]
+
+        when:
+        index.remove(second)
+
+        then:
+        index.getSubscribers('b').isEmpty()
+    }
+
+    void "test a subscription after the channel was removed is not indexed"() {
+        given:
+        WebSocketTopicIndex index = new WebSocketTopicIndex()
+        Channel channel = new EmbeddedChannel()
+        index.subscribe(channel, 'a')
+
+        when:"the subscription lands after the removal, while the channel is still active"
+        index.remove(channel)
+        index.subscribe(channel, 'b')
+
+        then:
+        channel.isActive()
+        index.getSubscribers('a').isEmpty()
+        index.getSubscribers('b').isEmpty()
+    }
+
+    void "test a repository without an index finds the subscribers in its channel group"() {
+        given:
+        ChannelGroup group = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE)
+        WebSocketSessionRepository repository = new WebSocketSessionRepository() {
+            @Override
+            void addChannel(Channel channel) {
+                group.add(channel)
+            }
+
+            @Override
+            void removeChannel(Channel channel) {
+                group.remove(channel)
+            }
+
+            @Override
+            ChannelGroup getChannelGroup() {
+                group
+            }
+        }
+        Channel first = new EmbeddedChannel()
+        Channel second = new EmbeddedChannel()
+        repository.addChannel(first)
+        repository.addChannel(second)
+
+        when:
+        repository.subscribe(first, 'a')
+        repository.subscribe(second, 'a')
+        repository.unsubscribe(second, 'a')
+
+        then:
+        repository.getSubscribers('a') as List == [first]
+
+        when:
+        repository.removeChannel(first)
+
+        then:
+        repository.getSubscribers('a').isEmpty()
+    }
+}
@@ -15,14 +15,29 @@
  */
 package io.micronaut.http.server.netty;
 
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.Zstd;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpResponse;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Default implementation of {@link HttpCompressionStrategy}.
@@ -34,8 +49,16 @@ import jakarta.inject.Singleton;
 @Singleton
 class DefaultHttpCompressionStrategy implements HttpCompressionStrategy {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultHttpCompressionStrategy.class);
+    private static final int DEFAULT_BROTLI_QUALITY = 4;
+    private static final int DEFAULT_ZSTD_LEVEL = 3;
+    private static final int ZSTD_BLOCK_SIZE = 1 << 16;
+    private static final int ZSTD_MAX_ENCODE_SIZE = 1 << 25;
+
     private final int compressionThreshold;
     private final int compressionLevel;
+    private final List<CompressionOptions> compressionOptions;
+    private final List<Rule> rules;
 
     /**
      * @param serverConfiguration The netty server configuration
@@ -44,6 +67,14 @@ class DefaultHttpCompressionStrategy implements HttpCompressionStrategy {
     DefaultHttpCompressionStrategy(NettyHttpServerConfiguration serverConfiguration) {
         this.compressionThreshold = serverConfiguration.getCompressionThreshold();
         this.compressionLevel = serverConfiguration.getCompressionLevel();
+        Map<String, Integer> levels = serverConfiguration.getCompressionLevels();
+        this.compressionOptions = compressionOptions(serverConfiguration.getCompressionEncodings(), levels, Collections.emptyMap());
+        List<Rule> rules = new ArrayList<>(serverConfiguration.getCompressionRules().size());
+        for (NettyHttpServerConfiguration.CompressionRule rule : serverConfiguration.getCompressionRules()) {
+            List<String> encodings = rule.getEncodings() != null ? rule.getEncodings() : serverConfiguration.getCompressionEncodings();
+            rules.add(new Rule(rule.getContentTypes(), compressionOptions(encodings, levels, rule.getLevels())));
+        }
+        this.rules = rules;
     }
 
     /**
@@ -53,6 +84,8 @@ class DefaultHttpCompressionStrategy implements HttpCompressionStrategy {
     DefaultHttpCompressionStrategy(int compressionThreshold, int compressionLevel) {
         this.compressionThreshold = compressionThreshold;
         this.compressionLevel = compressionLevel;
+        this.compressionOptions = compressionOptions(NettyHttpServerConfiguration.DEFAULT_COMPRESSION_ENCODINGS, Collections.emptyMap(), Collections.emptyMap());
+        this.rules = Collections.emptyList();
     }
 
     @Override
@@ -61,13 +94,115 @@ class DefaultHttpCompressionStrategy implements HttpCompressionStrategy {
         String contentType = headers.get(HttpHeaderNames.CONTENT_TYPE);
         Integer contentLength = headers.getInt(HttpHeaderNames.CONTENT_LENGTH);
 
-        return contentType != null &&
-                (contentLength == null || contentLength >= compressionThreshold) &&
-                MediaType.isTextBased(contentType);
+        if (contentType == null || (contentLength != null && contentLength < compressionThreshold)) {
+            return false;
+        }
+        Rule rule = findRule(contentType);
+        if (rule != null) {
+            return !rule.compressionOptions.isEmpty();
+        }
+        return !compressionOptions.isEmpty() && MediaType.isTextBased(contentType);
     }
 
     @Override
     public int getCompressionLevel() {
         return compressionLevel;
     }
+
+    @Override
+    public List<CompressionOptions> getCompressionOptions(HttpResponse response) {
+        String contentType = response.headers().get(HttpHeaderNames.CONTENT_TYPE);
+        Rule rule = contentType != null ? findRule(contentType) : null;
+        return rule != null ? rule.compressionOptions : compressionOptions;
+    }
+
+    @Nullable
+    private Rule findRule(String contentType) {
+        if (rules.isEmpty()) {
+            return null;
+        }
+        String mediaType = normalize(contentType);
+        for (Rule rule : rules) {
+            if (rule.matches(mediaType)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private List<CompressionOptions> compressionOptions(List<String> encodings, Map<String, Integer> levels, Map<String, Integer> ruleLevels) {
+        List<CompressionOptions> options = new ArrayList<>(encodings.size());
+        for (String encoding : encodings) {
+            String name = encoding.trim().toLowerCase(Locale.ENGLISH);
+            Integer level = ruleLevels.get(name);
+            if (level == null) {
+                level = levels.get(name);
+            }
+            switch (name) {
+                case "gzip":
+                    options.add(StandardCompressionOptions.gzip(level != null ? level : compressionLevel, 15, 8));
+                    break;
+                case "deflate":
+                    options.add(StandardCompressionOptions.deflate(level != null ? level : compressionLevel, 15, 8));
+                    break;
+                case "br":
+                    if (Brotli.isAvailable()) {
+                        options.add(BrotliOptionsFactory.brotli(level != null ? level : DEFAULT_BROTLI_QUALITY));
+                    } else if (LOG.isWarnEnabled()) {
+                        LOG.warn("Brotli compression is configured but Brotli4j is not available, the br encoding is disabled");
+                    }
+                    break;
+                case "zstd":
+                    if (Zstd.isAvailable()) {
+                        options.add(StandardCompressionOptions.zstd(level != null ? level : DEFAULT_ZSTD_LEVEL, ZSTD_BLOCK_SIZE, ZSTD_MAX_ENCODE_SIZE));
+                    } else if (LOG.isWarnEnabled()) {
+                        LOG.warn("Zstandard compression is configured but zstd-jni is not available, the zstd encoding is disabled");
+                    }
+                    break;
+                default:
+                    throw new ConfigurationException("Unsupported compression encoding: " + encoding);
+            }
+        }
+        return Collections.unmodifiableList(options);
+    }
+
+    private static String normalize(String contentType) {
+        int i = contentType.indexOf(';');
+        String mediaType = i > -1 ? contentType.substring(0, i) : contentType;
+        return mediaType.trim().toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * The compression options of the responses with matching content types.
+     */
+    private static final class Rule {
+        private final String[] contentTypes;
+        private final List<CompressionOptions> compressionOptions;
+
+        Rule(List<String> contentTypes, List<CompressionOptions> compressionOptions) {
+            this.contentTypes = contentTypes.stream().map(DefaultHttpCompressionStrategy::normalize).toArray(String[]::new);
+            this.compressionOptions = compressionOptions;
+        }
+
+        boolean matches(String mediaType) {
+            for (String contentType : contentTypes) {
+                if (contentType.equals(mediaType) || contentType.equals(MediaType.ALL)) {
+                    return true;
+                }
+                if (contentType.endsWith("/*") && mediaType.regionMatches(0, contentType, 0, contentType.length() - 1)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Isolates the Brotli4j types, which are only loaded when the br encoding is available.
+     */
+    private static final class BrotliOptionsFactory {
+        static CompressionOptions brotli(int quality) {
+            return StandardCompressionOptions.brotli(new Encoder.Parameters().setQuality(quality));
+        }
+    }
 }
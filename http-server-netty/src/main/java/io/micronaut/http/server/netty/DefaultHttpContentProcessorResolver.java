@@ -20,6 +20,7 @@ import io.micronaut.context.BeanProvider;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.io.buffer.ByteBuffer;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.CollectionUtils;
@@ -97,6 +98,12 @@ class DefaultHttpContentProcessorResolver implements HttpContentProcessorResolve
                     }
                     return Argument.OBJECT_ARGUMENT;
                 });
+        if (bodyType.getAnnotationMetadata().hasAnnotation(Body.class) &&
+                !RAW_BODY_TYPES.contains(bodyType.getType()) &&
+                isOnlyUnsatisfiedArgument(route, bodyType)) {
+            // the complete body is bound to a single argument, so it can be decoded directly into the argument type
+            return resolve(request, false, bodyType);
+        }
         return resolve(request, bodyType);
     }
 
@@ -107,16 +114,30 @@ class DefaultHttpContentProcessorResolver implements HttpContentProcessorResolve
             bodyType = bodyType.getFirstTypeVariable().orElse(Argument.OBJECT_ARGUMENT);
         }
         boolean isRaw = RAW_BODY_TYPES.contains(bodyType.getType());
-        return resolve(request, isRaw);
+        return resolve(request, isRaw, null);
     }
 
     @Override
     @NonNull
     public HttpContentProcessor<?> resolve(@NonNull NettyHttpRequest<?> request) {
-        return resolve(request, false);
+        return resolve(request, false, null);
+    }
+
+    private boolean isOnlyUnsatisfiedArgument(RouteMatch<?> route, Argument<?> bodyType) {
+        if (!(route instanceof ExecutionHandle)) {
+            return false;
+        }
+        for (Argument<?> argument : ((ExecutionHandle<?, ?>) route).getArguments()) {
+            String name = argument.getName();
+            if (!name.equals(bodyType.getName()) && !route.isSatisfied(name)) {
+                // other arguments may still be bound from the body
+                return false;
+            }
+        }
+        return true;
     }
 
-    private HttpContentProcessor<?> resolve(NettyHttpRequest<?> request, boolean rawBodyType) {
+    private HttpContentProcessor<?> resolve(NettyHttpRequest<?> request, boolean rawBodyType, @Nullable Argument<?> directBodyType) {
         Supplier<DefaultHttpContentProcessor> defaultHttpContentProcessor = () -> new DefaultHttpContentProcessor(request, getServerConfiguration());
 
         if (rawBodyType) {
@@ -128,7 +149,7 @@ class DefaultHttpContentProcessorResolver implements HttpContentProcessorResolve
                             beanLocator.findBean(HttpContentSubscriberFactory.class,
                                     new ConsumesMediaTypeQualifier<>(type))
                     ).map(factory ->
-                            factory.build(request)
+                            directBodyType != null ? factory.build(request, directBodyType) : factory.build(request)
                     ).orElseGet(defaultHttpContentProcessor);
         }
     }
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty;
+
+import io.micronaut.core.annotation.Internal;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.AbstractEventExecutorGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A share of the event loops of another group. Used to give each acceptor of a listener bound with
+ * {@code SO_REUSEPORT} its own worker loops. The partition does not own the loops, so shutting it down has no effect,
+ * the lifecycle is that of the partitioned group.
+ *
+ * @since 3.8.0
+ */
+@Internal
+final class EventLoopGroupPartition extends AbstractEventExecutorGroup implements EventLoopGroup {
+
+    private final EventLoopGroup group;
+    private final EventLoop[] eventLoops;
+    private final AtomicInteger index = new AtomicInteger();
+
+    private EventLoopGroupPartition(EventLoopGroup group, List<EventLoop> eventLoops) {
+        this.group = group;
+        this.eventLoops = eventLoops.toArray(new EventLoop[0]);
+    }
+
+    /**
+     * Partitions the loops of the given group. If the group has fewer loops than partitions, every partition shares
+     * the whole group.
+     *
+     * @param group      The group
+     * @param partition  The index of the partition
+     * @param partitions The number of partitions
+     * @return The loops of the partition
+     */
+    static EventLoopGroup of(EventLoopGroup group, int partition, int partitions) {
+        List<EventLoop> eventLoops = new ArrayList<>();
+        int i = 0;
+        for (EventExecutor executor : group) {
+            if (!(executor instanceof EventLoop)) {
+                return group;
+            }
+            if (i++ % partitions == partition) {
+                eventLoops.add((EventLoop) executor);
+            }
+        }
+        if (i < partitions) {
+            return group;
+        }
+        return new EventLoopGroupPartition(group, eventLoops);
+    }
+
+    @Override
+    public EventLoop next() {
+        return eventLoops[(index.getAndIncrement() & Integer.MAX_VALUE) % eventLoops.length];
+    }
+
+    @Override
+    public Iterator<EventExecutor> iterator() {
+        List<EventExecutor> executors = new ArrayList<>(eventLoops.length);
+        Collections.addAll(executors, eventLoops);
+        return Collections.unmodifiableList(executors).iterator();
+    }
+
+    @Override
+    public ChannelFuture register(Channel channel) {
+        return next().register(channel);
+    }
+
+    @Override
+    public ChannelFuture register(ChannelPromise promise) {
+        return next().register(promise);
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public ChannelFuture register(Channel channel, ChannelPromise promise) {
+        return next().register(channel, promise);
+    }
+
+    @Override
+    public boolean isShuttingDown() {
+        return group.isShuttingDown();
+    }
+
+    @Override
+    public Future<?> shutdownGracefully(long quietPeriod, long timeout, TimeUnit unit) {
+        return terminationFuture();
+    }
+
+    @Override
+    public Future<?> terminationFuture() {
+        return group.terminationFuture();
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public void shutdown() {
+        // the loops are owned by the partitioned group
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return group.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return group.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return group.awaitTermination(timeout, unit);
+    }
+}
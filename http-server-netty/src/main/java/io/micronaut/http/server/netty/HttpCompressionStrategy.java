@@ -15,8 +15,14 @@
  */
 package io.micronaut.http.server.netty;
 
+import io.micronaut.core.annotation.NonNull;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
 import io.netty.handler.codec.http.HttpResponse;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Determines if a given http message should be compressed. It should
  * be assumed the client allows for compressed responses.
@@ -38,4 +44,21 @@ public interface HttpCompressionStrategy {
     default int getCompressionLevel() {
         return 6;
     }
+
+    /**
+     * The encodings a response may be compressed with, in order of preference. The encoding is negotiated with the
+     * {@code Accept-Encoding} header of the request, the first encoding with the highest quality value is used.
+     *
+     * @param response The HTTP response
+     * @return The compression options, an empty list if the response should not be compressed
+     * @since 3.8.0
+     */
+    @NonNull
+    default List<CompressionOptions> getCompressionOptions(@NonNull HttpResponse response) {
+        int level = getCompressionLevel();
+        return Arrays.asList(
+                StandardCompressionOptions.gzip(level, 15, 8),
+                StandardCompressionOptions.deflate(level, 15, 8)
+        );
+    }
 }
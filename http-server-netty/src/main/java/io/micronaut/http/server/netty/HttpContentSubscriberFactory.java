@@ -15,6 +15,8 @@
  */
 package io.micronaut.http.server.netty;
 
+import io.micronaut.core.type.Argument;
+
 /**
  * Interface that allows plugging into the constructor of the {@link io.netty.handler.codec.http.HttpContent}
  * subscriber.
@@ -32,5 +34,18 @@ public interface HttpContentSubscriberFactory {
      * @return The subscriber
      */
     HttpContentProcessor build(NettyHttpRequest request);
+
+    /**
+     * Build a {@link org.reactivestreams.Subscriber} for a request whose complete body is bound to the given type.
+     * Implementations may decode the body directly into the type instead of an intermediate representation.
+     *
+     * @param request  The request
+     * @param bodyType The type the complete body is bound to
+     * @return The subscriber
+     * @since 3.8.0
+     */
+    default HttpContentProcessor build(NettyHttpRequest request, Argument<?> bodyType) {
+        return build(request);
+    }
 }
 
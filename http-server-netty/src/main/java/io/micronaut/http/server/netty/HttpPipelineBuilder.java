@@ -118,7 +118,12 @@ final class HttpPipelineBuilder {
 
         NettyHttpServerConfiguration.AccessLogger accessLogger = server.getServerConfiguration().getAccessLogger();
         if (accessLogger != null && accessLogger.isEnabled()) {
-            accessLogHandler = new HttpAccessLogHandler(accessLogger.getLoggerName(), accessLogger.getLogFormat(), NettyHttpServer.inclusionPredicate(accessLogger));
+            accessLogHandler = new HttpAccessLogHandler(
+                    accessLogger.getLoggerName(),
+                    accessLogger.getLogFormat(),
+                    NettyHttpServer.inclusionPredicate(accessLogger),
+                    server.getAccessLogWriter().orElse(null)
+            );
         } else {
             accessLogHandler = null;
         }
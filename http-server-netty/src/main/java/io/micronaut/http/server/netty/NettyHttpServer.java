@@ -26,6 +26,7 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.annotation.TypeHint;
 import io.micronaut.core.io.socket.SocketUtils;
 import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.util.SupplierUtil;
 import io.micronaut.discovery.EmbeddedServerInstance;
 import io.micronaut.discovery.event.ServiceReadyEvent;
@@ -36,9 +37,12 @@ import io.micronaut.http.netty.channel.DefaultEventLoopGroupConfiguration;
 import io.micronaut.http.netty.channel.EventLoopGroupConfiguration;
 import io.micronaut.http.netty.channel.converters.ChannelOptionFactory;
 import io.micronaut.http.netty.websocket.WebSocketSessionRepository;
+import io.micronaut.http.netty.websocket.WebSocketTopicIndex;
 import io.micronaut.http.server.HttpServerConfiguration;
 import io.micronaut.http.server.exceptions.ServerStartupException;
 import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
+import io.micronaut.http.server.netty.handler.accesslog.AsyncAccessLogWriter;
+import io.micronaut.http.server.netty.handler.accesslog.HttpAccessLogHandler;
 import io.micronaut.http.server.netty.ssl.ServerSslBuilder;
 import io.micronaut.http.server.netty.types.NettyCustomizableResponseTypeHandlerRegistry;
 import io.micronaut.http.server.util.DefaultHttpHostResolver;
@@ -54,6 +58,7 @@ import io.micronaut.web.router.Router;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
@@ -62,6 +67,7 @@ import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.channel.unix.UnixChannelOption;
 import io.netty.handler.codec.http.multipart.DiskFileUpload;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GlobalEventExecutor;
@@ -69,6 +75,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.BindException;
 import java.net.InetSocketAddress;
 import java.net.MalformedURLException;
@@ -88,6 +95,7 @@ import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -122,6 +130,7 @@ public class NettyHttpServer implements NettyEmbeddedServer {
     private final ApplicationContext applicationContext;
     private final AtomicBoolean running = new AtomicBoolean(false);
     private final ChannelGroup webSocketSessions = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+    private final WebSocketTopicIndex webSocketTopics = new WebSocketTopicIndex();
     private final HttpHostResolver hostResolver;
     private boolean shutdownWorker = false;
     private boolean shutdownParent = false;
@@ -131,6 +140,8 @@ public class NettyHttpServer implements NettyEmbeddedServer {
     private final Collection<ChannelPipelineListener> pipelineListeners = new ArrayList<>(2);
     @Nullable
     private volatile List<Listener> activeListeners = null;
+    @Nullable
+    private volatile AsyncAccessLogWriter accessLogWriter = null;
     private final List<NettyHttpServerConfiguration.NettyListenerConfiguration> listenerConfigurations;
     private final CompositeNettyServerCustomizer rootCustomizer = new CompositeNettyServerCustomizer();
 
@@ -274,12 +285,16 @@ public class NettyHttpServer implements NettyEmbeddedServer {
 
             processOptions(serverConfiguration.getOptions(), serverBootstrap::option);
             processOptions(serverConfiguration.getChildOptions(), serverBootstrap::childOption);
-            serverBootstrap = serverBootstrap.group(parentGroup, workerGroup);
+            this.accessLogWriter = createAccessLogWriter();
 
             List<Listener> listeners = new ArrayList<>();
             for (NettyHttpServerConfiguration.NettyListenerConfiguration listenerConfiguration : listenerConfigurations) {
-                Listener listener = bind(serverBootstrap, listenerConfiguration, workerConfig);
-                listeners.add(listener);
+                if (listenerConfiguration.getFamily() == NettyHttpServerConfiguration.NettyListenerConfiguration.Family.TCP &&
+                        listenerConfiguration.getAcceptors() > 1) {
+                    listeners.addAll(bindAcceptors(serverBootstrap, listenerConfiguration, workerConfig));
+                } else {
+                    listeners.add(bind(serverBootstrap.clone().group(parentGroup, workerGroup), listenerConfiguration, workerConfig, 0, listenerConfiguration.getPort()));
+                }
             }
             this.activeListeners = Collections.unmodifiableList(listeners);
 
@@ -292,6 +307,7 @@ public class NettyHttpServer implements NettyEmbeddedServer {
                             .map(l -> l.serverChannel.localAddress())
                             .filter(InetSocketAddress.class::isInstance)
                             .map(addr -> ((InetSocketAddress) addr).getPort())
+                            .distinct()
                             .collect(Collectors.toList()));
                 }
             }
@@ -302,6 +318,30 @@ public class NettyHttpServer implements NettyEmbeddedServer {
         return this;
     }
 
+    @Nullable
+    private AsyncAccessLogWriter createAccessLogWriter() {
+        NettyHttpServerConfiguration.AccessLogger accessLogger = serverConfiguration.getAccessLogger();
+        if (accessLogger == null || !accessLogger.isEnabled()) {
+            return null;
+        }
+        NettyHttpServerConfiguration.AccessLogger.AsyncWriter async = accessLogger.getAsync();
+        if (async == null || !async.isEnabled()) {
+            return null;
+        }
+        String loggerName = accessLogger.getLoggerName();
+        try {
+            return new AsyncAccessLogWriter(
+                    LoggerFactory.getLogger(StringUtils.isNotEmpty(loggerName) ? loggerName : HttpAccessLogHandler.HTTP_ACCESS_LOGGER),
+                    async.getFile(),
+                    async.getQueueSize(),
+                    async.getBatchSize(),
+                    async.getOverflow()
+            );
+        } catch (IOException e) {
+            throw new ServerStartupException("Unable to open the access log file " + async.getFile() + ": " + e.getMessage(), e);
+        }
+    }
+
     private EventLoopGroupConfiguration resolveWorkerConfiguration() {
         EventLoopGroupConfiguration workerConfig = serverConfiguration.getWorker();
         if (workerConfig == null) {
@@ -447,6 +487,34 @@ public class NettyHttpServer implements NettyEmbeddedServer {
                 .collect(Collectors.<Integer, Set<Integer>>toCollection(LinkedHashSet::new)));
     }
 
+    /**
+     * The connections of each bound server channel. A listener bound with several acceptors reports each acceptor
+     * separately.
+     *
+     * @return The statistics of the bound server channels, empty if the server is not running
+     * @since 3.8.0
+     */
+    @NonNull
+    public List<NettyListenerStatistics> getListenerStatistics() {
+        List<Listener> listeners = activeListeners;
+        if (listeners == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(listeners);
+    }
+
+    /**
+     * The writer the access log lines are handed to when the access log is written asynchronously. It exposes the
+     * number of written and dropped lines and the depth of the queue.
+     *
+     * @return The asynchronous access log writer, empty if not enabled or the server is not running
+     * @since 3.8.0
+     */
+    @NonNull
+    public Optional<AsyncAccessLogWriter> getAccessLogWriter() {
+        return Optional.ofNullable(accessLogWriter);
+    }
+
     /**
      * @return The parent event loop group
      */
@@ -487,12 +555,42 @@ public class NettyHttpServer implements NettyEmbeddedServer {
         return new ServerBootstrap();
     }
 
-    private Listener bind(ServerBootstrap bootstrap, NettyHttpServerConfiguration.NettyListenerConfiguration cfg, EventLoopGroupConfiguration workerConfig) {
+    /**
+     * Binds several server channels to the port of the listener with {@code SO_REUSEPORT}, so the kernel balances the
+     * accepted connections across them. Each channel accepts on its own parent event loop and hands its connections to
+     * its own share of the worker loops.
+     */
+    private List<Listener> bindAcceptors(ServerBootstrap bootstrap, NettyHttpServerConfiguration.NettyListenerConfiguration cfg, EventLoopGroupConfiguration workerConfig) {
+        int acceptors = cfg.getAcceptors();
+        ChannelOption<Boolean> reusePort = ReusePortHolder.supportedOption(nettyEmbeddedServices.getServerSocketChannelInstance(workerConfig));
+        if (reusePort == null) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("SO_REUSEPORT is not supported by the configured transport, binding a single acceptor to {}. Enable the native transport to use multiple acceptors.", displayAddress(cfg));
+            }
+            return Collections.singletonList(bind(bootstrap.clone().group(parentGroup, workerGroup), cfg, workerConfig, 0, cfg.getPort()));
+        }
+        List<Listener> listeners = new ArrayList<>(acceptors);
+        int port = cfg.getPort();
+        for (int i = 0; i < acceptors; i++) {
+            ServerBootstrap acceptorBootstrap = bootstrap.clone()
+                    .group(parentGroup, EventLoopGroupPartition.of(workerGroup, i, acceptors))
+                    .option(reusePort, true);
+            Listener listener = bind(acceptorBootstrap, cfg, workerConfig, i, port);
+            listeners.add(listener);
+            if (port <= 0 && listener.serverChannel.localAddress() instanceof InetSocketAddress) {
+                // the remaining acceptors join the random port chosen for the first one
+                port = ((InetSocketAddress) listener.serverChannel.localAddress()).getPort();
+            }
+        }
+        return listeners;
+    }
+
+    private Listener bind(ServerBootstrap bootstrap, NettyHttpServerConfiguration.NettyListenerConfiguration cfg, EventLoopGroupConfiguration workerConfig, int acceptor, int port) {
         logBind(cfg);
 
         try {
-            Listener listener = new Listener(cfg);
-            ServerBootstrap listenerBootstrap = bootstrap.clone()
+            Listener listener = new Listener(cfg, acceptor);
+            ServerBootstrap listenerBootstrap = bootstrap
                 // this initializer runs before the actual bind operation, so we can be sure
                 // setServerChannel has been called by the time bind runs.
                 .handler(new ChannelInitializer<Channel>() {
@@ -506,7 +604,6 @@ public class NettyHttpServer implements NettyEmbeddedServer {
             switch (cfg.getFamily()) {
                 case TCP:
                     listenerBootstrap.channelFactory(() -> nettyEmbeddedServices.getServerSocketChannelInstance(workerConfig));
-                    int port = cfg.getPort();
                     if (port == -1) {
                         port = 0;
                     }
@@ -616,6 +713,11 @@ public class NettyHttpServer implements NettyEmbeddedServer {
                         .addListener(this::logShutdownErrorIfNecessary);
             }
             webSocketSessions.close();
+            AsyncAccessLogWriter accessLogWriter = this.accessLogWriter;
+            if (accessLogWriter != null) {
+                this.accessLogWriter = null;
+                accessLogWriter.close();
+            }
             applicationContext.getEventPublisher(ServerShutdownEvent.class).publishEvent(new ServerShutdownEvent(this));
             if (serviceInstance != null) {
                 applicationContext.getEventPublisher(ServiceStoppedEvent.class)
@@ -669,6 +771,7 @@ public class NettyHttpServer implements NettyEmbeddedServer {
     @Override
     public void removeChannel(Channel channel) {
         this.webSocketSessions.remove(channel);
+        this.webSocketTopics.remove(channel);
     }
 
     @Override
@@ -676,6 +779,21 @@ public class NettyHttpServer implements NettyEmbeddedServer {
         return this.webSocketSessions;
     }
 
+    @Override
+    public void subscribe(Channel channel, String topic) {
+        this.webSocketTopics.subscribe(channel, topic);
+    }
+
+    @Override
+    public void unsubscribe(Channel channel, String topic) {
+        this.webSocketTopics.unsubscribe(channel, topic);
+    }
+
+    @Override
+    public Collection<Channel> getSubscribers(String topic) {
+        return this.webSocketTopics.getSubscribers(topic);
+    }
+
     /**
      * @return {@link io.micronaut.http.server.netty.NettyHttpServer} which implements {@link WebSocketSessionRepository}
      */
@@ -747,15 +865,46 @@ public class NettyHttpServer implements NettyEmbeddedServer {
         }
     }
 
-    private class Listener extends ChannelInitializer<Channel> {
+    private class Listener extends ChannelInitializer<Channel> implements NettyListenerStatistics {
         Channel serverChannel;
         private NettyServerCustomizer listenerCustomizer;
         NettyHttpServerConfiguration.NettyListenerConfiguration config;
+        private final int acceptor;
+        private final LongAdder acceptedConnections = new LongAdder();
+        private final LongAdder activeConnections = new LongAdder();
+        private final ChannelFutureListener connectionClosed = future -> activeConnections.decrement();
 
         private volatile HttpPipelineBuilder httpPipelineBuilder;
 
-        Listener(NettyHttpServerConfiguration.NettyListenerConfiguration config) {
+        Listener(NettyHttpServerConfiguration.NettyListenerConfiguration config, int acceptor) {
             this.config = config;
+            this.acceptor = acceptor;
+        }
+
+        @Override
+        public NettyHttpServerConfiguration.NettyListenerConfiguration getConfiguration() {
+            return config;
+        }
+
+        @Override
+        public int getAcceptor() {
+            return acceptor;
+        }
+
+        @Override
+        public SocketAddress getLocalAddress() {
+            Channel serverChannel = this.serverChannel;
+            return serverChannel != null ? serverChannel.localAddress() : null;
+        }
+
+        @Override
+        public long getAcceptedConnections() {
+            return acceptedConnections.sum();
+        }
+
+        @Override
+        public long getActiveConnections() {
+            return activeConnections.sum();
         }
 
         void refresh() {
@@ -773,10 +922,30 @@ public class NettyHttpServer implements NettyEmbeddedServer {
 
         @Override
         protected void initChannel(@NonNull Channel ch) throws Exception {
+            acceptedConnections.increment();
+            activeConnections.increment();
+            ch.closeFuture().addListener(connectionClosed);
             httpPipelineBuilder.new ConnectionPipeline(ch, config.isSsl()).initChannel();
         }
     }
 
+    private static class ReusePortHolder {
+        /**
+         * @param channel An unbound server channel of the configured transport, which is closed afterwards
+         * @return The {@code SO_REUSEPORT} option if the transport supports it, otherwise {@code null}
+         */
+        @Nullable
+        private static ChannelOption<Boolean> supportedOption(Channel channel) {
+            try {
+                return channel.config().setOption(UnixChannelOption.SO_REUSEPORT, true) ? UnixChannelOption.SO_REUSEPORT : null;
+            } catch (NoClassDefFoundError e) {
+                return null;
+            } finally {
+                channel.unsafe().closeForcibly();
+            }
+        }
+    }
+
     private static class DomainSocketHolder {
         @NonNull
         private static SocketAddress makeDomainSocketAddress(String path) {
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
+
+import java.net.SocketAddress;
+
+/**
+ * The connections of a bound server channel. A listener configured with several
+ * {@link NettyHttpServerConfiguration.NettyListenerConfiguration#getAcceptors() acceptors} reports each acceptor
+ * separately.
+ *
+ * @since 3.8.0
+ */
+public interface NettyListenerStatistics {
+
+    /**
+     * @return The configuration of the listener
+     */
+    @NonNull
+    NettyHttpServerConfiguration.NettyListenerConfiguration getConfiguration();
+
+    /**
+     * @return The index of the acceptor within the listener, {@code 0} for listeners with a single acceptor
+     */
+    int getAcceptor();
+
+    /**
+     * @return The address the server channel is bound to
+     */
+    @Nullable
+    SocketAddress getLocalAddress();
+
+    /**
+     * @return The number of connections accepted since the server started
+     */
+    long getAcceptedConnections();
+
+    /**
+     * @return The number of connections that are currently open
+     */
+    long getActiveConnections();
+}
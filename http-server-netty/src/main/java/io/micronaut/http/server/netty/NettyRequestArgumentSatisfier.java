@@ -17,6 +17,7 @@ package io.micronaut.http.server.netty;
 
 import io.micronaut.context.annotation.Primary;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.bind.ArgumentBinder;
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.bind.RequestBinderRegistry;
@@ -48,6 +49,12 @@ public class NettyRequestArgumentSatisfier extends RequestArgumentSatisfier {
         super(requestBinderRegistry);
     }
 
+    @Override
+    protected boolean isBindingPlanSupported() {
+        // both overloads of getValueForArgument are overridden here, subclasses may only override one of them
+        return getClass() == NettyRequestArgumentSatisfier.class;
+    }
+
     @Override
     protected Optional<Object> getValueForArgument(Argument argument, HttpRequest<?> request, boolean satisfyOptionals) {
         if (request instanceof NettyHttpRequest) {
@@ -56,4 +63,13 @@ public class NettyRequestArgumentSatisfier extends RequestArgumentSatisfier {
         }
         return super.getValueForArgument(argument, request, satisfyOptionals);
     }
+
+    @Override
+    protected Optional<Object> getValueForArgument(Argument argument, ArgumentBinder argumentBinder, HttpRequest<?> request, boolean satisfyOptionals) {
+        if (request instanceof NettyHttpRequest) {
+            NettyHttpRequest nettyHttpRequest = (NettyHttpRequest) request;
+            nettyHttpRequest.setBodyRequired(true);
+        }
+        return super.getValueForArgument(argument, argumentBinder, request, satisfyOptionals);
+    }
 }
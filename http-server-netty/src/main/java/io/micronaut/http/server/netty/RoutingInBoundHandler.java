@@ -62,8 +62,9 @@ import io.micronaut.http.server.netty.multipart.NettyStreamingFileUpload;
 import io.micronaut.http.server.netty.types.NettyCustomizableResponseTypeHandler;
 import io.micronaut.http.server.netty.types.NettyCustomizableResponseTypeHandlerRegistry;
 import io.micronaut.http.server.netty.types.files.NettyStreamedFileCustomizableResponseType;
+import io.micronaut.http.server.netty.types.files.NettyCachedFileCustomizableResponseType;
 import io.micronaut.http.server.netty.types.files.NettySystemFileCustomizableResponseType;
-import io.micronaut.http.server.types.files.FileCustomizableResponseType;
+import io.micronaut.http.server.netty.types.files.StaticResourceCache;
 import io.micronaut.runtime.http.codec.TextPlainCodec;
 import io.micronaut.web.router.MethodBasedRouteMatch;
 import io.micronaut.web.router.RouteInfo;
@@ -110,6 +111,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.MonoSink;
 import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 
 import javax.net.ssl.SSLException;
 import java.io.File;
@@ -158,6 +160,8 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
     private static final Argument ARGUMENT_PART_DATA = Argument.of(PartData.class);
     private final Router router;
     private final StaticResourceResolver staticResourceResolver;
+    @Nullable
+    private final StaticResourceCache staticResourceCache;
     private final NettyHttpServerConfiguration serverConfiguration;
     private final HttpContentProcessorResolver httpContentProcessorResolver;
     private final ErrorResponseProcessor<?> errorResponseProcessor;
@@ -188,6 +192,7 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
         this.mediaTypeCodecRegistry = embeddedServerContext.getMediaTypeCodecRegistry();
         this.customizableResponseTypeHandlerRegistry = customizableResponseTypeHandlerRegistry;
         this.staticResourceResolver = embeddedServerContext.getStaticResourceResolver();
+        this.staticResourceCache = embeddedServerContext.getApplicationContext().findBean(StaticResourceCache.class).orElse(null);
         this.ioExecutorSupplier = ioExecutor;
         this.router = embeddedServerContext.getRouter();
         this.requestArgumentSatisfier = embeddedServerContext.getRequestArgumentSatisfier();
@@ -356,10 +361,10 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
         if (routeMatch == null) {
 
             //Check if there is a file for the route before returning route not found
-            Optional<? extends FileCustomizableResponseType> optionalFile = matchFile(requestPath);
+            Optional<Publisher<MutableHttpResponse<?>>> optionalFile = matchFile(requestPath, request);
 
             if (optionalFile.isPresent()) {
-                filterAndEncodeResponse(ctx, nettyHttpRequest, Flux.just(HttpResponse.ok(optionalFile.get())));
+                filterAndEncodeResponse(ctx, nettyHttpRequest, optionalFile.get());
                 return;
             }
 
@@ -543,7 +548,15 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
                 });
     }
 
-    private Optional<? extends FileCustomizableResponseType> matchFile(String path) {
+    private Optional<Publisher<MutableHttpResponse<?>>> matchFile(String path, io.micronaut.http.HttpRequest<?> request) {
+        String acceptEncoding = null;
+        if (staticResourceCache != null) {
+            acceptEncoding = request.getHeaders().get(HttpHeaders.ACCEPT_ENCODING);
+            NettyCachedFileCustomizableResponseType cached = staticResourceCache.find(path, acceptEncoding);
+            if (cached != null) {
+                return Optional.of(Flux.just(HttpResponse.ok(cached)));
+            }
+        }
         Optional<URL> optionalUrl = staticResourceResolver.resolve(path);
 
         if (optionalUrl.isPresent()) {
@@ -552,11 +565,19 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
                 if (url.getProtocol().equals("file")) {
                     File file = Paths.get(url.toURI()).toFile();
                     if (file.exists() && !file.isDirectory() && file.canRead()) {
-                        return Optional.of(new NettySystemFileCustomizableResponseType(file));
+                        if (staticResourceCache != null && staticResourceCache.isCacheable(file)) {
+                            String encoding = acceptEncoding;
+                            // caching reads the file, so it happens off the event loop
+                            return Optional.of(Mono.<MutableHttpResponse<?>>fromCallable(() -> {
+                                NettyCachedFileCustomizableResponseType cached = staticResourceCache.cache(path, file, encoding);
+                                return cached != null ? HttpResponse.ok(cached) : HttpResponse.ok(new NettySystemFileCustomizableResponseType(file));
+                            }).subscribeOn(Schedulers.fromExecutorService(getIoExecutor())));
+                        }
+                        return Optional.of(Flux.just(HttpResponse.ok(new NettySystemFileCustomizableResponseType(file))));
                     }
                 }
 
-                return Optional.of(new NettyStreamedFileCustomizableResponseType(url));
+                return Optional.of(Flux.just(HttpResponse.ok(new NettyStreamedFileCustomizableResponseType(url))));
             } catch (URISyntaxException e) {
                 //no-op
             }
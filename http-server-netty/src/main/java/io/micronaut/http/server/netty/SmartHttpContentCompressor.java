@@ -16,8 +16,22 @@
 package io.micronaut.http.server.netty;
 
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.BrotliEncoder;
+import io.netty.handler.codec.compression.BrotliOptions;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.DeflateOptions;
+import io.netty.handler.codec.compression.GzipOptions;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.compression.ZstdEncoder;
+import io.netty.handler.codec.compression.ZstdOptions;
 import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.codec.http.HttpResponse;
 
@@ -25,7 +39,8 @@ import java.util.List;
 
 /**
  * An extension of {@link HttpContentCompressor} that skips encoding if the content type is not compressible or if
- * the content is too small.
+ * the content is too small. The encoding and its level are selected per response by the
+ * {@link HttpCompressionStrategy}, and negotiated with the {@code Accept-Encoding} header of the request.
  *
  * @author James Kleeh
  * @since 1.0
@@ -33,8 +48,11 @@ import java.util.List;
 @Internal
 public class SmartHttpContentCompressor extends HttpContentCompressor {
 
+    private static final String ZSTD = "zstd";
+
     private final HttpCompressionStrategy httpCompressionStrategy;
     private boolean skipEncoding = false;
+    private ChannelHandlerContext ctx;
 
     /**
      * Creates a SmartHttpContentCompressor with the given compression logic.
@@ -56,6 +74,12 @@ public class SmartHttpContentCompressor extends HttpContentCompressor {
         return !httpCompressionStrategy.shouldCompress(response);
     }
 
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        this.ctx = ctx;
+        super.handlerAdded(ctx);
+    }
+
     @Override
     protected void encode(ChannelHandlerContext ctx, HttpObject msg, List<Object> out) throws Exception {
         if (msg instanceof HttpResponse) {
@@ -67,9 +91,94 @@ public class SmartHttpContentCompressor extends HttpContentCompressor {
 
     @Override
     protected Result beginEncode(HttpResponse headers, String acceptEncoding) throws Exception {
-        if (skipEncoding) {
+        if (skipEncoding || headers.headers().contains(HttpHeaderNames.CONTENT_ENCODING)) {
+            return null;
+        }
+        CompressionOptions options = negotiate(acceptEncoding, httpCompressionStrategy.getCompressionOptions(headers));
+        if (options == null) {
             return null;
         }
-        return super.beginEncode(headers, acceptEncoding);
+        return new Result(encoding(options), new EmbeddedChannel(
+                ctx.channel().id(), ctx.channel().metadata().hasDisconnect(), ctx.channel().config(), encoder(options)));
+    }
+
+    /**
+     * Selects the compression options with the highest quality value in the {@code Accept-Encoding} header. If
+     * several options are accepted with the same quality, the first one is selected.
+     *
+     * @param acceptEncoding The value of the {@code Accept-Encoding} header
+     * @param options        The compression options in order of preference
+     * @return The selected compression options, or {@code null} if none is accepted
+     */
+    @Nullable
+    static CompressionOptions negotiate(String acceptEncoding, List<CompressionOptions> options) {
+        if (options.isEmpty()) {
+            return null;
+        }
+        String[] accepted = acceptEncoding.split(",");
+        CompressionOptions selected = null;
+        float selectedQuality = 0;
+        for (CompressionOptions option : options) {
+            float quality = quality(accepted, encoding(option));
+            if (quality > selectedQuality) {
+                selected = option;
+                selectedQuality = quality;
+            }
+        }
+        return selected;
+    }
+
+    private static float quality(String[] accepted, String encoding) {
+        float starQuality = 0;
+        for (String value : accepted) {
+            int i = value.indexOf(';');
+            String name = (i > -1 ? value.substring(0, i) : value).trim();
+            float quality = 1;
+            if (i > -1) {
+                int q = value.indexOf("q=", i);
+                if (q > -1) {
+                    try {
+                        quality = Float.parseFloat(value.substring(q + 2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equalsIgnoreCase(encoding) || (encoding.equals("gzip") && name.equalsIgnoreCase("x-gzip"))) {
+                return quality;
+            } else if (name.equals("*")) {
+                starQuality = quality;
+            }
+        }
+        return starQuality;
+    }
+
+    private static String encoding(CompressionOptions options) {
+        if (options instanceof GzipOptions) {
+            return HttpHeaderValues.GZIP.toString();
+        } else if (options instanceof DeflateOptions) {
+            return HttpHeaderValues.DEFLATE.toString();
+        } else if (options instanceof BrotliOptions) {
+            return HttpHeaderValues.BR.toString();
+        } else if (options instanceof ZstdOptions) {
+            return ZSTD;
+        }
+        throw new IllegalArgumentException("Unsupported compression options: " + options);
+    }
+
+    private static ChannelHandler encoder(CompressionOptions options) {
+        if (options instanceof GzipOptions) {
+            GzipOptions gzip = (GzipOptions) options;
+            return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.GZIP, gzip.compressionLevel(), gzip.windowBits(), gzip.memLevel());
+        } else if (options instanceof DeflateOptions) {
+            DeflateOptions deflate = (DeflateOptions) options;
+            return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.ZLIB, deflate.compressionLevel(), deflate.windowBits(), deflate.memLevel());
+        } else if (options instanceof BrotliOptions) {
+            return new BrotliEncoder(((BrotliOptions) options).parameters());
+        } else if (options instanceof ZstdOptions) {
+            ZstdOptions zstd = (ZstdOptions) options;
+            return new ZstdEncoder(zstd.compressionLevel(), zstd.blockSize(), zstd.maxEncodeSize());
+        }
+        throw new IllegalArgumentException("Unsupported compression options: " + options);
     }
 }
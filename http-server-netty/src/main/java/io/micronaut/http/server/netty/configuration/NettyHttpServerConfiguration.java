@@ -28,6 +28,7 @@ import io.micronaut.core.util.StringUtils;
 import io.micronaut.http.netty.channel.ChannelPipelineListener;
 import io.micronaut.http.netty.channel.EventLoopGroupConfiguration;
 import io.micronaut.http.server.HttpServerConfiguration;
+import io.micronaut.http.server.netty.handler.accesslog.AsyncAccessLogWriter;
 import io.micronaut.runtime.ApplicationConfiguration;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.logging.LogLevel;
@@ -36,7 +37,9 @@ import jakarta.inject.Inject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -107,6 +110,13 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
     @SuppressWarnings("WeakerAccess")
     public static final int DEFAULT_COMPRESSIONLEVEL = 6;
 
+    /**
+     * The default compression encodings.
+     * @since 3.8.0
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final List<String> DEFAULT_COMPRESSION_ENCODINGS = Collections.unmodifiableList(Arrays.asList("gzip", "deflate"));
+
     /**
      * The default configuration for boolean flag indicating whether to add connection header `keep-alive` to responses with HttpStatus > 499.
      */
@@ -132,6 +142,9 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
     private LogLevel logLevel;
     private int compressionThreshold = DEFAULT_COMPRESSIONTHRESHOLD;
     private int compressionLevel = DEFAULT_COMPRESSIONLEVEL;
+    private List<String> compressionEncodings = DEFAULT_COMPRESSION_ENCODINGS;
+    private Map<String, Integer> compressionLevels = Collections.emptyMap();
+    private List<CompressionRule> compressionRules = Collections.emptyList();
     private boolean useNativeTransport = DEFAULT_USE_NATIVE_TRANSPORT;
     private String fallbackProtocol = ApplicationProtocolNames.HTTP_1_1;
     private AccessLogger accessLogger;
@@ -332,6 +345,36 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         return compressionLevel;
     }
 
+    /**
+     * The encodings responses may be compressed with, in order of preference.
+     *
+     * @return The compression encodings
+     * @since 3.8.0
+     */
+    public List<String> getCompressionEncodings() {
+        return compressionEncodings;
+    }
+
+    /**
+     * The compression level of each encoding, by encoding name.
+     *
+     * @return The compression levels
+     * @since 3.8.0
+     */
+    public Map<String, Integer> getCompressionLevels() {
+        return compressionLevels;
+    }
+
+    /**
+     * The compression rules applied to specific content types.
+     *
+     * @return The compression rules
+     * @since 3.8.0
+     */
+    public List<CompressionRule> getCompressionRules() {
+        return compressionRules;
+    }
+
     /**
      * @return The Netty child channel options.
      * @see io.netty.bootstrap.ServerBootstrap#childOption(io.netty.channel.ChannelOption, Object)
@@ -517,6 +560,40 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         this.compressionLevel = compressionLevel;
     }
 
+    /**
+     * Sets the encodings responses may be compressed with, in order of preference. The encoding is negotiated with
+     * the {@code Accept-Encoding} header of the request. Supported encodings are {@code gzip}, {@code deflate},
+     * {@code br}, which requires Brotli4j, and {@code zstd}, which requires zstd-jni. Default value (gzip, deflate).
+     *
+     * @param compressionEncodings The compression encodings
+     * @since 3.8.0
+     */
+    public void setCompressionEncodings(List<String> compressionEncodings) {
+        this.compressionEncodings = compressionEncodings == null ? DEFAULT_COMPRESSION_ENCODINGS : compressionEncodings;
+    }
+
+    /**
+     * Sets the compression level of each encoding, by encoding name. The {@code gzip} and {@code deflate} encodings
+     * default to the {@link #setCompressionLevel(int) compression level}, {@code br} defaults to a quality of 4 and
+     * {@code zstd} to a level of 3.
+     *
+     * @param compressionLevels The compression levels
+     * @since 3.8.0
+     */
+    public void setCompressionLevels(Map<String, Integer> compressionLevels) {
+        this.compressionLevels = compressionLevels == null ? Collections.emptyMap() : compressionLevels;
+    }
+
+    /**
+     * Sets the compression rules applied to specific content types.
+     *
+     * @param compressionRules The compression rules
+     * @since 3.8.0
+     */
+    public void setCompressionRules(List<CompressionRule> compressionRules) {
+        this.compressionRules = compressionRules == null ? Collections.emptyList() : compressionRules;
+    }
+
     /**
      * Whether to send connection keep alive on internal server errors. Default value ({@value DEFAULT_KEEP_ALIVE_ON_SERVER_ERROR}).
      * @param keepAliveOnServerError The keep alive on server error flag
@@ -720,6 +797,7 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         private String loggerName;
         private String logFormat;
         private List<String> exclusions;
+        private AsyncWriter async;
 
         /**
          * Returns whether the access logger is enabled.
@@ -786,6 +864,127 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         public void setExclusions(List<String> exclusions) {
             this.exclusions = exclusions;
         }
+
+        /**
+         * @return The configuration of the asynchronous writer, or {@code null} if not configured
+         * @since 3.8.0
+         */
+        public AsyncWriter getAsync() {
+            return async;
+        }
+
+        /**
+         * Sets the configuration of the asynchronous writer.
+         * @param async The configuration
+         * @since 3.8.0
+         */
+        public void setAsync(AsyncWriter async) {
+            this.async = async;
+        }
+
+        /**
+         * Configuration of the asynchronous access log writer. When enabled, the event loops hand the formatted lines to
+         * a bounded queue that a dedicated thread writes in batches, instead of logging them on the event loop.
+         *
+         * @since 3.8.0
+         */
+        @ConfigurationProperties("async")
+        public static class AsyncWriter {
+            /**
+             * The default queue size.
+             */
+            @SuppressWarnings("WeakerAccess")
+            public static final int DEFAULT_QUEUE_SIZE = 8192;
+
+            /**
+             * The default batch size.
+             */
+            @SuppressWarnings("WeakerAccess")
+            public static final int DEFAULT_BATCH_SIZE = 256;
+
+            private boolean enabled;
+            private int queueSize = DEFAULT_QUEUE_SIZE;
+            private int batchSize = DEFAULT_BATCH_SIZE;
+            private AsyncAccessLogWriter.OverflowStrategy overflow = AsyncAccessLogWriter.OverflowStrategy.DROP;
+            private Path file;
+
+            /**
+             * @return Whether the access log is written asynchronously
+             */
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            /**
+             * Whether the access log is written asynchronously. Default value ({@value io.micronaut.core.util.StringUtils#FALSE}).
+             * @param enabled Whether the access log is written asynchronously
+             */
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            /**
+             * @return The maximum number of lines waiting to be written
+             */
+            public int getQueueSize() {
+                return queueSize;
+            }
+
+            /**
+             * The maximum number of lines waiting to be written. Default value ({@value #DEFAULT_QUEUE_SIZE}).
+             * @param queueSize The maximum number of lines waiting to be written
+             */
+            public void setQueueSize(int queueSize) {
+                this.queueSize = queueSize;
+            }
+
+            /**
+             * @return The maximum number of lines written at once
+             */
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            /**
+             * The maximum number of lines written at once. Default value ({@value #DEFAULT_BATCH_SIZE}).
+             * @param batchSize The maximum number of lines written at once
+             */
+            public void setBatchSize(int batchSize) {
+                this.batchSize = batchSize;
+            }
+
+            /**
+             * @return What to do with a line when the queue is full
+             */
+            public AsyncAccessLogWriter.OverflowStrategy getOverflow() {
+                return overflow;
+            }
+
+            /**
+             * What to do with a line when the queue is full, either drop it or wait on the event loop until there is
+             * room. Default value (DROP).
+             * @param overflow The overflow strategy
+             */
+            public void setOverflow(AsyncAccessLogWriter.OverflowStrategy overflow) {
+                this.overflow = overflow;
+            }
+
+            /**
+             * @return The file the lines are appended to, if not set the lines are passed to the access logger
+             */
+            public Path getFile() {
+                return file;
+            }
+
+            /**
+             * The file the lines are appended to. If not set, the lines are passed to the access logger at info level
+             * from the writer thread.
+             * @param file The file
+             */
+            public void setFile(Path file) {
+                this.file = file;
+            }
+        }
     }
 
     /**
@@ -836,6 +1035,7 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
 
         private int cacheSeconds = DEFAULT_CACHESECONDS;
         private CacheControlConfiguration cacheControl = new CacheControlConfiguration();
+        private StaticCacheConfiguration staticCache = new StaticCacheConfiguration();
 
         /**
          * Default constructor.
@@ -894,6 +1094,104 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
             this.cacheControl = cacheControl;
         }
 
+        /**
+         * @return The in-memory static resource cache configuration
+         * @since 3.8.0
+         */
+        public StaticCacheConfiguration getStaticCache() {
+            return staticCache;
+        }
+
+        /**
+         * Sets the in-memory static resource cache configuration.
+         *
+         * @param staticCache The static resource cache configuration
+         * @since 3.8.0
+         */
+        public void setStaticCache(StaticCacheConfiguration staticCache) {
+            this.staticCache = staticCache;
+        }
+
+        /**
+         * Configuration for the in-memory cache of static resources resolved from the file system.
+         *
+         * @since 3.8.0
+         */
+        @ConfigurationProperties("static-cache")
+        public static class StaticCacheConfiguration {
+
+            /**
+             * The prefix for the static resource cache configuration.
+             */
+            public static final String PREFIX = "micronaut.server.netty.responses.file.static-cache";
+
+            /**
+             * The default maximum size of the cache in bytes.
+             */
+            @SuppressWarnings("WeakerAccess")
+            public static final long DEFAULT_MAX_SIZE = 1024 * 1024 * 16;
+
+            /**
+             * The default maximum size of a single cached file in bytes.
+             */
+            @SuppressWarnings("WeakerAccess")
+            public static final long DEFAULT_MAX_FILE_SIZE = 1024 * 256;
+
+            private boolean enabled;
+            private long maxSize = DEFAULT_MAX_SIZE;
+            private long maxFileSize = DEFAULT_MAX_FILE_SIZE;
+
+            /**
+             * @return Whether the cache is enabled
+             */
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            /**
+             * Sets whether static resources are cached in memory. Default value (false).
+             *
+             * @param enabled True if the cache is enabled
+             */
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            /**
+             * @return The maximum size of the cache in bytes
+             */
+            public long getMaxSize() {
+                return maxSize;
+            }
+
+            /**
+             * Sets the maximum number of bytes held by the cache, including precompressed variants.
+             * Default value ({@value #DEFAULT_MAX_SIZE}).
+             *
+             * @param maxSize The maximum size of the cache
+             */
+            public void setMaxSize(@ReadableBytes long maxSize) {
+                this.maxSize = maxSize;
+            }
+
+            /**
+             * @return The maximum size of a cached file in bytes
+             */
+            public long getMaxFileSize() {
+                return maxFileSize;
+            }
+
+            /**
+             * Sets the maximum size of a file to cache. Larger files are served from disk.
+             * Default value ({@value #DEFAULT_MAX_FILE_SIZE}).
+             *
+             * @param maxFileSize The maximum size of a cached file
+             */
+            public void setMaxFileSize(@ReadableBytes long maxFileSize) {
+                this.maxFileSize = maxFileSize;
+            }
+        }
+
         /**
          * Configuration for the Cache-Control header.
          */
@@ -1057,6 +1355,70 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         }
     }
 
+    /**
+     * Selects the compression encodings and levels of responses with the given content types. The first rule that
+     * matches the content type of a response applies.
+     *
+     * @since 3.8.0
+     */
+    @EachProperty("compression-rules")
+    public static final class CompressionRule {
+        private List<String> contentTypes = Collections.emptyList();
+        @Nullable
+        private List<String> encodings;
+        private Map<String, Integer> levels = Collections.emptyMap();
+
+        /**
+         * @return The content types the rule applies to
+         */
+        public List<String> getContentTypes() {
+            return contentTypes;
+        }
+
+        /**
+         * The content types the rule applies to, for example {@code application/json} or {@code image/*}.
+         *
+         * @param contentTypes The content types
+         */
+        public void setContentTypes(List<String> contentTypes) {
+            this.contentTypes = contentTypes == null ? Collections.emptyList() : contentTypes;
+        }
+
+        /**
+         * @return The encodings in order of preference, or {@code null} to use the encodings of the server
+         */
+        @Nullable
+        public List<String> getEncodings() {
+            return encodings;
+        }
+
+        /**
+         * The encodings responses with a matching content type may be compressed with, in order of preference. An
+         * empty list disables compression. Defaults to the compression encodings of the server.
+         *
+         * @param encodings The encodings
+         */
+        public void setEncodings(@Nullable List<String> encodings) {
+            this.encodings = encodings;
+        }
+
+        /**
+         * @return The compression level of each encoding, by encoding name
+         */
+        public Map<String, Integer> getLevels() {
+            return levels;
+        }
+
+        /**
+         * The compression level of each encoding, by encoding name. Defaults to the compression levels of the server.
+         *
+         * @param levels The compression levels
+         */
+        public void setLevels(Map<String, Integer> levels) {
+            this.levels = levels == null ? Collections.emptyMap() : levels;
+        }
+    }
+
     /**
      * Netty listener configuration.
      *
@@ -1072,6 +1434,7 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         private int port;
         private String path;
         private boolean exposeDefaultRoutes = true;
+        private int acceptors = 1;
 
         /**
          * Create a TCP listener configuration.
@@ -1175,6 +1538,33 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
             this.path = path;
         }
 
+        /**
+         * For TCP listeners, the number of server sockets bound to the port with {@code SO_REUSEPORT}. Each socket
+         * accepts connections on its own event loop and serves them on its own share of the worker event loops, and
+         * the kernel balances new connections across the sockets. Requires a native transport that supports
+         * {@code SO_REUSEPORT}, otherwise a single socket is bound. Defaults to {@code 1}.
+         * @return The number of acceptors of this listener.
+         * @since 3.8.0
+         */
+        public int getAcceptors() {
+            return acceptors;
+        }
+
+        /**
+         * For TCP listeners, the number of server sockets bound to the port with {@code SO_REUSEPORT}. Each socket
+         * accepts connections on its own event loop and serves them on its own share of the worker event loops, and
+         * the kernel balances new connections across the sockets. Requires a native transport that supports
+         * {@code SO_REUSEPORT}, otherwise a single socket is bound. Defaults to {@code 1}.
+         * @param acceptors The number of acceptors of this listener.
+         * @since 3.8.0
+         */
+        public void setAcceptors(int acceptors) {
+            if (acceptors < 1) {
+                throw new IllegalArgumentException("The number of acceptors must be at least 1");
+            }
+            this.acceptors = acceptors;
+        }
+
         /**
          * Whether to expose default routes on this listener.
          * @return Whether to expose default routes on this listener.
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.handler.accesslog;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.netty.util.internal.PlatformDependent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes access log lines on a dedicated thread, so that a logging backend blocking on disk does not stall the event
+ * loops. The event loops hand the formatted lines to a bounded lock-free multi-producer single-consumer queue, which
+ * the writer thread drains in batches. Lines are appended to a file, flushed once per batch, or passed to a logger at
+ * info level.
+ *
+ * @since 3.8.0
+ */
+public final class AsyncAccessLogWriter implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncAccessLogWriter.class);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final Queue<String> queue;
+    private final int batchSize;
+    private final OverflowStrategy overflowStrategy;
+    private final Logger logger;
+    @Nullable
+    private final Writer fileWriter;
+    private final LongAdder droppedLines = new LongAdder();
+    private final LongAdder writtenLines = new LongAdder();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    /**
+     * @param logger           The logger the lines are passed to when no file is configured
+     * @param file             The file to append the lines to, or {@code null} to use the logger
+     * @param queueSize        The maximum number of lines waiting to be written
+     * @param batchSize        The maximum number of lines written at once
+     * @param overflowStrategy What to do when the queue is full
+     * @throws IOException If the file cannot be opened
+     */
+    public AsyncAccessLogWriter(@NonNull Logger logger,
+                                @Nullable Path file,
+                                int queueSize,
+                                int batchSize,
+                                @NonNull OverflowStrategy overflowStrategy) throws IOException {
+        if (queueSize < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("The queue and batch size must be at least 1");
+        }
+        this.logger = logger;
+        this.queue = PlatformDependent.newFixedMpscQueue(queueSize);
+        this.batchSize = batchSize;
+        this.overflowStrategy = overflowStrategy;
+        this.fileWriter = file != null ? Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND) : null;
+        this.thread = new Thread(this::run, "access-log-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * @return Whether written lines reach their destination
+     */
+    public boolean isEnabled() {
+        return fileWriter != null || logger.isInfoEnabled();
+    }
+
+    /**
+     * Queues a line to be written. Called by the event loops.
+     *
+     * @param line The formatted line
+     * @return Whether the line was queued, false if it was dropped
+     */
+    public boolean write(@NonNull String line) {
+        if (queue.offer(line)) {
+            return true;
+        }
+        if (overflowStrategy == OverflowStrategy.BLOCK) {
+            while (running) {
+                LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+                if (queue.offer(line)) {
+                    return true;
+                }
+            }
+        }
+        droppedLines.increment();
+        return false;
+    }
+
+    /**
+     * @return The number of lines that were dropped because the queue was full or could not be written
+     */
+    public long getDroppedLines() {
+        return droppedLines.sum();
+    }
+
+    /**
+     * @return The number of lines that were written
+     */
+    public long getWrittenLines() {
+        return writtenLines.sum();
+    }
+
+    /**
+     * @return The number of lines waiting to be written
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Writes the queued lines and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<String> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            String line;
+            while (batch.size() < batchSize && (line = queue.poll()) != null) {
+                batch.add(line);
+            }
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            } else {
+                writeBatch(batch);
+                batch.clear();
+            }
+        }
+        if (fileWriter != null) {
+            try {
+                fileWriter.close();
+            } catch (IOException e) {
+                LOG.error("Error closing the access log file: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private void writeBatch(List<String> batch) {
+        if (fileWriter != null) {
+            try {
+                for (String line : batch) {
+                    fileWriter.write(line);
+                    fileWriter.write('\n');
+                }
+                fileWriter.flush();
+                writtenLines.add(batch.size());
+            } catch (IOException e) {
+                droppedLines.add(batch.size());
+                LOG.error("Error writing the access log: " + e.getMessage(), e);
+            }
+        } else {
+            for (String line : batch) {
+                logger.info(line);
+            }
+            writtenLines.add(batch.size());
+        }
+    }
+
+    /**
+     * What to do with a line when the queue is full.
+     */
+    public enum OverflowStrategy {
+        /**
+         * Drop the line and count it in {@link #getDroppedLines()}.
+         */
+        DROP,
+        /**
+         * Wait on the event loop until the writer makes room for the line.
+         */
+        BLOCK
+    }
+}
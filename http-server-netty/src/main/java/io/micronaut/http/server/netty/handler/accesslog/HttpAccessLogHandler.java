@@ -62,6 +62,8 @@ public class HttpAccessLogHandler extends ChannelDuplexHandler {
     private final Logger logger;
     private final AccessLogFormatParser accessLogFormatParser;
     private final Predicate<String> uriInclusion;
+    @Nullable
+    private final AsyncAccessLogWriter writer;
 
     /**
      * Creates a HttpAccessLogHandler.
@@ -102,15 +104,42 @@ public class HttpAccessLogHandler extends ChannelDuplexHandler {
      * @param uriInclusion A filtering Predicate that will be checked per URI.
      */
     public HttpAccessLogHandler(Logger logger, String spec, Predicate<String> uriInclusion) {
+        this(logger, spec, uriInclusion, null);
+    }
+
+    /**
+     * Creates a HttpAccessLogHandler.
+     *
+     * @param loggerName A logger name.
+     * @param spec The log format specification.
+     * @param uriInclusion A filtering Predicate that will be checked per URI.
+     * @param writer The writer the lines are handed to instead of logging them on the event loop, or {@code null}.
+     * @since 3.8.0
+     */
+    public HttpAccessLogHandler(String loggerName, String spec, Predicate<String> uriInclusion, @Nullable AsyncAccessLogWriter writer) {
+        this(loggerName == null || loggerName.isEmpty() ? null : LoggerFactory.getLogger(loggerName), spec, uriInclusion, writer);
+    }
+
+    /**
+     * Creates a HttpAccessLogHandler.
+     *
+     * @param logger A logger. Will log at info level.
+     * @param spec The log format specification.
+     * @param uriInclusion A filtering Predicate that will be checked per URI.
+     * @param writer The writer the lines are handed to instead of logging them on the event loop, or {@code null}.
+     * @since 3.8.0
+     */
+    public HttpAccessLogHandler(Logger logger, String spec, Predicate<String> uriInclusion, @Nullable AsyncAccessLogWriter writer) {
         super();
         this.logger = logger == null ? LoggerFactory.getLogger(HTTP_ACCESS_LOGGER) : logger;
         this.accessLogFormatParser = new AccessLogFormatParser(spec);
         this.uriInclusion = uriInclusion;
+        this.writer = writer;
     }
 
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Http2Exception {
-        if (logger.isInfoEnabled() && msg instanceof HttpRequest) {
+        if (isEnabled() && msg instanceof HttpRequest) {
             final SocketChannel channel = (SocketChannel) ctx.channel();
             final HttpRequest request = (HttpRequest) msg;
             AccessLogHolder accessLogHolder = getAccessLogHolder(ctx, true);
@@ -134,7 +163,7 @@ public class HttpAccessLogHandler extends ChannelDuplexHandler {
 
     @Override
     public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
-        if (logger.isInfoEnabled()) {
+        if (isEnabled()) {
             processWriteEvent(ctx, msg, promise);
         } else {
             super.write(ctx, msg, promise);
@@ -144,11 +173,19 @@ public class HttpAccessLogHandler extends ChannelDuplexHandler {
     private void log(ChannelHandlerContext ctx, Object msg, ChannelPromise promise, AccessLog accessLog) {
         ctx.write(msg, promise.unvoid()).addListener(future -> {
             if (future.isSuccess()) {
-                accessLog.log(logger);
+                if (writer != null) {
+                    writer.write(accessLog.format());
+                } else {
+                    accessLog.log(logger);
+                }
             }
         });
     }
 
+    private boolean isEnabled() {
+        return writer != null ? writer.isEnabled() : logger.isInfoEnabled();
+    }
+
     private void processWriteEvent(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
         AccessLogHolder accessLogHolder = getAccessLogHolder(ctx, false);
         if (accessLogHolder != null) {
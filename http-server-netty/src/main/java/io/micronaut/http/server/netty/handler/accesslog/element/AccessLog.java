@@ -118,14 +118,24 @@ public class AccessLog {
      */
     public void log(Logger accessLogger) {
         if (accessLogger.isInfoEnabled()) {
-            final StringBuilder b = new StringBuilder(elements.length * 5);
-            for (int i = 0; i < elements.length; ++i) {
-                b.append(elements[i] == null ? ConstantElement.UNKNOWN_VALUE : elements[i]);
-            }
-            accessLogger.info(b.toString());
+            accessLogger.info(format());
         }
     }
 
+    /**
+     * Formats the accumulated values as a log line.
+     *
+     * @return The log line
+     * @since 3.8.0
+     */
+    public String format() {
+        final StringBuilder b = new StringBuilder(elements.length * 5);
+        for (int i = 0; i < elements.length; ++i) {
+            b.append(elements[i] == null ? ConstantElement.UNKNOWN_VALUE : elements[i]);
+        }
+        return b.toString();
+    }
+
     private void resetIndexedLogElement(IndexedLogElement elt) {
         elements[elt.index] = null;
         elt.reset();
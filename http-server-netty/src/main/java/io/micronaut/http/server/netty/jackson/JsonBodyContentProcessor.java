@@ -0,0 +1,172 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.jackson;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.convert.value.ConvertibleValues;
+import io.micronaut.core.reflect.ClassUtils;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.server.HttpServerConfiguration;
+import io.micronaut.http.server.netty.AbstractHttpContentProcessor;
+import io.micronaut.http.server.netty.NettyHttpRequest;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.json.tree.JsonNode;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.CompositeByteBuf;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+
+/**
+ * Binds a complete JSON request body directly to the target type. Unlike {@link JsonContentProcessor}, which parses
+ * each chunk into a {@link JsonNode} tree that is converted to the target type afterwards, the chunks are collected
+ * in a {@link CompositeByteBuf} without copying and deserialized once when the request completes.
+ *
+ * @since 3.8.0
+ */
+@Internal
+public final class JsonBodyContentProcessor extends AbstractHttpContentProcessor<Object> {
+
+    private static final int MAX_COMPONENTS = 1024;
+
+    private final JsonMapper jsonMapper;
+    private final Argument<?> bodyType;
+    private CompositeByteBuf body;
+
+    /**
+     * @param nettyHttpRequest The Netty Http request
+     * @param configuration    The Http server configuration
+     * @param jsonMapper       The json mapper
+     * @param bodyType         The type to bind the body to
+     */
+    public JsonBodyContentProcessor(
+            NettyHttpRequest<?> nettyHttpRequest,
+            HttpServerConfiguration configuration,
+            JsonMapper jsonMapper,
+            Argument<?> bodyType) {
+        super(nettyHttpRequest, configuration);
+        this.jsonMapper = jsonMapper;
+        this.bodyType = bodyType;
+    }
+
+    /**
+     * Whether the given body type can be bound without building a {@link JsonNode} tree first. Trees, maps and
+     * generic objects are still bound from the tree, as are streams, futures, custom iterables and simple types that
+     * rely on the conversion rules of the tree nodes.
+     *
+     * @param bodyType The body type
+     * @return True if the body can be deserialized directly
+     */
+    public static boolean isDirectlyBindable(Argument<?> bodyType) {
+        Class<?> type = bodyType.getType();
+        return type != Object.class &&
+                !JsonNode.class.isAssignableFrom(type) &&
+                !Map.class.isAssignableFrom(type) &&
+                (!Iterable.class.isAssignableFrom(type) || Collection.class.isAssignableFrom(type)) &&
+                !ConvertibleValues.class.isAssignableFrom(type) &&
+                !Optional.class.isAssignableFrom(type) &&
+                !CompletionStage.class.isAssignableFrom(type) &&
+                !Future.class.isAssignableFrom(type) &&
+                !Publishers.isConvertibleToPublisher(type) &&
+                !ClassUtils.isJavaLangType(type) &&
+                !type.isPrimitive();
+    }
+
+    @Override
+    protected void doOnSubscribe(Subscription subscription, Subscriber<? super Object> subscriber) {
+        if (parentSubscription == null) {
+            return;
+        }
+        body = nettyHttpRequest.getChannelHandlerContext().alloc().compositeBuffer(MAX_COMPONENTS);
+        subscriber.onSubscribe(new Subscription() {
+            boolean requested;
+
+            @Override
+            public synchronized void request(long n) {
+                // the body is emitted once complete, so the chunks are requested one at a time as they arrive
+                if (!requested) {
+                    requested = true;
+                    parentSubscription.request(1);
+                }
+            }
+
+            @Override
+            public synchronized void cancel() {
+                parentSubscription.cancel();
+                release();
+            }
+        });
+    }
+
+    @Override
+    protected void onData(ByteBufHolder message) {
+        CompositeByteBuf body = this.body;
+        if (body == null) {
+            message.release();
+            return;
+        }
+        // the composite takes ownership of the content
+        body.addComponent(true, message.content());
+        parentSubscription.request(1);
+    }
+
+    @Override
+    protected void doAfterOnError(Throwable throwable) {
+        release();
+    }
+
+    @Override
+    protected void doOnComplete() {
+        CompositeByteBuf body = this.body;
+        if (body == null) {
+            return;
+        }
+        Subscriber<? super Object> subscriber = getSubscriber();
+        try {
+            if (body.isReadable()) {
+                Object value;
+                try (ByteBufInputStream inputStream = new ByteBufInputStream(body)) {
+                    value = jsonMapper.readValue(inputStream, bodyType);
+                }
+                if (value != null) {
+                    subscriber.onNext(value);
+                }
+            }
+        } catch (IOException e) {
+            release();
+            subscriber.onError(e);
+            return;
+        }
+        release();
+        super.doOnComplete();
+    }
+
+    private synchronized void release() {
+        CompositeByteBuf body = this.body;
+        if (body != null) {
+            this.body = null;
+            body.release();
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package io.micronaut.http.server.netty.jackson;
 
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.type.Argument;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Consumes;
 import io.micronaut.http.server.HttpServerConfiguration;
@@ -54,4 +55,15 @@ public class JsonHttpContentSubscriberFactory implements HttpContentSubscriberFa
     public HttpContentProcessor build(NettyHttpRequest request) {
         return new JsonContentProcessor(request, httpServerConfiguration, jsonMapper);
     }
+
+    @Override
+    public HttpContentProcessor build(NettyHttpRequest request, Argument<?> bodyType) {
+        boolean isJsonStream = request.getContentType()
+                .map(mediaType -> mediaType.equals(MediaType.APPLICATION_JSON_STREAM_TYPE))
+                .orElse(false);
+        if (!isJsonStream && JsonBodyContentProcessor.isDirectlyBindable(bodyType)) {
+            return new JsonBodyContentProcessor(request, httpServerConfiguration, jsonMapper, bodyType);
+        }
+        return build(request);
+    }
 }
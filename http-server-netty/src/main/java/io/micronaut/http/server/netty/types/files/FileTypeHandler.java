@@ -80,6 +80,14 @@ public class FileTypeHandler implements NettyCustomizableResponseTypeHandler<Obj
         long lastModified = type.getLastModified();
 
         // Cache Validation
+        if (type instanceof NettyCachedFileCustomizableResponseType) {
+            String etag = ((NettyCachedFileCustomizableResponseType) type).getEtag();
+            String ifNoneMatch = request.getHeaders().get(HttpHeaders.IF_NONE_MATCH);
+            if (ifNoneMatch != null && matchesEtag(ifNoneMatch, etag)) {
+                response.header(HttpHeaders.ETAG, etag);
+                return writeNotModified(request, response, context);
+            }
+        }
         ZonedDateTime ifModifiedSince = request.getHeaders().getDate(HttpHeaders.IF_MODIFIED_SINCE);
         if (ifModifiedSince != null) {
 
@@ -88,11 +96,7 @@ public class FileTypeHandler implements NettyCustomizableResponseTypeHandler<Obj
             long ifModifiedSinceDateSeconds = ifModifiedSince.toEpochSecond();
             long fileLastModifiedSeconds = lastModified / 1000;
             if (ifModifiedSinceDateSeconds == fileLastModifiedSeconds) {
-                FullHttpResponse nettyResponse = notModified(response);
-                if (request instanceof NettyHttpRequest) {
-                    ((NettyHttpRequest<?>) request).prepareHttp2ResponseIfNecessary(nettyResponse);
-                }
-                return context.writeAndFlush(nettyResponse);
+                return writeNotModified(request, response, context);
             }
         }
 
@@ -149,6 +153,32 @@ public class FileTypeHandler implements NettyCustomizableResponseTypeHandler<Obj
         headers.date(now);
     }
 
+    private ChannelFuture writeNotModified(HttpRequest<?> request, MutableHttpResponse<?> response, ChannelHandlerContext context) {
+        FullHttpResponse nettyResponse = notModified(response);
+        if (request instanceof NettyHttpRequest) {
+            ((NettyHttpRequest<?>) request).prepareHttp2ResponseIfNecessary(nettyResponse);
+        }
+        return context.writeAndFlush(nettyResponse);
+    }
+
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        String opaqueTag = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            // weak comparison as required for If-None-Match
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static void copyNonEntityHeaders(MutableHttpResponse<?> from, MutableHttpResponse to) {
         from.getHeaders().forEachValue((header, value) -> {
             if (Arrays.binarySearch(ENTITY_HEADERS, header) < 0) {
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.types.files;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.netty.NettyMutableHttpResponse;
+import io.micronaut.http.server.netty.NettyHttpRequest;
+import io.micronaut.http.server.netty.types.NettyFileCustomizableResponseType;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.FullHttpResponse;
+
+/**
+ * Writes a file held in memory by the {@link StaticResourceCache} to the Netty context.
+ *
+ * @since 3.8.0
+ */
+@Internal
+public final class NettyCachedFileCustomizableResponseType implements NettyFileCustomizableResponseType {
+
+    private final ByteBuf content;
+    @Nullable
+    private final String contentEncoding;
+    private final MediaType mediaType;
+    private final long lastModified;
+    private final String etag;
+    private final boolean varyAcceptEncoding;
+
+    /**
+     * @param content            The cached content, which is never released
+     * @param contentEncoding    The content encoding of a precompressed variant, or null
+     * @param mediaType          The media type of the file
+     * @param lastModified       The last modified date of the file
+     * @param etag               The entity tag of the file
+     * @param varyAcceptEncoding Whether the content depends on the Accept-Encoding header
+     */
+    NettyCachedFileCustomizableResponseType(ByteBuf content,
+                                            @Nullable String contentEncoding,
+                                            MediaType mediaType,
+                                            long lastModified,
+                                            String etag,
+                                            boolean varyAcceptEncoding) {
+        this.content = content;
+        this.contentEncoding = contentEncoding;
+        this.mediaType = mediaType;
+        this.lastModified = lastModified;
+        this.etag = etag;
+        this.varyAcceptEncoding = varyAcceptEncoding;
+    }
+
+    /**
+     * @return The entity tag of the file
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    @Override
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public long getLength() {
+        return content.readableBytes();
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    @Override
+    public void process(MutableHttpResponse response) {
+        response.header(HttpHeaders.CONTENT_LENGTH, String.valueOf(getLength()));
+        response.header(HttpHeaders.ETAG, etag);
+        if (contentEncoding != null) {
+            response.header(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+        }
+        if (varyAcceptEncoding) {
+            response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+    }
+
+    @Override
+    public ChannelFuture write(HttpRequest<?> request, MutableHttpResponse<?> response, ChannelHandlerContext context) {
+        if (response instanceof NettyMutableHttpResponse) {
+            NettyMutableHttpResponse<?> nettyResponse = (NettyMutableHttpResponse<?>) response;
+            FullHttpResponse finalResponse = new DefaultFullHttpResponse(
+                    nettyResponse.getNettyHttpVersion(),
+                    nettyResponse.getNettyHttpStatus(),
+                    content.duplicate(),
+                    nettyResponse.getNettyHeaders(),
+                    EmptyHttpHeaders.INSTANCE
+            );
+            if (request instanceof NettyHttpRequest) {
+                ((NettyHttpRequest<?>) request).prepareHttp2ResponseIfNecessary(finalResponse);
+            }
+            return context.writeAndFlush(finalResponse);
+        } else {
+            throw new IllegalArgumentException("Unsupported response type. Not a Netty response: " + response);
+        }
+    }
+}
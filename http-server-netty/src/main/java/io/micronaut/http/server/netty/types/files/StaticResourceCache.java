@@ -0,0 +1,229 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.types.files;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
+import io.micronaut.scheduling.io.watch.event.FileChangedEvent;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * An in-memory cache of small static resources resolved from the file system. Cached files are held as ready to
+ * write buffers together with their ETag and last modified date, and precompressed {@code .br} and {@code .gz}
+ * siblings of a file are served when the client accepts them. Entries are invalidated by {@link FileChangedEvent}s
+ * and the least recently used entries are evicted once the configured byte budget is exceeded. Caching a file reads
+ * it, so it must not happen on an event loop.
+ *
+ * @since 3.8.0
+ */
+@Internal
+@Singleton
+@Requires(property = NettyHttpServerConfiguration.FileTypeHandlerConfiguration.StaticCacheConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+public final class StaticResourceCache implements ApplicationEventListener<FileChangedEvent> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StaticResourceCache.class);
+    private static final String BROTLI = "br";
+    private static final String GZIP = "gzip";
+
+    private final long maxFileSize;
+    private final ConcurrentLinkedHashMap<String, Entry> entries;
+
+    /**
+     * @param serverConfiguration The server configuration
+     */
+    StaticResourceCache(NettyHttpServerConfiguration serverConfiguration) {
+        NettyHttpServerConfiguration.FileTypeHandlerConfiguration.StaticCacheConfiguration configuration =
+                serverConfiguration.getFileTypeHandlerConfiguration().getStaticCache();
+        this.maxFileSize = Math.min(configuration.getMaxFileSize(), configuration.getMaxSize());
+        this.entries = new ConcurrentLinkedHashMap.Builder<String, Entry>()
+                .maximumWeightedCapacity(configuration.getMaxSize())
+                .weigher(entry -> (int) Math.min(Integer.MAX_VALUE, Math.max(1, entry.size)))
+                .build();
+    }
+
+    /**
+     * Find a cached resource for the given request path.
+     *
+     * @param path           The request path
+     * @param acceptEncoding The value of the Accept-Encoding header of the request
+     * @return The response type, or null if the path is not cached
+     */
+    @Nullable
+    public NettyCachedFileCustomizableResponseType find(@NonNull String path, @Nullable String acceptEncoding) {
+        Entry entry = entries.get(path);
+        return entry == null ? null : entry.select(acceptEncoding);
+    }
+
+    /**
+     * @param file The resolved file
+     * @return Whether the file is small enough to be cached
+     */
+    public boolean isCacheable(@NonNull File file) {
+        return file.length() <= maxFileSize;
+    }
+
+    /**
+     * Cache the file resolved for the given request path, if it is small enough. This reads the file, so it must not
+     * be called on an event loop.
+     *
+     * @param path           The request path
+     * @param file           The resolved file
+     * @param acceptEncoding The value of the Accept-Encoding header of the request
+     * @return The response type for the cached file, or null if the file cannot be cached
+     */
+    @Nullable
+    public NettyCachedFileCustomizableResponseType cache(@NonNull String path, @NonNull File file, @Nullable String acceptEncoding) {
+        if (!isCacheable(file)) {
+            return null;
+        }
+        Entry entry;
+        try {
+            entry = new Entry(file, readFile(file), readVariant(file, ".br"), readVariant(file, ".gz"));
+        } catch (IOException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Unable to cache static resource {}: {}", file, e.getMessage());
+            }
+            return null;
+        }
+        Entry existing = entries.putIfAbsent(path, entry);
+        return (existing != null ? existing : entry).select(acceptEncoding);
+    }
+
+    /**
+     * @return The number of bytes held by the cache
+     */
+    public long getSize() {
+        return entries.weightedSize();
+    }
+
+    @Override
+    public void onApplicationEvent(FileChangedEvent event) {
+        Path changed = event.getPath().toAbsolutePath();
+        for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+            if (mapEntry.getValue().isAffectedBy(changed)) {
+                entries.remove(mapEntry.getKey(), mapEntry.getValue());
+            }
+        }
+    }
+
+    @Nullable
+    private ByteBuf readVariant(File file, String extension) throws IOException {
+        File variant = new File(file.getPath() + extension);
+        if (variant.isFile() && variant.canRead() && variant.length() <= maxFileSize) {
+            return readFile(variant);
+        }
+        return null;
+    }
+
+    private static ByteBuf readFile(File file) throws IOException {
+        // the cached buffers are shared between responses, so they must not be released by a write
+        return Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(Files.readAllBytes(file.toPath())));
+    }
+
+    /**
+     * Whether the given Accept-Encoding header accepts the given encoding.
+     */
+    static boolean accepts(@Nullable String acceptEncoding, String encoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String value = token.trim();
+            int parameters = value.indexOf(';');
+            String name = parameters > -1 ? value.substring(0, parameters).trim() : value;
+            if (name.equalsIgnoreCase(encoding) || name.equals("*")) {
+                if (parameters > -1) {
+                    String q = value.substring(parameters + 1).trim();
+                    if (q.startsWith("q=")) {
+                        try {
+                            return Double.parseDouble(q.substring(2)) > 0;
+                        } catch (NumberFormatException e) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A cached file and its precompressed variants.
+     */
+    private static final class Entry {
+        final File file;
+        final MediaType mediaType;
+        final long lastModified;
+        final String etag;
+        final ByteBuf identity;
+        @Nullable
+        final ByteBuf brotli;
+        @Nullable
+        final ByteBuf gzip;
+        final long size;
+
+        Entry(File file, ByteBuf identity, @Nullable ByteBuf brotli, @Nullable ByteBuf gzip) {
+            this.file = file.getAbsoluteFile();
+            this.mediaType = MediaType.forFilename(file.getName());
+            this.lastModified = file.lastModified();
+            this.identity = identity;
+            this.brotli = brotli;
+            this.gzip = gzip;
+            this.size = identity.readableBytes()
+                    + (brotli == null ? 0 : brotli.readableBytes())
+                    + (gzip == null ? 0 : gzip.readableBytes());
+            this.etag = "W/\"" + Long.toHexString(identity.readableBytes()) + '-' + Long.toHexString(lastModified) + '"';
+        }
+
+        NettyCachedFileCustomizableResponseType select(@Nullable String acceptEncoding) {
+            boolean hasVariants = brotli != null || gzip != null;
+            if (brotli != null && accepts(acceptEncoding, BROTLI)) {
+                return new NettyCachedFileCustomizableResponseType(brotli, BROTLI, mediaType, lastModified, etag, true);
+            }
+            if (gzip != null && accepts(acceptEncoding, GZIP)) {
+                return new NettyCachedFileCustomizableResponseType(gzip, HttpHeaderValues.GZIP.toString(), mediaType, lastModified, etag, true);
+            }
+            return new NettyCachedFileCustomizableResponseType(identity, null, mediaType, lastModified, etag, hasVariants);
+        }
+
+        boolean isAffectedBy(Path changed) {
+            Path path = file.toPath();
+            // a change to the file, a precompressed sibling or any parent directory
+            return path.startsWith(changed)
+                    || changed.equals(path.resolveSibling(path.getFileName() + ".br"))
+                    || changed.equals(path.resolveSibling(path.getFileName() + ".gz"));
+        }
+    }
+}
@@ -115,6 +115,23 @@ class ContentNegotiationSpec extends Specification {
         MediaType.APPLICATION_JSON_TYPE | MediaType.APPLICATION_JSON_TYPE | '{"message":"Bad things happened"}'
     }
 
+    void 'test the negotiated content type of a route is cached per Accept header value'() {
+        given:
+        def contentType = { String accept ->
+            try {
+                return client.toBlocking().exchange(HttpRequest.GET('/negotiate/error').header('Accept', accept), String).contentType.get()
+            } catch (HttpClientResponseException e) {
+                return e.response.contentType.get()
+            }
+        }
+
+        expect:
+        (1..3).every {
+            contentType('application/json;q=0.5, application/xml') == MediaType.APPLICATION_XML_TYPE &&
+                    contentType('application/json') == MediaType.APPLICATION_JSON_TYPE
+        }
+    }
+
     @Unroll
     void 'test status handling for content type #contentType'() {
         given: "No content type is sent"
@@ -1,9 +1,25 @@
 package io.micronaut.http.server.netty
 
+import com.aayushatharva.brotli4j.decoder.BrotliInputStream
+import com.github.luben.zstd.ZstdInputStream
+import io.micronaut.context.ApplicationContext
+import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration
+import io.netty.buffer.ByteBuf
+import io.netty.buffer.ByteBufUtil
+import io.netty.buffer.Unpooled
+import io.netty.channel.embedded.EmbeddedChannel
+import io.netty.handler.codec.compression.Brotli
+import io.netty.handler.codec.compression.StandardCompressionOptions
+import io.netty.handler.codec.compression.Zstd
 import io.netty.handler.codec.http.*
+import spock.lang.Requires
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.nio.charset.StandardCharsets
+import java.util.zip.GZIPInputStream
+import java.util.zip.InflaterInputStream
+
 class SmartHttpContentCompressorSpec extends Specification {
 
     private static String compressible = "text/html"
@@ -34,4 +50,151 @@ class SmartHttpContentCompressorSpec extends Specification {
         inCompressible | 0      | true      // incompressible, always skip
         null           | null   | true      // if the content type is unknown, skip
     }
+
+    @Unroll
+    void "test negotiating #acceptEncoding"() {
+        given:
+        def options = [
+                StandardCompressionOptions.gzip(),
+                StandardCompressionOptions.deflate()
+        ]
+
+        expect:
+        SmartHttpContentCompressor.negotiate(acceptEncoding, options)?.getClass()?.simpleName == expected
+
+        where:
+        acceptEncoding               | expected
+        "gzip, deflate, br"          | "GzipOptions"
+        "gzip, deflate"              | "GzipOptions"
+        "x-gzip"                     | "GzipOptions"
+        "deflate"                    | "DeflateOptions"
+        "gzip;q=0, deflate;q=0"      | null
+        "*"                          | "GzipOptions"
+        "identity"                   | null
+    }
+
+    @Requires({ Brotli.isAvailable() && Zstd.isAvailable() })
+    @Unroll
+    void "test negotiating #acceptEncoding with brotli and zstd"() {
+        given:
+        def options = [
+                StandardCompressionOptions.brotli(),
+                StandardCompressionOptions.zstd(),
+                StandardCompressionOptions.gzip(),
+                StandardCompressionOptions.deflate()
+        ]
+
+        expect:
+        SmartHttpContentCompressor.negotiate(acceptEncoding, options)?.getClass()?.simpleName == expected
+
+        where:
+        acceptEncoding               | expected
+        "gzip, deflate, br"          | "BrotliOptions"
+        "gzip, deflate, zstd"        | "ZstdOptions"
+        "br;q=0.5, gzip"             | "GzipOptions"
+        "br;q=0, gzip;q=0"           | null
+        "*"                          | "BrotliOptions"
+    }
+
+    @Unroll
+    void "test compressing a JSON response with #encoding"() {
+        given:
+        def strategy = strategy(['micronaut.server.netty.compression-encodings': [encoding]])
+        def channel = new EmbeddedChannel(new SmartHttpContentCompressor(strategy))
+        String json = '{"message":"' + ('hello world ' * 200) + '"}'
+
+        when:
+        channel.writeInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/", Unpooled.EMPTY_BUFFER,
+                new DefaultHttpHeaders().add(HttpHeaderNames.ACCEPT_ENCODING, "gzip, deflate, br, zstd"), new DefaultHttpHeaders()))
+        channel.writeOutbound(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, Unpooled.copiedBuffer(json, 'UTF-8'),
+                new DefaultHttpHeaders().add(HttpHeaderNames.CONTENT_TYPE, "application/json"), new DefaultHttpHeaders()))
+        HttpResponse response = channel.readOutbound()
+        ByteBuf compressed = Unpooled.buffer()
+        def content
+        while ((content = channel.readOutbound()) != null) {
+            compressed.writeBytes(((HttpContent) content).content())
+            content.release()
+        }
+        byte[] bytes = ByteBufUtil.getBytes(compressed)
+        compressed.release()
+
+        then:
+        response.headers().get(HttpHeaderNames.CONTENT_ENCODING) == encoding
+        bytes.length < json.length()
+        decompress(encoding, bytes) == json
+
+        cleanup:
+        channel.finishAndReleaseAll()
+
+        where:
+        encoding << availableEncodings()
+    }
+
+    @Requires({ Brotli.isAvailable() })
+    void "test compression rules select the encodings per content type"() {
+        given:
+        def strategy = strategy([
+                'micronaut.server.netty.compression-encodings': ['gzip', 'deflate'],
+                'micronaut.server.netty.compression-rules.json.content-types': ['application/json'],
+                'micronaut.server.netty.compression-rules.json.encodings': ['br', 'gzip'],
+                'micronaut.server.netty.compression-rules.json.levels.br': 5,
+                'micronaut.server.netty.compression-rules.images.content-types': ['image/*', 'image/svg+xml'],
+                'micronaut.server.netty.compression-rules.images.encodings': [],
+        ])
+
+        expect:
+        strategy.getCompressionOptions(response("application/json; charset=UTF-8"))*.getClass()*.simpleName == ["BrotliOptions", "GzipOptions"]
+        strategy.getCompressionOptions(response("application/json")).first().parameters().quality() == 5
+        strategy.getCompressionOptions(response("text/html"))*.getClass()*.simpleName == ["GzipOptions", "DeflateOptions"]
+        strategy.shouldCompress(response("application/json"))
+        strategy.shouldCompress(response("text/html"))
+        !strategy.shouldCompress(response("image/svg+xml"))
+        !strategy.shouldCompress(response("image/png"))
+    }
+
+    /**
+     * The brotli and zstd natives are not available on every platform the tests run on.
+     */
+    private static List<String> availableEncodings() {
+        List<String> encodings = ["gzip", "deflate"]
+        if (Brotli.isAvailable()) {
+            encodings << "br"
+        }
+        if (Zstd.isAvailable()) {
+            encodings << "zstd"
+        }
+        return encodings
+    }
+
+    private static HttpCompressionStrategy strategy(Map<String, Object> config) {
+        ApplicationContext ctx = ApplicationContext.run(config)
+        try {
+            return new DefaultHttpCompressionStrategy(ctx.getBean(NettyHttpServerConfiguration))
+        } finally {
+            ctx.close()
+        }
+    }
+
+    private static HttpResponse response(String contentType) {
+        new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, new DefaultHttpHeaders().add(HttpHeaderNames.CONTENT_TYPE, contentType))
+    }
+
+    private static String decompress(String encoding, byte[] bytes) {
+        InputStream input = new ByteArrayInputStream(bytes)
+        switch (encoding) {
+            case "gzip":
+                input = new GZIPInputStream(input)
+                break
+            case "deflate":
+                input = new InflaterInputStream(input)
+                break
+            case "br":
+                input = new BrotliInputStream(input)
+                break
+            case "zstd":
+                input = new ZstdInputStream(input)
+                break
+        }
+        return input.withStream { new String(it.bytes, StandardCharsets.UTF_8) }
+    }
 }
@@ -0,0 +1,124 @@
+package io.micronaut.http.server.netty.binding
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Replaces
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.core.type.Argument
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.annotation.Body
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Header
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.annotation.QueryValue
+import io.micronaut.http.bind.RequestBinderRegistry
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.http.server.binding.RequestArgumentSatisfier
+import io.micronaut.http.server.netty.NettyRequestArgumentSatisfier
+import io.micronaut.runtime.server.EmbeddedServer
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.atomic.AtomicInteger
+
+class BindingPlanSpec extends Specification {
+
+    @Shared @AutoCleanup EmbeddedServer planServer = ApplicationContext.run(EmbeddedServer, ['spec.name': 'BindingPlanSpec'])
+    @Shared @AutoCleanup EmbeddedServer customServer = ApplicationContext.run(EmbeddedServer, ['spec.name': 'BindingPlanSpec', 'binding.plan.custom': true])
+    @Shared @AutoCleanup HttpClient planClient = planServer.applicationContext.createBean(HttpClient, planServer.URL)
+    @Shared @AutoCleanup HttpClient customClient = customServer.applicationContext.createBean(HttpClient, customServer.URL)
+
+    void "test binding plans are only used by the default argument satisfier"() {
+        expect:
+        planServer.applicationContext.getBean(RequestArgumentSatisfier).bindingPlansEnabled
+        !customServer.applicationContext.getBean(RequestArgumentSatisfier).bindingPlansEnabled
+    }
+
+    void "test the overridden argument resolution of a custom satisfier is used"() {
+        given:
+        CustomRequestArgumentSatisfier satisfier = customServer.applicationContext.getBean(CustomRequestArgumentSatisfier)
+        int calls = satisfier.calls.get()
+
+        when:
+        customClient.toBlocking().retrieve(HttpRequest.GET('/binding-plan/query?max=5'))
+
+        then:
+        satisfier.calls.get() > calls
+    }
+
+    void "test binding #request.path with and without a binding plan gives the same result"() {
+        expect:
+        2.times {
+            assert exchange(planClient, request) == exchange(customClient, request)
+        }
+        exchange(planClient, request) == expected
+
+        where:
+        request                                                                       | expected
+        HttpRequest.GET('/binding-plan/query?max=5')                                  | [HttpStatus.OK, 'max: 5']
+        HttpRequest.GET('/binding-plan/query')                                        | [HttpStatus.BAD_REQUEST, null]
+        HttpRequest.GET('/binding-plan/query?max=foo')                                | [HttpStatus.BAD_REQUEST, null]
+        HttpRequest.GET('/binding-plan/optional')                                     | [HttpStatus.OK, 'max: none']
+        HttpRequest.GET('/binding-plan/optional?max=7')                               | [HttpStatus.OK, 'max: 7']
+        HttpRequest.GET('/binding-plan/path/3').header('X-Name', 'foo')               | [HttpStatus.OK, 'id: 3, name: foo']
+        HttpRequest.GET('/binding-plan/path/3')                                       | [HttpStatus.OK, 'id: 3, name: null']
+        HttpRequest.POST('/binding-plan/body?max=2', '{"name":"bar"}')                | [HttpStatus.OK, 'name: bar, max: 2']
+    }
+
+    private static List<Object> exchange(HttpClient client, HttpRequest<?> request) {
+        try {
+            HttpResponse<String> response = client.toBlocking().exchange(request, String)
+            return [response.status, response.body()]
+        } catch (HttpClientResponseException e) {
+            return [e.status, null]
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'BindingPlanSpec')
+    @Controller('/binding-plan')
+    static class BindingPlanController {
+
+        @Get('/query')
+        String query(@QueryValue int max) {
+            "max: $max"
+        }
+
+        @Get('/optional')
+        String optional(@QueryValue Optional<Integer> max) {
+            "max: ${max.map { it.toString() }.orElse('none')}"
+        }
+
+        @Get('/path/{id}')
+        String path(Long id, @Nullable @Header('X-Name') String name) {
+            "id: $id, name: $name"
+        }
+
+        @Post('/body')
+        String body(@Body Map<String, String> body, @QueryValue int max) {
+            "name: ${body.name}, max: $max"
+        }
+    }
+
+    @Requires(property = 'binding.plan.custom', value = 'true')
+    @Replaces(NettyRequestArgumentSatisfier)
+    @Singleton
+    static class CustomRequestArgumentSatisfier extends NettyRequestArgumentSatisfier {
+        final AtomicInteger calls = new AtomicInteger()
+
+        CustomRequestArgumentSatisfier(RequestBinderRegistry requestBinderRegistry) {
+            super(requestBinderRegistry)
+        }
+
+        @Override
+        protected Optional<Object> getValueForArgument(Argument argument, HttpRequest<?> request, boolean satisfyOptionals) {
+            calls.incrementAndGet()
+            return super.getValueForArgument(argument, request, satisfyOptionals)
+        }
+    }
+}
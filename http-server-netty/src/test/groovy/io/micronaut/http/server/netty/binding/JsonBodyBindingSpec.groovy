@@ -301,6 +301,41 @@ class JsonBodyBindingSpec extends AbstractMicronautSpec {
         response.body() == '["Joe","Sally"]'
     }
 
+    void "test large POGO list body is bound directly"() {
+        when:
+        String json = '[' + (1..20000).collect { '{"name":"Fred' + it + '","age":' + (it % 100) + '}' }.join(',') + ']'
+        HttpResponse<String> response = Flux.from(rxClient.exchange(
+                HttpRequest.POST('/json/list-summary', json), String
+        )).blockFirst()
+
+        then:
+        json.length() > 500_000
+        response.body() == "20000 Fred1 Fred20000"
+    }
+
+    void "test POGO body with an invalid property type"() {
+        when:
+        String json = '{"name":"Fred","age":"ten"}'
+        Flux.from(rxClient.exchange(
+                HttpRequest.POST('/json/object', json), String
+        )).blockFirst()
+
+        then:
+        HttpClientResponseException e = thrown()
+        e.response.status == HttpStatus.BAD_REQUEST
+    }
+
+    void "test POGO body with an empty request"() {
+        when:
+        Flux.from(rxClient.exchange(
+                HttpRequest.POST('/json/object', ''), String
+        )).blockFirst()
+
+        then:
+        HttpClientResponseException e = thrown()
+        e.response.status == HttpStatus.BAD_REQUEST
+    }
+
     @Controller(value = "/json", produces = io.micronaut.http.MediaType.APPLICATION_JSON)
     static class JsonController {
 
@@ -351,6 +386,10 @@ class JsonBodyBindingSpec extends AbstractMicronautSpec {
             "Body: ${foos.join(',')}"
         }
 
+        @Post("/list-summary") listSummary(@Body List<Foo> foos) {
+            "${foos.size()} ${foos.first().name} ${foos.last().name}"
+        }
+
         @Post("/nested")
         String nested(@Body('foo') Foo foo) {
             "Body: $foo"
@@ -4,6 +4,7 @@ import io.micronaut.context.ApplicationContext
 import io.micronaut.core.annotation.NonNull
 import io.micronaut.core.io.socket.SocketUtils
 import io.micronaut.http.server.netty.NettyEmbeddedServer
+import io.micronaut.http.server.netty.NettyHttpServer
 import io.micronaut.runtime.server.EmbeddedServer
 import io.netty.bootstrap.Bootstrap
 import io.netty.channel.Channel
@@ -213,4 +214,64 @@ class ListenerConfigurationSpec extends Specification {
         where:
         abstract_ << [true, false]
     }
+
+    @IgnoreIf({ !Epoll.isAvailable() })
+    def 'multiple acceptors with SO_REUSEPORT'() {
+        given:
+        def server = (NettyEmbeddedServer) ApplicationContext.run(
+                EmbeddedServer,
+                [
+                        'micronaut.netty.event-loops.default.prefer-native-transport': true,
+                        'micronaut.netty.event-loops.default.num-threads': 4,
+                        'micronaut.netty.event-loops.parent.prefer-native-transport': true,
+                        'micronaut.server.netty.listeners.a.port': -1,
+                        'micronaut.server.netty.listeners.a.acceptors': 4,
+                ])
+        def statistics = ((NettyHttpServer) server).listenerStatistics
+
+        expect:
+        statistics.size() == 4
+        statistics*.acceptor == [0, 1, 2, 3]
+        server.boundPorts.asList() == [server.port]
+
+        when:
+        20.times {
+            def connection = (HttpURLConnection) new URL('http://localhost:' + server.port + '/missing').openConnection()
+            connection.setRequestProperty('Connection', 'close')
+            connection.responseCode
+            connection.disconnect()
+        }
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            statistics.sum { it.acceptedConnections } == 20
+            statistics.sum { it.activeConnections } == 0
+        }
+
+        cleanup:
+        server.close()
+    }
+
+    def 'multiple acceptors fall back to a single socket without SO_REUSEPORT'() {
+        given:
+        def server = (NettyEmbeddedServer) ApplicationContext.run(
+                EmbeddedServer,
+                [
+                        'micronaut.server.netty.listeners.a.port': -1,
+                        'micronaut.server.netty.listeners.a.acceptors': 2,
+                ])
+        def statistics = ((NettyHttpServer) server).listenerStatistics
+
+        when:
+        def connection = (HttpURLConnection) new URL('http://localhost:' + server.port + '/missing').openConnection()
+        connection.responseCode
+        connection.disconnect()
+
+        then:
+        statistics.size() == 1
+        statistics[0].acceptedConnections == 1
+
+        cleanup:
+        server.close()
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.context
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.MediaType
+import io.micronaut.http.MutableHttpRequest
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Filter
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Header
+import io.micronaut.http.annotation.Produces
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.http.filter.ClientFilterChain
+import io.micronaut.http.filter.HttpClientFilter
+import io.micronaut.http.context.ServerRequestContext
+import io.micronaut.reactive.reactor.instrument.ReactorContextPropagation
+import io.micronaut.runtime.server.EmbeddedServer
+import io.micronaut.scheduling.TaskExecutors
+import io.micronaut.scheduling.annotation.ExecuteOn
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import reactor.core.scheduler.Schedulers
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class ReactorContextPropagationSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+            'spec.name': 'ReactorContextPropagationSpec',
+            (ReactorContextPropagation.PROPERTY): 'CONTEXT'
+    ])
+
+    @Shared
+    @AutoCleanup
+    HttpClient client = embeddedServer.applicationContext.createBean(HttpClient, embeddedServer.URL)
+
+    void "test the context mode is enabled"() {
+        expect:
+        embeddedServer.applicationContext.getBean(ReactorContextPropagation).enabled
+    }
+
+    void "test the request is available from the reactor context"() {
+        expect:
+        client.toBlocking().retrieve('/context-propagation/reactor-context') == '/context-propagation/reactor-context'
+    }
+
+    void "test the request is restored for signals leaving the route"() {
+        given:
+        ReactorContextPropagation propagation = embeddedServer.applicationContext.getBean(ReactorContextPropagation)
+        HttpRequest<?> request = HttpRequest.GET('/edge')
+
+        when:
+        String uri = propagation.propagate(request, Mono.just('value').publishOn(Schedulers.parallel()))
+                .map { ServerRequestContext.currentRequest().map { it.path }.orElse('none') }
+                .blockFirst()
+
+        then:
+        uri == '/edge'
+        !ServerRequestContext.currentRequest().isPresent()
+    }
+
+    void "test the request is available on the executor of the route"() {
+        expect:
+        client.toBlocking().retrieve('/context-propagation/executor') == '/context-propagation/executor'
+    }
+
+    void "test the client resolves the parent request from the reactor context"() {
+        expect:
+        client.toBlocking().retrieve('/context-propagation/client') == '/context-propagation/client'
+    }
+
+    @Requires(property = 'spec.name', value = 'ReactorContextPropagationSpec')
+    @Controller('/context-propagation')
+    @Produces(MediaType.TEXT_PLAIN)
+    static class ContextPropagationController {
+
+        private final HttpClient client
+
+        ContextPropagationController(@Client('/') HttpClient client) {
+            this.client = client
+        }
+
+        @Get('/reactor-context')
+        Mono<String> reactorContext() {
+            Mono.deferContextual { ctx -> Mono.just(ctx.get(ServerRequestContext.KEY).path as String) }
+                    .publishOn(Schedulers.parallel())
+        }
+
+        @Get('/executor')
+        @ExecuteOn(TaskExecutors.IO)
+        Mono<String> executor() {
+            Mono.just(ServerRequestContext.currentRequest().map { it.path }.orElse('none'))
+        }
+
+        @Get('/client')
+        Flux<String> client() {
+            Mono.just('/context-propagation/parent')
+                    .publishOn(Schedulers.parallel())
+                    .flatMap { String uri -> Mono.from(client.retrieve(HttpRequest.GET(uri))) }
+                    .flux()
+        }
+
+        @Get('/parent')
+        String parent(@Header('X-Parent-Path') String parentPath) {
+            parentPath
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'ReactorContextPropagationSpec')
+    @Filter('/context-propagation/parent')
+    static class ParentPathFilter implements HttpClientFilter {
+
+        @Override
+        Publisher<? extends HttpResponse<?>> doFilter(MutableHttpRequest<?> request, ClientFilterChain chain) {
+            String parentPath = ServerRequestContext.currentRequest().map { it.path }.orElse('none')
+            chain.proceed(request.header('X-Parent-Path', parentPath))
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.handler.accesslog
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.server.netty.NettyHttpServer
+import io.micronaut.runtime.server.EmbeddedServer
+import org.slf4j.LoggerFactory
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class AsyncAccessLogWriterSpec extends Specification {
+
+    void "test lines are appended to the file"() {
+        given:
+        Path file = Files.createTempFile("access", ".log")
+        AsyncAccessLogWriter writer = new AsyncAccessLogWriter(LoggerFactory.getLogger(AsyncAccessLogWriterSpec), file, 16, 4, AsyncAccessLogWriter.OverflowStrategy.BLOCK)
+
+        when:
+        (1..10).each { writer.write("line $it".toString()) }
+        writer.close()
+
+        then:
+        Files.readAllLines(file) == (1..10).collect { "line $it".toString() }
+        writer.writtenLines == 10
+        writer.droppedLines == 0
+        writer.queueDepth == 0
+
+        cleanup:
+        Files.deleteIfExists(file)
+    }
+
+    void "test lines are dropped and counted when the queue is full"() {
+        given:
+        Path file = Files.createTempFile("access", ".log")
+        AsyncAccessLogWriter writer = new AsyncAccessLogWriter(LoggerFactory.getLogger(AsyncAccessLogWriterSpec), file, 1, 1, AsyncAccessLogWriter.OverflowStrategy.DROP)
+
+        when:
+        int queued = (1..1000).count { writer.write("line $it".toString()) }
+        writer.close()
+
+        then:
+        writer.droppedLines == 1000 - queued
+        writer.writtenLines == queued
+        Files.readAllLines(file).size() == queued
+
+        cleanup:
+        Files.deleteIfExists(file)
+    }
+
+    void "test the server writes the access log asynchronously"() {
+        given:
+        Path file = Files.createTempFile("access", ".log")
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, [
+                'spec.name': 'AsyncAccessLogWriterSpec',
+                'micronaut.server.netty.access-logger.enabled': true,
+                'micronaut.server.netty.access-logger.async.enabled': true,
+                'micronaut.server.netty.access-logger.async.file': file.toString(),
+        ])
+        HttpClient client = server.applicationContext.createBean(HttpClient, server.URL)
+        AsyncAccessLogWriter writer = ((NettyHttpServer) server).accessLogWriter.get()
+
+        when:
+        client.toBlocking().retrieve('/async-access-log')
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert writer.writtenLines == 1
+            assert Files.readAllLines(file).any { it.contains('GET /async-access-log') }
+        }
+
+        when:
+        server.stop()
+
+        then:
+        !((NettyHttpServer) server).accessLogWriter.present
+
+        cleanup:
+        client.close()
+        server.applicationContext.close()
+        Files.deleteIfExists(file)
+    }
+
+    @Requires(property = 'spec.name', value = 'AsyncAccessLogWriterSpec')
+    @Controller
+    static class AsyncAccessLogController {
+        @Get('/async-access-log')
+        String get() {
+            'ok'
+        }
+    }
+}
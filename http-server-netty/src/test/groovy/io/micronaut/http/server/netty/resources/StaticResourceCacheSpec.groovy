@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.resources
+
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.server.netty.AbstractMicronautSpec
+import io.micronaut.http.server.netty.types.files.StaticResourceCache
+import io.micronaut.scheduling.io.watch.event.FileChangedEvent
+import io.micronaut.scheduling.io.watch.event.WatchEventType
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.zip.GZIPOutputStream
+
+import static io.micronaut.http.HttpHeaders.*
+
+class StaticResourceCacheSpec extends AbstractMicronautSpec {
+
+    static Path tempDir
+
+    static {
+        tempDir = Files.createTempDirectory("staticResourceCacheSpec")
+        tempDir.resolve("cached.html").toFile().write("<html><body>cached</body></html>")
+        tempDir.resolve("compressed.html").toFile().write("<html><body>identity</body></html>")
+        tempDir.resolve("compressed.html.gz").toFile().withOutputStream { out ->
+            new GZIPOutputStream(out).withStream { it.write("<html><body>gzip</body></html>".bytes) }
+        }
+    }
+
+    @Override
+    Map<String, Object> getConfiguration() {
+        ['micronaut.router.static-resources.default.paths': ['file:' + tempDir.toString()],
+         'micronaut.server.netty.responses.file.static-cache.enabled': true]
+    }
+
+    @Override
+    void cleanupSpec() {
+        tempDir.toFile().deleteDir()
+    }
+
+    void "test a cached resource is served with an etag"() {
+        when:
+        HttpResponse<String> first = rxClient.toBlocking().exchange(HttpRequest.GET('/cached.html'), String)
+        HttpResponse<String> second = rxClient.toBlocking().exchange(HttpRequest.GET('/cached.html'), String)
+
+        then:
+        first.status == HttpStatus.OK
+        first.body() == "<html><body>cached</body></html>"
+        first.header(CONTENT_TYPE) == "text/html"
+        first.header(ETAG) != null
+        second.body() == first.body()
+        second.header(ETAG) == first.header(ETAG)
+        applicationContext.getBean(StaticResourceCache).size > 0
+    }
+
+    void "test a matching If-None-Match returns not modified"() {
+        given:
+        String etag = rxClient.toBlocking().exchange(HttpRequest.GET('/cached.html'), String).header(ETAG)
+
+        when:
+        HttpResponse<String> response = rxClient.toBlocking().exchange(
+                HttpRequest.GET('/cached.html').header(IF_NONE_MATCH, etag), String)
+
+        then:
+        response.status == HttpStatus.NOT_MODIFIED
+    }
+
+    void "test the precompressed variant is served when accepted"() {
+        when:
+        HttpResponse<String> gzip = rxClient.toBlocking().exchange(
+                HttpRequest.GET('/compressed.html').header(ACCEPT_ENCODING, "gzip"), String)
+        HttpResponse<String> identity = rxClient.toBlocking().exchange(
+                HttpRequest.GET('/compressed.html').header(ACCEPT_ENCODING, "identity"), String)
+
+        then:
+        gzip.body() == "<html><body>gzip</body></html>"
+        identity.body() == "<html><body>identity</body></html>"
+        identity.header(VARY) == ACCEPT_ENCODING
+    }
+
+    void "test a file change invalidates the cached entry"() {
+        given:
+        File file = tempDir.resolve("changing.html").toFile()
+        file.write("<html><body>before</body></html>")
+
+        expect:
+        rxClient.toBlocking().retrieve('/changing.html') == "<html><body>before</body></html>"
+
+        when:
+        file.write("<html><body>after</body></html>")
+        applicationContext.publishEvent(new FileChangedEvent(file.toPath(), WatchEventType.MODIFY))
+
+        then:
+        rxClient.toBlocking().retrieve('/changing.html') == "<html><body>after</body></html>"
+    }
+
+    void "test re-caching a changed file replaces its entry"() {
+        given:
+        StaticResourceCache cache = applicationContext.getBean(StaticResourceCache)
+        File file = tempDir.resolve("recached.html").toFile()
+        file.write("<html><body>0</body></html>")
+        rxClient.toBlocking().retrieve('/recached.html')
+        long size = cache.size
+
+        when:
+        3.times {
+            file.write("<html><body>${it + 1}</body></html>")
+            applicationContext.publishEvent(new FileChangedEvent(file.toPath(), WatchEventType.MODIFY))
+            rxClient.toBlocking().retrieve('/recached.html')
+        }
+
+        then:
+        rxClient.toBlocking().retrieve('/recached.html') == "<html><body>3</body></html>"
+        cache.size == size
+    }
+}
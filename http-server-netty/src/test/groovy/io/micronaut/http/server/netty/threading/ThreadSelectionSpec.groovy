@@ -17,6 +17,7 @@ import io.micronaut.http.filter.HttpServerFilter
 import io.micronaut.http.filter.ServerFilterChain
 import io.micronaut.http.server.exceptions.ExceptionHandler
 import io.micronaut.http.sse.Event
+import io.micronaut.inject.qualifiers.Qualifiers
 import io.micronaut.runtime.server.EmbeddedServer
 import io.micronaut.scheduling.TaskExecutors
 import io.micronaut.scheduling.annotation.ExecuteOn
@@ -36,6 +37,7 @@ class ThreadSelectionSpec extends Specification {
 
     static final String IO = "io-executor-thread-"
     static final String LOOP = "default-nioEventLoopGroup"
+    static final String VIRTUAL = "virtual-executor-thread-"
 
     @Unroll
     void "test thread selection strategy #strategy"() {
@@ -107,6 +109,24 @@ class ThreadSelectionSpec extends Specification {
         ThreadSelection.MANUAL |  "controller: $LOOP" | "handler: $LOOP" | "handler: $IO"
     }
 
+    void "test virtual thread selection runs blocking operations on virtual threads if supported"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, ['micronaut.server.thread-selection': ThreadSelection.VIRTUAL])
+        ThreadSelectionClient client = embeddedServer.applicationContext.getBean(ThreadSelectionClient)
+        boolean supported = embeddedServer.applicationContext.containsBean(ExecutorService, Qualifiers.byName(TaskExecutors.VIRTUAL))
+        String blocking = supported ? VIRTUAL : IO
+
+        expect:
+        client.blocking().contains(blocking)
+        client.reactiveBlocking().contains(blocking)
+        client.nonblocking().contains(LOOP)
+        client.reactive().contains(LOOP)
+        client.scheduleBlocking().contains(IO)
+
+        cleanup:
+        embeddedServer.close()
+    }
+
     void "test injecting an executor service does not inject the Netty event loop"() {
         given:
         EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer)
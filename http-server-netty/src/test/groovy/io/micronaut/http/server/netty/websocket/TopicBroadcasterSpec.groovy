@@ -0,0 +1,122 @@
+package io.micronaut.http.server.netty.websocket
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.MediaType
+import io.micronaut.http.netty.websocket.WebSocketSessionRepository
+import io.micronaut.runtime.server.EmbeddedServer
+import io.micronaut.websocket.WebSocketBroadcaster
+import io.micronaut.websocket.WebSocketClient
+import io.micronaut.websocket.WebSocketSession
+import io.micronaut.websocket.annotation.ClientWebSocket
+import io.micronaut.websocket.annotation.OnMessage
+import io.micronaut.websocket.annotation.OnOpen
+import io.micronaut.websocket.annotation.ServerWebSocket
+import jakarta.inject.Inject
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Flux
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.ConcurrentLinkedQueue
+
+class TopicBroadcasterSpec extends Specification {
+
+    @Shared @AutoCleanup EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+            'spec.name': 'TopicBroadcasterSpec',
+            'micronaut.server.netty.worker.threads': 2
+    ])
+
+    void "test broadcasting to a topic only reaches its subscribers"() {
+        given:
+        PollingConditions conditions = new PollingConditions(timeout: 10)
+        WebSocketClient wsClient = embeddedServer.applicationContext.createBean(WebSocketClient, embeddedServer.getURI())
+        WebSocketSessionRepository repository = embeddedServer.applicationContext.getBean(WebSocketSessionRepository)
+
+        when:
+        RoomClientWebSocket fred = Flux.from(wsClient.connect(RoomClientWebSocket, '/room/a')).blockFirst()
+        RoomClientWebSocket bob = Flux.from(wsClient.connect(RoomClientWebSocket, '/room/a')).blockFirst()
+        RoomClientWebSocket alice = Flux.from(wsClient.connect(RoomClientWebSocket, '/room/b')).blockFirst()
+
+        then:
+        conditions.eventually {
+            assert repository.getSubscribers('a').size() == 2
+            assert repository.getSubscribers('b').size() == 1
+        }
+
+        when:
+        fred.send('hello a')
+        alice.send('hello b')
+
+        then:
+        conditions.eventually {
+            assert fred.replies.toList() == ['hello a']
+            assert bob.replies.toList() == ['hello a']
+            assert alice.replies.toList() == ['hello b']
+        }
+
+        when:
+        bob.close()
+
+        then:
+        conditions.eventually {
+            assert repository.getSubscribers('a').size() == 1
+        }
+
+        when:
+        fred.send('still there')
+
+        then:
+        conditions.eventually {
+            assert fred.replies.toList() == ['hello a', 'still there']
+        }
+        alice.replies.toList() == ['hello b']
+
+        cleanup:
+        fred?.close()
+        alice?.close()
+        wsClient?.close()
+    }
+
+    void "test broadcasting to a topic without subscribers completes"() {
+        given:
+        WebSocketBroadcaster broadcaster = embeddedServer.applicationContext.getBean(WebSocketBroadcaster)
+
+        expect:
+        Flux.from(broadcaster.broadcastToTopic('nobody', MediaType.TEXT_PLAIN_TYPE, 'empty')).blockFirst() == 'nobody'
+    }
+
+    @Requires(property = 'spec.name', value = 'TopicBroadcasterSpec')
+    @ServerWebSocket('/room/{room}')
+    static class RoomServerWebSocket {
+
+        @Inject
+        WebSocketBroadcaster broadcaster
+
+        @OnOpen
+        void onOpen(String room, WebSocketSession session) {
+            broadcaster.subscribe(session, room)
+        }
+
+        @OnMessage
+        Publisher<String> onMessage(String room, String message) {
+            broadcaster.broadcastToTopic(message, MediaType.TEXT_PLAIN_TYPE, room)
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'TopicBroadcasterSpec')
+    @ClientWebSocket('/room/{room}')
+    static abstract class RoomClientWebSocket implements AutoCloseable {
+
+        Collection<String> replies = new ConcurrentLinkedQueue<>()
+
+        @OnMessage
+        void onMessage(String message) {
+            replies.add(message)
+        }
+
+        abstract void send(String message)
+    }
+}
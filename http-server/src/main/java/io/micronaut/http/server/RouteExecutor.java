@@ -47,6 +47,7 @@ import io.micronaut.inject.BeanType;
 import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.inject.MethodReference;
 import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.reactive.reactor.instrument.ReactorContextPropagation;
 import io.micronaut.scheduling.executor.ExecutorSelector;
 import io.micronaut.web.router.MethodBasedRouteMatch;
 import io.micronaut.web.router.RouteInfo;
@@ -105,6 +106,7 @@ public final class RouteExecutor {
     private final ErrorResponseProcessor<?> errorResponseProcessor;
     private final ExecutorSelector executorSelector;
     private final Optional<CoroutineHelper> coroutineHelper;
+    private final ReactorContextPropagation contextPropagation;
 
     /**
      * Default constructor.
@@ -129,6 +131,9 @@ public final class RouteExecutor {
         this.errorResponseProcessor = errorResponseProcessor;
         this.executorSelector = executorSelector;
         this.coroutineHelper = beanContext.findBean(CoroutineHelper.class);
+        this.contextPropagation = beanContext.findBean(ReactorContextPropagation.class)
+                .filter(ReactorContextPropagation::isEnabled)
+                .orElse(null);
     }
 
     /**
@@ -317,25 +322,22 @@ public final class RouteExecutor {
      * @return The default content type declared on the route
      */
     public MediaType resolveDefaultResponseContentType(HttpRequest<?> request, RouteInfo<?> finalRoute) {
-        final List<MediaType> producesList = finalRoute.getProduces();
         if (request != null) {
-            final Iterator<MediaType> i = request.accept().iterator();
-            if (i.hasNext()) {
-                final MediaType mt = i.next();
-                if (producesList.contains(mt)) {
-                    return mt;
+            final List<String> accept = request.getHeaders().getAll(HttpHeaders.ACCEPT);
+            if (accept.size() > 1) {
+                final List<MediaType> producesList = finalRoute.getProduces();
+                final Iterator<MediaType> i = request.accept().iterator();
+                if (i.hasNext()) {
+                    final MediaType mt = i.next();
+                    if (producesList.contains(mt)) {
+                        return mt;
+                    }
                 }
+                return finalRoute.resolveResponseContentType(null);
             }
+            return finalRoute.resolveResponseContentType(accept.isEmpty() ? null : accept.get(0));
         }
-
-        MediaType defaultResponseMediaType;
-        final Iterator<MediaType> produces = producesList.iterator();
-        if (produces.hasNext()) {
-            defaultResponseMediaType = produces.next();
-        } else {
-            defaultResponseMediaType = MediaType.APPLICATION_JSON_TYPE;
-        }
-        return defaultResponseMediaType;
+        return finalRoute.resolveResponseContentType(null);
     }
 
     /**
@@ -616,6 +618,10 @@ public final class RouteExecutor {
                     Flux<MutableHttpResponse<?>> reactiveSequence = executeRoute(requestReference, route);
                     if (executor != null) {
                         reactiveSequence = applyExecutorToPublisher(reactiveSequence, executor);
+                        if (contextPropagation != null) {
+                            // signals published on the executor leave the route pipeline on a different thread
+                            reactiveSequence = contextPropagation.propagate(requestReference.get(), reactiveSequence);
+                        }
                     }
                     return reactiveSequence;
                 });
@@ -661,7 +667,11 @@ public final class RouteExecutor {
                     body = ((Optional<?>) body).orElse(null);
                 }
 
-                return createResponseForBody(httpRequest, body, finalRoute);
+                Flux<MutableHttpResponse<?>> response = createResponseForBody(httpRequest, body, finalRoute);
+                if (contextPropagation != null) {
+                    response = contextPropagation.propagate(httpRequest, response);
+                }
+                return response;
             } catch (Throwable e) {
                 return Flux.error(e);
             }
@@ -23,10 +23,13 @@ import io.micronaut.core.convert.ConversionError;
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpRequest;
+import io.micronaut.http.bind.DefaultRequestBinderRegistry;
 import io.micronaut.http.bind.RequestBinderRegistry;
 import io.micronaut.http.bind.binders.BodyArgumentBinder;
 import io.micronaut.http.bind.binders.NonBlockingBodyArgumentBinder;
 import io.micronaut.http.bind.binders.RequestBeanAnnotationBinder;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.web.router.MethodBasedRouteMatch;
 import io.micronaut.web.router.NullArgument;
 import io.micronaut.web.router.RouteMatch;
 import io.micronaut.web.router.UnresolvedArgument;
@@ -37,6 +40,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A class containing methods to aid in satisfying arguments of a {@link io.micronaut.web.router.Route}.
@@ -49,12 +53,18 @@ import java.util.Optional;
 public class RequestArgumentSatisfier {
 
     private final RequestBinderRegistry binderRegistry;
+    private final boolean bindingPlansEnabled;
+    private final Map<ExecutableMethod<?, ?>, BindingPlan> bindingPlans = new ConcurrentHashMap<>();
 
     /**
      * @param requestBinderRegistry The Request binder registry
      */
     public RequestArgumentSatisfier(RequestBinderRegistry requestBinderRegistry) {
         this.binderRegistry = requestBinderRegistry;
+        // the default registry resolves binders from the argument alone, custom registries may depend on the request
+        this.bindingPlansEnabled = requestBinderRegistry != null
+                && requestBinderRegistry.getClass() == DefaultRequestBinderRegistry.class
+                && isBindingPlanSupported();
     }
 
     /**
@@ -81,10 +91,17 @@ public class RequestArgumentSatisfier {
             argumentValues = Collections.emptyMap();
         } else {
             argumentValues = new LinkedHashMap<>(requiredArguments.size());
+            BindingPlan bindingPlan = findBindingPlan(route, request);
             // Begin try fulfilling the argument requirements
             for (Argument argument : requiredArguments) {
-                getValueForArgument(argument, request, satisfyOptionals).ifPresent(value ->
-                    argumentValues.put(argument.getName(), value));
+                ArgumentBinder argumentBinder = bindingPlan != null ? bindingPlan.findBinder(argument) : null;
+                Optional<Object> value;
+                if (argumentBinder != null) {
+                    value = getValueForArgument(argument, argumentBinder, request, satisfyOptionals);
+                } else {
+                    value = getValueForArgument(argument, request, satisfyOptionals);
+                }
+                value.ifPresent(v -> argumentValues.put(argument.getName(), v));
             }
         }
 
@@ -92,6 +109,18 @@ public class RequestArgumentSatisfier {
         return route;
     }
 
+    /**
+     * Whether the argument binders of a route method may be resolved once and reused. Arguments bound with a reused
+     * binder do not go through {@link #getValueForArgument(Argument, HttpRequest, boolean)}, so this is only the case
+     * if that method is not overridden. Called from the constructor.
+     *
+     * @return True if the binders may be reused
+     * @since 3.8.0
+     */
+    protected boolean isBindingPlanSupported() {
+        return getClass() == RequestArgumentSatisfier.class;
+    }
+
     /**
      * @param argument         The argument
      * @param request          The HTTP request
@@ -99,64 +128,104 @@ public class RequestArgumentSatisfier {
      * @return An {@link Optional} for the value
      */
     protected Optional<Object> getValueForArgument(Argument argument, HttpRequest<?> request, boolean satisfyOptionals) {
-        Object value = null;
         Optional<ArgumentBinder> registeredBinder =
             binderRegistry.findArgumentBinder(argument, request);
         if (registeredBinder.isPresent()) {
-            ArgumentBinder argumentBinder = registeredBinder.get();
-            ArgumentConversionContext conversionContext = ConversionContext.of(
-                argument,
-                request.getLocale().orElse(null),
-                request.getCharacterEncoding()
-            );
-
-            if (argumentBinder instanceof BodyArgumentBinder) {
-                if (argumentBinder instanceof NonBlockingBodyArgumentBinder) {
-                    ArgumentBinder.BindingResult bindingResult = argumentBinder
-                        .bind(conversionContext, request);
-
-                    if (bindingResult.isPresentAndSatisfied()) {
-                        value = bindingResult.get();
-                    } else if (bindingResult.isSatisfied() && argument.isNullable()) {
-                        value = NullArgument.INSTANCE;
-                    }
-                } else {
-                    value = getValueForBlockingBodyArgumentBinder(request, argumentBinder, conversionContext);
-                }
-            } else if (argumentBinder instanceof RequestBeanAnnotationBinder) {
-                // Resolve RequestBean after filters since some field types may depend on filters, i.e. Authentication
-                value = (UnresolvedArgument<?>) () -> argumentBinder.bind(conversionContext, request);
-            } else {
-                ArgumentBinder.BindingResult bindingResult = argumentBinder.bind(conversionContext, request);
-
-                if (argument.getType() == Optional.class) {
-                    if (bindingResult.isSatisfied() || satisfyOptionals) {
-                        Optional optionalValue = bindingResult.getValue();
-                        if (optionalValue.isPresent()) {
-                            value = optionalValue.get();
-                        } else {
-                            value = optionalValue;
-                        }
-                    }
-                } else if (bindingResult.isPresentAndSatisfied()) {
+            return getValueForArgument(argument, registeredBinder.get(), request, satisfyOptionals);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param argument         The argument
+     * @param argumentBinder   The binder resolved for the argument
+     * @param request          The HTTP request
+     * @param satisfyOptionals Whether to satisfy optionals
+     * @return An {@link Optional} for the value
+     * @since 3.8.0
+     */
+    protected Optional<Object> getValueForArgument(Argument argument, ArgumentBinder argumentBinder, HttpRequest<?> request, boolean satisfyOptionals) {
+        Object value = null;
+        ArgumentConversionContext conversionContext = ConversionContext.of(
+            argument,
+            request.getLocale().orElse(null),
+            request.getCharacterEncoding()
+        );
+
+        if (argumentBinder instanceof BodyArgumentBinder) {
+            if (argumentBinder instanceof NonBlockingBodyArgumentBinder) {
+                ArgumentBinder.BindingResult bindingResult = argumentBinder
+                    .bind(conversionContext, request);
+
+                if (bindingResult.isPresentAndSatisfied()) {
                     value = bindingResult.get();
                 } else if (bindingResult.isSatisfied() && argument.isNullable()) {
                     value = NullArgument.INSTANCE;
-                } else if (HttpMethod.requiresRequestBody(request.getMethod()) || argument.isNullable() || conversionContext.hasErrors()) {
-                    value = (UnresolvedArgument) () -> {
-                        ArgumentBinder.BindingResult result = argumentBinder.bind(conversionContext, request);
-                        Optional<ConversionError> lastError = conversionContext.getLastError();
-                        if (lastError.isPresent()) {
-                            return (ArgumentBinder.BindingResult) () -> lastError;
-                        }
-                        return result;
-                    };
                 }
+            } else {
+                value = getValueForBlockingBodyArgumentBinder(request, argumentBinder, conversionContext);
+            }
+        } else if (argumentBinder instanceof RequestBeanAnnotationBinder) {
+            // Resolve RequestBean after filters since some field types may depend on filters, i.e. Authentication
+            value = (UnresolvedArgument<?>) () -> argumentBinder.bind(conversionContext, request);
+        } else {
+            ArgumentBinder.BindingResult bindingResult = argumentBinder.bind(conversionContext, request);
+
+            if (argument.getType() == Optional.class) {
+                if (bindingResult.isSatisfied() || satisfyOptionals) {
+                    Optional optionalValue = bindingResult.getValue();
+                    if (optionalValue.isPresent()) {
+                        value = optionalValue.get();
+                    } else {
+                        value = optionalValue;
+                    }
+                }
+            } else if (bindingResult.isPresentAndSatisfied()) {
+                value = bindingResult.get();
+            } else if (bindingResult.isSatisfied() && argument.isNullable()) {
+                value = NullArgument.INSTANCE;
+            } else if (HttpMethod.requiresRequestBody(request.getMethod()) || argument.isNullable() || conversionContext.hasErrors()) {
+                value = (UnresolvedArgument) () -> {
+                    ArgumentBinder.BindingResult result = argumentBinder.bind(conversionContext, request);
+                    Optional<ConversionError> lastError = conversionContext.getLastError();
+                    if (lastError.isPresent()) {
+                        return (ArgumentBinder.BindingResult) () -> lastError;
+                    }
+                    return result;
+                };
             }
         }
         return Optional.ofNullable(value);
     }
 
+    /**
+     * Returns the binding plan of the route, creating it on the first request for the route method.
+     *
+     * @param route   The route
+     * @param request The request
+     * @return The binding plan or {@code null} if the route is not method based
+     */
+    private BindingPlan findBindingPlan(RouteMatch<?> route, HttpRequest<?> request) {
+        if (!bindingPlansEnabled || !(route instanceof MethodBasedRouteMatch)) {
+            return null;
+        }
+        ExecutableMethod<?, ?> executableMethod = ((MethodBasedRouteMatch<?, ?>) route).getExecutableMethod();
+        BindingPlan bindingPlan = bindingPlans.get(executableMethod);
+        if (bindingPlan == null) {
+            Argument<?>[] arguments = executableMethod.getArguments();
+            ArgumentBinder[] binders = new ArgumentBinder[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                binders[i] = (ArgumentBinder) binderRegistry.findArgumentBinder((Argument) arguments[i], request).orElse(null);
+            }
+            bindingPlan = new BindingPlan(arguments, binders);
+            BindingPlan existing = bindingPlans.putIfAbsent(executableMethod, bindingPlan);
+            if (existing != null) {
+                bindingPlan = existing;
+            }
+        }
+        return bindingPlan;
+    }
+
     /**
      *
      * @param request The request
@@ -167,4 +236,30 @@ public class RequestArgumentSatisfier {
     private Object getValueForBlockingBodyArgumentBinder(HttpRequest<?> request, ArgumentBinder argumentBinder, ArgumentConversionContext conversionContext) {
         return (UnresolvedArgument) () -> argumentBinder.bind(conversionContext, request);
     }
+
+    /**
+     * The argument binders resolved once for the arguments of a route method.
+     */
+    private static final class BindingPlan {
+        private final Argument<?>[] arguments;
+        private final ArgumentBinder[] binders;
+
+        BindingPlan(Argument<?>[] arguments, ArgumentBinder[] binders) {
+            this.arguments = arguments;
+            this.binders = binders;
+        }
+
+        /**
+         * @param argument The argument
+         * @return The binder or {@code null} if the argument is not part of the plan
+         */
+        ArgumentBinder findBinder(Argument<?> argument) {
+            for (int i = 0; i < arguments.length; i++) {
+                if (arguments[i] == argument) {
+                    return binders[i];
+                }
+            }
+            return null;
+        }
+    }
 }
@@ -17,7 +17,6 @@ package io.micronaut.http;
 
 import io.micronaut.core.convert.ConversionContext;
 import io.micronaut.core.type.Headers;
-import io.micronaut.core.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -589,16 +588,12 @@ public interface HttpHeaders extends Headers {
      */
     default List<MediaType> accept() {
         final List<String> values = getAll(HttpHeaders.ACCEPT);
-        if (!values.isEmpty()) {
+        if (values.size() == 1) {
+            return MediaType.listOf(values.get(0));
+        } else if (!values.isEmpty()) {
             List<MediaType> mediaTypes = new ArrayList<>(10);
             for (String value : values) {
-                for (String token : StringUtils.splitOmitEmptyStrings(value, ',')) {
-                    try {
-                        mediaTypes.add(MediaType.of(token));
-                    } catch (IllegalArgumentException e) {
-                        // ignore
-                    }
-                }
+                mediaTypes.addAll(MediaType.listOf(value));
             }
             return mediaTypes;
         } else {
@@ -24,6 +24,7 @@ import io.micronaut.core.naming.NameUtils;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
 import io.micronaut.core.value.OptionalValues;
 import io.micronaut.http.annotation.Produces;
 import org.slf4j.Logger;
@@ -41,7 +42,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -386,11 +386,27 @@ public class MediaType implements CharSequence {
 
     private static final char SEMICOLON = ';';
 
+    /**
+     * The maximum number of parsed values kept by each of the media type caches.
+     */
+    private static final int CACHE_SIZE = 512;
+
+    /**
+     * Longer values, which are unlikely to repeat, are parsed without being cached.
+     */
+    private static final int MAX_CACHED_LENGTH = 256;
+
     @SuppressWarnings("ConstantName")
     private static final String MIME_TYPES_FILE_NAME = "META-INF/http/mime.types";
     private static Map<String, String> mediaTypeFileExtensions;
     @SuppressWarnings("ConstantName")
     private static final List<Pattern> textTypePatterns = new ArrayList<>(4);
+    private static final Map<String, MediaType> MEDIA_TYPE_CACHE =
+            new ConcurrentLinkedHashMap.Builder<String, MediaType>().maximumWeightedCapacity(CACHE_SIZE).build();
+    private static final Map<String, List<MediaType>> MEDIA_TYPE_LIST_CACHE =
+            new ConcurrentLinkedHashMap.Builder<String, List<MediaType>>().maximumWeightedCapacity(CACHE_SIZE).build();
+    private static final Map<String, List<MediaType>> ORDERED_MEDIA_TYPE_LIST_CACHE =
+            new ConcurrentLinkedHashMap.Builder<String, List<MediaType>>().maximumWeightedCapacity(CACHE_SIZE).build();
 
     protected final String name;
     protected final String subtype;
@@ -569,10 +585,52 @@ public class MediaType implements CharSequence {
             case IMAGE_WEBP:
                 return IMAGE_WEBP_TYPE;
             default:
-                return new MediaType(mediaType);
+                if (mediaType.length() > MAX_CACHED_LENGTH) {
+                    return new MediaType(mediaType);
+                }
+                MediaType cached = MEDIA_TYPE_CACHE.get(mediaType);
+                if (cached == null) {
+                    cached = new MediaType(mediaType);
+                    MEDIA_TYPE_CACHE.put(mediaType, cached);
+                }
+                return cached;
         }
     }
 
+    /**
+     * Parses the media types of a comma separated header value, such as the value of the {@code Accept} header, in
+     * the order they appear. Invalid media types are ignored. The result is cached, since clients usually send the
+     * same few header values.
+     *
+     * @param value The header value
+     * @return The media types
+     * @since 3.8.0
+     */
+    @NonNull
+    public static List<MediaType> listOf(@NonNull String value) {
+        if (value.length() > MAX_CACHED_LENGTH) {
+            return parseList(value);
+        }
+        List<MediaType> cached = MEDIA_TYPE_LIST_CACHE.get(value);
+        if (cached == null) {
+            cached = parseList(value);
+            MEDIA_TYPE_LIST_CACHE.put(value, cached);
+        }
+        return cached;
+    }
+
+    private static List<MediaType> parseList(String value) {
+        List<MediaType> mediaTypes = new ArrayList<>(4);
+        for (String token : StringUtils.splitOmitEmptyStrings(value, ',')) {
+            try {
+                mediaTypes.add(MediaType.of(token));
+            } catch (IllegalArgumentException e) {
+                // ignore
+            }
+        }
+        return Collections.unmodifiableList(mediaTypes);
+    }
+
     /**
      * Determine if this requested content type can be satisfied by a given content type. e.g. text/* will be satisfied by test/html.
      *
@@ -760,36 +818,45 @@ public class MediaType implements CharSequence {
      */
     public static List<MediaType> orderedOf(List<? extends CharSequence> values) {
         if (CollectionUtils.isNotEmpty(values)) {
-            List<MediaType> mediaTypes = new LinkedList<>();
-            for (CharSequence value : values) {
-                for (String token : StringUtils.splitOmitEmptyStrings(value, ',')) {
-                    try {
-                        mediaTypes.add(MediaType.of(token));
-                    } catch (IllegalArgumentException e) {
-                        // ignore
+            if (values.size() == 1) {
+                String value = values.get(0).toString();
+                if (value.length() <= MAX_CACHED_LENGTH) {
+                    List<MediaType> cached = ORDERED_MEDIA_TYPE_LIST_CACHE.get(value);
+                    if (cached == null) {
+                        cached = order(listOf(value));
+                        ORDERED_MEDIA_TYPE_LIST_CACHE.put(value, cached);
                     }
+                    return cached;
                 }
             }
-            mediaTypes = new ArrayList<>(mediaTypes);
-            mediaTypes.sort((o1, o2) -> {
-                //The */* type is always last
-                if (o1.type.equals("*")) {
-                    return 1;
-                } else if (o2.type.equals("*")) {
-                    return -1;
-                }
-                if (o2.subtype.equals("*") && !o1.subtype.equals("*")) {
-                    return -1;
-                } else if (o1.subtype.equals("*") && !o2.subtype.equals("*")) {
-                    return 1;
-                }
-                return o2.getQualityAsNumber().compareTo(o1.getQualityAsNumber());
-            });
-            return Collections.unmodifiableList(mediaTypes);
+            List<MediaType> mediaTypes = new ArrayList<>();
+            for (CharSequence value : values) {
+                mediaTypes.addAll(parseList(value.toString()));
+            }
+            return order(mediaTypes);
         }
         return Collections.emptyList();
     }
 
+    private static List<MediaType> order(List<MediaType> values) {
+        List<MediaType> mediaTypes = new ArrayList<>(values);
+        mediaTypes.sort((o1, o2) -> {
+            //The */* type is always last
+            if (o1.type.equals("*")) {
+                return 1;
+            } else if (o2.type.equals("*")) {
+                return -1;
+            }
+            if (o2.subtype.equals("*") && !o1.subtype.equals("*")) {
+                return -1;
+            } else if (o1.subtype.equals("*") && !o2.subtype.equals("*")) {
+                return 1;
+            }
+            return o2.getQualityAsNumber().compareTo(o1.getQualityAsNumber());
+        });
+        return Collections.unmodifiableList(mediaTypes);
+    }
+
     /**
      * Create a new {@link MediaType} from the given text.
      *
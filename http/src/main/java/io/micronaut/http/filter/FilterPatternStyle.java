@@ -23,7 +23,7 @@ import io.micronaut.core.util.PathMatcher;
 public enum FilterPatternStyle {
   /**
    * Ant-style pattern matching.
-   * @see io.micronaut.core.util.AntPathMatcher
+   * @see io.micronaut.core.util.CompiledAntPathMatcher
    */
   ANT,
   /**
@@ -33,7 +33,7 @@ public enum FilterPatternStyle {
   REGEX;
 
   public PathMatcher getPathMatcher() {
-    return this.equals(FilterPatternStyle.REGEX) ? PathMatcher.REGEX : PathMatcher.ANT;
+    return this.equals(FilterPatternStyle.REGEX) ? PathMatcher.REGEX : PathMatcher.COMPILED_ANT;
   }
 
   public static FilterPatternStyle defaultStyle() {
@@ -15,6 +15,8 @@
  */
 package io.micronaut.http.uri;
 
+import io.micronaut.core.annotation.Internal;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -39,6 +41,7 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
     protected StringBuilder pattern;
     protected List<UriMatchVariable> variables;
     private final Pattern matchPattern;
+    private final UriSegmentMatcher segmentMatcher;
     private final boolean isRoot;
     private final boolean exactMatch;
 
@@ -71,6 +74,7 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
             this.matchPattern = Pattern.compile(pattern.toString());
             this.exactMatch = false;
         }
+        this.segmentMatcher = matchPattern != null ? UriSegmentMatcher.compile(matchPattern.pattern()) : null;
         this.isRoot = isRoot();
         // cleanup / reduce memory consumption
         this.pattern = null;
@@ -94,6 +98,7 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
             this.matchPattern = matchPattern;
             this.exactMatch = false;
         }
+        this.segmentMatcher = this.matchPattern != null ? UriSegmentMatcher.compile(this.matchPattern.pattern()) : null;
     }
 
     /**
@@ -143,6 +148,41 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
         });
     }
 
+    /**
+     * Returns the literal text any URI matched by this template has to start with. Only the raw
+     * segments preceding the first variable contribute to the prefix.
+     *
+     * @return The literal prefix, or an empty string if the template starts with a variable
+     * @since 3.8.0
+     */
+    @Internal
+    public String getLiteralPrefix() {
+        if (exactMatch) {
+            return templateString;
+        }
+        String regex = matchPattern.pattern();
+        StringBuilder prefix = new StringBuilder();
+        int i = 0;
+        int length = regex.length();
+        while (i < length) {
+            if (regex.startsWith("\\Q", i)) {
+                int end = regex.indexOf("\\E", i + 2);
+                if (end == -1) {
+                    break;
+                }
+                prefix.append(regex, i + 2, end);
+                i = end + 2;
+            } else if (regex.startsWith("\\\\E", i)) {
+                // Pattern.quote escapes a literal \E as \\E outside of the quoted block
+                prefix.append("\\E");
+                i += 3;
+            } else {
+                break;
+            }
+        }
+        return prefix.toString();
+    }
+
     /**
      * Match the given URI string.
      *
@@ -155,8 +195,9 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
             throw new IllegalArgumentException("Argument 'uri' cannot be null");
         }
         int length = uri.length();
+        int end = length;
         if (length > 1 && uri.charAt(length - 1) == '/') {
-            uri = uri.substring(0, length - 1);
+            end--;
         }
 
         if (isRoot && (length == 0 || (length == 1 && uri.charAt(0) == '/'))) {
@@ -167,21 +208,43 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
         }
         //Remove any url parameters before matching
         int parameterIndex = uri.indexOf('?');
-        if (parameterIndex > -1) {
-            uri = uri.substring(0, parameterIndex);
+        if (parameterIndex > -1 && parameterIndex < end) {
+            end = parameterIndex;
         }
-        if (uri.endsWith("/")) {
-            uri = uri.substring(0, uri.length() - 1);
+        if (end > 0 && uri.charAt(end - 1) == '/') {
+            end--;
         }
         if (exactMatch) {
-            if (uri.equals(templateString)) {
+            if (end == templateString.length() && uri.startsWith(templateString)) {
                 if (exactMatchInfo == null) {
-                    exactMatchInfo = Optional.of(new DefaultUriMatchInfo(uri, Collections.emptyMap(), variables));
+                    exactMatchInfo = Optional.of(new DefaultUriMatchInfo(templateString, Collections.emptyMap(), variables));
                 }
                 return exactMatchInfo;
             }
             return Optional.empty();
         }
+        if (segmentMatcher != null && segmentMatcher.supports(uri, end)) {
+            // only allocate once the path is known to match
+            if (!segmentMatcher.matches(uri, end)) {
+                return Optional.empty();
+            }
+            String path = end == length ? uri : uri.substring(0, end);
+            if (variables.isEmpty()) {
+                return Optional.of(new DefaultUriMatchInfo(path, Collections.emptyMap(), variables));
+            }
+            int[] captures = segmentMatcher.capture(uri, end);
+            int count = segmentMatcher.getGroupCount();
+            Map<String, Object> variableMap = new LinkedHashMap<>(count * 2);
+            for (int j = 0; j < variables.size() && j < count; j++) {
+                int start = captures[j * 2];
+                String value = start == -1 ? null : uri.substring(start, captures[j * 2 + 1]);
+                variableMap.put(variables.get(j).getName(), value);
+            }
+            return Optional.of(new DefaultUriMatchInfo(path, variableMap, variables));
+        }
+        if (end < length) {
+            uri = uri.substring(0, end);
+        }
         Matcher matcher = matchPattern.matcher(uri);
         if (matcher.matches()) {
             if (variables.isEmpty()) {
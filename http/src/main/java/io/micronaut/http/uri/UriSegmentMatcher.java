@@ -0,0 +1,475 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.uri;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Matches a URI against the segments of a {@link UriMatchTemplate} without going through {@link java.util.regex}.</p>
+ *
+ * <p>The matcher is compiled from the match pattern produced by {@link UriMatchTemplate.UriMatchTemplateParser} and
+ * only understands the subset of regular expressions the parser emits for raw segments and for variables that use
+ * no operator, the reserved ({@code +}), path ({@code /}) or label ({@code .}) operator with an optional modifier
+ * consisting of a single character class and a quantifier. Matching backtracks in the same order as
+ * {@link java.util.regex.Matcher#matches()}, hence both produce the same variable values. Patterns outside of
+ * this subset cannot be compiled and continue to be matched with the regular expression.</p>
+ *
+ * <p>Neither {@link #matches(String, int)} nor a failed match allocates. The variable boundaries are only
+ * captured by {@link #capture(String, int)} once a match has been confirmed.</p>
+ *
+ * @since 3.8.0
+ */
+@Internal
+final class UriSegmentMatcher {
+
+    private final Token[] tokens;
+    private final int groupCount;
+
+    private UriSegmentMatcher(Token[] tokens, int groupCount) {
+        this.tokens = tokens;
+        this.groupCount = groupCount;
+    }
+
+    /**
+     * Compiles the given match pattern.
+     *
+     * @param regex The pattern produced by the template parser
+     * @return The matcher or {@code null} if the pattern is not supported
+     */
+    @Nullable
+    static UriSegmentMatcher compile(String regex) {
+        return new Compiler(regex).compile();
+    }
+
+    /**
+     * @return The number of variable groups
+     */
+    int getGroupCount() {
+        return groupCount;
+    }
+
+    /**
+     * Regular expressions operate on code points, this matcher on chars. Surrogate pairs change the length of
+     * a variable, so URIs containing them need to be matched with the regular expression.
+     *
+     * @param uri The URI
+     * @param end The end of the path within the URI
+     * @return Whether this matcher can be used for the URI
+     */
+    boolean supports(String uri, int end) {
+        for (int i = 0; i < end; i++) {
+            if (Character.isSurrogate(uri.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param uri The URI
+     * @param end The end of the path within the URI
+     * @return True if the path matches
+     */
+    boolean matches(String uri, int end) {
+        return match(uri, end, 0, 0, null);
+    }
+
+    /**
+     * Captures the variable values of a matching path.
+     *
+     * @param uri The URI
+     * @param end The end of the path within the URI
+     * @return The start and end index of each variable group, {@code -1} for absent groups or {@code null} if the path does not match
+     */
+    @Nullable
+    int[] capture(String uri, int end) {
+        int[] captures = new int[groupCount * 2];
+        return match(uri, end, 0, 0, captures) ? captures : null;
+    }
+
+    private boolean match(String uri, int end, int index, int pos, @Nullable int[] captures) {
+        if (index == tokens.length) {
+            return pos == end;
+        }
+        Token token = tokens[index];
+        if (token.literal != null) {
+            int length = token.literal.length();
+            return pos + length <= end
+                    && uri.regionMatches(pos, token.literal, 0, length)
+                    && match(uri, end, index + 1, pos + length, captures);
+        }
+        if (token.prefix != 0) {
+            if (pos < end && uri.charAt(pos) == token.prefix && matchVariable(uri, end, index, token, pos + 1, captures)) {
+                return true;
+            }
+            if (token.prefixOptional && matchVariable(uri, end, index, token, pos, captures)) {
+                return true;
+            }
+        } else if (matchVariable(uri, end, index, token, pos, captures)) {
+            return true;
+        }
+        if (token.optional) {
+            if (captures != null) {
+                captures[token.group * 2] = -1;
+                captures[token.group * 2 + 1] = -1;
+            }
+            return match(uri, end, index + 1, pos, captures);
+        }
+        return false;
+    }
+
+    private boolean matchVariable(String uri, int end, int index, Token token, int start, @Nullable int[] captures) {
+        int maxEnd = end - start > token.max ? start + token.max : end;
+        int limit = start;
+        while (limit < maxEnd && token.characters.matches(uri.charAt(limit))) {
+            limit++;
+        }
+        int minEnd = start + token.min;
+        if (minEnd > limit) {
+            return false;
+        }
+        if (token.lazy) {
+            for (int i = minEnd; i <= limit; i++) {
+                if (matchRemaining(uri, end, index, token, start, i, captures)) {
+                    return true;
+                }
+            }
+        } else {
+            for (int i = limit; i >= minEnd; i--) {
+                if (matchRemaining(uri, end, index, token, start, i, captures)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean matchRemaining(String uri, int end, int index, Token token, int start, int variableEnd, @Nullable int[] captures) {
+        if (captures != null) {
+            captures[token.group * 2] = start;
+            captures[token.group * 2 + 1] = variableEnd;
+        }
+        return match(uri, end, index + 1, variableEnd, captures);
+    }
+
+    /**
+     * A raw segment or a variable group.
+     */
+    private static final class Token {
+        final String literal;
+        final char prefix;
+        final boolean prefixOptional;
+        final CharacterSet characters;
+        final int min;
+        final int max;
+        final boolean lazy;
+        final boolean optional;
+        final int group;
+
+        Token(String literal) {
+            this(literal, (char) 0, false, null, 0, 0, false, false, -1);
+        }
+
+        Token(String literal, char prefix, boolean prefixOptional, CharacterSet characters, int min, int max, boolean lazy, boolean optional, int group) {
+            this.literal = literal;
+            this.prefix = prefix;
+            this.prefixOptional = prefixOptional;
+            this.characters = characters;
+            this.min = min;
+            this.max = max;
+            this.lazy = lazy;
+            this.optional = optional;
+            this.group = group;
+        }
+    }
+
+    /**
+     * The characters a variable may consist of, equivalent to a regular expression character class.
+     */
+    private static final class CharacterSet {
+        private static final int DIGIT = 1;
+        private static final int WORD = 1 << 1;
+        private static final int SPACE = 1 << 2;
+        private static final int NON_DIGIT = 1 << 3;
+        private static final int NON_WORD = 1 << 4;
+        private static final int NON_SPACE = 1 << 5;
+        private static final int ANY_BUT_LINE_TERMINATOR = 1 << 6;
+
+        private final boolean negated;
+        private final String singles;
+        private final String ranges;
+        private final int predefined;
+
+        CharacterSet(boolean negated, String singles, String ranges, int predefined) {
+            this.negated = negated;
+            this.singles = singles;
+            this.ranges = ranges;
+            this.predefined = predefined;
+        }
+
+        boolean matches(char c) {
+            return contains(c) != negated;
+        }
+
+        private boolean contains(char c) {
+            if (singles.indexOf(c) > -1) {
+                return true;
+            }
+            for (int i = 0; i < ranges.length(); i += 2) {
+                if (c >= ranges.charAt(i) && c <= ranges.charAt(i + 1)) {
+                    return true;
+                }
+            }
+            if (predefined != 0) {
+                boolean digit = c >= '0' && c <= '9';
+                boolean word = digit || c == '_' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+                boolean space = c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+                return ((predefined & DIGIT) != 0 && digit)
+                        || ((predefined & NON_DIGIT) != 0 && !digit)
+                        || ((predefined & WORD) != 0 && word)
+                        || ((predefined & NON_WORD) != 0 && !word)
+                        || ((predefined & SPACE) != 0 && space)
+                        || ((predefined & NON_SPACE) != 0 && !space)
+                        || ((predefined & ANY_BUT_LINE_TERMINATOR) != 0 && c != '\n' && c != '\r' && c != '\u0085' && c != '\u2028' && c != '\u2029');
+            }
+            return false;
+        }
+
+        static int predefined(char c) {
+            switch (c) {
+                case 'd':
+                    return DIGIT;
+                case 'D':
+                    return NON_DIGIT;
+                case 'w':
+                    return WORD;
+                case 'W':
+                    return NON_WORD;
+                case 's':
+                    return SPACE;
+                case 'S':
+                    return NON_SPACE;
+                default:
+                    return 0;
+            }
+        }
+    }
+
+    /**
+     * Compiles the supported subset of the match pattern into tokens.
+     */
+    private static final class Compiler {
+        private final String regex;
+        private final List<Token> tokens = new ArrayList<>();
+        private int pos;
+        private int groups;
+
+        Compiler(String regex) {
+            this.regex = regex;
+        }
+
+        UriSegmentMatcher compile() {
+            StringBuilder literal = new StringBuilder();
+            while (pos < regex.length()) {
+                if (regex.startsWith("\\Q", pos)) {
+                    int end = regex.indexOf("\\E", pos + 2);
+                    if (end == -1) {
+                        return null;
+                    }
+                    literal.append(regex, pos + 2, end);
+                    pos = end + 2;
+                } else if (regex.startsWith("\\\\E", pos)) {
+                    literal.append("\\E");
+                    pos += 3;
+                } else if (regex.charAt(pos) == '(') {
+                    if (literal.length() > 0) {
+                        tokens.add(new Token(literal.toString()));
+                        literal.setLength(0);
+                    }
+                    Token token = group();
+                    if (token == null) {
+                        return null;
+                    }
+                    tokens.add(token);
+                } else {
+                    return null;
+                }
+            }
+            if (literal.length() > 0) {
+                tokens.add(new Token(literal.toString()));
+            }
+            return new UriSegmentMatcher(tokens.toArray(new Token[0]), groups);
+        }
+
+        /**
+         * Parses {@code (<prefix>?((<characters><quantifier>))?}.
+         */
+        private Token group() {
+            pos++;
+            char prefix = 0;
+            boolean prefixOptional = false;
+            if (regex.startsWith("\\/", pos) || regex.startsWith("\\.", pos)) {
+                prefix = regex.charAt(pos + 1);
+                pos += 2;
+                if (next('?')) {
+                    prefixOptional = true;
+                }
+            }
+            if (!next('(')) {
+                return null;
+            }
+            CharacterSet characters = characters();
+            if (characters == null) {
+                return null;
+            }
+            int min = 1;
+            int max = 1;
+            boolean lazy = false;
+            if (pos < regex.length()) {
+                char c = regex.charAt(pos);
+                if (c == '+' || c == '*' || c == '?') {
+                    pos++;
+                    min = c == '+' ? 1 : 0;
+                    max = c == '?' ? 1 : Integer.MAX_VALUE;
+                } else if (c == '{') {
+                    int close = regex.indexOf('}', pos);
+                    if (close == -1) {
+                        return null;
+                    }
+                    String bounds = regex.substring(pos + 1, close);
+                    int comma = bounds.indexOf(',');
+                    try {
+                        if (comma == -1) {
+                            min = Integer.parseInt(bounds);
+                            max = min;
+                        } else {
+                            min = Integer.parseInt(bounds.substring(0, comma));
+                            String upper = bounds.substring(comma + 1);
+                            max = upper.isEmpty() ? Integer.MAX_VALUE : Integer.parseInt(upper);
+                        }
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                    if (min > max) {
+                        return null;
+                    }
+                    pos = close + 1;
+                }
+                if (min != 1 || max != 1) {
+                    lazy = next('?');
+                }
+            }
+            if (!next(')') || !next(')')) {
+                return null;
+            }
+            boolean optional = next('?');
+            return new Token(null, prefix, prefixOptional, characters, min, max, lazy, optional, groups++);
+        }
+
+        /**
+         * Parses a single character class, predefined class or {@code .}.
+         */
+        private CharacterSet characters() {
+            if (pos >= regex.length()) {
+                return null;
+            }
+            char c = regex.charAt(pos);
+            if (c == '.') {
+                pos++;
+                return new CharacterSet(false, "", "", CharacterSet.ANY_BUT_LINE_TERMINATOR);
+            }
+            if (c == '\\') {
+                if (pos + 1 >= regex.length()) {
+                    return null;
+                }
+                int predefined = CharacterSet.predefined(regex.charAt(pos + 1));
+                if (predefined == 0) {
+                    return null;
+                }
+                pos += 2;
+                return new CharacterSet(false, "", "", predefined);
+            }
+            if (c != '[') {
+                return null;
+            }
+            pos++;
+            boolean negated = next('^');
+            StringBuilder singles = new StringBuilder();
+            StringBuilder ranges = new StringBuilder();
+            int predefined = 0;
+            boolean first = true;
+            while (true) {
+                if (pos >= regex.length()) {
+                    return null;
+                }
+                c = regex.charAt(pos);
+                if (c == ']' && !first) {
+                    pos++;
+                    break;
+                }
+                first = false;
+                if (c == '[' || c == ']' || regex.startsWith("&&", pos)) {
+                    // nested classes and intersections are not supported
+                    return null;
+                }
+                char single;
+                if (c == '\\') {
+                    if (pos + 1 >= regex.length()) {
+                        return null;
+                    }
+                    char escaped = regex.charAt(pos + 1);
+                    int p = CharacterSet.predefined(escaped);
+                    pos += 2;
+                    if (p != 0) {
+                        predefined |= p;
+                        continue;
+                    }
+                    if (Character.isLetterOrDigit(escaped)) {
+                        // unicode, octal, control and property escapes
+                        return null;
+                    }
+                    single = escaped;
+                } else {
+                    single = c;
+                    pos++;
+                }
+                if (pos + 1 < regex.length() && regex.charAt(pos) == '-' && regex.charAt(pos + 1) != ']') {
+                    char upper = regex.charAt(pos + 1);
+                    if (upper == '\\' || upper == '[' || upper < single) {
+                        return null;
+                    }
+                    ranges.append(single).append(upper);
+                    pos += 2;
+                } else {
+                    singles.append(single);
+                }
+            }
+            return new CharacterSet(negated, singles.toString(), ranges.toString(), predefined);
+        }
+
+        private boolean next(char c) {
+            if (pos < regex.length() && regex.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -141,4 +141,25 @@ class MediaTypeSpec extends Specification {
         "text/plain"            | "text/hml"            | false
         "text/*"                | "application/json"    | false
     }
+
+    void "test parsed media types are interned"() {
+        expect:
+        MediaType.of("application/vnd.github.v3+json;charset=UTF-8").is(MediaType.of("application/vnd.github.v3+json;charset=UTF-8"))
+        MediaType.of("application/vnd.github.v3+json;charset=UTF-8").charset.get().name() == "UTF-8"
+        !MediaType.of("application/x" + ("y" * 300)).is(MediaType.of("application/x" + ("y" * 300)))
+    }
+
+    void "test parsed header values are cached"() {
+        expect:
+        MediaType.listOf("text/html, invalid, application/json;q=0.9") == [MediaType.TEXT_HTML_TYPE, new MediaType("application/json;q=0.9")]
+        MediaType.listOf("text/html, application/json;q=0.9").is(MediaType.listOf("text/html, application/json;q=0.9"))
+        MediaType.orderedOf("audio/basic;q=.5, application/json").is(MediaType.orderedOf("audio/basic;q=.5, application/json"))
+        MediaType.orderedOf("audio/basic;q=.5, application/json") == [MediaType.APPLICATION_JSON_TYPE, new MediaType("audio/basic;q=.5")]
+
+        when:
+        MediaType.listOf("text/html").add(MediaType.APPLICATION_JSON_TYPE)
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
 }
@@ -134,6 +134,10 @@ class UriMatchTemplateSpec extends Specification {
         "/books{?max,offset}"            | "/books?foo=bar"           | true    | [:] //query parameters are not considered for matching
         "/books{#hashtag}"               | "/books"                   | true    | [:]
         "/{?max,offset}"                 | "/"                        | true    | [:]
+        "/{a}-{b}"                       | "/x-y-z"                   | true    | [a: 'x', b: 'y-z']
+        "/{a}-{b}"                       | "/x"                       | false   | null
+        "/k/{id:(a|b)}"                  | "/k/b"                     | true    | [id: 'b'] // not supported by the segment matcher
+        "/k/{id:(a|b)}"                  | "/k/c"                     | false   | null
     }
 
     @Unroll
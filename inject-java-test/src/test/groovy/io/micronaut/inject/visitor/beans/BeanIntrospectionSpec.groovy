@@ -45,6 +45,62 @@ import java.lang.reflect.Field
 
 class BeanIntrospectionSpec extends AbstractTypeElementSpec {
 
+    void "test property access by index"() {
+        given:
+        BeanIntrospection introspection = buildBeanIntrospection('propindex.Test', '''
+package propindex;
+
+import io.micronaut.core.annotation.Introspected;
+
+@Introspected(accessKind = {Introspected.AccessKind.METHOD, Introspected.AccessKind.FIELD})
+class Test {
+    public int count;
+    private String name;
+    private boolean active;
+
+    public String getName() {
+        return name;
+    }
+    public void setName(String name) {
+        this.name = name;
+    }
+    public boolean isActive() {
+        return active;
+    }
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+}
+''')
+        def bean = introspection.instantiate()
+
+        expect:
+        introspection.propertyNames.eachWithIndex { String name, int i ->
+            assert introspection.propertyIndexOf(name) == i
+            assert introspection.getPropertyByIndex(i).name == name
+            assert introspection.getProperty(name).get().is(introspection.getPropertyByIndex(i))
+            assert introspection.getProperty(name).is(introspection.getProperty(name))
+        }
+        introspection.propertyIndexOf("missing") == -1
+        !introspection.getProperty("missing").present
+
+        when:
+        introspection.getPropertyByIndex(introspection.propertyIndexOf("name")).set(bean, "test")
+        introspection.getPropertyByIndex(introspection.propertyIndexOf("active")).set(bean, true)
+        introspection.getPropertyByIndex(introspection.propertyIndexOf("count")).set(bean, 10)
+
+        then:
+        introspection.getPropertyByIndex(introspection.propertyIndexOf("name")).get(bean) == "test"
+        introspection.getPropertyByIndex(introspection.propertyIndexOf("active")).get(bean) == true
+        bean.count == 10
+
+        when:
+        introspection.getPropertyByIndex(introspection.beanProperties.size())
+
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
     void "test generics in arrays don't stack overflow"() {
         given:
         def introspection = buildBeanIntrospection('arraygenerics.Test', '''
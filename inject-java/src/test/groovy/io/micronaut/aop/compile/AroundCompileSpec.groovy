@@ -21,6 +21,111 @@ import java.lang.annotation.Annotation
 
 class AroundCompileSpec extends AbstractTypeElementSpec {
 
+    void 'test methods proceed through the precomputed invocation descriptors'() {
+        given:
+        ApplicationContext context = buildContext('''
+package invocationdescriptor;
+
+import java.lang.annotation.*;
+import java.util.*;
+import io.micronaut.aop.*;
+import jakarta.inject.*;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+@Singleton
+class MyBean {
+    @First
+    String one(String name) {
+        return name;
+    }
+
+    @First
+    @Second
+    String two(String name) {
+        return name;
+    }
+
+    @Second
+    String again() {
+        return "again";
+    }
+}
+
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Around
+@interface First {
+}
+
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Around
+@interface Second {
+}
+
+@Singleton
+class Invocations {
+    List<String> names = new ArrayList<>();
+}
+
+@InterceptorBean(First.class)
+class FirstInterceptor implements MethodInterceptor<Object, Object> {
+    @Inject Invocations invocations;
+    @Override
+    public int getOrder() {
+        return 1;
+    }
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        invocations.names.add("first");
+        context.getParameters().get("name").setValue("first " + context.getParameterValues()[0]);
+        return context.proceed();
+    }
+}
+
+@InterceptorBean(Second.class)
+class SecondInterceptor implements MethodInterceptor<Object, Object> {
+    @Inject Invocations invocations;
+    @Override
+    public int getOrder() {
+        return 2;
+    }
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        invocations.names.add("second");
+        if (context.getMethodName().equals("again") && invocations.names.size() == 1) {
+            return context.invoke(context.getTarget()) + " twice";
+        }
+        return context.proceed();
+    }
+}
+''')
+        def instance = getBean(context, 'invocationdescriptor.MyBean')
+        def invocations = getBean(context, 'invocationdescriptor.Invocations')
+
+        expect:
+        instance instanceof Intercepted
+        instance.one("test") == "first test"
+        invocations.names == ["first"]
+
+        when:
+        invocations.names.clear()
+
+        then:
+        instance.two("test") == "first test"
+        invocations.names == ["first", "second"]
+
+        when:
+        invocations.names.clear()
+
+        then:
+        instance.again() == "again twice"
+        invocations.names == ["second", "second"]
+
+        cleanup:
+        context.close()
+    }
+
     void 'test stereotype method level interceptor matching'() {
         given:
         ApplicationContext context = buildContext('''
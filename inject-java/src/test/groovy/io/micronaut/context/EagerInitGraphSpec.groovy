@@ -0,0 +1,40 @@
+package io.micronaut.context
+
+import io.micronaut.inject.BeanDefinition
+import io.micronaut.inject.context.parallel.ContextLeaf
+import io.micronaut.inject.context.parallel.ContextOther
+import io.micronaut.inject.context.parallel.ContextRoot
+import io.micronaut.inject.context.parallel.Intermediate
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class EagerInitGraphSpec extends Specification {
+
+    @Shared @AutoCleanup ApplicationContext context = ApplicationContext.run('spec.name': 'EagerInitIntermediate')
+
+    void "test eager beans are connected through a singleton that is not eager"() {
+        given:
+        List<BeanDefinition<?>> beans = [ContextRoot, ContextLeaf, ContextOther].collect { context.getBeanDefinition(it) }
+
+        when:
+        EagerInitGraph graph = EagerInitGraph.of(beans, { Class<?> type -> context.getBeanDefinitions(type) }, { false })
+
+        then:
+        graph.subgraphs.collect { it*.beanType } == [[ContextRoot, ContextLeaf], [ContextOther]]
+        graph.sequentialBefore.isEmpty()
+        graph.sequentialAfter.isEmpty()
+    }
+
+    void "test beans observed by a bean event listener are initialized in order"() {
+        given:
+        List<BeanDefinition<?>> beans = [ContextRoot, ContextLeaf, ContextOther].collect { context.getBeanDefinition(it) }
+
+        when:"the intermediate bean is observed"
+        EagerInitGraph graph = EagerInitGraph.of(beans, { Class<?> type -> context.getBeanDefinitions(type) }, { it.beanType == Intermediate })
+
+        then:"the beans connected to it are initialized in order"
+        graph.sequentialBefore*.beanType == [ContextRoot, ContextLeaf]
+        graph.subgraphs.collect { it*.beanType } == [[ContextOther]]
+    }
+}
@@ -0,0 +1,111 @@
+package io.micronaut.inject.context.parallel
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.exceptions.BeanInstantiationException
+import spock.lang.Specification
+
+class EagerInitParallelismSpec extends Specification {
+
+    void setup() {
+        InitRecorder.reset()
+    }
+
+    void "test eager singletons are initialized by independent subgraphs"() {
+        when:
+        ApplicationContext context = ApplicationContext.builder()
+                .properties('spec.name': 'EagerInitParallelismSpec')
+                .eagerInitSingletons(true)
+                .eagerInitParallelism(4)
+                .start()
+
+        then:"every bean is initialized at startup"
+        InitRecorder.THREADS.keySet() == [Leaf1, Leaf2, Leaf3, Root1, Root2, Root3, Ordered1, Ordered2] as Set
+
+        and:"a bean and its dependency are initialized by the same thread"
+        InitRecorder.THREADS[Root1] == InitRecorder.THREADS[Leaf1]
+        InitRecorder.THREADS[Root2] == InitRecorder.THREADS[Leaf2]
+        InitRecorder.THREADS[Root3] == InitRecorder.THREADS[Leaf3]
+
+        and:"ordered beans are initialized in order on the starting thread"
+        InitRecorder.ORDERED == [Ordered2, Ordered1]
+        InitRecorder.THREADS[Ordered1] == Thread.currentThread()
+        InitRecorder.THREADS[Ordered2] == Thread.currentThread()
+
+        and:"the subgraphs are initialized on other threads"
+        [Leaf1, Leaf2, Leaf3, Root1, Root2, Root3].any { InitRecorder.THREADS[it] != Thread.currentThread() }
+        [Leaf1, Leaf2, Leaf3, Root1, Root2, Root3].every { InitRecorder.THREADS[it].name.startsWith('eager-init-') }
+
+        and:"the subgraphs are initialized after the beans with a negative order and before those with a positive order"
+        [Leaf1, Leaf2, Leaf3, Root1, Root2, Root3].every {
+            InitRecorder.SEQUENCE.indexOf(Ordered2) < InitRecorder.SEQUENCE.indexOf(it) &&
+                    InitRecorder.SEQUENCE.indexOf(it) < InitRecorder.SEQUENCE.indexOf(Ordered1)
+        }
+
+        cleanup:
+        context.close()
+    }
+
+    void "test eager beans connected through a bean that is not eager are initialized by the same thread"() {
+        when:
+        ApplicationContext context = ApplicationContext.builder()
+                .properties('spec.name': 'EagerInitIntermediate')
+                .eagerInitParallelism(4)
+                .start()
+
+        then:
+        InitRecorder.THREADS.keySet().containsAll([ContextRoot, Intermediate, ContextLeaf, ContextOther])
+        InitRecorder.THREADS[ContextRoot] == InitRecorder.THREADS[ContextLeaf]
+        InitRecorder.THREADS[Intermediate] == InitRecorder.THREADS[ContextLeaf]
+        InitRecorder.SEQUENCE.indexOf(ContextLeaf) < InitRecorder.SEQUENCE.indexOf(ContextRoot)
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the listeners of events published by the subgraphs are notified in order on the starting thread"() {
+        given:"the order in which the events are published when the eager beans are initialized sequentially"
+        ApplicationContext sequential = ApplicationContext.builder()
+                .properties('spec.name': 'EagerInitEvents')
+                .eagerInitSingletons(true)
+                .start()
+        List<Class<?>> expected = new ArrayList<>(InitRecorder.EVENTS)
+        sequential.close()
+        InitRecorder.reset()
+
+        when:
+        ApplicationContext context = ApplicationContext.builder()
+                .properties('spec.name': 'EagerInitEvents')
+                .eagerInitSingletons(true)
+                .eagerInitParallelism(4)
+                .start()
+
+        then:
+        expected as Set == [EventSource1, EventSource2, EventSource3] as Set
+        InitRecorder.EVENTS == expected
+        InitRecorder.EVENT_THREADS.every { it == Thread.currentThread() }
+
+        cleanup:
+        context.close()
+    }
+
+    void "test a failure initializing a subgraph fails the startup"() {
+        when:
+        ApplicationContext.builder()
+                .properties('spec.name': 'EagerInitParallelismSpec', 'eager.fail': 'true')
+                .eagerInitSingletons(true)
+                .eagerInitParallelism(4)
+                .start()
+
+        then:
+        def e = thrown(BeanInstantiationException)
+        e.message.contains(FailingBean.name)
+    }
+
+    void "test the parallelism must be positive"() {
+        when:
+        ApplicationContext.builder().eagerInitParallelism(0)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.context.parallel;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public final class InitRecorder {
+    public static final Map<Class<?>, Thread> THREADS = new ConcurrentHashMap<>();
+    public static final List<Class<?>> ORDERED = new CopyOnWriteArrayList<>();
+    public static final List<Class<?>> SEQUENCE = new CopyOnWriteArrayList<>();
+    public static final List<Class<?>> EVENTS = new CopyOnWriteArrayList<>();
+    public static final List<Thread> EVENT_THREADS = new CopyOnWriteArrayList<>();
+
+    private InitRecorder() {
+    }
+
+    static void record(Object bean) {
+        THREADS.put(bean.getClass(), Thread.currentThread());
+        SEQUENCE.add(bean.getClass());
+    }
+
+    public static void reset() {
+        THREADS.clear();
+        ORDERED.clear();
+        SEQUENCE.clear();
+        EVENTS.clear();
+        EVENT_THREADS.clear();
+    }
+}
@@ -70,6 +70,18 @@ public interface ApplicationContextBuilder {
         return this;
     }
 
+    /**
+     * Sets the number of threads that initialize the eager beans at startup. See
+     * {@link BeanContextConfiguration#getEagerInitParallelism()}.
+     *
+     * @param parallelism The number of threads, {@code 1} to initialize the eager beans sequentially
+     * @return The context builder
+     * @since 3.8.0
+     */
+    default @NonNull ApplicationContextBuilder eagerInitParallelism(int parallelism) {
+        return this;
+    }
+
     /**
      * Specifies to eager init the given annotated types.
      *
@@ -77,4 +77,18 @@ public interface BeanContextConfiguration {
     default Set<Class<? extends Annotation>> getEagerInitAnnotated() {
         return Collections.emptySet();
     }
+
+    /**
+     * The number of threads that initialize the eager beans at startup. With more than one thread, the independent
+     * subgraphs of the eager beans are initialized concurrently, while ordered beans, event listeners, beans observed by
+     * bean created or bean initialized listeners, and the subgraphs they belong to are still initialized in order on the
+     * starting thread. The listeners of events published while the subgraphs are initialized are notified on the
+     * starting thread once the subgraphs are initialized, in the order of the eager beans.
+     *
+     * @return The number of threads, {@code 1} to initialize the eager beans sequentially
+     * @since 3.8.0
+     */
+    default int getEagerInitParallelism() {
+        return 1;
+    }
 }
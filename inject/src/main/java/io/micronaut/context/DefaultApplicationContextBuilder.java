@@ -61,6 +61,7 @@ public class DefaultApplicationContextBuilder implements ApplicationContextBuild
     private List<String> envVarExcludes = new ArrayList<>();
     private String[] args = new String[0];
     private Set<Class<? extends Annotation>> eagerInitAnnotated = new HashSet<>(3);
+    private int eagerInitParallelism = 1;
     private String[] overrideConfigLocations;
     private boolean banner = true;
     private ClassPathResourceLoader classPathResourceLoader;
@@ -109,6 +110,21 @@ public class DefaultApplicationContextBuilder implements ApplicationContextBuild
         return this;
     }
 
+    @NonNull
+    @Override
+    public ApplicationContextBuilder eagerInitParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Eager init parallelism must be at least 1: " + parallelism);
+        }
+        this.eagerInitParallelism = parallelism;
+        return this;
+    }
+
+    @Override
+    public int getEagerInitParallelism() {
+        return eagerInitParallelism;
+    }
+
     @NonNull
     @Override
     public ApplicationContextBuilder overrideConfigLocations(String... configLocations) {
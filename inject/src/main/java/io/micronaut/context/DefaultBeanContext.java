@@ -28,6 +28,7 @@ import io.micronaut.context.annotation.Secondary;
 import io.micronaut.context.env.PropertyPlaceholderResolver;
 import io.micronaut.context.event.ApplicationEventListener;
 import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.context.event.ApplicationEventPublisherFactory;
 import io.micronaut.context.event.BeanCreatedEvent;
 import io.micronaut.context.event.BeanCreatedEventListener;
 import io.micronaut.context.event.BeanDestroyedEvent;
@@ -133,9 +134,13 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -229,6 +234,7 @@ public class DefaultBeanContext implements InitializableBeanContext {
     private final String[] eagerInitStereotypes;
     private final boolean eagerInitStereotypesPresent;
     private final boolean eagerInitSingletons;
+    private final int eagerInitParallelism;
 
     private BeanDefinitionValidator beanValidator;
     private List<BeanDefinitionReference> beanDefinitionReferences;
@@ -296,6 +302,7 @@ public class DefaultBeanContext implements InitializableBeanContext {
         this.eagerInitStereotypes = eagerInitStereotypes.toArray(new String[0]);
         this.eagerInitStereotypesPresent = !eagerInitStereotypes.isEmpty();
         this.eagerInitSingletons = eagerInitStereotypesPresent && (eagerInitStereotypes.contains(AnnotationUtil.SINGLETON) || eagerInitStereotypes.contains(Singleton.class.getName()));
+        this.eagerInitParallelism = contextConfiguration.getEagerInitParallelism();
         this.beanContextConfiguration = contextConfiguration;
     }
 
@@ -1910,15 +1917,11 @@ public class DefaultBeanContext implements InitializableBeanContext {
             filterProxiedTypes((Collection) contextBeans, true, false, null);
             filterReplacedBeans(null, (Collection) contextBeans);
             OrderUtil.sort(contextBeans);
-            for (BeanDefinition contextScopeDefinition : contextBeans) {
-                try {
-                    loadContextScopeBean(contextScopeDefinition);
-                } catch (DisabledBeanException e) {
-                    if (AbstractBeanContextConditional.LOG.isDebugEnabled()) {
-                        AbstractBeanContextConditional.LOG.debug("Bean of type [{}] disabled for reason: {}", contextScopeDefinition.getBeanType().getSimpleName(), e.getMessage());
-                    }
-                } catch (Throwable e) {
-                    throw new BeanInstantiationException("Bean definition [" + contextScopeDefinition.getName() + "] could not be loaded: " + e.getMessage(), e);
+            if (eagerInitParallelism > 1 && contextBeans.size() > 1) {
+                initializeContextScopeBeansInParallel((List) contextBeans);
+            } else {
+                for (BeanDefinition contextScopeDefinition : contextBeans) {
+                    initializeContextScopeBean(contextScopeDefinition);
                 }
             }
         }
@@ -2014,6 +2017,129 @@ public class DefaultBeanContext implements InitializableBeanContext {
         ForkJoinPool.commonPool().execute(runnable);
     }
 
+    /**
+     * Initializes the independent subgraphs of the eager beans concurrently, on at most
+     * {@link BeanContextConfiguration#getEagerInitParallelism()} threads. The beans whose initialization order is
+     * observable are initialized in order on the calling thread, those with a positive order once the subgraphs are
+     * initialized and the others before them.
+     *
+     * @param contextBeans The sorted eager beans
+     */
+    private void initializeContextScopeBeansInParallel(List<BeanDefinition<?>> contextBeans) {
+        EagerInitGraph graph = EagerInitGraph.of(contextBeans, this::findEagerInitCandidates, this::hasBeanEventListeners);
+        List<List<BeanDefinition<?>>> subgraphs = graph.getSubgraphs();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Initializing {} eager beans in order and {} independent subgraphs of eager beans on {} threads",
+                    graph.getSequentialBefore().size() + graph.getSequentialAfter().size(), subgraphs.size(), Math.min(eagerInitParallelism, subgraphs.size()));
+        }
+        graph.getSequentialBefore().forEach(this::initializeContextScopeBean);
+        if (subgraphs.size() < 2) {
+            for (List<BeanDefinition<?>> subgraph : subgraphs) {
+                subgraph.forEach(this::initializeContextScopeBean);
+            }
+        } else {
+            initializeSubgraphsInParallel(contextBeans, subgraphs);
+        }
+        graph.getSequentialAfter().forEach(this::initializeContextScopeBean);
+    }
+
+    private Collection<? extends BeanDefinition<?>> findEagerInitCandidates(Class<?> type) {
+        Collection<? extends BeanDefinition<?>> candidates = getBeanDefinitions(type);
+        List<BeanDefinition<?>> notCreated = new ArrayList<>(candidates.size());
+        for (BeanDefinition<?> candidate : candidates) {
+            if (!candidate.isSingleton() || singletonScope.findBeanRegistration(candidate) == null) {
+                notCreated.add(candidate);
+            }
+        }
+        return notCreated;
+    }
+
+    private boolean hasBeanEventListeners(BeanDefinition<?> definition) {
+        Class<?> beanType = definition.getBeanType();
+        if (CollectionUtils.isNotEmpty(beanCreationEventListeners)) {
+            for (Map.Entry<Class<?>, List<BeanCreatedEventListener<?>>> entry : beanCreationEventListeners) {
+                if (entry.getKey().isAssignableFrom(beanType)) {
+                    return true;
+                }
+            }
+        }
+        if (CollectionUtils.isNotEmpty(beanInitializedEventListeners)) {
+            for (Map.Entry<Class<?>, List<BeanInitializedEventListener>> entry : beanInitializedEventListeners) {
+                if (entry.getKey().isAssignableFrom(beanType)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Initializes the subgraphs concurrently. The listeners of the events published while a bean is initialized are
+     * notified on the calling thread once every subgraph is initialized, in the order of the eager beans.
+     *
+     * @param contextBeans The sorted eager beans
+     * @param subgraphs    The subgraphs
+     */
+    @SuppressWarnings("unchecked")
+    private void initializeSubgraphsInParallel(List<BeanDefinition<?>> contextBeans, List<List<BeanDefinition<?>>> subgraphs) {
+        Map<BeanDefinition<?>, Integer> positions = new IdentityHashMap<>(contextBeans.size());
+        for (int i = 0; i < contextBeans.size(); i++) {
+            positions.put(contextBeans.get(i), i);
+        }
+        List<Runnable>[] deferredEvents = new List[contextBeans.size()];
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(eagerInitParallelism, subgraphs.size()), runnable -> {
+            Thread thread = new Thread(runnable, "eager-init-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(subgraphs.size());
+            for (List<BeanDefinition<?>> subgraph : subgraphs) {
+                futures.add(executorService.submit(() -> {
+                    for (BeanDefinition<?> definition : subgraph) {
+                        deferredEvents[positions.get(definition)] =
+                                ApplicationEventPublisherFactory.deferEvents(() -> initializeContextScopeBean(definition));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new BeanContextException("Interrupted while initializing the eager beans", e);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    throw new BeanContextException("Error initializing the eager beans: " + cause.getMessage(), cause);
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        for (List<Runnable> events : deferredEvents) {
+            if (events != null) {
+                events.forEach(Runnable::run);
+            }
+        }
+    }
+
+    private void initializeContextScopeBean(BeanDefinition<?> contextScopeDefinition) {
+        try {
+            loadContextScopeBean(contextScopeDefinition);
+        } catch (DisabledBeanException e) {
+            if (AbstractBeanContextConditional.LOG.isDebugEnabled()) {
+                AbstractBeanContextConditional.LOG.debug("Bean of type [{}] disabled for reason: {}", contextScopeDefinition.getBeanType().getSimpleName(), e.getMessage());
+            }
+        } catch (Throwable e) {
+            throw new BeanInstantiationException("Bean definition [" + contextScopeDefinition.getName() + "] could not be loaded: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Find bean candidates for the given type.
      *
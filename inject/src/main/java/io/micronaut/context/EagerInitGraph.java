@@ -0,0 +1,223 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context;
+
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.context.event.BeanInitializedEventListener;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Order;
+import io.micronaut.core.order.OrderUtil;
+import io.micronaut.core.order.Ordered;
+import io.micronaut.inject.BeanDefinition;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * <p>Partitions the eagerly initialized beans into independent subgraphs, following the types each bean definition
+ * requires, so that the subgraphs can be initialized concurrently at startup.</p>
+ *
+ * <p>A bean is connected to the candidates of each of its required types, and to the factory that produces it.
+ * Dependencies that are not eagerly initialized are followed as well: a singleton connects every bean that requires
+ * it, since they share its instance, while the dependencies of other beans are followed as if they were required by
+ * the bean that requires them. Singletons that already exist do not connect beans.</p>
+ *
+ * <p>The beans whose initialization order is observable, namely ordered beans, event listeners, and beans observed
+ * by a {@link BeanCreatedEventListener} or a {@link BeanInitializedEventListener}, are kept in a sequential group
+ * along with their subgraphs. The part of the sequential group with a positive order is initialized after the
+ * subgraphs and the rest before them, so that the subgraphs take the place of the beans with the default order. Every
+ * group preserves the order of the given beans.</p>
+ *
+ * @since 3.8.0
+ */
+@Internal
+final class EagerInitGraph {
+
+    private final List<BeanDefinition<?>> sequentialBefore;
+    private final List<BeanDefinition<?>> sequentialAfter;
+    private final List<List<BeanDefinition<?>>> subgraphs;
+
+    private EagerInitGraph(List<BeanDefinition<?>> sequentialBefore,
+                           List<BeanDefinition<?>> sequentialAfter,
+                           List<List<BeanDefinition<?>>> subgraphs) {
+        this.sequentialBefore = sequentialBefore;
+        this.sequentialAfter = sequentialAfter;
+        this.subgraphs = subgraphs;
+    }
+
+    /**
+     * Partitions the given beans.
+     *
+     * @param beans      The sorted eager beans
+     * @param candidates Resolves the definitions of the beans that would be created for a required type
+     * @param observed   Whether the creation of a bean is observed by a bean event listener
+     * @return The graph
+     */
+    @NonNull
+    static EagerInitGraph of(@NonNull List<? extends BeanDefinition<?>> beans,
+                             @NonNull Function<Class<?>, Collection<? extends BeanDefinition<?>>> candidates,
+                             @NonNull Predicate<BeanDefinition<?>> observed) {
+        int size = beans.size();
+        // the nodes are the beans, followed by the sequential group and then the non-eager singletons
+        int sequentialNode = size;
+        Map<BeanDefinition<?>, Integer> nodes = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            nodes.put(beans.get(i), i);
+        }
+        int[] parents = new int[size * 2 + 1];
+        for (int i = 0; i < parents.length; i++) {
+            parents[i] = i;
+        }
+        int nodeCount = size + 1;
+        Map<Class<?>, Collection<? extends BeanDefinition<?>>> candidatesByType = new HashMap<>();
+        Deque<BeanDefinition<?>> singletons = new ArrayDeque<>(beans);
+        while (!singletons.isEmpty()) {
+            BeanDefinition<?> singleton = singletons.poll();
+            int node = nodes.get(singleton);
+            if (isSequential(singleton) || observed.test(singleton)) {
+                union(parents, node, sequentialNode);
+            }
+            // follow the dependencies of the singleton, and of the non-singletons it requires
+            Set<BeanDefinition<?>> visited = new HashSet<>();
+            Deque<BeanDefinition<?>> pending = new ArrayDeque<>();
+            pending.add(singleton);
+            while (!pending.isEmpty()) {
+                BeanDefinition<?> bean = pending.poll();
+                for (Class<?> type : requiredTypes(bean)) {
+                    for (BeanDefinition<?> candidate : candidatesByType.computeIfAbsent(type, candidates)) {
+                        Integer candidateNode = nodes.get(candidate);
+                        if (candidateNode == null && candidate.isSingleton()) {
+                            candidateNode = nodeCount++;
+                            if (candidateNode == parents.length) {
+                                parents = grow(parents);
+                            }
+                            nodes.put(candidate, candidateNode);
+                            singletons.add(candidate);
+                        }
+                        if (candidateNode != null) {
+                            union(parents, node, candidateNode);
+                        } else if (visited.add(candidate)) {
+                            if (isSequential(candidate) || observed.test(candidate)) {
+                                union(parents, node, sequentialNode);
+                            }
+                            pending.add(candidate);
+                        }
+                    }
+                }
+            }
+        }
+
+        List<BeanDefinition<?>> sequentialBefore = new ArrayList<>();
+        List<BeanDefinition<?>> sequentialAfter = new ArrayList<>();
+        Map<Integer, List<BeanDefinition<?>>> subgraphs = new LinkedHashMap<>();
+        int sequentialRoot = find(parents, sequentialNode);
+        for (int i = 0; i < size; i++) {
+            BeanDefinition<?> bean = beans.get(i);
+            int root = find(parents, i);
+            if (root != sequentialRoot) {
+                subgraphs.computeIfAbsent(root, k -> new ArrayList<>()).add(bean);
+            } else if (OrderUtil.getOrder(bean) > 0) {
+                sequentialAfter.add(bean);
+            } else {
+                sequentialBefore.add(bean);
+            }
+        }
+        return new EagerInitGraph(sequentialBefore, sequentialAfter, new ArrayList<>(subgraphs.values()));
+    }
+
+    /**
+     * @return The beans to initialize in order on the calling thread before the subgraphs
+     */
+    @NonNull
+    List<BeanDefinition<?>> getSequentialBefore() {
+        return sequentialBefore;
+    }
+
+    /**
+     * @return The beans to initialize in order on the calling thread once the subgraphs are initialized
+     */
+    @NonNull
+    List<BeanDefinition<?>> getSequentialAfter() {
+        return sequentialAfter;
+    }
+
+    /**
+     * @return The independent subgraphs, each of which is initialized in order on a single thread
+     */
+    @NonNull
+    List<List<BeanDefinition<?>>> getSubgraphs() {
+        return subgraphs;
+    }
+
+    private static Collection<Class<?>> requiredTypes(BeanDefinition<?> bean) {
+        Collection<Class<?>> requiredComponents = bean.getRequiredComponents();
+        Class<?> declaringType = bean.getDeclaringType().orElse(null);
+        if (declaringType == null || declaringType == bean.getBeanType()) {
+            return requiredComponents;
+        }
+        // beans produced by a factory depend on the factory
+        List<Class<?>> required = new ArrayList<>(requiredComponents.size() + 1);
+        required.addAll(requiredComponents);
+        required.add(declaringType);
+        return required;
+    }
+
+    private static boolean isSequential(BeanDefinition<?> bean) {
+        Class<?> beanType = bean.getBeanType();
+        return bean.hasStereotype(Order.class) ||
+                Ordered.class.isAssignableFrom(beanType) ||
+                ApplicationEventListener.class.isAssignableFrom(beanType) ||
+                BeanCreatedEventListener.class.isAssignableFrom(beanType) ||
+                BeanInitializedEventListener.class.isAssignableFrom(beanType);
+    }
+
+    private static int[] grow(int[] parents) {
+        int[] grown = Arrays.copyOf(parents, parents.length * 2);
+        for (int i = parents.length; i < grown.length; i++) {
+            grown[i] = i;
+        }
+        return grown;
+    }
+
+    private static int find(int[] parents, int node) {
+        while (parents[node] != node) {
+            parents[node] = parents[parents[node]];
+            node = parents[node];
+        }
+        return node;
+    }
+
+    private static void union(int[] parents, int a, int b) {
+        int rootA = find(parents, a);
+        int rootB = find(parents, b);
+        if (rootA != rootB) {
+            parents[rootB] = rootA;
+        }
+    }
+}
@@ -62,6 +62,7 @@ public final class ApplicationEventPublisherFactory<T>
                    BeanDefinitionReference<ApplicationEventPublisher<T>> {
     private static final Logger EVENT_LOGGER = LoggerFactory.getLogger(ApplicationEventPublisher.class);
     private static final Argument<Object> TYPE_VARIABLE = Argument.ofTypeVariable(Object.class, "T");
+    private static final ThreadLocal<List<Runnable>> DEFERRED_NOTIFICATIONS = new ThreadLocal<>();
     private final AnnotationMetadata annotationMetadata;
     private ApplicationEventPublisher applicationObjectEventPublisher;
     private final Map<Argument, Supplier<ApplicationEventPublisher>> publishers = new ConcurrentHashMap<>();
@@ -78,6 +79,31 @@ public final class ApplicationEventPublisherFactory<T>
         annotationMetadata = metadata;
     }
 
+    /**
+     * Runs the given task, deferring the notification of the listeners of the events that are published on the
+     * calling thread while it runs.
+     *
+     * @param task The task
+     * @return The deferred notifications, in the order the events were published
+     * @since 3.8.0
+     */
+    @NonNull
+    public static List<Runnable> deferEvents(@NonNull Runnable task) {
+        List<Runnable> previous = DEFERRED_NOTIFICATIONS.get();
+        List<Runnable> deferred = new ArrayList<>();
+        DEFERRED_NOTIFICATIONS.set(deferred);
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                DEFERRED_NOTIFICATIONS.remove();
+            } else {
+                DEFERRED_NOTIFICATIONS.set(previous);
+            }
+        }
+        return deferred;
+    }
+
     @Override
     public boolean isAbstract() {
         return false;
@@ -226,7 +252,12 @@ public final class ApplicationEventPublisherFactory<T>
                     if (EVENT_LOGGER.isDebugEnabled()) {
                         EVENT_LOGGER.debug("Publishing event: {}", event);
                     }
-                    notifyEventListeners(event, lazyListeners.get());
+                    List<Runnable> deferred = DEFERRED_NOTIFICATIONS.get();
+                    if (deferred != null) {
+                        deferred.add(() -> notifyEventListeners(event, lazyListeners.get()));
+                    } else {
+                        notifyEventListeners(event, lazyListeners.get());
+                    }
                 }
             }
 
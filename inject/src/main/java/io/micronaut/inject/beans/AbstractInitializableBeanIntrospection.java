@@ -63,9 +63,11 @@ public abstract class AbstractInitializableBeanIntrospection<B> implements BeanI
     private final Argument<?>[] constructorArguments;
     private final List<BeanProperty<B, Object>> beanProperties;
     private final List<BeanMethod<B, Object>> beanMethods;
+    private final Optional<BeanProperty<B, Object>>[] optionalBeanProperties;
 
     private BeanConstructor<B> beanConstructor;
 
+    @SuppressWarnings("unchecked")
     public AbstractInitializableBeanIntrospection(Class<B> beanType,
                                                   AnnotationMetadata annotationMetadata,
                                                   AnnotationMetadata constructorAnnotationMetadata,
@@ -85,6 +87,10 @@ public abstract class AbstractInitializableBeanIntrospection<B> implements BeanI
         } else {
             this.beanProperties = Collections.emptyList();
         }
+        this.optionalBeanProperties = new Optional[beanProperties.size()];
+        for (int i = 0; i < optionalBeanProperties.length; i++) {
+            optionalBeanProperties[i] = Optional.of(beanProperties.get(i));
+        }
         if (methodsRefs != null) {
             List<BeanMethod<B, Object>> beanMethods = new ArrayList<>(methodsRefs.length);
             for (BeanMethodRef beanMethodRef : methodsRefs) {
@@ -113,9 +119,10 @@ public abstract class AbstractInitializableBeanIntrospection<B> implements BeanI
      * @param index The index of the property
      * @return A bean property
      */
-    @Internal
+    @NonNull
+    @Override
     @UsedByGeneratedCode
-    protected BeanProperty<B, Object> getPropertyByIndex(int index) {
+    public BeanProperty<B, Object> getPropertyByIndex(int index) {
         return beanProperties.get(index);
     }
 
@@ -278,7 +285,7 @@ public abstract class AbstractInitializableBeanIntrospection<B> implements BeanI
     public Optional<BeanProperty<B, Object>> getProperty(@NonNull String name) {
         ArgumentUtils.requireNonNull("name", name);
         int index = propertyIndexOf(name);
-        return index == -1 ? Optional.empty() : Optional.of(beanProperties.get(index));
+        return index == -1 ? Optional.empty() : optionalBeanProperties[index];
     }
 
     @Override
@@ -121,6 +121,11 @@ abstract class AbstractRouteMatch<T, R> implements MethodBasedRouteMatch<T, R> {
         return abstractRoute.getProduces();
     }
 
+    @Override
+    public MediaType resolveResponseContentType(@Nullable String accept) {
+        return abstractRoute.resolveResponseContentType(accept);
+    }
+
     @Override
     public AnnotationMetadata getAnnotationMetadata() {
         return executableMethod.getAnnotationMetadata();
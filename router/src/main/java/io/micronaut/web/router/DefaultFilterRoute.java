@@ -48,6 +48,7 @@ class DefaultFilterRoute implements FilterRoute {
     private FilterPatternStyle patternStyle;
     private HttpFilter filter;
     private AnnotationMetadata annotationMetadata;
+    private volatile AntPathPattern[] antPatterns;
 
     /**
      * @param pattern A pattern
@@ -124,23 +125,44 @@ class DefaultFilterRoute implements FilterRoute {
             return Optional.empty();
         }
         String uriStr = uri.getPath();
-        PathMatcher matcher = getPatternStyle().getPathMatcher();
-        for (String pattern : patterns) {
-            if (matcher.matches(pattern, uriStr)) {
-                HttpFilter filter = getFilter();
-                if (filter instanceof Toggleable && !((Toggleable) filter).isEnabled()) {
-                    return Optional.empty();
-                }
-                return Optional.of(filter);
+        if (matches(uriStr)) {
+            HttpFilter filter = getFilter();
+            if (filter instanceof Toggleable && !((Toggleable) filter).isEnabled()) {
+                return Optional.empty();
             }
+            return Optional.of(filter);
         }
         return Optional.empty();
     }
 
+    private boolean matches(String path) {
+        FilterPatternStyle patternStyle = getPatternStyle();
+        if (patternStyle == FilterPatternStyle.ANT) {
+            AntPathPattern[] antPatterns = this.antPatterns;
+            if (antPatterns == null) {
+                antPatterns = new AntPathPattern[patterns.size()];
+                for (int i = 0; i < antPatterns.length; i++) {
+                    antPatterns[i] = AntPathPattern.compile(patterns.get(i));
+                }
+                this.antPatterns = antPatterns;
+            }
+            // the path is split once for all the patterns
+            return AntPathPattern.indexOfMatch(antPatterns, path) > -1;
+        }
+        PathMatcher matcher = patternStyle.getPathMatcher();
+        for (String pattern : patterns) {
+            if (matcher.matches(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public FilterRoute pattern(String pattern) {
         if (StringUtils.isNotEmpty(pattern)) {
             this.patterns.add(pattern);
+            this.antPatterns = null;
         }
         return this;
     }
@@ -28,6 +28,7 @@ import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.ReturnType;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
 import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpStatus;
@@ -67,6 +68,12 @@ public abstract class DefaultRouteBuilder implements RouteBuilder {
     protected static final Logger LOG = LoggerFactory.getLogger(DefaultRouteBuilder.class);
 
     static final Object NO_VALUE = new Object();
+
+    /**
+     * The maximum number of negotiated response content types cached by each route.
+     */
+    private static final int RESPONSE_CONTENT_TYPE_CACHE_SIZE = 32;
+
     protected final ExecutionHandleLocator executionHandleLocator;
     protected final UriNamingStrategy uriNamingStrategy;
     protected final ConversionService<?> conversionService;
@@ -436,6 +443,7 @@ public abstract class DefaultRouteBuilder implements RouteBuilder {
         private final boolean async;
         private final boolean specifiedSingle;
         private final boolean isAsyncOrReactive;
+        private volatile Map<String, MediaType> responseContentTypes;
 
         /**
          * @param targetMethod The target method execution handle
@@ -596,6 +604,7 @@ public abstract class DefaultRouteBuilder implements RouteBuilder {
         public Route produces(MediaType... mediaType) {
             if (mediaType != null) {
                 this.producesMediaTypes = Collections.unmodifiableList(Arrays.asList(mediaType));
+                this.responseContentTypes = null;
                 setProducesMediaTypesContainsAll();
             }
             return this;
@@ -606,6 +615,27 @@ public abstract class DefaultRouteBuilder implements RouteBuilder {
             return producesMediaTypes;
         }
 
+        @Override
+        public MediaType resolveResponseContentType(@Nullable String accept) {
+            if (accept == null) {
+                return RouteInfo.super.resolveResponseContentType(null);
+            }
+            // the negotiation result only depends on the produced types, so it is cached per Accept header value
+            Map<String, MediaType> responseContentTypes = this.responseContentTypes;
+            if (responseContentTypes == null) {
+                responseContentTypes = new ConcurrentLinkedHashMap.Builder<String, MediaType>()
+                        .maximumWeightedCapacity(RESPONSE_CONTENT_TYPE_CACHE_SIZE)
+                        .build();
+                this.responseContentTypes = responseContentTypes;
+            }
+            MediaType contentType = responseContentTypes.get(accept);
+            if (contentType == null) {
+                contentType = RouteInfo.super.resolveResponseContentType(accept);
+                responseContentTypes.put(accept, contentType);
+            }
+            return contentType;
+        }
+
         @Override
         public MethodExecutionHandle getTargetMethod() {
             return this.targetMethod;
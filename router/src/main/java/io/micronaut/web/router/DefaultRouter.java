@@ -44,12 +44,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -65,11 +67,14 @@ import java.util.stream.Stream;
 public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatch<?>> {
 
     private final Map<String, List<UriRoute>> routesByMethod = new HashMap<>();
+    private final Map<String, UriRouteIndex> routeIndexByMethod = new HashMap<>();
     private final List<StatusRoute> statusRoutes = new ArrayList<>();
     private final List<ErrorRoute> errorRoutes = new ArrayList<>();
     private final Set<Integer> exposedPorts;
     private final List<FilterRoute> alwaysMatchesFilterRoutes = new ArrayList<>();
     private final List<FilterRoute> preconditionFilterRoutes = new ArrayList<>();
+    private final Map<UriRoute, Integer> routeFilterSlots = new IdentityHashMap<>();
+    private final AtomicReferenceArray<UriRouteFilters> routeFilters;
     private final Supplier<List<HttpFilter>> alwaysMatchesHttpFilters = SupplierUtil.memoized(() -> {
         if (alwaysMatchesFilterRoutes.isEmpty()) {
             return Collections.emptyList();
@@ -131,7 +136,16 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
             this.exposedPorts = Collections.emptySet();
         }
 
-        routesByMethod.values().forEach(this::finalizeRoutes);
+        routesByMethod.forEach((method, routes) -> {
+            finalizeRoutes(routes);
+            routeIndexByMethod.put(method, new UriRouteIndex(routes));
+        });
+        for (List<UriRoute> routes : routesByMethod.values()) {
+            for (UriRoute route : routes) {
+                routeFilterSlots.putIfAbsent(route, routeFilterSlots.size());
+            }
+        }
+        this.routeFilters = new AtomicReferenceArray<>(routeFilterSlots.size());
         for (FilterRoute filterRoute : filterRoutes) {
             if (isMatchesAll(filterRoute)) {
                 alwaysMatchesFilterRoutes.add(filterRoute);
@@ -284,11 +298,14 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
     @NonNull
     @Override
     public <T, R> Optional<UriRouteMatch<T, R>> route(@NonNull HttpMethod httpMethod, @NonNull CharSequence uri) {
-        List<UriRoute> routes = routesByMethod.getOrDefault(httpMethod.name(), Collections.emptyList());
-        for (UriRoute uriRoute : routes) {
-            Optional<UriRouteMatch> match = uriRoute.match(uri.toString());
-            if (match.isPresent()) {
-                return (Optional) match;
+        UriRouteIndex routeIndex = routeIndexByMethod.get(httpMethod.name());
+        if (routeIndex != null) {
+            final String uriStr = uri.toString();
+            for (UriRoute uriRoute : routeIndex.findCandidates(uriStr)) {
+                Optional<UriRouteMatch> match = uriRoute.match(uriStr);
+                if (match.isPresent()) {
+                    return (Optional) match;
+                }
             }
         }
         return Optional.empty();
@@ -450,10 +467,24 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
         if (preconditionFilterRoutes.isEmpty()) {
             return alwaysMatchesHttpFilters.get();
         }
+        Object attribute = request.getAttribute(HttpAttributes.ROUTE_MATCH).orElse(null);
+        RouteMatch routeMatch = attribute instanceof RouteMatch ? (RouteMatch) attribute : null;
+        HttpMethod method = request.getMethod();
+        if (routeMatch instanceof UriRouteMatch) {
+            UriRoute route = ((UriRouteMatch<?, ?>) routeMatch).getRoute();
+            Integer slot = routeFilterSlots.get(route);
+            // the filters are resolved for the method of the route, other methods take the slow path
+            if (slot != null && route.getHttpMethod() == method) {
+                UriRouteFilters filters = routeFilters.get(slot);
+                if (filters == null) {
+                    filters = resolveRouteFilters(route, routeMatch);
+                    routeFilters.set(slot, filters);
+                }
+                return filters.findFilters(request);
+            }
+        }
         List<HttpFilter> httpFilters = new ArrayList<>(alwaysMatchesFilterRoutes.size() + preconditionFilterRoutes.size());
         httpFilters.addAll(alwaysMatchesHttpFilters.get());
-        RouteMatch routeMatch = (RouteMatch) request.getAttribute(HttpAttributes.ROUTE_MATCH).filter(o -> o instanceof RouteMatch).orElse(null);
-        HttpMethod method = request.getMethod();
         URI uri = request.getUri();
         for (FilterRoute filterRoute : preconditionFilterRoutes) {
             if (routeMatch != null) {
@@ -485,11 +516,11 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
     }
 
     private <T, R> List<UriRouteMatch<T, R>> find(String httpMethodName, CharSequence uri, @Nullable Predicate<UriRouteMatch> predicate) {
-        List<UriRoute> routes = routesByMethod.getOrDefault(httpMethodName, Collections.emptyList());
-        if (CollectionUtils.isNotEmpty(routes)) {
+        UriRouteIndex routeIndex = routeIndexByMethod.get(httpMethodName);
+        if (routeIndex != null) {
             final String uriStr = uri.toString();
             List<UriRouteMatch<T, R>> routeMatches = new LinkedList<>();
-            for (UriRoute route : routes) {
+            for (UriRoute route : routeIndex.findCandidates(uriStr)) {
                 Optional<UriRouteMatch> match = route.match(uriStr);
                 if (predicate != null) {
                     match = match.filter(predicate);
@@ -586,6 +617,16 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
         return Collections.unmodifiableList(httpFilters);
     }
 
+    private UriRouteFilters resolveRouteFilters(UriRoute route, RouteMatch<?> routeMatch) {
+        List<FilterRoute> filterRoutes = new ArrayList<>(preconditionFilterRoutes.size());
+        for (FilterRoute filterRoute : preconditionFilterRoutes) {
+            if (matchesFilterMatcher(filterRoute, routeMatch)) {
+                filterRoutes.add(filterRoute);
+            }
+        }
+        return UriRouteFilters.create(route, alwaysMatchesHttpFilters.get(), filterRoutes);
+    }
+
     private boolean matchesFilterMatcher(FilterRoute filterRoute, RouteMatch<?> context) {
         AnnotationMetadata annotationMetadata = filterRoute.getAnnotationMetadata();
         boolean matches = !annotationMetadata.hasStereotype(FilterMatcher.NAME);
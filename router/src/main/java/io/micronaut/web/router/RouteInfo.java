@@ -17,6 +17,7 @@ package io.micronaut.web.router;
 
 import io.micronaut.core.annotation.AnnotationMetadataProvider;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.ReturnType;
 import io.micronaut.core.util.ArrayUtils;
@@ -91,6 +92,26 @@ public interface RouteInfo<R> extends AnnotationMetadataProvider {
         }
     }
 
+    /**
+     * Resolves the content type of the response from the value of the {@code Accept} header. The most preferred
+     * accepted media type is used if the route produces it, otherwise the first media type the route produces.
+     *
+     * @param accept The value of the {@code Accept} header, or {@code null} if not present
+     * @return The content type of the response
+     * @since 3.8.0
+     */
+    @NonNull
+    default MediaType resolveResponseContentType(@Nullable String accept) {
+        final List<MediaType> producesList = getProduces();
+        if (accept != null) {
+            final List<MediaType> accepted = MediaType.orderedOf(accept);
+            if (!accepted.isEmpty() && producesList.contains(accepted.get(0))) {
+                return accepted.get(0);
+            }
+        }
+        return producesList.isEmpty() ? MediaType.APPLICATION_JSON_TYPE : producesList.get(0);
+    }
+
     /**
      * The media types able to produced by this route.
      *
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.order.OrderUtil;
+import io.micronaut.core.util.PathMatcher;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.Toggleable;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.annotation.Filter;
+import io.micronaut.http.filter.FilterPatternStyle;
+import io.micronaut.http.filter.HttpFilter;
+import io.micronaut.http.uri.UriMatchTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The filters resolved for a single {@link UriRoute}. Whether a filter applies to a route is decided once, from the
+ * HTTP method and the template of the route, whenever the outcome does not depend on the concrete URI:
+ *
+ * <ul>
+ *     <li>the methods of a filter are compared with the method of the route</li>
+ *     <li>the patterns of a filter are evaluated against every path a literal route template can match</li>
+ *     <li>ANT patterns of the form {@code /prefix/**} are compared with the literal prefix of a route template</li>
+ * </ul>
+ *
+ * <p>The remaining filters are matched against the URI of each request, and are logged at {@code DEBUG} level when
+ * the route is resolved.</p>
+ *
+ * @since 3.8.0
+ */
+@Internal
+final class UriRouteFilters {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultRouter.class);
+    private static final String ANT_PREFIX_SUFFIX = "/**";
+    private static final String PATH_SEPARATOR = "/";
+
+    private final List<HttpFilter> filters;
+    private final HttpFilter[] toggleableFilters;
+    private final FilterRoute[] dynamicFilterRoutes;
+
+    private UriRouteFilters(List<HttpFilter> filters, HttpFilter[] toggleableFilters, FilterRoute[] dynamicFilterRoutes) {
+        this.filters = filters;
+        this.toggleableFilters = toggleableFilters;
+        this.dynamicFilterRoutes = dynamicFilterRoutes;
+    }
+
+    /**
+     * Resolves the filters of the given route.
+     *
+     * @param route                   The route
+     * @param alwaysMatchesFilters    The filters that apply to every request
+     * @param preconditionFilterRoutes The filter routes that apply to the route based on their patterns and methods
+     * @return The resolved filters
+     */
+    @NonNull
+    static UriRouteFilters create(@NonNull UriRoute route,
+                                  @NonNull List<HttpFilter> alwaysMatchesFilters,
+                                  @NonNull List<FilterRoute> preconditionFilterRoutes) {
+        List<HttpFilter> filters = new ArrayList<>(alwaysMatchesFilters.size() + preconditionFilterRoutes.size());
+        filters.addAll(alwaysMatchesFilters);
+        List<HttpFilter> toggleableFilters = new ArrayList<>(0);
+        List<FilterRoute> dynamicFilterRoutes = new ArrayList<>(0);
+        for (FilterRoute filterRoute : preconditionFilterRoutes) {
+            Boolean matches = matches(route, filterRoute);
+            if (matches == null) {
+                dynamicFilterRoutes.add(filterRoute);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Filter [{}] with patterns {} is matched against the URI of every request to route: {}",
+                            filterRoute.getFilter().getClass().getName(), Arrays.toString(filterRoute.getPatterns()), route);
+                }
+            } else if (matches) {
+                HttpFilter filter = filterRoute.getFilter();
+                filters.add(filter);
+                if (filter instanceof Toggleable) {
+                    toggleableFilters.add(filter);
+                }
+            }
+        }
+        filters.sort(OrderUtil.COMPARATOR);
+        return new UriRouteFilters(
+                Collections.unmodifiableList(filters),
+                toggleableFilters.toArray(new HttpFilter[0]),
+                dynamicFilterRoutes.toArray(new FilterRoute[0])
+        );
+    }
+
+    /**
+     * Finds the filters that apply to the given request, which has to be matched to the route.
+     *
+     * @param request The request
+     * @return The ordered filters
+     */
+    @NonNull
+    List<HttpFilter> findFilters(@NonNull HttpRequest<?> request) {
+        List<HttpFilter> httpFilters = filters;
+        boolean copied = false;
+        for (HttpFilter filter : toggleableFilters) {
+            if (!((Toggleable) filter).isEnabled()) {
+                if (!copied) {
+                    httpFilters = new ArrayList<>(httpFilters);
+                    copied = true;
+                }
+                httpFilters.removeIf(f -> f == filter);
+            }
+        }
+        if (dynamicFilterRoutes.length > 0) {
+            HttpMethod method = request.getMethod();
+            URI uri = request.getUri();
+            boolean added = false;
+            for (FilterRoute filterRoute : dynamicFilterRoutes) {
+                Optional<HttpFilter> filter = filterRoute.match(method, uri);
+                if (filter.isPresent()) {
+                    if (!copied) {
+                        httpFilters = new ArrayList<>(httpFilters.size() + dynamicFilterRoutes.length);
+                        httpFilters.addAll(filters);
+                        copied = true;
+                    }
+                    httpFilters.add(filter.get());
+                    added = true;
+                }
+            }
+            if (added) {
+                httpFilters.sort(OrderUtil.COMPARATOR);
+            }
+        }
+        return copied ? Collections.unmodifiableList(httpFilters) : httpFilters;
+    }
+
+    /**
+     * @return The filter routes that are matched against the URI of each request
+     */
+    @NonNull
+    List<FilterRoute> getDynamicFilterRoutes() {
+        return Collections.unmodifiableList(Arrays.asList(dynamicFilterRoutes));
+    }
+
+    /**
+     * Decides whether the filter route applies to every URI matched by the route.
+     *
+     * @param route       The route
+     * @param filterRoute The filter route
+     * @return {@code true} or {@code false} if the outcome is the same for every URI, {@code null} otherwise
+     */
+    @Nullable
+    private static Boolean matches(UriRoute route, FilterRoute filterRoute) {
+        if (!(filterRoute instanceof DefaultFilterRoute) || !(route instanceof DefaultRouteBuilder.DefaultUriRoute)) {
+            // custom implementations may match on anything
+            return null;
+        }
+        if (filterRoute.hasMethods() && !filterRoute.getFilterMethods().contains(route.getHttpMethod())) {
+            return false;
+        }
+        UriMatchTemplate template = route.getUriMatchTemplate();
+        String literalPrefix = template.getLiteralPrefix();
+        String[] paths = null;
+        if (template.getVariables().isEmpty() && literalPrefix.equals(template.toString())) {
+            paths = matchedPaths(literalPrefix);
+        }
+        FilterPatternStyle patternStyle = filterRoute.getPatternStyle();
+        PathMatcher matcher = patternStyle.getPathMatcher();
+        boolean undecided = false;
+        for (String pattern : filterRoute.getPatterns()) {
+            Boolean matches;
+            if (Filter.MATCH_ALL_PATTERN.equals(pattern)) {
+                matches = true;
+            } else if (paths != null) {
+                matches = matches(matcher, pattern, paths);
+            } else if (patternStyle == FilterPatternStyle.ANT) {
+                matches = matchesPrefix(pattern, literalPrefix);
+            } else {
+                matches = null;
+            }
+            if (matches == null) {
+                undecided = true;
+            } else if (matches) {
+                return true;
+            }
+        }
+        return undecided ? null : Boolean.FALSE;
+    }
+
+    /**
+     * @param template A literal template
+     * @return The paths matched by the template, given that trailing slashes are ignored by the match
+     */
+    private static String[] matchedPaths(String template) {
+        if (template.isEmpty() || template.equals(PATH_SEPARATOR)) {
+            return new String[] {"", PATH_SEPARATOR};
+        }
+        return new String[] {template, template + PATH_SEPARATOR, template + PATH_SEPARATOR + PATH_SEPARATOR};
+    }
+
+    private static Boolean matches(PathMatcher matcher, String pattern, String[] paths) {
+        boolean matches = matcher.matches(pattern, paths[0]);
+        for (int i = 1; i < paths.length; i++) {
+            if (matcher.matches(pattern, paths[i]) != matches) {
+                return null;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Compares an ANT pattern of the form {@code /prefix/**} with the literal prefix every URI matched by a route
+     * starts with. The segments are compared the way {@link io.micronaut.core.util.AntPathMatcher} tokenizes them.
+     *
+     * @param pattern       The pattern
+     * @param literalPrefix The literal prefix of the route template
+     * @return Whether the pattern matches every URI, no URI, or {@code null} if that depends on the URI
+     */
+    @Nullable
+    private static Boolean matchesPrefix(String pattern, String literalPrefix) {
+        if (!pattern.endsWith(ANT_PREFIX_SUFFIX) || !pattern.startsWith(PATH_SEPARATOR)) {
+            return null;
+        }
+        String base = pattern.substring(0, pattern.length() - ANT_PREFIX_SUFFIX.length());
+        if (base.isEmpty() || base.indexOf('*') > -1 || base.indexOf('?') > -1 || base.indexOf('{') > -1) {
+            return null;
+        }
+        if (literalPrefix.startsWith(base + PATH_SEPARATOR)) {
+            return true;
+        }
+        // only the complete segments of the prefix are shared by every URI
+        int end = literalPrefix.lastIndexOf('/');
+        if (end == -1 || !literalPrefix.startsWith(PATH_SEPARATOR)) {
+            return null;
+        }
+        String[] baseSegments = StringUtils.tokenizeToStringArray(base, PATH_SEPARATOR);
+        String[] prefixSegments = StringUtils.tokenizeToStringArray(literalPrefix.substring(0, end + 1), PATH_SEPARATOR);
+        int length = Math.min(baseSegments.length, prefixSegments.length);
+        for (int i = 0; i < length; i++) {
+            if (!baseSegments[i].equals(prefixSegments[i])) {
+                return false;
+            }
+        }
+        return null;
+    }
+}
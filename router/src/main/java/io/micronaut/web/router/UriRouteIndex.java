@@ -0,0 +1,182 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.http.uri.UriMatchTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A segment based radix index over the {@link UriRoute} instances registered for a single HTTP method. The literal
+ * path segments each route template starts with are mapped into a tree, so that a lookup only has to run the
+ * regular expression of routes whose literal segments match the URI. Routes that start with a variable, or
+ * that do not expose their template to the index, are kept at the root and are always candidates.
+ *
+ * <p>Candidates are returned in the order of the backing route list, hence the result of matching them is
+ * identical to a linear scan of all routes.</p>
+ *
+ * @since 3.8.0
+ */
+@Internal
+final class UriRouteIndex {
+
+    private static final int[] NO_ROUTES = new int[0];
+
+    private final List<UriRoute> routes;
+    private final Node root;
+
+    /**
+     * @param routes The sorted routes to index. Entries may be replaced as long as the template is retained.
+     */
+    UriRouteIndex(List<UriRoute> routes) {
+        this.routes = routes;
+        NodeBuilder rootBuilder = new NodeBuilder();
+        for (int i = 0; i < routes.size(); i++) {
+            UriRoute route = routes.get(i);
+            NodeBuilder builder = rootBuilder;
+            if (route instanceof DefaultRouteBuilder.DefaultUriRoute) {
+                for (String segment : literalSegments(route.getUriMatchTemplate())) {
+                    builder = builder.children.computeIfAbsent(segment, s -> new NodeBuilder());
+                }
+            }
+            builder.routes.add(i);
+        }
+        this.root = rootBuilder.build();
+    }
+
+    /**
+     * Finds the routes that may match the given URI, in the order they were registered in.
+     *
+     * @param uri The URI
+     * @return The candidate routes
+     */
+    @NonNull
+    List<UriRoute> findCandidates(@NonNull String uri) {
+        int length = uri.indexOf('?');
+        if (length == -1) {
+            length = uri.length();
+        }
+        int[] matched = root.routes;
+        int matchedCount = matched.length;
+        boolean copied = false;
+        Node node = root;
+        if (length > 0 && uri.charAt(0) == '/') {
+            int start = 1;
+            while (node.children != null && start <= length) {
+                int end = uri.indexOf('/', start);
+                if (end == -1 || end > length) {
+                    end = length;
+                }
+                node = node.children.get(uri.substring(start, end));
+                if (node == null) {
+                    break;
+                }
+                int count = node.routes.length;
+                if (count > 0) {
+                    int required = matchedCount + count;
+                    if (!copied || required > matched.length) {
+                        matched = Arrays.copyOf(matched, Math.max(required, matched.length * 2));
+                        copied = true;
+                    }
+                    System.arraycopy(node.routes, 0, matched, matchedCount, count);
+                    matchedCount = required;
+                }
+                start = end + 1;
+            }
+        }
+        if (copied) {
+            Arrays.sort(matched, 0, matchedCount);
+        }
+        List<UriRoute> candidates = new ArrayList<>(matchedCount);
+        for (int i = 0; i < matchedCount; i++) {
+            candidates.add(routes.get(matched[i]));
+        }
+        return candidates;
+    }
+
+    /**
+     * Computes the complete literal path segments a URI has to start with in order to be matched by the template.
+     * A trailing segment is only complete if the template has no variables at all.
+     *
+     * @param template The template
+     * @return The segments
+     */
+    private static List<String> literalSegments(UriMatchTemplate template) {
+        String prefix = template.getLiteralPrefix();
+        List<String> segments = new ArrayList<>(5);
+        int length = prefix.length();
+        if (length == 0 || prefix.charAt(0) != '/') {
+            return segments;
+        }
+        boolean complete = template.getVariables().isEmpty();
+        int start = 1;
+        while (start <= length) {
+            int end = prefix.indexOf('/', start);
+            if (end == -1) {
+                if (complete && start < length) {
+                    segments.add(prefix.substring(start));
+                }
+                break;
+            }
+            if (end == start) {
+                // stop at empty segments, everything after them is matched by the route pattern
+                break;
+            }
+            segments.add(prefix.substring(start, end));
+            start = end + 1;
+        }
+        return segments;
+    }
+
+    /**
+     * A node of the index.
+     */
+    private static final class Node {
+        final Map<String, Node> children;
+        final int[] routes;
+
+        Node(Map<String, Node> children, int[] routes) {
+            this.children = children;
+            this.routes = routes;
+        }
+    }
+
+    /**
+     * Mutable node used while building the index.
+     */
+    private static final class NodeBuilder {
+        final Map<String, NodeBuilder> children = new HashMap<>();
+        final List<Integer> routes = new ArrayList<>();
+
+        Node build() {
+            Map<String, Node> builtChildren = null;
+            if (!children.isEmpty()) {
+                builtChildren = new HashMap<>(children.size() * 2);
+                for (Map.Entry<String, NodeBuilder> entry : children.entrySet()) {
+                    builtChildren.put(entry.getKey(), entry.getValue().build());
+                }
+            }
+            int[] routeIndexes = routes.isEmpty() ? NO_ROUTES : routes.stream().mapToInt(Integer::intValue).toArray();
+            return new Node(builtChildren, routeIndexes);
+        }
+    }
+}
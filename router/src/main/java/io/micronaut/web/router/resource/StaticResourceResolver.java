@@ -17,6 +17,7 @@ package io.micronaut.web.router.resource;
 
 import io.micronaut.core.io.ResourceLoader;
 import io.micronaut.core.util.AntPathMatcher;
+import io.micronaut.core.util.AntPathPattern;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.PathMatcher;
 import io.micronaut.core.util.StringUtils;
@@ -47,7 +48,7 @@ public class StaticResourceResolver {
 
     private static final String INDEX_PAGE = "index.html";
     private final AntPathMatcher pathMatcher;
-    private final Map<String, List<ResourceLoader>> resourceMappings;
+    private final Map<AntPathPattern, List<ResourceLoader>> resourceMappings;
 
     /**
      * Default constructor.
@@ -59,15 +60,18 @@ public class StaticResourceResolver {
             this.pathMatcher = null;
             this.resourceMappings = Collections.emptyMap();
         } else {
-            this.resourceMappings = new LinkedHashMap<>();
+            Map<String, List<ResourceLoader>> resourceMappings = new LinkedHashMap<>();
             this.pathMatcher = PathMatcher.ANT;
             if (CollectionUtils.isNotEmpty(configurations)) {
                 for (StaticResourceConfiguration config: configurations) {
                     if (config.isEnabled()) {
-                        this.resourceMappings.put(config.getMapping(), config.getResourceLoaders());
+                        resourceMappings.put(config.getMapping(), config.getResourceLoaders());
                     }
                 }
             }
+            // the mappings are compiled once rather than tokenized on every request
+            this.resourceMappings = new LinkedHashMap<>(resourceMappings.size());
+            resourceMappings.forEach((mapping, loaders) -> this.resourceMappings.put(AntPathPattern.compile(mapping), loaders));
         }
     }
 
@@ -78,11 +82,11 @@ public class StaticResourceResolver {
      * @return The optional URL
      */
     public Optional<URL> resolve(String resourcePath) {
-        for (Map.Entry<String, List<ResourceLoader>> entry : resourceMappings.entrySet()) {
+        for (Map.Entry<AntPathPattern, List<ResourceLoader>> entry : resourceMappings.entrySet()) {
             List<ResourceLoader> loaders = entry.getValue();
-            String mapping = entry.getKey();
-            if (!loaders.isEmpty() && pathMatcher.matches(mapping, resourcePath)) {
-                String path = pathMatcher.extractPathWithinPattern(mapping, resourcePath);
+            AntPathPattern mapping = entry.getKey();
+            if (!loaders.isEmpty() && mapping.matches(resourcePath)) {
+                String path = pathMatcher.extractPathWithinPattern(mapping.getPattern(), resourcePath);
                 //A request to the root of the mapping
                 if (StringUtils.isEmpty(path)) {
                     path = INDEX_PAGE;
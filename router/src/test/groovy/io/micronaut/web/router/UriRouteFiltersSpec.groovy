@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpAttributes
+import io.micronaut.http.HttpMethod
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MutableHttpResponse
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Filter
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.filter.FilterPatternStyle
+import io.micronaut.http.filter.HttpFilter
+import io.micronaut.http.filter.HttpServerFilter
+import io.micronaut.http.filter.ServerFilterChain
+import org.reactivestreams.Publisher
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.function.Supplier
+
+class UriRouteFiltersSpec extends Specification {
+
+    @Shared @AutoCleanup ApplicationContext context = ApplicationContext.run(['spec.name': 'UriRouteFiltersSpec'])
+    @Shared Router router = context.getBean(Router)
+
+    @Unroll
+    void "test the filters resolved for #method #uri"() {
+        given:
+        UriRouteMatch match = router.route(method, uri).get()
+        HttpRequest<?> request = HttpRequest.create(method, uri)
+        request.setAttribute(HttpAttributes.ROUTE_MATCH, match)
+
+        expect:"the cached filters are returned on subsequent requests"
+        router.findFilters(request)*.getClass() as Set == filters as Set
+        router.findFilters(request)*.getClass() as Set == filters as Set
+
+        where:
+        method          | uri             | filters
+        HttpMethod.GET  | '/rf-books'     | [AllFilter, BooksFilter]
+        HttpMethod.GET  | '/rf-books/'    | [AllFilter, BooksFilter]
+        HttpMethod.GET  | '/rf-books/1'   | [AllFilter, BooksFilter, FirstBookFilter]
+        HttpMethod.GET  | '/rf-books/2'   | [AllFilter, BooksFilter]
+        HttpMethod.POST | '/rf-books'     | [AllFilter, BooksFilter, PostFilter]
+    }
+
+    @Unroll
+    void "test the #patternStyle pattern #pattern is dynamic for #template: #dynamic"() {
+        given:
+        UriRoute route = router.uriRoutes().filter({ UriRoute r -> r.uriMatchTemplate.toString() == template }).findFirst().get()
+        HttpFilter filter = new BooksFilter()
+        FilterRoute filterRoute = new DefaultFilterRoute(pattern, { -> filter } as Supplier<HttpFilter>)
+                .patternStyle(patternStyle)
+
+        when:
+        UriRouteFilters routeFilters = UriRouteFilters.create(route, [], [filterRoute])
+
+        then:
+        routeFilters.dynamicFilterRoutes == (dynamic ? [filterRoute] : [])
+
+        where:
+        template         | pattern           | patternStyle               | dynamic
+        '/rf-books'      | '/rf-books/**'    | FilterPatternStyle.ANT     | false
+        '/rf-books'      | '/rf-other'       | FilterPatternStyle.ANT     | false
+        '/rf-books'      | '/rf-books/*'     | FilterPatternStyle.ANT     | true
+        '/rf-books'      | '/rf-books.*'     | FilterPatternStyle.REGEX   | false
+        '/rf-books/{id}' | '/rf-books/**'    | FilterPatternStyle.ANT     | false
+        '/rf-books/{id}' | '/rf-other/**'    | FilterPatternStyle.ANT     | false
+        '/rf-books/{id}' | '/rf-books/x/**'  | FilterPatternStyle.ANT     | true
+        '/rf-books/{id}' | '/rf-books/1'     | FilterPatternStyle.ANT     | true
+        '/rf-books/{id}' | '/rf-books/.*'    | FilterPatternStyle.REGEX   | true
+    }
+
+    @Requires(property = 'spec.name', value = 'UriRouteFiltersSpec')
+    @Controller('/rf-books')
+    static class BookController {
+
+        @Get
+        String list() { 'list' }
+
+        @Get('/{id}')
+        String show(String id) { "show $id" }
+
+        @Post
+        String save() { 'save' }
+    }
+
+    static abstract class ProceedingFilter implements HttpServerFilter {
+        @Override
+        Publisher<MutableHttpResponse<?>> doFilter(HttpRequest<?> request, ServerFilterChain chain) {
+            chain.proceed(request)
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'UriRouteFiltersSpec')
+    @Filter('/**')
+    static class AllFilter extends ProceedingFilter {
+    }
+
+    @Requires(property = 'spec.name', value = 'UriRouteFiltersSpec')
+    @Filter('/rf-books/**')
+    static class BooksFilter extends ProceedingFilter {
+    }
+
+    @Requires(property = 'spec.name', value = 'UriRouteFiltersSpec')
+    @Filter('/rf-other/**')
+    static class OtherFilter extends ProceedingFilter {
+    }
+
+    @Requires(property = 'spec.name', value = 'UriRouteFiltersSpec')
+    @Filter('/rf-books/1')
+    static class FirstBookFilter extends ProceedingFilter {
+    }
+
+    @Requires(property = 'spec.name', value = 'UriRouteFiltersSpec')
+    @Filter(value = '/rf-books/**', methods = HttpMethod.POST)
+    static class PostFilter extends ProceedingFilter {
+    }
+}
@@ -0,0 +1,106 @@
+package io.micronaut.web.router
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpMethod
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.uri.UriMatchTemplate
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.stream.Collectors
+
+class UriRouteIndexSpec extends Specification {
+
+    @Shared @AutoCleanup ApplicationContext context = ApplicationContext.run(['spec.name': 'UriRouteIndexSpec'])
+    @Shared Router router = context.getBean(Router)
+
+    @Unroll
+    void "test the literal prefix of #template is #prefix"() {
+        expect:
+        UriMatchTemplate.of(template).getLiteralPrefix() == prefix
+
+        where:
+        template                  | prefix
+        '/'                       | '/'
+        '/books'                  | '/books'
+        '/books/{id}'             | '/books/'
+        '/books{/id}'             | '/books'
+        '/books/{id:[0-9]+}/page' | '/books/'
+        '/{id}'                   | '/'
+        '/books{?max}'            | '/books'
+    }
+
+    @Unroll
+    void "test indexed lookup of #uri matches a linear scan"() {
+        given:
+        List<UriRoute> routes = router.uriRoutes()
+                .filter({ UriRoute r -> r.httpMethod == HttpMethod.GET })
+                .collect(Collectors.toList())
+        List<UriRouteMatch> expected = routes.collect { it.match(uri).orElse(null) }.findAll { it != null }
+
+        when:
+        List<UriRouteMatch> found = router.find(HttpMethod.GET, uri, null).collect(Collectors.toList())
+
+        then:
+        found*.route == expected*.route
+        found*.variableValues == expected*.variableValues
+
+        where:
+        uri << [
+                '/',
+                '',
+                '/index-books',
+                '/index-books/',
+                '/index-books?max=10',
+                '/index-books/1',
+                '/index-books/1/',
+                '/index-books/1/authors',
+                '/index-books/1/authors/2',
+                '/index-books/latest',
+                '/index-books/stats/today',
+                '/index-booksfoo',
+                '/index-books/abc/authors',
+                '/index-other',
+                'index-books',
+                '/unknown/path'
+        ]
+    }
+
+    @Requires(property = 'spec.name', value = 'UriRouteIndexSpec')
+    @Controller('/index-books')
+    static class IndexBookController {
+
+        @Get
+        String list() { 'list' }
+
+        @Get('{/id}')
+        String optional(String id) { "optional $id" }
+
+        @Get('/{id:[0-9]+}')
+        String show(Long id) { "show $id" }
+
+        @Get('/latest')
+        String latest() { 'latest' }
+
+        @Get('/{id}/authors')
+        String authors(String id) { "authors $id" }
+
+        @Get('/{id}/authors/{authorId}')
+        String author(String id, String authorId) { "author $id $authorId" }
+
+        @Get('/stats/{period}')
+        String stats(String period) { "stats $period" }
+    }
+
+    @Requires(property = 'spec.name', value = 'UriRouteIndexSpec')
+    @Controller('/')
+    static class IndexCatchAllController {
+
+        @Get('/{name}')
+        String name(String name) { "name $name" }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.reactive.reactor.instrument;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.context.ServerRequestContext;
+import io.micronaut.scheduling.instrument.InvocationInstrumenter;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+
+import java.util.function.Supplier;
+
+/**
+ * Propagates the request context at the edges of the reactive pipelines the framework controls, as an alternative to
+ * instrumenting every Reactor operator with {@code Hooks.onEachOperator}.
+ *
+ * <p>With {@link Mode#CONTEXT} the operator hook is not installed. The server request is available to reactive code
+ * through the Reactor {@link reactor.util.context.ContextView} under {@link ServerRequestContext#KEY}, and the
+ * thread local state of the {@link io.micronaut.scheduling.instrument.ReactiveInvocationInstrumenterFactory}
+ * instances is only restored for the signals that leave a pipeline returned by the application.</p>
+ *
+ * @since 3.8.0
+ */
+@Singleton
+@Internal
+@Requires(classes = Flux.class)
+public final class ReactorContextPropagation {
+
+    /**
+     * The property used to select the instrumentation mode.
+     */
+    public static final String PROPERTY = "micronaut.reactor.instrumentation";
+
+    private final ReactorInstrumentation.ReactorInstrumenterFactory instrumenterFactory;
+    private final Mode mode;
+
+    /**
+     * @param instrumenterFactory The instrumenter factory
+     * @param mode                The instrumentation mode
+     */
+    ReactorContextPropagation(ReactorInstrumentation.ReactorInstrumenterFactory instrumenterFactory,
+                              @Value("${" + PROPERTY + ":OPERATOR}") Mode mode) {
+        this.instrumenterFactory = instrumenterFactory;
+        this.mode = mode;
+    }
+
+    /**
+     * @return The instrumentation mode
+     */
+    @NonNull
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * @return Whether the context is propagated at the edges instead of on every operator
+     */
+    public boolean isEnabled() {
+        return mode == Mode.CONTEXT && instrumenterFactory.hasInstrumenters();
+    }
+
+    /**
+     * Restores the state captured for the given request while the signals of the publisher are delivered downstream.
+     * The state is captured once, so the cost does not depend on the number of operators in the publisher.
+     *
+     * @param request   The request the publisher is executed for
+     * @param publisher The publisher
+     * @param <T>       The element type
+     * @return The instrumented publisher, or the given publisher if edge propagation is not enabled
+     */
+    @NonNull
+    public <T> Flux<T> propagate(@Nullable HttpRequest<?> request, @NonNull Publisher<T> publisher) {
+        if (!isEnabled()) {
+            return Flux.from(publisher);
+        }
+        InvocationInstrumenter instrumenter = ServerRequestContext.with(request, (Supplier<InvocationInstrumenter>) instrumenterFactory::create);
+        if (instrumenter == null) {
+            return Flux.from(publisher);
+        }
+        return Flux.from(publisher).transform(Operators.lift((scannable, subscriber) -> {
+            if (subscriber instanceof ReactorSubscriber) {
+                return subscriber;
+            }
+            return new ReactorSubscriber<>(instrumenter, subscriber);
+        }));
+    }
+
+    /**
+     * The Reactor instrumentation mode.
+     */
+    public enum Mode {
+        /**
+         * Every operator is instrumented with {@code Hooks.onEachOperator}.
+         */
+        OPERATOR,
+        /**
+         * The context is propagated through the Reactor context and restored at the framework edges.
+         */
+        CONTEXT
+    }
+}
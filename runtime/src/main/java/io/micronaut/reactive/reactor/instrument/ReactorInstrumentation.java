@@ -49,10 +49,11 @@ class ReactorInstrumentation {
      * Initialize instrumentation for reactor with the tracer and factory.
      *
      * @param instrumenterFactory The instrumenter factory
+     * @param contextPropagation  The context propagation, when enabled operators are not instrumented
      */
     @SuppressWarnings("unchecked")
     @PostConstruct
-    void init(ReactorInstrumenterFactory instrumenterFactory) {
+    void init(ReactorInstrumenterFactory instrumenterFactory, ReactorContextPropagation contextPropagation) {
         if (instrumenterFactory.hasInstrumenters()) {
             Schedulers.onScheduleHook(Environment.MICRONAUT, runnable -> {
                 InvocationInstrumenter instrumenter = instrumenterFactory.create();
@@ -65,6 +66,10 @@ class ReactorInstrumentation {
                 }
                 return runnable;
             });
+            if (contextPropagation.getMode() == ReactorContextPropagation.Mode.CONTEXT) {
+                // the context is restored at the edges of the framework controlled pipelines instead
+                return;
+            }
             Hooks.onEachOperator(Environment.MICRONAUT, Operators.lift((scannable, coreSubscriber) -> {
                 if (coreSubscriber instanceof ReactorSubscriber) {
                     return coreSubscriber;
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.context.scope.refresh
+
+import io.micronaut.aop.Around
+import io.micronaut.aop.InterceptedProxy
+import io.micronaut.aop.InterceptorBean
+import io.micronaut.aop.MethodInterceptor
+import io.micronaut.aop.MethodInvocationContext
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.scope.CreatedBean
+import io.micronaut.runtime.context.scope.Refreshable
+import jakarta.annotation.PreDestroy
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.lang.annotation.Retention
+import java.lang.annotation.RetentionPolicy
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class RefreshScopeEpochSpec extends Specification {
+
+    @Shared @AutoCleanup ApplicationContext context = ApplicationContext.run([
+            'spec.name': 'RefreshScopeEpochSpec',
+            (RefreshScope.MODE_PROPERTY): 'epoch'
+    ])
+
+    void "test the epoch mode is configured"() {
+        expect:
+        context.getBean(RefreshScope).mode == RefreshMode.EPOCH
+        context.getBean(RefreshScope).locks.isEmpty()
+    }
+
+    void "test an in-flight call completes on the old instance that is destroyed once drained"() {
+        given:
+        RefreshScope refreshScope = context.getBean(RefreshScope)
+        EpochBean bean = context.getBean(EpochBean)
+        int first = bean.instance()
+        CountDownLatch entered = new CountDownLatch(1)
+        CountDownLatch release = new CountDownLatch(1)
+
+        when:"a call is in flight during a refresh"
+        CompletableFuture<Integer> inFlight = CompletableFuture.supplyAsync({ -> bean.await(entered, release) })
+        entered.await(10, TimeUnit.SECONDS)
+        refreshScope.onRefreshEvent(new RefreshEvent())
+
+        then:"new calls use a new instance while the old one is still alive"
+        bean.instance() != first
+        !EpochBean.DESTROYED.contains(first)
+
+        when:"the in-flight call completes"
+        release.countDown()
+
+        then:"it completed on the old instance which is then destroyed"
+        inFlight.get(10, TimeUnit.SECONDS) == first
+        EpochBean.DESTROYED.contains(first)
+        refreshScope.epochs.size() == 1
+    }
+
+    void "test an idle instance is destroyed by the refresh"() {
+        given:
+        RefreshScope refreshScope = context.getBean(RefreshScope)
+        EpochBean bean = context.getBean(EpochBean)
+        int instance = bean.instance()
+
+        when:
+        refreshScope.onRefreshEvent(new RefreshEvent())
+
+        then:
+        EpochBean.DESTROYED.contains(instance)
+        bean.instance() != instance
+        refreshScope.epochs.size() == 1
+    }
+
+    void "test an invocation of an instance destroyed after it was resolved is retried on the current instance"() {
+        given:
+        RefreshScope refreshScope = context.getBean(RefreshScope)
+        EpochBean bean = context.getBean(EpochBean)
+        EpochBean stale = ((InterceptedProxy<EpochBean>) bean).interceptedTarget()
+        MethodInvocationContext invocation = Mock(MethodInvocationContext)
+        invocation.getTarget() >> stale
+        invocation.getExecutableMethod() >> context.getProxyTargetBeanDefinition(EpochBean, null).getRequiredMethod('counted')
+        invocation.getParameterValues() >> new Object[0]
+        int counted = CountedInterceptor.CALLS.get()
+
+        when:"the resolved instance is destroyed before the invocation registers with its epoch"
+        refreshScope.onRefreshEvent(new RefreshEvent())
+        Object result = context.getBean(RefreshInterceptor).intercept(invocation)
+
+        then:"the invocation is retried on the current instance through the whole interceptor chain"
+        EpochBean.DESTROYED.contains(stale.instance)
+        CountedInterceptor.CALLS.get() == counted + 1
+        result != stale.instance
+        result == bean.instance()
+    }
+
+    void "test the old and new instances of a bean that are equal have their own epochs"() {
+        given:
+        RefreshScope refreshScope = context.getBean(RefreshScope)
+        ValueBean bean = context.getBean(ValueBean)
+        int first = bean.instance()
+        CountDownLatch entered = new CountDownLatch(1)
+        CountDownLatch release = new CountDownLatch(1)
+
+        when:"a call is in flight during a refresh"
+        CompletableFuture<Integer> inFlight = CompletableFuture.supplyAsync({ -> bean.await(entered, release) })
+        entered.await(10, TimeUnit.SECONDS)
+        refreshScope.onRefreshEvent(new RefreshEvent())
+        int second = bean.instance()
+
+        then:"the new instance is equal to the old one but is invoked through its own epoch"
+        second != first
+        ((InterceptedProxy<ValueBean>) bean).interceptedTarget() == new ValueBean()
+        !ValueBean.DESTROYED.contains(first)
+
+        when:"the in-flight call completes"
+        release.countDown()
+
+        then:"only the old instance is destroyed"
+        inFlight.get(10, TimeUnit.SECONDS) == first
+        ValueBean.DESTROYED.contains(first)
+        !ValueBean.DESTROYED.contains(second)
+        bean.instance() == second
+    }
+
+    void "test the epoch rejects an invocation once the bean is destroyed"() {
+        given:
+        RefreshEpoch epoch = new RefreshEpoch(Mock(CreatedBean), {})
+
+        when:
+        epoch.enter()
+        epoch.retire()
+        epoch.exit()
+        epoch.enter()
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    @Requires(property = 'spec.name', value = 'RefreshScopeEpochSpec')
+    @Refreshable
+    static class EpochBean {
+        static final AtomicInteger COUNTER = new AtomicInteger()
+        static final Set<Integer> DESTROYED = Collections.synchronizedSet(new HashSet<>())
+
+        final int instance = COUNTER.incrementAndGet()
+
+        int instance() {
+            instance
+        }
+
+        @Counted
+        int counted() {
+            instance
+        }
+
+        int await(CountDownLatch entered, CountDownLatch release) {
+            entered.countDown()
+            release.await(10, TimeUnit.SECONDS)
+            instance
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.add(instance)
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'RefreshScopeEpochSpec')
+    @Refreshable
+    static class ValueBean {
+        static final AtomicInteger COUNTER = new AtomicInteger()
+        static final Set<Integer> DESTROYED = Collections.synchronizedSet(new HashSet<>())
+
+        final int instance = COUNTER.incrementAndGet()
+
+        int instance() {
+            instance
+        }
+
+        int await(CountDownLatch entered, CountDownLatch release) {
+            entered.countDown()
+            release.await(10, TimeUnit.SECONDS)
+            instance
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.add(instance)
+        }
+
+        @Override
+        boolean equals(Object o) {
+            o instanceof ValueBean
+        }
+
+        @Override
+        int hashCode() {
+            ValueBean.hashCode()
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'RefreshScopeEpochSpec')
+    @InterceptorBean(Counted)
+    @Singleton
+    static class CountedInterceptor implements MethodInterceptor<Object, Object> {
+        static final AtomicInteger CALLS = new AtomicInteger()
+
+        @Override
+        Object intercept(MethodInvocationContext<Object, Object> context) {
+            CALLS.incrementAndGet()
+            context.proceed()
+        }
+    }
+}
+
+@Around
+@Retention(RetentionPolicy.RUNTIME)
+@interface Counted {
+}
@@ -0,0 +1,97 @@
+package io.micronaut.http.client.http2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Produces
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.netty.ConnectionPoolMetrics
+import io.micronaut.http.client.netty.DefaultHttpClient
+import io.micronaut.runtime.server.EmbeddedServer
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+
+class Http2MultiplexingSpec extends Specification {
+    @Shared @AutoCleanup EmbeddedServer server = ApplicationContext.run(EmbeddedServer, [
+            'spec.name': 'Http2MultiplexingSpec',
+            'micronaut.server.ssl.enabled': true,
+            'micronaut.server.http-version': '2.0',
+            'micronaut.server.ssl.buildSelfSigned': true,
+            'micronaut.server.ssl.port': -1,
+            'micronaut.server.netty.http2.max-concurrent-streams': 2,
+            'micronaut.http.client.http-version': '2.0',
+            'micronaut.http.client.ssl.insecure-trust-all-certificates': true,
+            'micronaut.http.client.pool.http2-multiplexing': true,
+            'micronaut.http.client.pool.max-connections': 2
+    ])
+    @Shared @AutoCleanup DefaultHttpClient client = (DefaultHttpClient) server.applicationContext.createBean(HttpClient, server.URL)
+
+    void "test sequential requests reuse a single connection"() {
+        when:
+        String first = client.toBlocking().retrieve('/http2-multiplexing/fast')
+        String second = client.toBlocking().retrieve('/http2-multiplexing/fast')
+
+        then:
+        first == 'HTTP_2_0'
+        second == 'HTTP_2_0'
+        client.connectionPoolMetrics.size() == 1
+        client.connectionPoolMetrics[0].openConnections == 1
+    }
+
+    void "test concurrent requests are multiplexed up to the stream limit of the server"() {
+        given:
+        PollingConditions conditions = new PollingConditions(timeout: 10)
+
+        when:
+        List<CompletableFuture<String>> futures = (1..6).collect { int i ->
+            Mono.from(client.retrieve(HttpRequest.GET("/http2-multiplexing/slow/$i"))).toFuture()
+        }
+
+        then:
+        conditions.eventually {
+            ConnectionPoolMetrics metrics = client.connectionPoolMetrics[0]
+            assert metrics.openConnections == 2
+            assert metrics.activeStreams == 4
+            assert metrics.pendingAcquires == 2
+        }
+
+        when:
+        List<String> results = futures*.get()
+
+        then:
+        results == (1..6).collect { "$it HTTP_2_0".toString() }
+        conditions.eventually {
+            ConnectionPoolMetrics metrics = client.connectionPoolMetrics[0]
+            assert metrics.openConnections == 2
+            assert metrics.activeStreams == 0
+            assert metrics.pendingAcquires == 0
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'Http2MultiplexingSpec')
+    @Controller('/http2-multiplexing')
+    static class MultiplexingController {
+
+        @Get('/fast')
+        @Produces(MediaType.TEXT_PLAIN)
+        String fast(HttpRequest<?> request) {
+            request.httpVersion.name()
+        }
+
+        @Get('/slow/{id}')
+        @Produces(MediaType.TEXT_PLAIN)
+        Mono<String> slow(int id, HttpRequest<?> request) {
+            String version = request.httpVersion.name()
+            Mono.delay(Duration.ofSeconds(1)).map { "$id $version".toString() }
+        }
+    }
+}
@@ -61,6 +61,62 @@ public interface WebSocketBroadcaster {
         return broadcast(message, mediaType, s -> true);
     }
 
+    /**
+     * When used on the server this method will broadcast a message to all open WebSocket connections subscribed to the given topic.
+     * Unlike filtering, only the subscribers of the topic are visited, regardless of how many sessions are open.
+     * The resulting {@link Publisher} does not start sending until subscribed to.
+     *
+     * @param message The message
+     * @param mediaType The media type of the message. Used to lookup an appropriate codec via the {@link io.micronaut.http.codec.MediaTypeCodecRegistry}.
+     * @param topic The topic
+     * @param <T> The message type
+     * @return A {@link Publisher} that either emits an error or emits the message once it has been published successfully.
+     * @see #subscribe(WebSocketSession, String)
+     * @since 3.8.0
+     */
+    default <T> Publisher<T> broadcastToTopic(T message, MediaType mediaType, String topic) {
+        return Flux.error(new UnsupportedOperationException("Broadcasting to a topic is not supported by this broadcaster"));
+    }
+
+    /**
+     * When used on the server this method will broadcast a message to all open WebSocket connections subscribed to the given topic.
+     * The resulting {@link Publisher} does not start sending until subscribed to.
+     *
+     * @param message The message
+     * @param topic The topic
+     * @param <T> The message type
+     * @return A {@link Publisher} that either emits an error or emits the message once it has been published successfully.
+     * @see #subscribe(WebSocketSession, String)
+     * @since 3.8.0
+     */
+    default <T> Publisher<T> broadcastToTopic(T message, String topic) {
+        Objects.requireNonNull(topic, "The topic cannot be null");
+        return broadcastToTopic(message, MediaType.APPLICATION_JSON_TYPE, topic);
+    }
+
+    /**
+     * Subscribe the given session to a topic so that it receives the messages broadcast to the topic. The subscription
+     * ends when the session is closed.
+     *
+     * @param session The session
+     * @param topic The topic
+     * @since 3.8.0
+     */
+    default void subscribe(WebSocketSession session, String topic) {
+        throw new UnsupportedOperationException("Topic subscriptions are not supported by this broadcaster");
+    }
+
+    /**
+     * Unsubscribe the given session from a topic.
+     *
+     * @param session The session
+     * @param topic The topic
+     * @since 3.8.0
+     */
+    default void unsubscribe(WebSocketSession session, String topic) {
+        throw new UnsupportedOperationException("Topic subscriptions are not supported by this broadcaster");
+    }
+
     /**
      * When used on the server this method will broadcast a message to all open WebSocket connections.
      * The resulting {@link Publisher} does not start sending until subscribed to.